@@ -0,0 +1,113 @@
+package com.github.liblevenshtein.bench;
+
+import com.github.liblevenshtein.collection.dictionary.DawgNode;
+import com.github.liblevenshtein.collection.dictionary.FinalDawgNode;
+import com.github.liblevenshtein.collection.dictionary.SortedDawg;
+import com.github.liblevenshtein.collection.dictionary.Transition;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Compares building a {@link SortedDawg}, whose register keys nodes on their
+ * signatures, against the previous minimization, which keyed a
+ * {@code HashMap<DawgNode, DawgNode>} on the recursive {@link DawgNode#hashCode()}.
+ */
+public class DawgConstructionBenchmark {
+
+    @State(Scope.Thread)
+    public static class Seq {
+        @Param({"8", "64", "512"})
+        int termLength;
+
+        List<String> terms;
+
+        @Setup
+        public void setUp() {
+            Random random = new Random(0xDA96);
+            // Keep the total number of characters constant across term lengths
+            int count = 200_000 / termLength;
+            terms = new ArrayList<>(count);
+            char[] term = new char[termLength];
+            for (int i = 0; i < count; i++) {
+                for (int j = 0; j < termLength; j++) {
+                    term[j] = (char) ('a' + random.nextInt(4));
+                }
+                terms.add(new String(term));
+            }
+            Collections.sort(terms);
+        }
+    }
+
+    @Benchmark
+    public SortedDawg measureSignatureRegister(Seq seq) {
+        return new SortedDawg(seq.terms);
+    }
+
+    @Benchmark
+    public DawgNode measureStructuralRegister(Seq seq) {
+        return StructuralBuilder.build(seq.terms);
+    }
+
+    /**
+     * The minimization of {@link SortedDawg} prior to the signature register.
+     */
+    private static final class StructuralBuilder {
+        private final Deque<Transition> uncheckedTransitions = new ArrayDeque<>();
+        private final Map<DawgNode, DawgNode> minimizedNodes = new HashMap<>();
+        private final DawgNode root = new DawgNode();
+        private String previousTerm = "";
+
+        static DawgNode build(List<String> terms) {
+            StructuralBuilder builder = new StructuralBuilder();
+            for (String term : terms) {
+                builder.add(term);
+            }
+            builder.minimize(0);
+            return builder.root;
+        }
+
+        private void add(String term) {
+            int upperBound = Math.min(term.length(), previousTerm.length());
+            int i = 0;
+            while (i < upperBound && term.charAt(i) == previousTerm.charAt(i)) {
+                i += 1;
+            }
+            minimize(i);
+            DawgNode node = uncheckedTransitions.isEmpty() ? root : uncheckedTransitions.peekFirst().target();
+            for (int k = term.length() - 1; i < k; i += 1) {
+                DawgNode nextNode = new DawgNode();
+                uncheckedTransitions.addFirst(new Transition(node, term.charAt(i), nextNode));
+                node = nextNode;
+            }
+            if (i < term.length()) {
+                uncheckedTransitions.addFirst(new Transition(node, term.charAt(i), new FinalDawgNode()));
+            }
+            previousTerm = term;
+        }
+
+        private void minimize(int lowerBound) {
+            for (int j = uncheckedTransitions.size(); j > lowerBound; j -= 1) {
+                Transition transition = uncheckedTransitions.removeFirst();
+                DawgNode existing = minimizedNodes.get(transition.target());
+                if (null != existing) {
+                    transition.source().addEdge(transition.label(), existing);
+                } else {
+                    transition.source().addEdge(transition.label(), transition.target());
+                    minimizedNodes.put(transition.target(), transition.target());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.github.liblevenshtein.bench;
+
+import com.github.liblevenshtein.collection.dictionary.DawgLayout;
+import com.github.liblevenshtein.collection.dictionary.FrozenDawg;
+import com.github.liblevenshtein.collection.dictionary.factory.DawgFactory;
+import com.github.liblevenshtein.transducer.Algorithm;
+import com.github.liblevenshtein.transducer.Candidate;
+import com.github.liblevenshtein.transducer.ITransducer;
+import com.github.liblevenshtein.transducer.factory.TransducerBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+/**
+ * Compares the node layouts of a frozen dictionary by the latency of fuzzy
+ * queries, whose candidates are enumerated by LazyTransducerCollection.  Run
+ * with {@code -prof perfnorm} (on Linux) to see the cache misses per query of
+ * each layout, e.g. {@code L1-dcache-load-misses} and {@code LLC-load-misses}.
+ */
+public class DawgLayoutBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Dictionary {
+        @Param({"BREADTH_FIRST", "DEPTH_FIRST", "HYBRID", "HOT_FIRST"})
+        String layout;
+
+        List<String> queries;
+        ITransducer<Candidate> transducer;
+
+        @Setup
+        public void setUp() {
+            Random random = new Random(0x1A7);
+            TreeSet<String> terms = new TreeSet<>();
+            while (terms.size() < 500_000) {
+                terms.add(randomTerm(random));
+            }
+            List<String> sorted = new ArrayList<>(terms);
+
+            // Queries are misspellings of a Zipf-like sample of the terms, and
+            // the log that HOT_FIRST learns from is a separate sample.
+            queries = sample(sorted, random, 1_024);
+            List<String> log = sample(sorted, random, 10_000);
+
+            FrozenDawg frozen = new DawgFactory().buildFrozen(sorted, true);
+            FrozenDawg dictionary;
+            switch (layout) {
+                case "DEPTH_FIRST":
+                    dictionary = DawgLayout.depthFirst(frozen);
+                    break;
+                case "HYBRID":
+                    dictionary = DawgLayout.hybrid(frozen, 2);
+                    break;
+                case "HOT_FIRST":
+                    dictionary = DawgLayout.hotFirst(frozen, log);
+                    break;
+                default:
+                    dictionary = DawgLayout.breadthFirst(frozen);
+                    break;
+            }
+            transducer = new TransducerBuilder()
+                    .algorithm(Algorithm.TRANSPOSITION)
+                    .defaultMaxDistance(2)
+                    .dictionary(dictionary)
+                    .build();
+        }
+
+        private static String randomTerm(Random random) {
+            char[] term = new char[3 + random.nextInt(10)];
+            for (int i = 0; i < term.length; i++) {
+                term[i] = (char) ('a' + random.nextInt(26));
+            }
+            return new String(term);
+        }
+
+        private static List<String> sample(List<String> terms, Random random, int count) {
+            List<String> sample = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                int rank = (int) Math.floor(Math.pow(terms.size(), random.nextDouble())) - 1;
+                // Spread the popular terms across the dictionary, instead of
+                // clustering them at its start.
+                String term = terms.get((int) ((rank * 7_919L) % terms.size()));
+                char[] misspelling = term.toCharArray();
+                misspelling[random.nextInt(misspelling.length)] = (char) ('a' + random.nextInt(26));
+                sample.add(new String(misspelling));
+            }
+            return sample;
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next = 0;
+    }
+
+    @Benchmark
+    public void measureFuzzyQuery(Dictionary dictionary, Cursor cursor, Blackhole bh) {
+        String query = dictionary.queries.get(cursor.next);
+        cursor.next = (cursor.next + 1) % dictionary.queries.size();
+        for (Candidate candidate : dictionary.transducer.transduce(query)) {
+            bh.consume(candidate);
+        }
+    }
+}
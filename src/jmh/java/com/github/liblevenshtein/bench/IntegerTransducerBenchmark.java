@@ -1,12 +1,16 @@
 package com.github.liblevenshtein.bench;
 
+import com.github.liblevenshtein.collection.dictionary.DoubleArrayDawg;
+import com.github.liblevenshtein.collection.dictionary.IDictionary;
 import com.github.liblevenshtein.collection.dictionary.SortedDawg;
 import com.github.liblevenshtein.transducer.Algorithm;
 import com.github.liblevenshtein.transducer.Candidate;
 import com.github.liblevenshtein.transducer.ITransducer;
 import com.github.liblevenshtein.transducer.factory.TransducerBuilder;
 import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.infra.Blackhole;
 
@@ -18,7 +22,10 @@ public class IntegerTransducerBenchmark {
 
     @State(Scope.Thread)
     public static class Seq {
-        final ITransducer<Candidate> transducer;
+        @Param({"SortedDawg", "FrozenDawg", "DoubleArrayDawg"})
+        String backend;
+
+        ITransducer<Candidate> transducer;
         final SortedDawg dictionary;
 
         public Seq() {
@@ -27,13 +34,28 @@ public class IntegerTransducerBenchmark {
                 dictionary.add(intTerm(i, String.valueOf(DICTIONARY_SIZE).length()));
             }
             dictionary.finish();
+        }
+
+        @Setup
+        public void setUp() {
             transducer = new TransducerBuilder()
                     .algorithm(Algorithm.TRANSPOSITION)
                     .defaultMaxDistance(2)
-                    .dictionary(dictionary)
+                    .dictionary(backend())
                     .build();
         }
 
+        private IDictionary<?> backend() {
+            switch (backend) {
+                case "FrozenDawg":
+                    return dictionary.freeze();
+                case "DoubleArrayDawg":
+                    return new DoubleArrayDawg(dictionary.freeze());
+                default:
+                    return dictionary;
+            }
+        }
+
         private static String intTerm(int t, int pad) {
             StringBuilder s = new StringBuilder(Integer.toString(t));
             while (s.length() < pad) {
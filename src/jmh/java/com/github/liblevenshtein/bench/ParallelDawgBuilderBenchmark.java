@@ -0,0 +1,60 @@
+package com.github.liblevenshtein.bench;
+
+import com.github.liblevenshtein.collection.dictionary.ParallelDawgBuilder;
+import com.github.liblevenshtein.collection.dictionary.SortedDawg;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+public class ParallelDawgBuilderBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Seq {
+        @Param({"1", "2", "4", "8", "16", "32"})
+        int parallelism;
+
+        List<String> terms;
+        ForkJoinPool pool;
+        ParallelDawgBuilder builder;
+
+        @Setup
+        public void setUp() {
+            Random random = new Random(0xDA96);
+            terms = new ArrayList<>(2_000_000);
+            for (int i = 0; i < 2_000_000; i++) {
+                char[] term = new char[4 + random.nextInt(12)];
+                for (int j = 0; j < term.length; j++) {
+                    term[j] = (char) ('a' + random.nextInt(26));
+                }
+                terms.add(new String(term));
+            }
+            Collections.sort(terms);
+            pool = new ForkJoinPool(parallelism);
+            builder = new ParallelDawgBuilder(pool);
+        }
+
+        @TearDown
+        public void tearDown() {
+            pool.shutdown();
+        }
+    }
+
+    @Benchmark
+    public SortedDawg measureSequentialBuild(Seq seq) {
+        return new SortedDawg(seq.terms);
+    }
+
+    @Benchmark
+    public SortedDawg measureParallelBuild(Seq seq) {
+        return seq.builder.build(seq.terms, true);
+    }
+}
@@ -0,0 +1,77 @@
+package com.github.liblevenshtein.bench;
+
+import com.github.liblevenshtein.collection.dictionary.SortedDawg;
+import com.github.liblevenshtein.serialization.DawgReader;
+import com.github.liblevenshtein.serialization.DawgWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+public class SerializationBenchmark {
+
+    @State(Scope.Thread)
+    public static class Seq {
+        final SortedDawg dictionary;
+        final byte[] javaSerialized;
+        final byte[] binarySerialized;
+
+        public Seq() {
+            dictionary = new SortedDawg();
+            for (int i = 0; i < 200_000; i++) {
+                // Reversed digits defeat most of the suffix-sharing, like natural-language terms
+                dictionary.add(String.format("%06d", i) + new StringBuilder(Integer.toString(i * 7919)).reverse());
+            }
+            dictionary.finish();
+            try {
+                javaSerialized = writeJava(dictionary);
+                binarySerialized = writeBinary(dictionary);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            System.out.printf("%nObjectOutputStream: %d bytes, DawgWriter: %d bytes%n",
+                    javaSerialized.length, binarySerialized.length);
+        }
+    }
+
+    @Benchmark
+    public byte[] measureJavaSerialization_Write(Seq seq) throws IOException {
+        return writeJava(seq.dictionary);
+    }
+
+    @Benchmark
+    public byte[] measureDawgWriter_Write(Seq seq) throws IOException {
+        return writeBinary(seq.dictionary);
+    }
+
+    @Benchmark
+    public Object measureJavaSerialization_Read(Seq seq) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(seq.javaSerialized))) {
+            return input.readObject();
+        }
+    }
+
+    @Benchmark
+    public Object measureDawgReader_Read(Seq seq) throws IOException {
+        return new DawgReader().read(new ByteArrayInputStream(seq.binarySerialized));
+    }
+
+    private static byte[] writeJava(SortedDawg dictionary) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ObjectOutputStream objects = new ObjectOutputStream(output)) {
+            objects.writeObject(dictionary);
+        }
+        return output.toByteArray();
+    }
+
+    private static byte[] writeBinary(SortedDawg dictionary) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        new DawgWriter().write(dictionary, output);
+        return output.toByteArray();
+    }
+}
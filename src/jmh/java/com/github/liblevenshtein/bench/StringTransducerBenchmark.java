@@ -1,12 +1,16 @@
 package com.github.liblevenshtein.bench;
 
+import com.github.liblevenshtein.collection.dictionary.DoubleArrayDawg;
+import com.github.liblevenshtein.collection.dictionary.IDictionary;
 import com.github.liblevenshtein.collection.dictionary.SortedDawg;
 import com.github.liblevenshtein.transducer.Algorithm;
 import com.github.liblevenshtein.transducer.Candidate;
 import com.github.liblevenshtein.transducer.ITransducer;
 import com.github.liblevenshtein.transducer.factory.TransducerBuilder;
 import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.infra.Blackhole;
 
@@ -18,7 +22,10 @@ public class StringTransducerBenchmark {
 
     @State(Scope.Thread)
     public static class Seq {
-        final ITransducer<Candidate> transducer;
+        @Param({"SortedDawg", "FrozenDawg", "DoubleArrayDawg"})
+        String backend;
+
+        ITransducer<Candidate> transducer;
         final SortedDawg dictionary;
 
         public Seq() {
@@ -26,13 +33,28 @@ public class StringTransducerBenchmark {
             char[] chars = new char[]{'a','b','c','d','e','f','g','h','j','k','l','m','n','o','p','r','s','t','u','v','w','x'};
             visitPermutations(chars, 0, dictionary::add);
             dictionary.finish();
+        }
+
+        @Setup
+        public void setUp() {
             transducer = new TransducerBuilder()
                     .algorithm(Algorithm.TRANSPOSITION)
                     .defaultMaxDistance(2)
-                    .dictionary(dictionary)
+                    .dictionary(backend())
                     .build();
         }
 
+        private IDictionary<?> backend() {
+            switch (backend) {
+                case "FrozenDawg":
+                    return dictionary.freeze();
+                case "DoubleArrayDawg":
+                    return new DoubleArrayDawg(dictionary.freeze());
+                default:
+                    return dictionary;
+            }
+        }
+
         private static void visitPermutations(char[] chars, int offset, Consumer<String> consumer) {
             if (offset == chars.length) {
                 consumer.accept(new String(chars));
@@ -0,0 +1,71 @@
+package com.github.liblevenshtein.bench;
+
+import com.github.liblevenshtein.collection.dictionary.WeightedDictionary;
+import com.github.liblevenshtein.collection.dictionary.factory.DawgFactory;
+import com.github.liblevenshtein.transducer.Algorithm;
+import com.github.liblevenshtein.transducer.OrdinalCandidate;
+import com.github.liblevenshtein.transducer.Transducer;
+import com.github.liblevenshtein.transducer.factory.TransducerBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+public class TopKTransducerBenchmark {
+
+    @State(Scope.Thread)
+    public static class Seq {
+        @Param({"teh", "wrod", "recieve"})
+        String query;
+
+        WeightedDictionary<Integer> dictionary;
+        Transducer<Integer, OrdinalCandidate> transducer;
+
+        @Setup
+        @SuppressWarnings("unchecked")
+        public void setUp() {
+            Random random = new Random(0x3E16);
+            Map<String, Long> weights = new HashMap<>();
+            while (weights.size() < 200_000) {
+                char[] term = new char[2 + random.nextInt(9)];
+                for (int j = 0; j < term.length; j++) {
+                    term[j] = (char) ('a' + random.nextInt(26));
+                }
+                // Zipf-like frequencies
+                weights.put(new String(term), 1_000_000L / (1 + random.nextInt(100_000)));
+            }
+            dictionary = new DawgFactory().buildWeighted(weights);
+            transducer = (Transducer<Integer, OrdinalCandidate>) new TransducerBuilder()
+                    .algorithm(Algorithm.TRANSPOSITION)
+                    .defaultMaxDistance(2)
+                    .dictionary(dictionary)
+                    .includeOrdinal(true)
+                    .<OrdinalCandidate>build();
+        }
+    }
+
+    @Benchmark
+    public List<OrdinalCandidate> measureTransduceAndSort(Seq seq) {
+        List<OrdinalCandidate> candidates = new ArrayList<>();
+        for (OrdinalCandidate candidate : seq.transducer.transduce(seq.query)) {
+            candidates.add(candidate);
+        }
+        candidates.sort(Comparator
+                .comparingInt(OrdinalCandidate::distance)
+                .thenComparing(candidate -> -seq.dictionary.weight(candidate.ordinal())));
+        return candidates.subList(0, Math.min(10, candidates.size()));
+    }
+
+    @Benchmark
+    public List<OrdinalCandidate> measureTransduceTopK(Seq seq) {
+        return seq.transducer.transduceTopK(seq.query, 2, 10);
+    }
+}
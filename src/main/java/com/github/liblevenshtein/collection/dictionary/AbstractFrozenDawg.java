@@ -0,0 +1,532 @@
+package com.github.liblevenshtein.collection.dictionary;
+
+import java.util.AbstractSet;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import com.github.liblevenshtein.collection.AbstractIterator;
+
+/**
+ * <p>
+ * Common logic for read-only DAWGs whose nodes are integer ids in the range
+ * {@code [0, nodeCount())}, and whose edges are numbered such that the outgoing
+ * edges of each node occupy the contiguous range
+ * {@code [edgesBegin(node), edgesEnd(node))}, sorted ascendingly by label.
+ * The edges of node {@code n + 1} immediately follow those of node {@code n}.
+ * </p>
+ * <p>
+ * Implementations only decide where the nodes and edges are stored (e.g. in
+ * heap arrays or in a memory-mapped file).
+ * </p>
+ * @since 3.1.0
+ */
+public abstract class AbstractFrozenDawg
+    extends AbstractSet<String>
+    implements IOrdinalDictionary<Integer>,
+               ICursorDictionary<Integer> {
+
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Id of the root node, which is always the first one.
+   */
+  public static final int ROOT = 0;
+
+  /**
+   * Returned from {@link #transition(int, char)} when there is no outgoing
+   * edge for the requested label.
+   */
+  public static final int NO_NODE = -1;
+
+  /**
+   * Number of terms accepted from each node, indexed by id, which is computed
+   * the first time it is needed.
+   */
+  private transient volatile int[] counts = null;
+
+  /**
+   * Returns the number of nodes in this DAWG.
+   * @return Number of nodes in this DAWG.
+   */
+  public abstract int nodeCount();
+
+  /**
+   * Returns the number of edges in this DAWG.
+   * @return Number of edges in this DAWG.
+   */
+  public abstract int edgeCount();
+
+  /**
+   * Returns the index of the first outgoing edge of a node.
+   * @param node Id of the node whose edges should be found.
+   * @return Index of the first outgoing edge of the node.
+   */
+  public abstract int edgesBegin(int node);
+
+  /**
+   * Returns the index one past the last outgoing edge of a node.
+   * @param node Id of the node whose edges should be found.
+   * @return Index one past the last outgoing edge of the node.
+   */
+  public abstract int edgesEnd(int node);
+
+  /**
+   * Returns the label of an edge.
+   * @param edge Index of the edge, as bounded by {@link #edgesBegin(int)} and
+   *   {@link #edgesEnd(int)}.
+   * @return Label of the edge.
+   */
+  public abstract char label(int edge);
+
+  /**
+   * Returns the target of an edge.
+   * @param edge Index of the edge, as bounded by {@link #edgesBegin(int)} and
+   *   {@link #edgesEnd(int)}.
+   * @return Id of the node the edge points to.
+   */
+  public abstract int target(int edge);
+
+  /**
+   * Specifies whether a node represents the last character of some term.
+   * @param node Id of the node to check.
+   * @return Whether the node represents the last character of some term.
+   */
+  public abstract boolean isFinal(int node);
+
+  /**
+   * Follows the outgoing edge of a node that is labeled with some character.
+   * @param node Id of the node to leave.
+   * @param label Label of the edge to follow.
+   * @return Id of the target node, or {@link #NO_NODE} if the node has no
+   *   edge with that label.
+   */
+  public int transition(final int node, final char label) {
+    int lower = edgesBegin(node);
+    int upper = edgesEnd(node) - 1;
+    while (lower <= upper) {
+      final int middle = (lower + upper) >>> 1;
+      final char other = label(middle);
+      if (other < label) {
+        lower = middle + 1;
+      }
+      else if (other > label) {
+        upper = middle - 1;
+      }
+      else {
+        return target(middle);
+      }
+    }
+    return NO_NODE;
+  }
+
+  /**
+   * Finds the terms of this dictionary that begin with some prefix.
+   * @param prefix Prefix of the terms.
+   * @return Terms of this dictionary that begin with the prefix, which are
+   *   enumerated lazily.
+   */
+  public Completions<Integer> completions(final String prefix) {
+    return Completions.of(this, prefix);
+  }
+
+  /**
+   * Returns the number of terms accepted from a node.
+   * @param node Id of the node whose terms should be counted.
+   * @return Number of terms accepted from the node.
+   */
+  public int count(final int node) {
+    return counts()[node];
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int count(final Integer node) {
+    return count(node.intValue());
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int ordinal(final String term) {
+    final int[] counts = counts();
+    int node = ROOT;
+    int ordinal = 0;
+    for (int i = 0; i < term.length(); ++i) {
+      final char label = term.charAt(i);
+      if (isFinal(node)) {
+        ordinal += 1;
+      }
+      final int end = edgesEnd(node);
+      int edge = edgesBegin(node);
+      while (edge < end && label(edge) < label) {
+        ordinal += counts[target(edge)];
+        edge += 1;
+      }
+      if (edge == end || label(edge) != label) {
+        return -1;
+      }
+      node = target(edge);
+    }
+    return isFinal(node) ? ordinal : -1;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String term(final int ordinal) {
+    final int[] counts = counts();
+    if (ordinal < 0 || ordinal >= counts[ROOT]) {
+      throw new IndexOutOfBoundsException(String.format(
+          "Ordinal [%d] is not in [0, %d)", ordinal, counts[ROOT]));
+    }
+    final StringBuilder term = new StringBuilder();
+    int node = ROOT;
+    int remaining = ordinal;
+    while (!isFinal(node) || remaining > 0) {
+      if (isFinal(node)) {
+        remaining -= 1;
+      }
+      int edge = edgesBegin(node);
+      while (remaining >= counts[target(edge)]) {
+        remaining -= counts[target(edge)];
+        edge += 1;
+      }
+      term.append(label(edge));
+      node = target(edge);
+    }
+    return term.toString();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Integer root() {
+    return ROOT;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean at(final Integer node) {
+    return isFinal(node);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Integer of(final Integer node, final char label) {
+    final int target = transition(node, label);
+    return NO_NODE == target ? null : target;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Iterator<Character> of(final Integer node) {
+    return new LabelIterator(edgesBegin(node), edgesEnd(node));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public IEdgeCursor<Integer> cursor() {
+    return new EdgeCursor();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean contains(final Object o) {
+    if (!(o instanceof String)) {
+      return false;
+    }
+    final String term = (String) o;
+    int node = ROOT;
+    for (int i = 0; i < term.length() && NO_NODE != node; ++i) {
+      node = transition(node, term.charAt(i));
+    }
+    return NO_NODE != node && isFinal(node);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Each term is looked up from the node of the prefix it shares with the
+   * term before it, so sorted collections are looked up fastest.
+   * </p>
+   * @see BatchMembership#containsAll(Collection)
+   */
+  @Override
+  public boolean containsAll(final Collection<?> terms) {
+    return new BatchMembership<Integer>(this).containsAll(terms);
+  }
+
+  /**
+   * Finds which terms of a batch belong to this dictionary, sharing the
+   * lookups of their common prefixes.
+   * @param terms Terms to look up.
+   * @param isSorted Whether the terms are sorted ascendingly, in
+   *   lexicographical order (otherwise, a sorted copy is looked up).
+   * @return Set whose i-th bit specifies whether the i-th term belongs to this
+   *   dictionary.
+   * @see BatchMembership
+   * @since 3.1.0
+   */
+  public BitSet filterContained(
+      final List<String> terms,
+      final boolean isSorted) {
+    return new BatchMembership<Integer>(this).filterContained(terms, isSorted);
+  }
+
+  /**
+   * Iterates over the terms of this dictionary in lexicographical order.
+   * @return Iterator over the terms of this dictionary.
+   */
+  @Override
+  public Iterator<String> iterator() {
+    return new TermIterator();
+  }
+
+  /**
+   * Returns the number of terms accepted from each node, counting them on the
+   * first call.  The nodes need not be numbered in topological order, so they
+   * are counted in post-order, with an explicit stack.
+   * @return Number of terms accepted from each node, indexed by id.
+   */
+  private int[] counts() {
+    int[] counts = this.counts;
+    if (null != counts) {
+      return counts;
+    }
+    final int nodeCount = nodeCount();
+    counts = new int[nodeCount];
+    final boolean[] visited = new boolean[nodeCount];
+    final int[] nodes = new int[nodeCount];
+    final int[] edges = new int[nodeCount];
+    int depth = 0;
+    nodes[0] = ROOT;
+    edges[0] = edgesBegin(ROOT);
+    visited[ROOT] = true;
+    while (depth >= 0) {
+      final int node = nodes[depth];
+      final int edge = edges[depth];
+      if (edge < edgesEnd(node)) {
+        edges[depth] = edge + 1;
+        final int target = target(edge);
+        if (!visited[target]) {
+          visited[target] = true;
+          depth += 1;
+          nodes[depth] = target;
+          edges[depth] = edgesBegin(target);
+        }
+      }
+      else {
+        int count = isFinal(node) ? 1 : 0;
+        for (int e = edgesBegin(node); e < edgesEnd(node); ++e) {
+          count += counts[target(e)];
+        }
+        counts[node] = count;
+        depth -= 1;
+      }
+    }
+    this.counts = counts;
+    return counts;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s(size=%d, nodes=%d, edges=%d)",
+        getClass().getSimpleName(), size(), nodeCount(), edgeCount());
+  }
+
+  /**
+   * Iterates over the labels of a contiguous range of edges.
+   */
+  private final class LabelIterator implements Iterator<Character> {
+
+    /**
+     * Index of the next edge whose label should be returned.
+     */
+    private int edge;
+
+    /**
+     * Index one past the last edge whose label should be returned.
+     */
+    private final int end;
+
+    /**
+     * Constructs a new {@link LabelIterator}.
+     * @param begin Index of the first edge.
+     * @param end Index one past the last edge.
+     */
+    LabelIterator(final int begin, final int end) {
+      this.edge = begin;
+      this.end = end;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return edge < end;
+    }
+
+    @Override
+    public Character next() {
+      if (edge >= end) {
+        throw new NoSuchElementException();
+      }
+      return label(edge++);
+    }
+
+    @Override
+    public void remove() {
+      throw new UnsupportedOperationException(
+          "java.util.Iterator.remove() is not supported");
+    }
+  }
+
+  /**
+   * Visits the edges of a node by their indices.
+   */
+  private final class EdgeCursor implements IEdgeCursor<Integer> {
+
+    /**
+     * Index of the current edge.
+     */
+    private int edge = 0;
+
+    /**
+     * Index one past the last edge of the node.
+     */
+    private int end = 0;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void reset(final Integer node) {
+      this.edge = edgesBegin(node) - 1;
+      this.end = edgesEnd(node);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean next() {
+      if (edge < end) {
+        edge += 1;
+      }
+      return edge < end;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public char label() {
+      return AbstractFrozenDawg.this.label(edge);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Integer target() {
+      return AbstractFrozenDawg.this.target(edge);
+    }
+  }
+
+  /**
+   * Depth-first traversal over the terms of this dictionary, which keeps the
+   * current path in a single buffer.
+   */
+  private final class TermIterator extends AbstractIterator<String> {
+
+    /**
+     * Labels along the path from the root to the current node.
+     */
+    private char[] path = new char[16];
+
+    /**
+     * Nodes along the path from the root, indexed by depth.
+     */
+    private int[] nodes = new int[17];
+
+    /**
+     * Next edge to follow from each node along the path.
+     */
+    private int[] edges = new int[17];
+
+    /**
+     * Depth of the current node, or -1 once the traversal is complete.
+     */
+    private int depth = 0;
+
+    /**
+     * Constructs a new {@link TermIterator}, positioned at the root.
+     */
+    TermIterator() {
+      nodes[0] = ROOT;
+      edges[0] = edgesBegin(ROOT);
+      if (isFinal(ROOT)) {
+        next = "";
+      }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void advance() {
+      while (null == next && depth >= 0) {
+        final int edge = edges[depth];
+        if (edge < edgesEnd(nodes[depth])) {
+          edges[depth] = edge + 1;
+          if (depth == path.length) {
+            grow();
+          }
+          path[depth] = label(edge);
+          final int node = target(edge);
+          depth += 1;
+          nodes[depth] = node;
+          edges[depth] = edgesBegin(node);
+          if (isFinal(node)) {
+            next = new String(path, 0, depth);
+          }
+        }
+        else {
+          depth -= 1;
+        }
+      }
+    }
+
+    /**
+     * Doubles the capacity of the path buffers.
+     */
+    private void grow() {
+      final int capacity = path.length << 1;
+      final char[] path = new char[capacity];
+      final int[] nodes = new int[capacity + 1];
+      final int[] edges = new int[capacity + 1];
+      System.arraycopy(this.path, 0, path, 0, this.path.length);
+      System.arraycopy(this.nodes, 0, nodes, 0, this.nodes.length);
+      System.arraycopy(this.edges, 0, edges, 0, this.edges.length);
+      this.path = path;
+      this.nodes = nodes;
+      this.edges = edges;
+    }
+  }
+}
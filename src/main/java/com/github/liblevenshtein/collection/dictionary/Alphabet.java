@@ -0,0 +1,155 @@
+package com.github.liblevenshtein.collection.dictionary;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * <p>
+ * Distinct labels of a dictionary, numbered by ascending character as dense
+ * symbol ids in the range {@code [0, size())}.  Most dictionaries use only a
+ * few dozen characters, so their symbols index small arrays (e.g. the direct
+ * child tables of {@link AlphabetDawg}) where their characters could not.
+ * </p>
+ * <p>
+ * Characters below {@link #DIRECT_LIMIT} are mapped with a single array load,
+ * and others with a binary search.  Characters the dictionary does not use map
+ * to {@link #UNKNOWN}, which matches no symbol.
+ * </p>
+ * @since 3.1.0
+ */
+public final class Alphabet implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Symbol id of every character that does not belong to the alphabet.
+   */
+  public static final int UNKNOWN = -1;
+
+  /**
+   * Characters below this one are mapped to their symbols by a lookup table.
+   */
+  static final int DIRECT_LIMIT = 256;
+
+  /**
+   * Characters of this alphabet, indexed by symbol id.
+   */
+  private final char[] labels;
+
+  /**
+   * Symbol ids of the characters below {@link #DIRECT_LIMIT}.
+   */
+  private final int[] symbols;
+
+  /**
+   * Constructs an alphabet over some characters.
+   * @param labels Distinct characters of the alphabet, sorted ascendingly.
+   *   The array is not copied, so it must not be modified afterwards.
+   */
+  private Alphabet(final char[] labels) {
+    this.labels = labels;
+    this.symbols = new int[DIRECT_LIMIT];
+    Arrays.fill(symbols, UNKNOWN);
+    for (int symbol = 0; symbol < labels.length && labels[symbol] < DIRECT_LIMIT; ++symbol) {
+      symbols[labels[symbol]] = symbol;
+    }
+  }
+
+  /**
+   * Collects the distinct labels of the edges of a DAWG.
+   * @param dawg DAWG whose labels should be collected.
+   * @return Alphabet of the DAWG.
+   */
+  public static Alphabet of(final AbstractFrozenDawg dawg) {
+    final BitSet seen = new BitSet(DIRECT_LIMIT);
+    for (int edge = 0; edge < dawg.edgeCount(); ++edge) {
+      seen.set(dawg.label(edge));
+    }
+    return of(seen);
+  }
+
+  /**
+   * Constructs an alphabet over the characters of a set.
+   * @param seen Characters of the alphabet, as the set bits.
+   * @return Alphabet of the characters.
+   */
+  static Alphabet of(final BitSet seen) {
+    final char[] labels = new char[seen.cardinality()];
+    int label = -1;
+    for (int symbol = 0; symbol < labels.length; ++symbol) {
+      label = seen.nextSetBit(label + 1);
+      labels[symbol] = (char) label;
+    }
+    return new Alphabet(labels);
+  }
+
+  /**
+   * Returns the number of symbols in this alphabet.
+   * @return Number of symbols in this alphabet.
+   */
+  public int size() {
+    return labels.length;
+  }
+
+  /**
+   * Returns the number of bits needed to store any symbol of this alphabet
+   * (at least one).
+   * @return Width of a symbol, in bits.
+   */
+  public int width() {
+    return 32 - Integer.numberOfLeadingZeros(Math.max(1, labels.length - 1));
+  }
+
+  /**
+   * Maps a character to its symbol id.
+   * @param label Character to map.
+   * @return Symbol id of the character, or {@link #UNKNOWN} if it does not
+   *   belong to this alphabet.
+   */
+  public int symbol(final char label) {
+    if (label < DIRECT_LIMIT) {
+      return symbols[label];
+    }
+    final int symbol = Arrays.binarySearch(labels, label);
+    return symbol < 0 ? UNKNOWN : symbol;
+  }
+
+  /**
+   * Maps a symbol id to its character.
+   * @param symbol Symbol id in the range {@code [0, size())}.
+   * @return Character with the symbol id.
+   */
+  public char label(final int symbol) {
+    return labels[symbol];
+  }
+
+  /**
+   * Maps each character of a query to its symbol id, once, so it may be
+   * matched against the dictionary by symbol.
+   * @param query Characters to map.
+   * @return Symbol ids of the characters, in which those that do not belong
+   *   to this alphabet are {@link #UNKNOWN}.
+   */
+  public int[] encode(final CharSequence query) {
+    final int[] encoded = new int[query.length()];
+    for (int i = 0; i < encoded.length; ++i) {
+      encoded[i] = symbol(query.charAt(i));
+    }
+    return encoded;
+  }
+
+  /**
+   * Returns the approximate number of bytes occupied by the arrays of this
+   * alphabet.
+   * @return Approximate size of this alphabet, in bytes.
+   */
+  public long sizeInBytes() {
+    return 2L * labels.length + 4L * symbols.length;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("Alphabet(size=%d)", labels.length);
+  }
+}
@@ -0,0 +1,214 @@
+package com.github.liblevenshtein.collection.dictionary;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Read-only DAWG that maps its labels to the dense symbol ids of its
+ * {@link Alphabet}, so the nodes with the most edges (which include the root
+ * and the nodes near it, which every query visits) follow each edge with a
+ * single load from a direct table indexed by symbol.  The other nodes binary
+ * search their sorted edges, as in a {@link FrozenDawg}.
+ * </p>
+ * <p>
+ * A node gets a table of {@code alphabet().size()} targets when at least
+ * {@code 1/}{@link #DENSITY} of them would be used, so the tables take at most
+ * {@link #DENSITY} times the space of the edges they index.  Characters
+ * outside the alphabet match no edge of a table, without searching.
+ * </p>
+ * @since 3.1.0
+ */
+public class AlphabetDawg extends AbstractFrozenDawg {
+
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Inverse of the minimum fraction of the alphabet a node must use for its
+   * edges to be tabulated.
+   */
+  public static final int DENSITY = 4;
+
+  /**
+   * Value of {@link #rows} for nodes without a table.
+   */
+  private static final int NO_ROW = -1;
+
+  /**
+   * Sorted edges of each node, which are searched by nodes without a table.
+   */
+  private final FrozenDawg edges;
+
+  /**
+   * Dense symbol ids of the labels.
+   */
+  private final Alphabet alphabet;
+
+  /**
+   * Offset into {@link #table} of the targets of each node, indexed by id, or
+   * {@link #NO_ROW} if the node has no table.
+   */
+  private final int[] rows;
+
+  /**
+   * Targets of the tabulated nodes, indexed by their rows plus the symbol id
+   * of each label, or {@link #NO_NODE} where there is no edge.
+   */
+  private final int[] table;
+
+  /**
+   * Tabulates the transitions of the densest nodes of a {@link FrozenDawg}.
+   * @param edges DAWG whose transitions should be tabulated.
+   */
+  public AlphabetDawg(final FrozenDawg edges) {
+    this.edges = edges;
+    this.alphabet = Alphabet.of(edges);
+    final int nodeCount = edges.nodeCount();
+    final int width = alphabet.size();
+    this.rows = new int[nodeCount];
+
+    int tableSize = 0;
+    for (int node = 0; node < nodeCount; ++node) {
+      if (isDense(edges.edgesEnd(node) - edges.edgesBegin(node), width)) {
+        rows[node] = tableSize;
+        tableSize += width;
+      }
+      else {
+        rows[node] = NO_ROW;
+      }
+    }
+
+    this.table = new int[tableSize];
+    Arrays.fill(table, NO_NODE);
+    for (int node = 0; node < nodeCount; ++node) {
+      final int row = rows[node];
+      if (NO_ROW != row) {
+        final int end = edges.edgesEnd(node);
+        for (int edge = edges.edgesBegin(node); edge < end; ++edge) {
+          table[row + alphabet.symbol(edges.label(edge))] = edges.target(edge);
+        }
+      }
+    }
+  }
+
+  /**
+   * Specifies whether a node uses enough of the alphabet to be tabulated.
+   * @param degree Number of edges of the node.
+   * @param width Number of symbols in the alphabet.
+   * @return Whether the node should have a table.
+   */
+  private static boolean isDense(final int degree, final int width) {
+    return degree > 1 && (long) degree * DENSITY >= width;
+  }
+
+  /**
+   * Returns the alphabet of this DAWG, for mapping queries to symbol ids.
+   * @return Alphabet of this DAWG.
+   */
+  public Alphabet alphabet() {
+    return alphabet;
+  }
+
+  /**
+   * Returns the number of nodes whose edges are tabulated.
+   * @return Number of nodes with a direct table.
+   */
+  public int denseNodeCount() {
+    return table.length / Math.max(1, alphabet.size());
+  }
+
+  /**
+   * Follows the outgoing edge of a node that is labeled with some symbol.
+   * @param node Id of the node to leave.
+   * @param symbol Symbol id of the label of the edge to follow (e.g. from
+   *   {@link Alphabet#encode(CharSequence)}), or {@link Alphabet#UNKNOWN}.
+   * @return Id of the target node, or {@link #NO_NODE} if the node has no
+   *   edge with that label.
+   */
+  public int symbolTransition(final int node, final int symbol) {
+    if (Alphabet.UNKNOWN == symbol) {
+      return NO_NODE;
+    }
+    final int row = rows[node];
+    if (NO_ROW != row) {
+      return table[row + symbol];
+    }
+    return edges.transition(node, alphabet.label(symbol));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int transition(final int node, final char label) {
+    final int row = rows[node];
+    if (NO_ROW == row) {
+      return edges.transition(node, label);
+    }
+    final int symbol = alphabet.symbol(label);
+    return Alphabet.UNKNOWN == symbol ? NO_NODE : table[row + symbol];
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int nodeCount() {
+    return edges.nodeCount();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int edgeCount() {
+    return edges.edgeCount();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int edgesBegin(final int node) {
+    return edges.edgesBegin(node);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int edgesEnd(final int node) {
+    return edges.edgesEnd(node);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public char label(final int edge) {
+    return edges.label(edge);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int target(final int edge) {
+    return edges.target(edge);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean isFinal(final int node) {
+    return edges.isFinal(node);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int size() {
+    return edges.size();
+  }
+}
@@ -0,0 +1,313 @@
+package com.github.liblevenshtein.collection.dictionary;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * <p>
+ * Tests batches of terms for membership in a dictionary.  Each term is looked
+ * up from the node reached by the prefix it shares with the term before it,
+ * rather than from the root, so the nodes along the path of the previous term
+ * are kept on a stack and only the characters after the common prefix are
+ * transitioned.  Sorted batches (e.g. of tokens from a sorted stream) share
+ * the longest prefixes, so {@link #filterContained(List, boolean)} sorts the
+ * batch unless it is sorted already.
+ * </p>
+ * <p>
+ * If a {@link ForkJoinPool} is given, batches larger than the threshold are
+ * split into sorted ranges that are looked up on its threads, each with its
+ * own stack.
+ * </p>
+ * @param <Node> Kind of the nodes of the dictionary.
+ * @since 3.1.0
+ */
+public class BatchMembership<Node> {
+
+  /**
+   * Default number of terms beneath which a batch is looked up sequentially.
+   */
+  public static final int DEFAULT_THRESHOLD = 1 << 12;
+
+  /**
+   * Dictionary whose terms are looked up.
+   */
+  private final IDictionary<Node> dictionary;
+
+  /**
+   * Pool whose threads look up the ranges of large batches, or null if every
+   * batch should be looked up on the calling thread.
+   */
+  private final ForkJoinPool pool;
+
+  /**
+   * Number of terms beneath which a batch is looked up sequentially.
+   */
+  private final int threshold;
+
+  /**
+   * Constructs a new {@link BatchMembership}, which looks up every batch on
+   * the calling thread.
+   * @param dictionary Dictionary whose terms should be looked up.
+   */
+  public BatchMembership(final IDictionary<Node> dictionary) {
+    this(dictionary, null, DEFAULT_THRESHOLD);
+  }
+
+  /**
+   * Constructs a new {@link BatchMembership}.
+   * @param dictionary Dictionary whose terms should be looked up.
+   * @param pool Pool whose threads should look up the ranges of large
+   *   batches.
+   */
+  public BatchMembership(
+      final IDictionary<Node> dictionary,
+      final ForkJoinPool pool) {
+    this(dictionary, pool, DEFAULT_THRESHOLD);
+  }
+
+  /**
+   * Constructs a new {@link BatchMembership}.
+   * @param dictionary Dictionary whose terms should be looked up.
+   * @param pool Pool whose threads should look up the ranges of large
+   *   batches, or null if they should be looked up on the calling thread.
+   * @param threshold Number of terms beneath which a batch is looked up
+   *   sequentially.
+   * @throws IllegalArgumentException If the threshold is not positive.
+   */
+  public BatchMembership(
+      final IDictionary<Node> dictionary,
+      final ForkJoinPool pool,
+      final int threshold) {
+    if (threshold < 1) {
+      throw new IllegalArgumentException(String.format(
+          "Expected threshold to be positive, but was [%d]", threshold));
+    }
+    this.dictionary = dictionary;
+    this.pool = pool;
+    this.threshold = threshold;
+  }
+
+  /**
+   * Specifies whether the dictionary contains every term of a batch.  The
+   * terms are looked up in the order they are given, which is fastest when
+   * they are sorted, and the lookup stops at the first missing term.
+   * @param terms Terms to look up.
+   * @return Whether every term belongs to the dictionary.
+   */
+  public boolean containsAll(final Collection<?> terms) {
+    final PrefixStack<Node> stack = new PrefixStack<Node>(dictionary);
+    for (final Object term : terms) {
+      if (!(term instanceof String) || !stack.contains((String) term)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Finds which terms of a batch belong to the dictionary.
+   * @param terms Terms to look up.
+   * @param isSorted Whether the terms are sorted ascendingly, in
+   *   lexicographical order (otherwise, their indices are sorted by term).
+   * @return Set whose i-th bit specifies whether the i-th term belongs to the
+   *   dictionary.
+   */
+  public BitSet filterContained(
+      final List<String> terms,
+      final boolean isSorted) {
+    final String[] batch = terms.toArray(new String[terms.size()]);
+    final int[] order = isSorted ? null : order(batch);
+    final boolean[] hits = new boolean[batch.length];
+    final LookupTask task = new LookupTask(batch, order, hits, 0, batch.length);
+    if (null != pool && batch.length > threshold) {
+      pool.invoke(task);
+    }
+    else {
+      task.compute();
+    }
+
+    final BitSet contained = new BitSet(batch.length);
+    for (int i = 0; i < hits.length; ++i) {
+      if (hits[i]) {
+        contained.set(i);
+      }
+    }
+    return contained;
+  }
+
+  /**
+   * Sorts the indices of a batch by their terms.
+   * @param batch Terms to sort.
+   * @return Indices of the terms, in lexicographical order of the terms.
+   */
+  private int[] order(final String[] batch) {
+    final Integer[] indices = new Integer[batch.length];
+    for (int i = 0; i < indices.length; ++i) {
+      indices[i] = i;
+    }
+    final Comparator<Integer> byTerm = new Comparator<Integer>() {
+      @Override
+      public int compare(final Integer lhs, final Integer rhs) {
+        return batch[lhs].compareTo(batch[rhs]);
+      }
+    };
+    if (null != pool) {
+      Arrays.parallelSort(indices, byTerm);
+    }
+    else {
+      Arrays.sort(indices, byTerm);
+    }
+    final int[] order = new int[indices.length];
+    for (int i = 0; i < order.length; ++i) {
+      order[i] = indices[i];
+    }
+    return order;
+  }
+
+  /**
+   * Looks up a range of the sorted terms of a batch, splitting it in half
+   * while it is larger than the threshold.
+   */
+  private final class LookupTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Terms of the batch, in the order they were given.
+     */
+    private final String[] batch;
+
+    /**
+     * Indices of the terms in lexicographical order, or null if they are
+     * sorted already.
+     */
+    private final int[] order;
+
+    /**
+     * Whether each term of the batch belongs to the dictionary.  Each task
+     * writes the elements of its own range.
+     */
+    private final boolean[] hits;
+
+    /**
+     * Sorted position of the first term of the range.
+     */
+    private final int lower;
+
+    /**
+     * Sorted position just past the last term of the range.
+     */
+    private final int upper;
+
+    /**
+     * Constructs a new {@link LookupTask}.
+     * @param batch Terms of the batch.
+     * @param order Sorted indices of the terms, or null.
+     * @param hits Whether each term belongs to the dictionary.
+     * @param lower Sorted position of the first term of the range.
+     * @param upper Sorted position just past the last term of the range.
+     */
+    LookupTask(
+        final String[] batch,
+        final int[] order,
+        final boolean[] hits,
+        final int lower,
+        final int upper) {
+      this.batch = batch;
+      this.order = order;
+      this.hits = hits;
+      this.lower = lower;
+      this.upper = upper;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void compute() {
+      if (null != pool && upper - lower > threshold) {
+        final int middle = (lower + upper) >>> 1;
+        invokeAll(
+          new LookupTask(batch, order, hits, lower, middle),
+          new LookupTask(batch, order, hits, middle, upper));
+        return;
+      }
+      final PrefixStack<Node> stack = new PrefixStack<Node>(dictionary);
+      for (int position = lower; position < upper; ++position) {
+        final int index = null == order ? position : order[position];
+        hits[index] = stack.contains(batch[index]);
+      }
+    }
+  }
+
+  /**
+   * Nodes along the path of the last term that was looked up, from which the
+   * next term descends after their common prefix.
+   * @param <Node> Kind of the nodes of the dictionary.
+   */
+  private static final class PrefixStack<Node> {
+
+    /**
+     * Dictionary whose terms are looked up.
+     */
+    private final IDictionary<Node> dictionary;
+
+    /**
+     * Nodes reached by each prefix of the last term, indexed by the length of
+     * the prefix, up to the first prefix that does not belong to the
+     * dictionary.
+     */
+    private final List<Node> nodes = new ArrayList<Node>();
+
+    /**
+     * Last term that was looked up.
+     */
+    private String previous = "";
+
+    /**
+     * Constructs a new {@link PrefixStack}, positioned at the root.
+     * @param dictionary Dictionary whose terms should be looked up.
+     */
+    PrefixStack(final IDictionary<Node> dictionary) {
+      this.dictionary = dictionary;
+      nodes.add(dictionary.root());
+    }
+
+    /**
+     * Specifies whether the dictionary contains some term, descending from
+     * the node of the prefix it shares with the previous term.
+     * @param term Term to look up.
+     * @return Whether the dictionary contains the term.
+     */
+    boolean contains(final String term) {
+      final int limit = Math.min(
+          Math.min(term.length(), previous.length()),
+          nodes.size() - 1);
+      int depth = 0;
+      while (depth < limit && term.charAt(depth) == previous.charAt(depth)) {
+        depth += 1;
+      }
+      for (int i = nodes.size() - 1; i > depth; --i) {
+        nodes.remove(i);
+      }
+      this.previous = term;
+
+      Node node = nodes.get(depth);
+      while (depth < term.length()) {
+        node = dictionary.of(node, term.charAt(depth));
+        if (null == node) {
+          return false;
+        }
+        nodes.add(node);
+        depth += 1;
+      }
+      return dictionary.at(node);
+    }
+  }
+}
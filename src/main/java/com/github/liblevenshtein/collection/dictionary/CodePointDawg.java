@@ -0,0 +1,409 @@
+package com.github.liblevenshtein.collection.dictionary;
+
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Iterator;
+
+import com.github.liblevenshtein.collection.AbstractIterator;
+
+/**
+ * <p>
+ * Read-only DAWG whose edges are labeled with Unicode code points rather than
+ * UTF-16 code units, so a supplementary character (e.g. an emoji, or a CJK
+ * Extension B ideograph) is one edge instead of a surrogate pair, and one
+ * error to the transducer instead of two.
+ * </p>
+ * <p>
+ * Its graph is minimized by a {@link SortedDawg} and stored in flat arrays,
+ * like that of a {@link FrozenDawg}, and the outgoing edges of each node are
+ * sorted by code point.  The low 16 bits of the labels are kept in a
+ * {@code char[]}, and the plane of each label in a parallel {@code byte[]}
+ * only if some label lies beyond the Basic Multilingual Plane, so
+ * dictionaries without supplementary characters take no more space than a
+ * {@link FrozenDawg}.
+ * </p>
+ * @since 3.1.0
+ */
+public class CodePointDawg extends AbstractSet<String> implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Returned from {@link #transition(int, int)} when there is no outgoing edge
+   * for the requested label.
+   */
+  public static final int NO_NODE = -1;
+
+  /**
+   * Orders strings by their code points, which differs from
+   * {@link String#compareTo(String)} where supplementary characters are
+   * compared with those in {@code [U+E000, U+FFFF]}.
+   */
+  public static final Comparator<String> CODE_POINT_ORDER = new CodePointOrder();
+
+  /**
+   * Offsets into {@link #labels} and {@link #targets} of the first outgoing
+   * edge of each node.  The last element is the total number of edges.
+   */
+  private final int[] edgeOffsets;
+
+  /**
+   * Low 16 bits of the labels of all the edges, grouped by source node.
+   */
+  private final char[] labels;
+
+  /**
+   * Planes (high bits) of the labels, parallel to {@link #labels}, or null if
+   * every label lies in the Basic Multilingual Plane.
+   */
+  private final byte[] planes;
+
+  /**
+   * Target node ids of all the edges, parallel to {@link #labels}.
+   */
+  private final int[] targets;
+
+  /**
+   * Ids of the nodes that represent the last code point of some term.
+   */
+  private final BitSet finalNodes;
+
+  /**
+   * Id of the root node.
+   */
+  private final int root;
+
+  /**
+   * Number of terms in this dictionary.
+   */
+  private final int size;
+
+  /**
+   * Builds a minimal DAWG from terms sorted by code point.  Each code point is
+   * replaced by its rank among the distinct code points of the terms, which
+   * fits in a {@code char} and preserves their order, so the ranks are
+   * minimized by a {@link SortedDawg} like any other terms, and the frozen
+   * graph is relabeled with the code points.  The terms are iterated over
+   * twice: once to collect their code points, and once to build the graph.
+   * Duplicate terms are ignored.
+   * @param terms Terms of the dictionary, in {@link #CODE_POINT_ORDER}.
+   * @throws IllegalArgumentException If the terms are not in
+   *   {@link #CODE_POINT_ORDER}, or they have more distinct code points than
+   *   fit in a {@code char}.
+   */
+  public CodePointDawg(final Iterable<String> terms) {
+    final BitSet seen = new BitSet();
+    String previous = null;
+    for (final String term : terms) {
+      if (null != previous
+          && CODE_POINT_ORDER.compare(previous, term) > 0) {
+        throw new IllegalArgumentException(String.format(
+            "Expected terms in ascending code-point order, but [%s] followed [%s]",
+            term, previous));
+      }
+      for (int i = 0; i < term.length(); ) {
+        final int codePoint = term.codePointAt(i);
+        seen.set(codePoint);
+        i += Character.charCount(codePoint);
+      }
+      previous = term;
+    }
+    if (seen.cardinality() > Character.MAX_VALUE + 1) {
+      throw new IllegalArgumentException(String.format(
+          "Expected at most %d distinct code points, but there were [%d]",
+          Character.MAX_VALUE + 1, seen.cardinality()));
+    }
+    final int[] alphabet = new int[seen.cardinality()];
+    for (int rank = 0, codePoint = seen.nextSetBit(0);
+         codePoint >= 0;
+         ++rank, codePoint = seen.nextSetBit(codePoint + 1)) {
+      alphabet[rank] = codePoint;
+    }
+
+    final SortedDawg dawg = new SortedDawg();
+    final StringBuilder ranks = new StringBuilder();
+    for (final String term : terms) {
+      ranks.setLength(0);
+      for (int i = 0; i < term.length(); ) {
+        final int codePoint = term.codePointAt(i);
+        ranks.append((char) Arrays.binarySearch(alphabet, codePoint));
+        i += Character.charCount(codePoint);
+      }
+      dawg.add(ranks.toString());
+    }
+    final FrozenDawg frozen = dawg.freeze();
+    this.root = AbstractFrozenDawg.ROOT;
+    this.size = frozen.size();
+
+    final int nodeCount = frozen.nodeCount();
+    final int edgeCount = frozen.edgeCount();
+    this.edgeOffsets = new int[nodeCount + 1];
+    this.finalNodes = new BitSet(nodeCount);
+    for (int node = 0; node < nodeCount; ++node) {
+      edgeOffsets[node] = frozen.edgesBegin(node);
+      if (frozen.isFinal(node)) {
+        finalNodes.set(node);
+      }
+    }
+    edgeOffsets[nodeCount] = edgeCount;
+    this.labels = new char[edgeCount];
+    this.targets = new int[edgeCount];
+    for (int edge = 0; edge < edgeCount; ++edge) {
+      labels[edge] = (char) alphabet[frozen.label(edge)];
+      targets[edge] = frozen.target(edge);
+    }
+    if (0 == alphabet.length || alphabet[alphabet.length - 1] <= Character.MAX_VALUE) {
+      this.planes = null;
+    }
+    else {
+      this.planes = new byte[edgeCount];
+      for (int edge = 0; edge < edgeCount; ++edge) {
+        planes[edge] = (byte) (alphabet[frozen.label(edge)] >>> 16);
+      }
+    }
+  }
+
+  /**
+   * Returns the id of the root node.
+   * @return Id of the root node.
+   */
+  public int root() {
+    return root;
+  }
+
+  /**
+   * Returns the number of nodes in this DAWG.
+   * @return Number of nodes in this DAWG.
+   */
+  public int nodeCount() {
+    return edgeOffsets.length - 1;
+  }
+
+  /**
+   * Returns the number of edges in this DAWG.
+   * @return Number of edges in this DAWG.
+   */
+  public int edgeCount() {
+    return labels.length;
+  }
+
+  /**
+   * Specifies whether any label lies beyond the Basic Multilingual Plane, in
+   * which case the planes of the labels are stored.
+   * @return Whether this DAWG has supplementary labels.
+   */
+  public boolean hasSupplementaryLabels() {
+    return null != planes;
+  }
+
+  /**
+   * Returns the index of the first outgoing edge of a node.
+   * @param node Id of the node whose edges should be found.
+   * @return Index of the first outgoing edge of the node.
+   */
+  public int edgesBegin(final int node) {
+    return edgeOffsets[node];
+  }
+
+  /**
+   * Returns the index one past the last outgoing edge of a node.
+   * @param node Id of the node whose edges should be found.
+   * @return Index one past the last outgoing edge of the node.
+   */
+  public int edgesEnd(final int node) {
+    return edgeOffsets[node + 1];
+  }
+
+  /**
+   * Returns the label of an edge.
+   * @param edge Index of the edge.
+   * @return Code point labeling the edge.
+   */
+  public int label(final int edge) {
+    return null == planes
+      ? labels[edge]
+      : (planes[edge] << 16) | labels[edge];
+  }
+
+  /**
+   * Returns the target of an edge.
+   * @param edge Index of the edge.
+   * @return Id of the node the edge points to.
+   */
+  public int target(final int edge) {
+    return targets[edge];
+  }
+
+  /**
+   * Specifies whether a node represents the last code point of some term.
+   * @param node Id of the node to check.
+   * @return Whether the node represents the last code point of some term.
+   */
+  public boolean isFinal(final int node) {
+    return finalNodes.get(node);
+  }
+
+  /**
+   * Follows the outgoing edge of a node that is labeled with some code point.
+   * @param node Id of the node to leave.
+   * @param label Code point labeling the edge to follow.
+   * @return Id of the target node, or {@link #NO_NODE} if the node has no
+   *   edge with that label.
+   */
+  public int transition(final int node, final int label) {
+    int lower = edgeOffsets[node];
+    int upper = edgeOffsets[node + 1] - 1;
+    while (lower <= upper) {
+      final int middle = (lower + upper) >>> 1;
+      final int other = label(middle);
+      if (other < label) {
+        lower = middle + 1;
+      }
+      else if (other > label) {
+        upper = middle - 1;
+      }
+      else {
+        return targets[middle];
+      }
+    }
+    return NO_NODE;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean contains(final Object o) {
+    if (!(o instanceof String)) {
+      return false;
+    }
+    final String term = (String) o;
+    int node = root;
+    for (int i = 0; i < term.length() && NO_NODE != node; ) {
+      final int label = term.codePointAt(i);
+      node = transition(node, label);
+      i += Character.charCount(label);
+    }
+    return NO_NODE != node && isFinal(node);
+  }
+
+  /**
+   * Iterates over the terms of this dictionary in {@link #CODE_POINT_ORDER}.
+   * @return Iterator over the terms of this dictionary.
+   */
+  @Override
+  public Iterator<String> iterator() {
+    return new TermIterator();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("CodePointDawg(size=%d, nodes=%d, edges=%d)",
+        size, nodeCount(), edgeCount());
+  }
+
+  /**
+   * Compares strings by their code points.
+   */
+  private static final class CodePointOrder
+      implements Comparator<String>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public int compare(final String lhs, final String rhs) {
+      int i = 0;
+      int j = 0;
+      while (i < lhs.length() && j < rhs.length()) {
+        final int a = lhs.codePointAt(i);
+        final int b = rhs.codePointAt(j);
+        if (a != b) {
+          return a < b ? -1 : 1;
+        }
+        i += Character.charCount(a);
+        j += Character.charCount(b);
+      }
+      final int lhsRemaining = lhs.length() - i;
+      final int rhsRemaining = rhs.length() - j;
+      return lhsRemaining == rhsRemaining ? 0 : lhsRemaining < rhsRemaining ? -1 : 1;
+    }
+  }
+
+  /**
+   * Depth-first traversal over the terms of this dictionary, which keeps the
+   * current path of code points in a single buffer.
+   */
+  private final class TermIterator extends AbstractIterator<String> {
+
+    /**
+     * Code points along the path from the root to the current node.
+     */
+    private int[] path = new int[16];
+
+    /**
+     * Index of the next edge to follow at each depth of the path.
+     */
+    private int[] edges = new int[17];
+
+    /**
+     * Node at each depth of the path.
+     */
+    private int[] nodes = new int[17];
+
+    /**
+     * Depth of the current node, or -1 once the traversal is complete.
+     */
+    private int depth = 0;
+
+    /**
+     * Constructs a new {@link TermIterator}, positioned at the root.
+     */
+    TermIterator() {
+      nodes[0] = root;
+      edges[0] = edgesBegin(root);
+      if (isFinal(root)) {
+        next = "";
+      }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void advance() {
+      while (null == next && depth >= 0) {
+        final int edge = edges[depth];
+        if (edge < edgesEnd(nodes[depth])) {
+          edges[depth] = edge + 1;
+          if (depth == path.length) {
+            path = Arrays.copyOf(path, path.length << 1);
+            edges = Arrays.copyOf(edges, path.length + 1);
+            nodes = Arrays.copyOf(nodes, path.length + 1);
+          }
+          final int target = target(edge);
+          path[depth] = label(edge);
+          depth += 1;
+          nodes[depth] = target;
+          edges[depth] = edgesBegin(target);
+          if (isFinal(target)) {
+            next = new String(path, 0, depth);
+          }
+        }
+        else {
+          depth -= 1;
+        }
+      }
+    }
+  }
+}
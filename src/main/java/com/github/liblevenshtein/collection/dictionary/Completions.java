@@ -0,0 +1,252 @@
+package com.github.liblevenshtein.collection.dictionary;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import com.github.liblevenshtein.collection.AbstractIterator;
+
+/**
+ * <p>
+ * Terms of a dictionary that begin with some prefix (e.g. for type-ahead).
+ * The node reached by the prefix is found once, when this is constructed, and
+ * only the subtree beneath it is enumerated, lazily and in lexicographical
+ * order, so each completion takes time proportional to its length rather than
+ * to the size of the dictionary.
+ * </p>
+ * <p>
+ * Instances are immutable, so they may be shared across threads and requests
+ * (e.g. cached by prefix), and {@link #extend(String)} descends from the node
+ * of this prefix rather than from the root, so the completions of a longer
+ * prefix (as the user types) reuse the lookup of a shorter one.  The
+ * completions of a dictionary that is modified afterwards are undefined.
+ * </p>
+ * @param <Node> Kind of the nodes of the dictionary.
+ * @since 3.1.0
+ */
+public class Completions<Node> implements Iterable<String> {
+
+  /**
+   * Dictionary whose terms are completed.
+   */
+  private final IDictionary<Node> dictionary;
+
+  /**
+   * Prefix of the completions.
+   */
+  private final String prefix;
+
+  /**
+   * Node reached by {@link #prefix}, or null if no term begins with it.
+   */
+  private final Node node;
+
+  /**
+   * Constructs a new {@link Completions}.
+   * @param dictionary Dictionary whose terms are completed.
+   * @param prefix Prefix of the completions.
+   * @param node Node reached by the prefix, or null if there is none.
+   */
+  private Completions(
+      final IDictionary<Node> dictionary,
+      final String prefix,
+      final Node node) {
+    this.dictionary = dictionary;
+    this.prefix = prefix;
+    this.node = node;
+  }
+
+  /**
+   * Finds the completions of a prefix.
+   * @param dictionary Dictionary whose terms should be completed.
+   * @param prefix Prefix of the completions.
+   * @param <Node> Kind of the nodes of the dictionary.
+   * @return Terms of the dictionary that begin with the prefix.
+   */
+  public static <Node> Completions<Node> of(
+      final IDictionary<Node> dictionary,
+      final String prefix) {
+    return new Completions<Node>(dictionary, "", dictionary.root())
+      .extend(prefix);
+  }
+
+  /**
+   * Returns the prefix of these completions.
+   * @return Prefix of these completions.
+   */
+  public String prefix() {
+    return prefix;
+  }
+
+  /**
+   * Specifies whether no term begins with the prefix.
+   * @return Whether there are no completions.
+   */
+  public boolean isEmpty() {
+    return null == node;
+  }
+
+  /**
+   * Finds the completions of a longer prefix, descending from the node of
+   * this one.
+   * @param suffix Characters to append to the prefix.
+   * @return Terms of the dictionary that begin with the longer prefix.
+   */
+  public Completions<Node> extend(final String suffix) {
+    Node next = node;
+    for (int i = 0; i < suffix.length() && null != next; ++i) {
+      next = dictionary.of(next, suffix.charAt(i));
+    }
+    return new Completions<Node>(dictionary, prefix + suffix, next);
+  }
+
+  /**
+   * Iterates over the completions in lexicographical order.
+   * @return Iterator over the completions.
+   */
+  @Override
+  public Iterator<String> iterator() {
+    if (null == node) {
+      return Collections.<String>emptyList().iterator();
+    }
+    return new CompletionIterator();
+  }
+
+  /**
+   * Returns the heaviest completions, whose weights are found in the ordinal
+   * range of the prefix node in time proportional to {@code k log(size())}.
+   * @param k Maximum number of completions to return.
+   * @return Up to k of the heaviest completions, ordered by descending weight
+   *   and then lexicographically.
+   * @throws UnsupportedOperationException If the dictionary is not a
+   *   {@link WeightedDictionary}.
+   */
+  @SuppressWarnings("unchecked")
+  public List<String> top(final int k) {
+    if (!(dictionary instanceof WeightedDictionary)) {
+      throw new UnsupportedOperationException(
+          "Top-k completion requires a WeightedDictionary");
+    }
+    if (null == node) {
+      return Collections.emptyList();
+    }
+    final WeightedDictionary<Node> weighted = (WeightedDictionary<Node>) dictionary;
+    final int begin = firstOrdinal(weighted);
+    final int[] ordinals =
+      weighted.topOrdinals(begin, begin + weighted.count(node), k);
+    final List<String> completions = new ArrayList<String>(ordinals.length);
+    for (final int ordinal : ordinals) {
+      completions.add(weighted.term(ordinal));
+    }
+    return completions;
+  }
+
+  /**
+   * Finds the ordinal of the first completion, by counting the terms that
+   * precede the prefix.
+   * @param dictionary Numbers the terms.
+   * @return Ordinal of the first completion.
+   */
+  private int firstOrdinal(final IOrdinalDictionary<Node> dictionary) {
+    Node current = dictionary.root();
+    int ordinal = 0;
+    for (int i = 0; i < prefix.length(); ++i) {
+      final char label = prefix.charAt(i);
+      if (dictionary.at(current)) {
+        ordinal += 1;
+      }
+      final Iterator<Character> labels = dictionary.of(current);
+      while (labels.hasNext()) {
+        final char other = labels.next();
+        if (other >= label) {
+          break;
+        }
+        ordinal += dictionary.count(dictionary.of(current, other));
+      }
+      current = dictionary.of(current, label);
+    }
+    return ordinal;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("Completions(prefix=%s)", prefix);
+  }
+
+  /**
+   * Depth-first traversal beneath the prefix node, which keeps the current
+   * path in a single buffer.
+   */
+  private final class CompletionIterator extends AbstractIterator<String> {
+
+    /**
+     * Prefix, followed by the labels along the path to the current node.
+     */
+    private char[] path;
+
+    /**
+     * Nodes along the path from the prefix node, indexed by depth.
+     */
+    private final List<Node> nodes = new ArrayList<Node>();
+
+    /**
+     * Remaining labels of each node along the path, indexed by depth.
+     */
+    private final List<Iterator<Character>> labels = new ArrayList<Iterator<Character>>();
+
+    /**
+     * Depth of the current node beneath the prefix node, or -1 once the
+     * traversal is complete.
+     */
+    private int depth = 0;
+
+    /**
+     * Constructs a new {@link CompletionIterator}, positioned at the prefix
+     * node.
+     */
+    CompletionIterator() {
+      path = Arrays.copyOf(prefix.toCharArray(), prefix.length() + 16);
+      nodes.add(node);
+      labels.add(dictionary.of(node));
+      if (dictionary.at(node)) {
+        next = prefix;
+      }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void advance() {
+      while (null == next && depth >= 0) {
+        final Iterator<Character> remaining = labels.get(depth);
+        if (remaining.hasNext()) {
+          final char label = remaining.next();
+          final Node child = dictionary.of(nodes.get(depth), label);
+          final int length = prefix.length() + depth;
+          if (length == path.length) {
+            path = Arrays.copyOf(path, path.length << 1);
+          }
+          path[length] = label;
+          depth += 1;
+          if (depth == nodes.size()) {
+            nodes.add(child);
+            labels.add(dictionary.of(child));
+          }
+          else {
+            nodes.set(depth, child);
+            labels.set(depth, dictionary.of(child));
+          }
+          if (dictionary.at(child)) {
+            next = new String(path, 0, length + 1);
+          }
+        }
+        else {
+          depth -= 1;
+        }
+      }
+    }
+  }
+}
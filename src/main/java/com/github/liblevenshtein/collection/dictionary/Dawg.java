@@ -2,21 +2,41 @@ package com.github.liblevenshtein.collection.dictionary;
 
 import java.io.Serializable;
 import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.SortedSet;
+import java.util.Spliterator;
 
 /**
+ * <p>
  * Provides common logic for all my Dawg implementations.  Currently, there is
  * only the {@link SortedDawg} implementation, but I have plans for other kinds.
+ * </p>
+ * <p>
+ * As a {@link NavigableSet}, the terms are ordered lexicographically, and
+ * {@link #ceiling(String)}, {@link #floor(String)}, {@link #rank(String)},
+ * etc. descend from the root guided by the counts of the subtrees, in time
+ * proportional to the length of the term (times the out-degree of the nodes
+ * along its path).  Ranges such as {@link #subSet(String, String)} are live
+ * views, whose iterators begin at their lower bounds.
+ * </p>
  * @author Dylon Edwards
  * @since 2.1.0
  */
 public abstract class Dawg
     extends AbstractSet<String>
-    implements IFinalFunction<DawgNode>,
-               ITransitionFunction<DawgNode>,
+    implements NavigableSet<String>,
+               IOrdinalDictionary<DawgNode>,
+               ICursorDictionary<DawgNode>,
                Serializable {
 
   private static final long serialVersionUID = 1L;
@@ -50,6 +70,10 @@ public abstract class Dawg
     this(new DawgNode(), 0);
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
   public DawgNode root() {
     return root;
   }
@@ -83,6 +107,14 @@ public abstract class Dawg
     return node.labels();
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public IEdgeCursor<DawgNode> cursor() {
+    return new EdgeCursor();
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -94,12 +126,11 @@ public abstract class Dawg
    */
   @Override
   public synchronized boolean addAll(final Collection<? extends String> terms) {
+    boolean modified = false;
     for (final String term : terms) {
-      if (!add(term)) {
-        return false;
-      }
+      modified |= add(term);
     }
-    return true;
+    return modified;
   }
 
   /**
@@ -128,12 +159,405 @@ public abstract class Dawg
 
   /**
    * {@inheritDoc}
+   * <p>
+   * Each term is looked up from the node of the prefix it shares with the
+   * term before it, so sorted collections are looked up fastest.
+   * </p>
+   * @see BatchMembership#containsAll(Collection)
+   */
+  @Override
+  public boolean containsAll(final Collection<?> terms) {
+    return new BatchMembership<DawgNode>(this).containsAll(terms);
+  }
+
+  /**
+   * Finds which terms of a batch belong to this dictionary, sharing the
+   * lookups of their common prefixes.
+   * @param terms Terms to look up.
+   * @param isSorted Whether the terms are sorted ascendingly, in
+   *   lexicographical order (otherwise, a sorted copy is looked up).
+   * @return Set whose i-th bit specifies whether the i-th term belongs to this
+   *   dictionary.
+   * @see BatchMembership
+   * @since 3.1.0
+   */
+  public BitSet filterContained(
+      final List<String> terms,
+      final boolean isSorted) {
+    return new BatchMembership<DawgNode>(this).filterContained(terms, isSorted);
+  }
+
+  /**
+   * Iterates over the terms of this dictionary in lexicographical order.
+   * @return Iterator over the terms of this dictionary.
    */
   @Override
   public Iterator<String> iterator() {
     return new DawgIterator(root, this);
   }
 
+  /**
+   * Splits the terms of this dictionary by ordinal, so parallel streams over
+   * them scale across threads.
+   * @return Spliterator over the terms of this dictionary, in lexicographical
+   *   order.
+   * @see DawgSpliterator
+   * @since 3.1.0
+   */
+  @Override
+  public Spliterator<String> spliterator() {
+    return new DawgSpliterator(this);
+  }
+
+  /**
+   * Iterates over reusable views of the terms of this dictionary, in
+   * lexicographical order, which avoids creating a {@link String} per term
+   * (e.g. when writing every term to a stream).
+   * @return Iterator over views of the terms, each of which is only valid
+   *   until the iterator is advanced.
+   * @see DawgIterator#views(DawgNode, IFinalFunction)
+   * @since 3.1.0
+   */
+  public Iterator<CharSequence> viewIterator() {
+    return DawgIterator.views(root, this);
+  }
+
+  /**
+   * Finds the terms of this dictionary that begin with some prefix.
+   * @param prefix Prefix of the terms.
+   * @return Terms of this dictionary that begin with the prefix, which are
+   *   enumerated lazily.
+   */
+  public Completions<DawgNode> completions(final String prefix) {
+    return Completions.of(this, prefix);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The count of every node but the root is cached within the node, since
+   * minimized nodes are never modified.
+   * </p>
+   */
+  @Override
+  public int count(final DawgNode node) {
+    if (node != root && 0 != node.count) {
+      return node.count;
+    }
+
+    // Count the descendants in post-order, without recursing, so long terms
+    // cannot overflow the stack.
+    final Deque<DawgNode> pending = new ArrayDeque<DawgNode>();
+    pending.push(node);
+    while (!pending.isEmpty()) {
+      final DawgNode next = pending.peek();
+      boolean isCounted = true;
+      for (final DawgNode child : next.edges.values()) {
+        if (0 == child.count) {
+          pending.push(child);
+          isCounted = false;
+        }
+      }
+      if (isCounted) {
+        pending.pop();
+        int count = next.isFinal() ? 1 : 0;
+        for (final DawgNode child : next.edges.values()) {
+          count += child.count;
+        }
+        if (next == node) {
+          if (node != root) {
+            node.count = count;
+          }
+          return count;
+        }
+        next.count = count;
+      }
+    }
+    throw new IllegalStateException("Unreachable");
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int ordinal(final String term) {
+    DawgNode node = root;
+    int ordinal = 0;
+    for (int i = 0; i < term.length(); ++i) {
+      final char label = term.charAt(i);
+      if (node.isFinal()) {
+        ordinal += 1;
+      }
+      DawgNode target = null;
+      for (final Map.Entry<Character, DawgNode> edge : node.edges.entrySet()) {
+        if (edge.getKey() < label) {
+          ordinal += count(edge.getValue());
+        }
+        else {
+          if (edge.getKey() == label) {
+            target = edge.getValue();
+          }
+          break;
+        }
+      }
+      if (null == target) {
+        return -1;
+      }
+      node = target;
+    }
+    return node.isFinal() ? ordinal : -1;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String term(final int ordinal) {
+    if (ordinal < 0 || ordinal >= count(root)) {
+      throw new IndexOutOfBoundsException(String.format(
+          "Ordinal [%d] is not in [0, %d)", ordinal, count(root)));
+    }
+    final StringBuilder term = new StringBuilder();
+    DawgNode node = root;
+    int remaining = ordinal;
+    while (!node.isFinal() || remaining > 0) {
+      if (node.isFinal()) {
+        remaining -= 1;
+      }
+      for (final Map.Entry<Character, DawgNode> edge : node.edges.entrySet()) {
+        final int count = count(edge.getValue());
+        if (remaining < count) {
+          term.append(edge.getKey().charValue());
+          node = edge.getValue();
+          break;
+        }
+        remaining -= count;
+      }
+    }
+    return term.toString();
+  }
+
+  /**
+   * Returns the number of terms that precede some term, which need not belong
+   * to this dictionary.  For a term that belongs to it, this is its ordinal;
+   * otherwise, it is the ordinal the term would have were it inserted.  The
+   * term having a rank is found with {@link #term(int)}.
+   * @param term Term to rank.
+   * @return Number of terms in this dictionary that are less than the term.
+   * @since 3.1.0
+   */
+  public int rank(final String term) {
+    return rank(term, false);
+  }
+
+  /**
+   * Counts the terms that precede some term, and optionally the term itself.
+   * @param term Term to rank.
+   * @param inclusive Whether to count the term, if this dictionary contains
+   *   it.
+   * @return Number of terms in this dictionary that are less than (or, if
+   *   inclusive, equal to) the term.
+   */
+  int rank(final String term, final boolean inclusive) {
+    DawgNode node = root;
+    int rank = 0;
+    for (int i = 0; i < term.length(); ++i) {
+      final char label = term.charAt(i);
+      if (node.isFinal()) {
+        rank += 1;
+      }
+      DawgNode target = null;
+      for (final Map.Entry<Character, DawgNode> edge : node.edges.entrySet()) {
+        if (edge.getKey() < label) {
+          rank += count(edge.getValue());
+        }
+        else {
+          if (edge.getKey() == label) {
+            target = edge.getValue();
+          }
+          break;
+        }
+      }
+      if (null == target) {
+        return rank;
+      }
+      node = target;
+    }
+    return inclusive && node.isFinal() ? rank + 1 : rank;
+  }
+
+  /**
+   * Returns the term having some ordinal, if there is one.
+   * @param ordinal Lexicographical rank of the term.
+   * @return Term having the ordinal, or null if it is not in
+   *   {@code [0, size())}.
+   */
+  private String termOrNull(final int ordinal) {
+    return ordinal >= 0 && ordinal < size() ? term(ordinal) : null;
+  }
+
+  /**
+   * Returns null, since the terms are ordered naturally.
+   * @return Null.
+   */
+  @Override
+  public Comparator<? super String> comparator() {
+    return null;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String first() {
+    if (isEmpty()) {
+      throw new NoSuchElementException("The dictionary is empty");
+    }
+    return term(0);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String last() {
+    if (isEmpty()) {
+      throw new NoSuchElementException("The dictionary is empty");
+    }
+    return term(size() - 1);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String lower(final String term) {
+    return termOrNull(rank(term, false) - 1);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String floor(final String term) {
+    return termOrNull(rank(term, true) - 1);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String ceiling(final String term) {
+    return termOrNull(rank(term, false));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String higher(final String term) {
+    return termOrNull(rank(term, true));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String pollFirst() {
+    if (isEmpty()) {
+      return null;
+    }
+    final String term = first();
+    remove(term);
+    return term;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String pollLast() {
+    if (isEmpty()) {
+      return null;
+    }
+    final String term = last();
+    remove(term);
+    return term;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public NavigableSet<String> descendingSet() {
+    return new DawgSubSet(this).descendingSet();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Iterator<String> descendingIterator() {
+    return descendingSet().iterator();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public NavigableSet<String> subSet(
+      final String fromTerm,
+      final boolean fromInclusive,
+      final String toTerm,
+      final boolean toInclusive) {
+    return new DawgSubSet(this)
+      .subSet(fromTerm, fromInclusive, toTerm, toInclusive);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public NavigableSet<String> headSet(
+      final String toTerm,
+      final boolean inclusive) {
+    return new DawgSubSet(this).headSet(toTerm, inclusive);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public NavigableSet<String> tailSet(
+      final String fromTerm,
+      final boolean inclusive) {
+    return new DawgSubSet(this).tailSet(fromTerm, inclusive);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public SortedSet<String> subSet(final String fromTerm, final String toTerm) {
+    return subSet(fromTerm, true, toTerm, false);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public SortedSet<String> headSet(final String toTerm) {
+    return headSet(toTerm, false);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public SortedSet<String> tailSet(final String fromTerm) {
+    return tailSet(fromTerm, true);
+  }
+
   /**
    * [Optional Operation] Replaces the String, current, with another.
    * @param current String in this DAWG to replace
@@ -174,4 +598,58 @@ public abstract class Dawg
 
     return Objects.hash(root, size);
   }
+
+  /**
+   * Visits the edges of a node as the entries of its map, so each target is
+   * found along with its label.
+   */
+  private static final class EdgeCursor implements IEdgeCursor<DawgNode> {
+
+    /**
+     * Remaining edges of the node, or null before the first reset.
+     */
+    private Iterator<Map.Entry<Character, DawgNode>> edges = null;
+
+    /**
+     * Current edge.
+     */
+    private Map.Entry<Character, DawgNode> edge = null;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void reset(final DawgNode node) {
+      this.edges = node.edges.entrySet().iterator();
+      this.edge = null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean next() {
+      if (null == edges || !edges.hasNext()) {
+        return false;
+      }
+      edge = edges.next();
+      return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public char label() {
+      return edge.getKey();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DawgNode target() {
+      return edge.getValue();
+    }
+  }
 }
@@ -0,0 +1,392 @@
+package com.github.liblevenshtein.collection.dictionary;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * <p>
+ * Set operations on DAWGs, which produce minimal DAWGs without enumerating
+ * the terms of their operands.
+ * </p>
+ * <p>
+ * Each operation walks both DAWGs in lockstep, as a product automaton whose
+ * states pair the nodes reached by the same prefix in each operand.  Every
+ * pair is visited once, in post-order (with an explicit stack, so long terms
+ * cannot overflow the call stack), and pairs from which no term is accepted
+ * are pruned.  The remaining nodes are hash-consed bottom-up by the same
+ * register {@link SortedDawg} minimizes with, so the result is minimal, and
+ * the cost is proportional to the number of reachable pairs rather than to
+ * the number of terms.
+ * </p>
+ * <p>
+ * The operands must not be modified during an operation.  The result is a
+ * finished {@link SortedDawg}, to which greater terms may still be added.
+ * </p>
+ * @since 3.1.0
+ */
+public final class DawgAlgebra {
+
+  /**
+   * Set operation, which decides the finality and the labels of each pair of
+   * nodes.
+   */
+  private enum Operation {
+
+    /**
+     * Terms in either operand.
+     */
+    UNION {
+      @Override
+      boolean accepts(final boolean lhs, final boolean rhs) {
+        return lhs || rhs;
+      }
+    },
+
+    /**
+     * Terms in both operands.
+     */
+    INTERSECTION {
+      @Override
+      boolean accepts(final boolean lhs, final boolean rhs) {
+        return lhs && rhs;
+      }
+    },
+
+    /**
+     * Terms in the first operand, but not the second.
+     */
+    DIFFERENCE {
+      @Override
+      boolean accepts(final boolean lhs, final boolean rhs) {
+        return lhs && !rhs;
+      }
+    };
+
+    /**
+     * Specifies whether a term (or a prefix of one) belongs to the result,
+     * given whether it belongs to each operand.
+     * @param lhs Whether it belongs to the first operand.
+     * @param rhs Whether it belongs to the second operand.
+     * @return Whether it belongs to the result.
+     */
+    abstract boolean accepts(boolean lhs, boolean rhs);
+  }
+
+  /**
+   * Result of pairs of nodes from which no term is accepted.
+   */
+  private static final DawgNode EMPTY = new DawgNode();
+
+  private DawgAlgebra() {
+    // Utility class
+  }
+
+  /**
+   * Returns the terms in either of two DAWGs.
+   * @param lhs First DAWG.
+   * @param rhs Second DAWG.
+   * @return New, minimal DAWG of the terms in either DAWG.
+   */
+  public static SortedDawg union(final Dawg lhs, final Dawg rhs) {
+    return apply(Operation.UNION, lhs, rhs);
+  }
+
+  /**
+   * Returns the terms in both of two DAWGs.
+   * @param lhs First DAWG.
+   * @param rhs Second DAWG.
+   * @return New, minimal DAWG of the terms in both DAWGs.
+   */
+  public static SortedDawg intersection(final Dawg lhs, final Dawg rhs) {
+    return apply(Operation.INTERSECTION, lhs, rhs);
+  }
+
+  /**
+   * Returns the terms in one DAWG but not another (e.g. a dictionary minus a
+   * blocklist).
+   * @param lhs DAWG whose terms should be kept.
+   * @param rhs DAWG whose terms should be removed.
+   * @return New, minimal DAWG of the terms in the first DAWG, but not the
+   *   second.
+   */
+  public static SortedDawg difference(final Dawg lhs, final Dawg rhs) {
+    return apply(Operation.DIFFERENCE, lhs, rhs);
+  }
+
+  /**
+   * Builds the minimal DAWG of a set operation over two DAWGs.
+   * @param operation Set operation to apply.
+   * @param lhs First DAWG.
+   * @param rhs Second DAWG.
+   * @return New, minimal DAWG of the result.
+   */
+  private static SortedDawg apply(
+      final Operation operation,
+      final Dawg lhs,
+      final Dawg rhs) {
+    final DawgNodeRegistry minimizedNodes = new DawgNodeRegistry();
+    final Map<Pair, DawgNode> results = new HashMap<Pair, DawgNode>();
+    final Deque<Frame> pending = new ArrayDeque<Frame>();
+    pending.push(new Frame(operation, new Pair(lhs.root(), rhs.root())));
+
+    DawgNode root = EMPTY;
+    int size = 0;
+    while (!pending.isEmpty()) {
+      final Frame frame = pending.peek();
+      if (frame.hasNext()) {
+        final char label = frame.label();
+        final Pair child = frame.pair.child(label);
+        final DawgNode result = results.get(child);
+        if (null == result) {
+          pending.push(new Frame(operation, child));
+        }
+        else {
+          frame.attach(label, result);
+        }
+      }
+      else {
+        pending.pop();
+        final DawgNode node = frame.node;
+        if (0 == frame.count) {
+          results.put(frame.pair, EMPTY);
+        }
+        else if (pending.isEmpty()) {
+          // The root is never the target of an edge, and is left unregistered
+          // since further terms may be added to it.
+          root = node;
+          size = frame.count;
+        }
+        else {
+          // The count is cached for Dawg#count(DawgNode), as for any
+          // minimized node.
+          node.count = frame.count;
+          results.put(frame.pair, minimizedNodes.canonical(node));
+        }
+      }
+    }
+
+    if (EMPTY == root) {
+      return new SortedDawg(minimizedNodes);
+    }
+    return new SortedDawg(root, size, greatestTerm(root), minimizedNodes);
+  }
+
+  /**
+   * Finds the greatest term of a DAWG, which follows the greatest label of
+   * each node until it reaches a node without edges.
+   * @param root Root of the DAWG, from which at least one term is accepted.
+   * @return Greatest term in the DAWG.
+   */
+  private static String greatestTerm(final DawgNode root) {
+    final StringBuilder term = new StringBuilder();
+    DawgNode node = root;
+    while (!node.edges.isEmpty()) {
+      char greatest = '\0';
+      boolean isFirst = true;
+      for (final Character label : node.edges.keySet()) {
+        if (isFirst || label > greatest) {
+          greatest = label;
+          isFirst = false;
+        }
+      }
+      term.append(greatest);
+      node = node.transition(greatest);
+    }
+    return term.toString();
+  }
+
+  /**
+   * Nodes reached by the same prefix in each operand, either of which may be
+   * null if that operand has no such prefix.  Pairs are compared by the
+   * identities of their nodes, since the nodes of a minimal DAWG are unique
+   * per right-language.
+   */
+  private static final class Pair {
+
+    /**
+     * Node of the first operand, or null.
+     */
+    private final DawgNode lhs;
+
+    /**
+     * Node of the second operand, or null.
+     */
+    private final DawgNode rhs;
+
+    /**
+     * Constructs a new {@link Pair}.
+     * @param lhs Node of the first operand, or null.
+     * @param rhs Node of the second operand, or null.
+     */
+    Pair(final DawgNode lhs, final DawgNode rhs) {
+      this.lhs = lhs;
+      this.rhs = rhs;
+    }
+
+    /**
+     * Follows the edges of both nodes with some label.
+     * @param label Label of the edges to follow.
+     * @return Pair of the targets.
+     */
+    Pair child(final char label) {
+      return new Pair(
+          null == lhs ? null : lhs.transition(label),
+          null == rhs ? null : rhs.transition(label));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object object) {
+      if (!(object instanceof Pair)) {
+        return false;
+      }
+      final Pair other = (Pair) object;
+      return lhs == other.lhs && rhs == other.rhs;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+      return 31 * System.identityHashCode(lhs) + System.identityHashCode(rhs);
+    }
+  }
+
+  /**
+   * Pair of nodes whose children are being visited, along with the node of the
+   * result that is being built from it.
+   */
+  private static final class Frame {
+
+    /**
+     * Nodes of the operands.
+     */
+    private final Pair pair;
+
+    /**
+     * Node of the result, whose edges are attached as its children are built.
+     */
+    private final DawgNode node;
+
+    /**
+     * Labels of the result's edges that may lead to an accepted term.
+     */
+    private final char[] labels;
+
+    /**
+     * Number of labels whose children have been built.
+     */
+    private int index = 0;
+
+    /**
+     * Number of terms accepted from the node of the result, so far.
+     */
+    private int count;
+
+    /**
+     * Constructs a new {@link Frame}.
+     * @param operation Set operation being applied.
+     * @param pair Nodes of the operands.
+     */
+    Frame(final Operation operation, final Pair pair) {
+      this.pair = pair;
+      this.node = operation.accepts(
+          null != pair.lhs && pair.lhs.isFinal(),
+          null != pair.rhs && pair.rhs.isFinal())
+        ? new FinalDawgNode()
+        : new DawgNode();
+      this.count = node.isFinal() ? 1 : 0;
+      this.labels = labels(operation, pair);
+    }
+
+    /**
+     * Specifies whether there are labels whose children have not been built.
+     * @return Whether there is another label.
+     */
+    boolean hasNext() {
+      return index < labels.length;
+    }
+
+    /**
+     * Returns the label whose child should be built next.
+     * @return Next label.
+     */
+    char label() {
+      return labels[index];
+    }
+
+    /**
+     * Attaches the built child of the next label, unless no term is accepted
+     * from it, and moves on to the following label.
+     * @param label Next label.
+     * @param child Built child of the label.
+     */
+    void attach(final char label, final DawgNode child) {
+      if (EMPTY != child) {
+        node.addEdge(label, child);
+        count += child.count;
+      }
+      index += 1;
+    }
+
+    /**
+     * Collects the labels of a pair's edges, in ascending order, that may
+     * lead to a term of the result: those of either node for a union, of
+     * both for an intersection, and of the first for a difference.
+     * @param operation Set operation being applied.
+     * @param pair Nodes of the operands.
+     * @return Labels of the edges to follow.
+     */
+    private static char[] labels(final Operation operation, final Pair pair) {
+      final boolean needsLhs = Operation.UNION != operation;
+      final boolean needsRhs = Operation.INTERSECTION == operation;
+      final int lhsDegree = null == pair.lhs ? 0 : pair.lhs.edges.size();
+      final int rhsDegree = null == pair.rhs ? 0 : pair.rhs.edges.size();
+      final char[] buffer = new char[lhsDegree + rhsDegree];
+      int size = 0;
+      final Iterator<Character> lhsLabels =
+        0 == lhsDegree ? null : pair.lhs.labels();
+      final Iterator<Character> rhsLabels =
+        0 == rhsDegree ? null : pair.rhs.labels();
+      Character lhsLabel = next(lhsLabels);
+      Character rhsLabel = next(rhsLabels);
+      while (null != lhsLabel || null != rhsLabel) {
+        if (null == rhsLabel || null != lhsLabel && lhsLabel < rhsLabel) {
+          if (!needsRhs) {
+            buffer[size++] = lhsLabel;
+          }
+          lhsLabel = next(lhsLabels);
+        }
+        else if (null == lhsLabel || rhsLabel < lhsLabel) {
+          if (!needsLhs) {
+            buffer[size++] = rhsLabel;
+          }
+          rhsLabel = next(rhsLabels);
+        }
+        else {
+          buffer[size++] = lhsLabel;
+          lhsLabel = next(lhsLabels);
+          rhsLabel = next(rhsLabels);
+        }
+      }
+      final char[] labels = new char[size];
+      System.arraycopy(buffer, 0, labels, 0, size);
+      return labels;
+    }
+
+    /**
+     * Returns the next label of an iterator, which may be null.
+     * @param labels Labels of a node, or null.
+     * @return Next label, or null if there is none.
+     */
+    private static Character next(final Iterator<Character> labels) {
+      return null != labels && labels.hasNext() ? labels.next() : null;
+    }
+  }
+}
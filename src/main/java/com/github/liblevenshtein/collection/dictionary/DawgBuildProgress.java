@@ -0,0 +1,96 @@
+package com.github.liblevenshtein.collection.dictionary;
+
+/**
+ * Snapshot of the progress of building a DAWG, reported to an
+ * {@link IDawgBuildListener}.
+ * @since 3.1.0
+ */
+public class DawgBuildProgress {
+
+  /**
+   * Number of distinct terms added so far.
+   */
+  private final long terms;
+
+  /**
+   * Number of nodes registered as minimized so far.
+   */
+  private final int nodes;
+
+  /**
+   * Nanoseconds elapsed since the build began.
+   */
+  private final long elapsedNanos;
+
+  /**
+   * Whether every term has been added and the DAWG has been finished.
+   */
+  private final boolean finished;
+
+  /**
+   * Constructs a new {@link DawgBuildProgress}.
+   * @param terms Number of distinct terms added so far.
+   * @param nodes Number of nodes registered as minimized so far.
+   * @param elapsedNanos Nanoseconds elapsed since the build began.
+   * @param finished Whether the DAWG has been finished.
+   */
+  public DawgBuildProgress(
+      final long terms,
+      final int nodes,
+      final long elapsedNanos,
+      final boolean finished) {
+    this.terms = terms;
+    this.nodes = nodes;
+    this.elapsedNanos = elapsedNanos;
+    this.finished = finished;
+  }
+
+  /**
+   * Returns the number of distinct terms added so far.
+   * @return Number of distinct terms added so far.
+   */
+  public long terms() {
+    return terms;
+  }
+
+  /**
+   * Returns the number of nodes registered as minimized so far.
+   * @return Number of nodes registered as minimized so far.
+   */
+  public int nodes() {
+    return nodes;
+  }
+
+  /**
+   * Returns the nanoseconds elapsed since the build began.
+   * @return Nanoseconds elapsed since the build began.
+   */
+  public long elapsedNanos() {
+    return elapsedNanos;
+  }
+
+  /**
+   * Specifies whether every term has been added and the DAWG has been
+   * finished.
+   * @return Whether the DAWG has been finished.
+   */
+  public boolean finished() {
+    return finished;
+  }
+
+  /**
+   * Returns the average throughput of the build so far.
+   * @return Number of terms added per second.
+   */
+  public double termsPerSecond() {
+    return 0L == elapsedNanos ? 0.0 : terms * 1e9 / elapsedNanos;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "%s(terms=%d, nodes=%d, elapsed=%.3fs, termsPerSecond=%.1f, finished=%b)",
+        getClass().getSimpleName(), terms, nodes, elapsedNanos / 1e9,
+        termsPerSecond(), finished);
+  }
+}
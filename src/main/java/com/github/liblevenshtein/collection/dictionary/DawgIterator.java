@@ -2,12 +2,24 @@ package com.github.liblevenshtein.collection.dictionary;
 
 import com.github.liblevenshtein.collection.AbstractIterator;
 
-import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.Iterator;
-import java.util.Queue;
 
 /**
- * Iterates over the terms within an {@link Dawg}.
+ * <p>
+ * Iterates over the terms within an {@link Dawg} in lexicographical order.
+ * </p>
+ * <p>
+ * The DAWG is traversed depth-first, with the labels along the current path
+ * kept in a single {@code char[]} and the nodes being followed kept on an
+ * explicit stack, so the traversal takes memory proportional to the length of
+ * the longest term rather than to the width of the DAWG.  The labels are
+ * never boxed: children are found, and their siblings sought, by the keys of
+ * the edges themselves, so it allocates nothing besides the terms it returns
+ * (and its buffers, as they grow) if the edges of the nodes are navigable (as
+ * they are by default).  {@link #views(DawgNode, IFinalFunction)} avoids
+ * allocating the terms, as well.
+ * </p>
  * @author Dylon Edwards
  * @since 2.1.0
  */
@@ -16,28 +28,38 @@ public class DawgIterator extends AbstractIterator<String> {
   private static final long serialVersionUID = 1L;
 
   /**
-   * Queue for traversing the terms in the {@link Dawg} in a
-   * depth-first search manner.
+   * Depth-first traversal of the DAWG.
    */
-  private final Queue<Prefix> prefixes = new ArrayDeque<Prefix>();
+  private final Traversal traversal;
 
   /**
-   * Returns whether the current {@link DawgNode} represents the last character
-   * in some term.
+   * Initializes a new {@link DawgIterator}.
+   * @param root Root of the DAWG structure to traverse
+   * @param isFinal Returns whether some {@link DawgNode} represents the last
+   *   character in some term.
    */
-  private final IFinalFunction<DawgNode> isFinal;
+  public DawgIterator(
+      final DawgNode root,
+      final IFinalFunction<DawgNode> isFinal) {
+    this.traversal = new Traversal(root, isFinal);
+  }
 
   /**
-   * Initializes a new {@link DawgIterator}.
+   * Iterates over views of the terms within a DAWG, in lexicographical order,
+   * without creating a {@link String} for each one.  Every view is the same
+   * {@link CharSequence}, whose characters are overwritten on each call to
+   * {@link Iterator#next()} or {@link Iterator#hasNext()}, so it must be
+   * copied (e.g. with {@link CharSequence#toString()}) to be retained.
    * @param root Root of the DAWG structure to traverse
    * @param isFinal Returns whether some {@link DawgNode} represents the last
    *   character in some term.
+   * @return Iterator over views of the terms.
+   * @since 3.1.0
    */
-  public DawgIterator(
+  public static Iterator<CharSequence> views(
       final DawgNode root,
       final IFinalFunction<DawgNode> isFinal) {
-    this.isFinal = isFinal;
-    prefixes.offer(new Prefix(root));
+    return new ViewIterator(new Traversal(root, isFinal));
   }
 
   /**
@@ -45,23 +67,210 @@ public class DawgIterator extends AbstractIterator<String> {
    */
   @Override
   protected void advance() {
-    if (null == next && !prefixes.isEmpty()) {
-      DawgNode node;
-      String value;
-
-      do {
-        final Prefix prefix = prefixes.poll();
-        node = prefix.node();
-        value = prefix.value();
-        final Iterator<Character> iter = node.labels();
-        while (iter.hasNext()) {
-          final char label = iter.next();
-          final DawgNode nextNode = node.transition(label);
-          prefixes.add(new Prefix(nextNode, prefix, label));
+    if (null == next && traversal.advance()) {
+      this.next = traversal.toString();
+    }
+  }
+
+  /**
+   * Iterates over the same, reusable view of each term.
+   */
+  private static final class ViewIterator extends AbstractIterator<CharSequence> {
+
+    /**
+     * Depth-first traversal of the DAWG, which is also the view of the
+     * current term.
+     */
+    private final Traversal traversal;
+
+    /**
+     * Constructs a new {@link ViewIterator}.
+     * @param traversal Depth-first traversal of the DAWG.
+     */
+    ViewIterator(final Traversal traversal) {
+      this.traversal = traversal;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void advance() {
+      if (null == next && traversal.advance()) {
+        this.next = traversal;
+      }
+    }
+  }
+
+  /**
+   * Depth-first traversal of a DAWG, which is a view of the labels along the
+   * path to its current node.
+   */
+  static final class Traversal implements CharSequence {
+
+    /**
+     * Returns whether some {@link DawgNode} represents the last character in
+     * some term.
+     */
+    private final IFinalFunction<DawgNode> isFinal;
+
+    /**
+     * Labels along the path from the root to the current node.
+     */
+    private char[] path = new char[16];
+
+    /**
+     * Nodes along the path from the root, indexed by depth.
+     */
+    private DawgNode[] nodes = new DawgNode[17];
+
+    /**
+     * Key of the edge followed from each node along the path (its label at
+     * the same depth of {@link #path}, as boxed by the edges of the node), or
+     * null if no edge has been followed from the node.
+     */
+    private Character[] keys = new Character[17];
+
+    /**
+     * Depth of the current node, which is -1 before the root has been visited
+     * and after the traversal is complete.
+     */
+    private int depth = -1;
+
+    /**
+     * Whether the root has been visited.
+     */
+    private boolean started = false;
+
+    /**
+     * Constructs a new {@link Traversal}, positioned before the root.
+     * @param root Root of the DAWG.
+     * @param isFinal Returns whether some {@link DawgNode} is final.
+     */
+    Traversal(final DawgNode root, final IFinalFunction<DawgNode> isFinal) {
+      this.isFinal = isFinal;
+      this.nodes[0] = root;
+    }
+
+    /**
+     * Advances to the next final node, in pre-order.
+     * @return Whether there was another final node.
+     */
+    boolean advance() {
+      if (!started) {
+        started = true;
+        depth = 0;
+        if (isFinal.at(nodes[0])) {
+          return true;
+        }
+      }
+      while (depth >= 0) {
+        final DawgNode node = nodes[depth];
+        final Character label = null != keys[depth]
+          ? node.nextLabel(keys[depth])
+          : node.firstLabel();
+        if (null != label) {
+          final DawgNode child = node.edges.get(label);
+          descend(label, child);
+          if (isFinal.at(child)) {
+            return true;
+          }
+        }
+        else {
+          nodes[depth] = null;
+          keys[depth] = null;
+          depth -= 1;
+        }
+      }
+      return false;
+    }
+
+    /**
+     * Positions this traversal at some final node, as though it had been
+     * advanced to it, by descending from the root past the subtrees of the
+     * terms that precede it.
+     * @param ordinals Numbers the terms of the DAWG.
+     * @param ordinal Ordinal of the term to position this traversal at.
+     */
+    void seek(final IOrdinalDictionary<DawgNode> ordinals, final int ordinal) {
+      started = true;
+      depth = 0;
+      keys[0] = null;
+      int remaining = ordinal;
+      while (!isFinal.at(nodes[depth]) || remaining > 0) {
+        final DawgNode node = nodes[depth];
+        if (isFinal.at(node)) {
+          remaining -= 1;
+        }
+        Character label = node.firstLabel();
+        DawgNode child = node.edges.get(label);
+        for (int count = ordinals.count(child);
+             remaining >= count;
+             count = ordinals.count(child)) {
+          remaining -= count;
+          label = node.nextLabel(label);
+          child = node.edges.get(label);
         }
+        descend(label, child);
       }
-      while (!isFinal.at(node));
-      this.next = value;
+    }
+
+    /**
+     * Follows the edge of the current node with some label.
+     * @param label Key of the edge to follow.
+     * @param child Target of the edge.
+     */
+    private void descend(final Character label, final DawgNode child) {
+      if (depth == path.length) {
+        path = Arrays.copyOf(path, path.length << 1);
+        nodes = Arrays.copyOf(nodes, path.length + 1);
+        keys = Arrays.copyOf(keys, path.length + 1);
+      }
+      path[depth] = label;
+      keys[depth] = label;
+      depth += 1;
+      nodes[depth] = child;
+      keys[depth] = null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int length() {
+      return depth;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public char charAt(final int index) {
+      if (index < 0 || index >= depth) {
+        throw new IndexOutOfBoundsException(String.format(
+            "Index [%d] is not in [0, %d)", index, depth));
+      }
+      return path[index];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CharSequence subSequence(final int start, final int end) {
+      if (start < 0 || start > end || end > depth) {
+        throw new IndexOutOfBoundsException(String.format(
+            "Range [%d, %d) is not in [0, %d)", start, end, depth));
+      }
+      return new String(path, start, end - start);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+      return new String(path, 0, depth);
     }
   }
 }
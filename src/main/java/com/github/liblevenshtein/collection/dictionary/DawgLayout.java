@@ -0,0 +1,301 @@
+package com.github.liblevenshtein.collection.dictionary;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.PriorityQueue;
+
+/**
+ * <p>
+ * Renumbers the nodes of frozen DAWGs, so the nodes a query visits together
+ * are stored close together.
+ * </p>
+ * <p>
+ * The edges of a {@link FrozenDawg} are stored in the order of their source
+ * nodes, so the numbering of the nodes decides which edges share cache lines
+ * and pages.  A transducer explores the DAWG from the root, following every
+ * edge that keeps its state alive, so each query touches the top levels and
+ * then descends into a few subtrees:
+ * </p>
+ * <ul>
+ *   <li>{@link #breadthFirst(AbstractFrozenDawg)} numbers the nodes level by
+ *   level, which packs the top levels densely but scatters each subtree
+ *   across the levels (this is the order a {@link FrozenDawg} is compiled
+ *   in);</li>
+ *   <li>{@link #depthFirst(AbstractFrozenDawg)} numbers the nodes of each
+ *   subtree contiguously, after its root;</li>
+ *   <li>{@link #hybrid(AbstractFrozenDawg, int)} numbers the top levels
+ *   breadth-first, then each subtree beneath them depth-first; and</li>
+ *   <li>{@link #hotFirst(AbstractFrozenDawg, Iterable)} numbers the nodes
+ *   along the paths of a sample of queries first, hottest first, then the
+ *   rest depth-first.</li>
+ * </ul>
+ * <p>
+ * Each layout yields a new {@link FrozenDawg} with the same terms and
+ * ordinals; writing it (e.g. with
+ * {@link com.github.liblevenshtein.serialization.DawgImageWriter}) keeps its
+ * layout, and so do dictionaries built from it.
+ * </p>
+ * @since 3.1.0
+ */
+public final class DawgLayout {
+
+  private DawgLayout() {
+    // Utility class
+  }
+
+  /**
+   * Numbers the nodes of a DAWG level by level, in the order of their labels.
+   * @param dawg DAWG whose nodes should be renumbered.
+   * @return New DAWG with the same terms, laid out breadth-first.
+   */
+  public static FrozenDawg breadthFirst(final AbstractFrozenDawg dawg) {
+    return hybrid(dawg, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Numbers the nodes of a DAWG in depth-first pre-order, in the order of
+   * their labels, so each subtree follows its root.
+   * @param dawg DAWG whose nodes should be renumbered.
+   * @return New DAWG with the same terms, laid out depth-first.
+   */
+  public static FrozenDawg depthFirst(final AbstractFrozenDawg dawg) {
+    return hybrid(dawg, 0);
+  }
+
+  /**
+   * Numbers the nodes of the top levels of a DAWG breadth-first, and then
+   * the subtrees beneath them depth-first, one after another.  The level of
+   * a node is the length of the shortest path to it from the root.
+   * @param dawg DAWG whose nodes should be renumbered.
+   * @param depth Deepest level to lay out breadth-first (the root is level
+   *   zero), whose nodes are the roots of the subtrees.
+   * @return New DAWG with the same terms, laid out in both orders.
+   */
+  public static FrozenDawg hybrid(final AbstractFrozenDawg dawg, final int depth) {
+    if (depth < 0) {
+      throw new IllegalArgumentException(String.format(
+          "Expected depth to be non-negative, but was [%d]", depth));
+    }
+    final Numbering numbering = new Numbering(dawg);
+    numbering.place(AbstractFrozenDawg.ROOT);
+
+    // The numbering doubles as the queue of the breadth-first traversal, and
+    // the nodes of each level follow those of the one before it.
+    int begin = 0;
+    for (int level = 0; level < depth && begin < numbering.size; ++level) {
+      final int end = numbering.size;
+      for (int i = begin; i < end; ++i) {
+        final int node = numbering.order[i];
+        for (int edge = dawg.edgesBegin(node); edge < dawg.edgesEnd(node); ++edge) {
+          numbering.place(dawg.target(edge));
+        }
+      }
+      begin = end;
+    }
+
+    // Each node of the deepest level is the root of a subtree laid out
+    // depth-first, except those already numbered.
+    final int end = numbering.size;
+    final int[] stack = new int[dawg.edgeCount() + 1];
+    for (int i = begin; i < end; ++i) {
+      numbering.placeDepthFirst(numbering.order[i], stack);
+    }
+    return numbering.renumber();
+  }
+
+  /**
+   * Numbers the nodes along the paths of a sample of queries first, in
+   * descending order of the number of queries whose paths pass through
+   * them, and the remaining nodes depth-first.  A node is numbered before
+   * its descendants along the paths, since nodes are taken from the frontier
+   * of those already numbered.
+   * @param dawg DAWG whose nodes should be renumbered.
+   * @param queries Sample of the queries (e.g. from a query log), whose paths
+   *   are followed from the root for as long as the DAWG has their prefixes.
+   * @return New DAWG with the same terms, laid out by temperature.
+   */
+  public static FrozenDawg hotFirst(
+      final AbstractFrozenDawg dawg,
+      final Iterable<String> queries) {
+    final int[] heat = new int[dawg.nodeCount()];
+    for (final String query : queries) {
+      int node = AbstractFrozenDawg.ROOT;
+      heat[node] += 1;
+      for (int i = 0; i < query.length(); ++i) {
+        node = dawg.transition(node, query.charAt(i));
+        if (AbstractFrozenDawg.NO_NODE == node) {
+          break;
+        }
+        heat[node] += 1;
+      }
+    }
+
+    final Numbering numbering = new Numbering(dawg);
+    final PriorityQueue<Long> frontier = new PriorityQueue<Long>();
+    frontier.add(hottest(heat, AbstractFrozenDawg.ROOT));
+    while (!frontier.isEmpty()) {
+      final int node = (int) (frontier.poll() & 0xFFFFFFFFL);
+      if (numbering.place(node)) {
+        for (int edge = dawg.edgesBegin(node); edge < dawg.edgesEnd(node); ++edge) {
+          final int target = dawg.target(edge);
+          if (heat[target] > 0 && !numbering.isPlaced(target)) {
+            frontier.add(hottest(heat, target));
+          }
+        }
+      }
+    }
+
+    final int end = numbering.size;
+    final int[] stack = new int[dawg.edgeCount() + 1];
+    for (int i = 0; i < end; ++i) {
+      numbering.placeChildrenDepthFirst(numbering.order[i], stack);
+    }
+    return numbering.renumber();
+  }
+
+  /**
+   * Encodes a node as a key of the frontier, which orders the hottest node
+   * first, and nodes of equal heat by ascending id.
+   * @param heat Number of sample queries through each node.
+   * @param node Id of the node.
+   * @return Key of the node.
+   */
+  private static long hottest(final int[] heat, final int node) {
+    return ((long) (Integer.MAX_VALUE - heat[node]) << 32) | node;
+  }
+
+  /**
+   * New numbering of the nodes of a DAWG, which is built up as the nodes are
+   * placed.
+   */
+  private static final class Numbering {
+
+    /**
+     * DAWG whose nodes are being renumbered.
+     */
+    private final AbstractFrozenDawg dawg;
+
+    /**
+     * Old id of each node, indexed by its new id.
+     */
+    private final int[] order;
+
+    /**
+     * New id of each node, indexed by its old id, or -1 if it has not been
+     * placed.
+     */
+    private final int[] ids;
+
+    /**
+     * Number of nodes that have been placed.
+     */
+    private int size = 0;
+
+    /**
+     * Constructs a new, empty {@link Numbering}.
+     * @param dawg DAWG whose nodes should be renumbered.
+     */
+    Numbering(final AbstractFrozenDawg dawg) {
+      this.dawg = dawg;
+      this.order = new int[dawg.nodeCount()];
+      this.ids = new int[dawg.nodeCount()];
+      Arrays.fill(ids, -1);
+    }
+
+    /**
+     * Specifies whether a node has been placed.
+     * @param node Old id of the node.
+     * @return Whether the node has been placed.
+     */
+    boolean isPlaced(final int node) {
+      return -1 != ids[node];
+    }
+
+    /**
+     * Gives a node the next id, unless it has one already.
+     * @param node Old id of the node.
+     * @return Whether the node was placed.
+     */
+    boolean place(final int node) {
+      if (isPlaced(node)) {
+        return false;
+      }
+      ids[node] = size;
+      order[size] = node;
+      size += 1;
+      return true;
+    }
+
+    /**
+     * Places the descendants of a node in depth-first pre-order, skipping
+     * those already placed (and their subtrees).
+     * @param root Old id of the root of the subtree, which has been placed.
+     * @param stack Scratch space, which is large enough to hold every edge.
+     */
+    void placeDepthFirst(final int root, final int[] stack) {
+      int depth = 0;
+      stack[depth++] = root;
+      while (depth > 0) {
+        final int node = stack[--depth];
+        if (node == root || place(node)) {
+          // Children are pushed in descending order of label, so they are
+          // placed in ascending order.
+          for (int edge = dawg.edgesEnd(node) - 1;
+               edge >= dawg.edgesBegin(node);
+               --edge) {
+            final int target = dawg.target(edge);
+            if (!isPlaced(target)) {
+              stack[depth++] = target;
+            }
+          }
+        }
+      }
+    }
+
+    /**
+     * Places the subtrees beneath a node that has been placed, depth-first.
+     * @param node Old id of the node.
+     * @param stack Scratch space, which is large enough to hold every edge.
+     */
+    void placeChildrenDepthFirst(final int node, final int[] stack) {
+      for (int edge = dawg.edgesBegin(node); edge < dawg.edgesEnd(node); ++edge) {
+        final int target = dawg.target(edge);
+        if (!isPlaced(target)) {
+          place(target);
+          placeDepthFirst(target, stack);
+        }
+      }
+    }
+
+    /**
+     * Copies the DAWG with its nodes in their new order.  Nodes that are
+     * unreachable from the root, if any, are placed last.
+     * @return New DAWG with the same terms.
+     */
+    FrozenDawg renumber() {
+      for (int node = 0; node < ids.length; ++node) {
+        place(node);
+      }
+      final int nodeCount = order.length;
+      final int[] edgeOffsets = new int[nodeCount + 1];
+      final char[] labels = new char[dawg.edgeCount()];
+      final int[] targets = new int[dawg.edgeCount()];
+      final BitSet finalNodes = new BitSet(nodeCount);
+      int offset = 0;
+      for (int id = 0; id < nodeCount; ++id) {
+        final int node = order[id];
+        edgeOffsets[id] = offset;
+        if (dawg.isFinal(node)) {
+          finalNodes.set(id);
+        }
+        for (int edge = dawg.edgesBegin(node); edge < dawg.edgesEnd(node); ++edge) {
+          labels[offset] = dawg.label(edge);
+          targets[offset] = ids[dawg.target(edge)];
+          offset += 1;
+        }
+      }
+      edgeOffsets[nodeCount] = offset;
+      return new FrozenDawg(edgeOffsets, labels, targets, finalNodes, dawg.size());
+    }
+  }
+}
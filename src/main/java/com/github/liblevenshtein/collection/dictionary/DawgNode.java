@@ -1,9 +1,12 @@
 package com.github.liblevenshtein.collection.dictionary;
 
 import java.io.Serializable;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Objects;
+import java.util.SortedMap;
 import java.util.TreeMap;
 
 /**
@@ -20,6 +23,13 @@ public class DawgNode implements Serializable {
    */
   protected final Map<Character,DawgNode> edges;
 
+  /**
+   * Number of terms accepted from this node, cached by
+   * {@link Dawg#count(DawgNode)} once this node can no longer be modified, or
+   * zero if it has not been counted.
+   */
+  transient int count = 0;
+
   /**
    * Constructs a non-final {@link DawgNode}.
    */
@@ -47,6 +57,43 @@ public class DawgNode implements Serializable {
     return edges.keySet().iterator();
   }
 
+  /**
+   * Returns the smallest label of the outgoing edges of this node, which is
+   * found without allocating if the edges are sorted (as they are by
+   * default).
+   * @return Smallest label of this node, or null if it has no edges.
+   */
+  Character firstLabel() {
+    if (edges.isEmpty()) {
+      return null;
+    }
+    if (edges instanceof SortedMap) {
+      return ((SortedMap<Character, DawgNode>) edges).firstKey();
+    }
+    return Collections.min(edges.keySet());
+  }
+
+  /**
+   * Returns the smallest label of the outgoing edges of this node that is
+   * greater than some label, which is found without allocating if the edges
+   * are navigable (as they are by default).
+   * @param label Label that precedes the one to return, such as one returned
+   *   by {@link #firstLabel()}, which need not be boxed again.
+   * @return Next label of this node, or null if there is none.
+   */
+  Character nextLabel(final Character label) {
+    if (edges instanceof NavigableMap) {
+      return ((NavigableMap<Character, DawgNode>) edges).higherKey(label);
+    }
+    Character next = null;
+    for (final Character other : edges.keySet()) {
+      if (other > label && (null == next || other < next)) {
+        next = other;
+      }
+    }
+    return next;
+  }
+
   /**
    * Accepts a label and returns the outgoing transition corresponding to it.
    * @param label Identifier of the outgoing transition to return
@@ -67,6 +114,16 @@ public class DawgNode implements Serializable {
     return this;
   }
 
+  /**
+   * Removes an edge from the outgoing edges of this DAWG node.
+   * @param label Identifier of the edge
+   * @return A DAWG node without the edge
+   */
+  public DawgNode removeEdge(final char label) {
+    edges.remove(label);
+    return this;
+  }
+
   /**
    * Removes all outoing-edges.
    */
@@ -0,0 +1,177 @@
+package com.github.liblevenshtein.collection.dictionary;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>
+ * Hash-consing register of the minimized nodes of a DAWG, which holds exactly
+ * one node per right-language (the set of suffixes accepted from a node).
+ * </p>
+ * <p>
+ * Nodes are only registered once all their children have been registered, so
+ * two nodes accept the same suffixes if, and only if, they agree on finality
+ * and on the labels of their edges, and their edges point to the same
+ * children.  Each node is keyed on that signature, whose hash code is computed
+ * once from the identities of its children, so probing the register takes
+ * time proportional to the out-degree of the node rather than to the size of
+ * its sub-graph (as with {@link DawgNode#hashCode()} and
+ * {@link DawgNode#equals(Object)}).
+ * </p>
+ * <p>
+ * Registered nodes must not be modified, and the register is not serializable
+ * since the identity hash codes it depends on do not survive serialization;
+ * it should be rebuilt via {@link #DawgNodeRegistry(Collection)} instead.
+ * </p>
+ * @since 3.1.0
+ */
+final class DawgNodeRegistry {
+
+  /**
+   * Registered node of each signature.
+   */
+  private final Map<Signature, DawgNode> nodes;
+
+  /**
+   * Constructs a new, empty {@link DawgNodeRegistry}.
+   */
+  DawgNodeRegistry() {
+    this(new HashMap<Signature, DawgNode>());
+  }
+
+  /**
+   * Constructs a new, empty {@link DawgNodeRegistry}.
+   * @param nodes Map in which to register the nodes.
+   */
+  private DawgNodeRegistry(final Map<Signature, DawgNode> nodes) {
+    this.nodes = nodes;
+  }
+
+  /**
+   * Constructs a new {@link DawgNodeRegistry} with every node that descends
+   * from some nodes of a minimized graph.  The nodes themselves are not
+   * registered, since they may still be modified (e.g. the root).
+   * @param ancestors Nodes whose descendants should be registered.
+   */
+  DawgNodeRegistry(final Collection<? extends DawgNode> ancestors) {
+    this();
+    final Map<DawgNode, Boolean> visited = new IdentityHashMap<DawgNode, Boolean>();
+    final Deque<DawgNode> pending = new ArrayDeque<DawgNode>();
+    for (final DawgNode ancestor : ancestors) {
+      pending.push(ancestor);
+      while (!pending.isEmpty()) {
+        for (final DawgNode child : pending.pop().edges.values()) {
+          if (null == visited.put(child, Boolean.TRUE)) {
+            nodes.put(new Signature(child), child);
+            pending.push(child);
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Constructs a new, empty {@link DawgNodeRegistry} that may be shared by
+   * threads which minimize disjoint parts of the same graph.
+   * @return New, thread-safe {@link DawgNodeRegistry}.
+   */
+  static DawgNodeRegistry concurrent() {
+    return new DawgNodeRegistry(new ConcurrentHashMap<Signature, DawgNode>());
+  }
+
+  /**
+   * Returns the registered node equivalent to some node, registering it if
+   * there is none.  The node must not be modified afterwards.
+   * @param node Node whose children are all registered.
+   * @return Registered node equivalent to the given one.
+   */
+  DawgNode canonical(final DawgNode node) {
+    final DawgNode existing = nodes.putIfAbsent(new Signature(node), node);
+    return null == existing ? node : existing;
+  }
+
+  /**
+   * Returns the number of registered nodes.
+   * @return Number of registered nodes.
+   */
+  int size() {
+    return nodes.size();
+  }
+
+  /**
+   * Identifies the right-language of a node whose children are registered.
+   * Unlike {@link DawgNode#equals(Object)}, comparing signatures does not
+   * descend into the children.
+   */
+  private static final class Signature {
+
+    /**
+     * Node identified by this signature.
+     */
+    private final DawgNode node;
+
+    /**
+     * Hash code of this signature, computed from the identities of the
+     * children of {@link #node}.
+     */
+    private final int hashCode;
+
+    /**
+     * Constructs the signature of a node.
+     * @param node Node whose children are all registered.
+     */
+    Signature(final DawgNode node) {
+      this.node = node;
+      int hashCode = node.isFinal() ? 1 : 0;
+      for (final Map.Entry<Character, DawgNode> edge : node.edges.entrySet()) {
+        hashCode = 31 * hashCode + edge.getKey();
+        hashCode = 31 * hashCode + System.identityHashCode(edge.getValue());
+      }
+      this.hashCode = hashCode;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object object) {
+      if (!(object instanceof Signature)) {
+        return false;
+      }
+
+      final DawgNode other = ((Signature) object).node;
+      if (node.isFinal() != other.isFinal()
+          || node.edges.size() != other.edges.size()) {
+        return false;
+      }
+
+      final Iterator<Map.Entry<Character, DawgNode>> lhs =
+        node.edges.entrySet().iterator();
+      final Iterator<Map.Entry<Character, DawgNode>> rhs =
+        other.edges.entrySet().iterator();
+      while (lhs.hasNext()) {
+        final Map.Entry<Character, DawgNode> a = lhs.next();
+        final Map.Entry<Character, DawgNode> b = rhs.next();
+        if (a.getKey().charValue() != b.getKey().charValue()
+            || a.getValue() != b.getValue()) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+}
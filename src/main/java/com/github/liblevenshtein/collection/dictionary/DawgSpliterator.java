@@ -0,0 +1,163 @@
+package com.github.liblevenshtein.collection.dictionary;
+
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * <p>
+ * Splittable traversal of the terms within a {@link Dawg}, in lexicographical
+ * order, so {@code dawg.parallelStream()} divides them among threads.
+ * </p>
+ * <p>
+ * Each spliterator covers a range of ordinals, which is split in half.  The
+ * subtrees are sized by {@link Dawg#count(DawgNode)}, so each half begins by
+ * descending to its first term past the subtrees of the terms before it, and
+ * continues depth-first from there, as a {@link DawgIterator} would.  The
+ * halves are exactly sized, regardless of the shape of the DAWG.
+ * </p>
+ * <p>
+ * The range is bound when the spliterator is constructed, so the DAWG must
+ * not be modified while it is being traversed.
+ * </p>
+ * @since 3.1.0
+ */
+public class DawgSpliterator implements Spliterator<String> {
+
+  /**
+   * Characteristics of every {@link DawgSpliterator}.
+   */
+  private static final int CHARACTERISTICS =
+    ORDERED | SORTED | DISTINCT | NONNULL | SIZED | SUBSIZED;
+
+  /**
+   * DAWG whose terms are traversed.
+   */
+  private final Dawg dawg;
+
+  /**
+   * Ordinal of the next term to visit.
+   */
+  private int begin;
+
+  /**
+   * Ordinal just past the last term to visit.
+   */
+  private int end;
+
+  /**
+   * Depth-first traversal of the DAWG, positioned at the term before
+   * {@link #begin}, or null if no term has been visited.
+   */
+  private DawgIterator.Traversal traversal = null;
+
+  /**
+   * Constructs a spliterator over all the terms of a DAWG.
+   * @param dawg DAWG whose terms should be traversed.
+   */
+  public DawgSpliterator(final Dawg dawg) {
+    this(dawg, 0, dawg.size());
+  }
+
+  /**
+   * Constructs a spliterator over a range of the terms of a DAWG.
+   * @param dawg DAWG whose terms should be traversed.
+   * @param begin Ordinal of the first term to visit.
+   * @param end Ordinal just past the last term to visit.
+   */
+  DawgSpliterator(final Dawg dawg, final int begin, final int end) {
+    this.dawg = dawg;
+    this.begin = begin;
+    this.end = end;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean tryAdvance(final Consumer<? super String> action) {
+    if (begin >= end) {
+      return false;
+    }
+    if (null == traversal) {
+      traversal = new DawgIterator.Traversal(dawg.root(), dawg);
+      traversal.seek(dawg, begin);
+    }
+    else {
+      traversal.advance();
+    }
+    begin += 1;
+    action.accept(traversal.toString());
+    return true;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void forEachRemaining(final Consumer<? super String> action) {
+    while (tryAdvance(action)) {
+      // Each term is passed to the action by tryAdvance.
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Spliterator<String> trySplit() {
+    final int remaining = end - begin;
+    if (remaining < 2) {
+      return null;
+    }
+    // The prefix is returned, as the contract of Spliterator requires of
+    // ordered spliterators, so this one continues from the midpoint.
+    final int middle = begin + (remaining >>> 1);
+    final DawgSpliterator prefix = new DawgSpliterator(dawg, begin, middle);
+    prefix.traversal = traversal;
+    this.begin = middle;
+    this.traversal = null;
+    return prefix;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public long estimateSize() {
+    return end - begin;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public long getExactSizeIfKnown() {
+    return end - begin;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int characteristics() {
+    return CHARACTERISTICS;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean hasCharacteristics(final int characteristics) {
+    return (CHARACTERISTICS & characteristics) == characteristics;
+  }
+
+  /**
+   * Returns null, since the terms are visited in their natural order.
+   * @return Null.
+   */
+  @Override
+  public Comparator<? super String> getComparator() {
+    return null;
+  }
+}
@@ -0,0 +1,540 @@
+package com.github.liblevenshtein.collection.dictionary;
+
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.SortedSet;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+import com.github.liblevenshtein.collection.AbstractIterator;
+
+/**
+ * <p>
+ * Live view of the terms of a {@link Dawg} within a range, in ascending or
+ * descending order.
+ * </p>
+ * <p>
+ * The bounds are kept as terms, and are ranked (see
+ * {@link Dawg#rank(String)}) whenever the view is queried, so it reflects
+ * modifications of the DAWG.  Iteration begins at the first term of the
+ * range, by descending to its ordinal, rather than scanning the terms before
+ * it.
+ * </p>
+ * @since 3.1.0
+ */
+final class DawgSubSet extends AbstractSet<String> implements NavigableSet<String> {
+
+  /**
+   * DAWG whose terms are viewed.
+   */
+  private final Dawg dawg;
+
+  /**
+   * Lower bound of the range, in lexicographical order, or null if it is
+   * unbounded from below.
+   */
+  private final String fromTerm;
+
+  /**
+   * Whether the lower bound belongs to the range.
+   */
+  private final boolean fromInclusive;
+
+  /**
+   * Upper bound of the range, in lexicographical order, or null if it is
+   * unbounded from above.
+   */
+  private final String toTerm;
+
+  /**
+   * Whether the upper bound belongs to the range.
+   */
+  private final boolean toInclusive;
+
+  /**
+   * Whether the terms are viewed in descending order.
+   */
+  private final boolean descending;
+
+  /**
+   * Constructs a view of all the terms of a DAWG, in ascending order.
+   * @param dawg DAWG whose terms should be viewed.
+   */
+  DawgSubSet(final Dawg dawg) {
+    this(dawg, null, false, null, false, false);
+  }
+
+  /**
+   * Constructs a view of the terms of a DAWG within a range.
+   * @param dawg DAWG whose terms should be viewed.
+   * @param fromTerm Lower bound of the range, or null.
+   * @param fromInclusive Whether the lower bound belongs to the range.
+   * @param toTerm Upper bound of the range, or null.
+   * @param toInclusive Whether the upper bound belongs to the range.
+   * @param descending Whether the terms should be viewed in descending order.
+   */
+  private DawgSubSet(
+      final Dawg dawg,
+      final String fromTerm,
+      final boolean fromInclusive,
+      final String toTerm,
+      final boolean toInclusive,
+      final boolean descending) {
+    this.dawg = dawg;
+    this.fromTerm = fromTerm;
+    this.fromInclusive = fromInclusive;
+    this.toTerm = toTerm;
+    this.toInclusive = toInclusive;
+    this.descending = descending;
+  }
+
+  /**
+   * Returns the ordinal of the first term of the range.
+   * @return Ordinal of the first term of the range.
+   */
+  private int begin() {
+    return null == fromTerm ? 0 : dawg.rank(fromTerm, !fromInclusive);
+  }
+
+  /**
+   * Returns the ordinal just past the last term of the range, which is never
+   * less than {@link #begin()}.
+   * @param begin Ordinal of the first term of the range.
+   * @return Ordinal just past the last term of the range.
+   */
+  private int end(final int begin) {
+    final int end = null == toTerm ? dawg.size() : dawg.rank(toTerm, toInclusive);
+    return Math.max(begin, end);
+  }
+
+  /**
+   * Specifies whether a term precedes the range.
+   * @param term Term to check.
+   * @return Whether the term precedes the range.
+   */
+  private boolean tooLow(final String term) {
+    if (null == fromTerm) {
+      return false;
+    }
+    final int comparison = term.compareTo(fromTerm);
+    return comparison < 0 || 0 == comparison && !fromInclusive;
+  }
+
+  /**
+   * Specifies whether a term follows the range.
+   * @param term Term to check.
+   * @return Whether the term follows the range.
+   */
+  private boolean tooHigh(final String term) {
+    if (null == toTerm) {
+      return false;
+    }
+    final int comparison = term.compareTo(toTerm);
+    return comparison > 0 || 0 == comparison && !toInclusive;
+  }
+
+  /**
+   * Specifies whether a term belongs to the range.
+   * @param term Term to check.
+   * @return Whether the term belongs to the range.
+   */
+  private boolean inRange(final String term) {
+    return !tooLow(term) && !tooHigh(term);
+  }
+
+  /**
+   * Validates a bound of a nested range, which must lie within this one (an
+   * exclusive bound may equal a bound of this range).
+   * @param term Bound of the nested range.
+   * @param inclusive Whether the bound belongs to the nested range.
+   * @throws IllegalArgumentException If the bound lies outside this range.
+   */
+  private void checkBound(final String term, final boolean inclusive) {
+    final boolean inBounds = inclusive
+      ? inRange(term)
+      : (null == fromTerm || term.compareTo(fromTerm) >= 0)
+        && (null == toTerm || term.compareTo(toTerm) <= 0);
+    if (!inBounds) {
+      throw new IllegalArgumentException(String.format(
+          "Expected bound to be in range, but was [%s]", term));
+    }
+  }
+
+  /**
+   * Returns the greatest term of the range that is less than (or equal to)
+   * some term.
+   * @param term Term to search below.
+   * @param inclusive Whether the term itself may be returned.
+   * @return Greatest such term, or null if there is none.
+   */
+  private String below(final String term, final boolean inclusive) {
+    final int begin = begin();
+    final int ordinal = Math.min(dawg.rank(term, inclusive), end(begin)) - 1;
+    return ordinal >= begin ? dawg.term(ordinal) : null;
+  }
+
+  /**
+   * Returns the least term of the range that is greater than (or equal to)
+   * some term.
+   * @param term Term to search above.
+   * @param inclusive Whether the term itself may be returned.
+   * @return Least such term, or null if there is none.
+   */
+  private String above(final String term, final boolean inclusive) {
+    final int begin = begin();
+    final int ordinal = Math.max(dawg.rank(term, !inclusive), begin);
+    return ordinal < end(begin) ? dawg.term(ordinal) : null;
+  }
+
+  /**
+   * Returns the least or greatest term of the range.
+   * @param least Whether to return the least term.
+   * @return Least or greatest term of the range, or null if it is empty.
+   */
+  private String extreme(final boolean least) {
+    final int begin = begin();
+    final int end = end(begin);
+    if (begin == end) {
+      return null;
+    }
+    return dawg.term(least ? begin : end - 1);
+  }
+
+  /**
+   * Constructs a view of the terms within a nested range.
+   * @param lowerTerm Lower bound of the nested range, or null to keep this
+   *   one's.
+   * @param lowerInclusive Whether the lower bound belongs to the nested range.
+   * @param upperTerm Upper bound of the nested range, or null to keep this
+   *   one's.
+   * @param upperInclusive Whether the upper bound belongs to the nested range.
+   * @return View of the nested range, in the same order as this one.
+   */
+  private DawgSubSet nested(
+      final String lowerTerm,
+      final boolean lowerInclusive,
+      final String upperTerm,
+      final boolean upperInclusive) {
+    if (null != lowerTerm) {
+      checkBound(lowerTerm, lowerInclusive);
+    }
+    if (null != upperTerm) {
+      checkBound(upperTerm, upperInclusive);
+    }
+    return new DawgSubSet(
+        dawg,
+        null == lowerTerm ? fromTerm : lowerTerm,
+        null == lowerTerm ? fromInclusive : lowerInclusive,
+        null == upperTerm ? toTerm : upperTerm,
+        null == upperTerm ? toInclusive : upperInclusive,
+        descending);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int size() {
+    final int begin = begin();
+    return end(begin) - begin;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean isEmpty() {
+    return 0 == size();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean contains(final Object object) {
+    return object instanceof String
+      && inRange((String) object)
+      && dawg.contains(object);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean add(final String term) {
+    if (!inRange(term)) {
+      throw new IllegalArgumentException(String.format(
+          "Expected term to be in range, but was [%s]", term));
+    }
+    return dawg.add(term);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean remove(final Object object) {
+    return object instanceof String
+      && inRange((String) object)
+      && dawg.remove(object);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Iterator<String> iterator() {
+    final int begin = begin();
+    final int end = end(begin);
+    if (descending) {
+      return new DescendingIterator(dawg, begin, end);
+    }
+    return Spliterators.iterator(new DawgSpliterator(dawg, begin, end));
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Ascending ranges are split by ordinal, like the DAWG itself.  Descending
+   * ranges are split by batching their iterators.
+   * </p>
+   */
+  @Override
+  public Spliterator<String> spliterator() {
+    if (descending) {
+      return Spliterators.spliterator(this,
+          Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL);
+    }
+    final int begin = begin();
+    return new DawgSpliterator(dawg, begin, end(begin));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Iterator<String> descendingIterator() {
+    return descendingSet().iterator();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public NavigableSet<String> descendingSet() {
+    return new DawgSubSet(
+        dawg, fromTerm, fromInclusive, toTerm, toInclusive, !descending);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Comparator<? super String> comparator() {
+    return descending ? Collections.<String>reverseOrder() : null;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String first() {
+    final String term = extreme(!descending);
+    if (null == term) {
+      throw new NoSuchElementException("The range is empty");
+    }
+    return term;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String last() {
+    final String term = extreme(descending);
+    if (null == term) {
+      throw new NoSuchElementException("The range is empty");
+    }
+    return term;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String lower(final String term) {
+    return descending ? above(term, false) : below(term, false);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String floor(final String term) {
+    return descending ? above(term, true) : below(term, true);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String ceiling(final String term) {
+    return descending ? below(term, true) : above(term, true);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String higher(final String term) {
+    return descending ? below(term, false) : above(term, false);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String pollFirst() {
+    final String term = extreme(!descending);
+    if (null != term) {
+      dawg.remove(term);
+    }
+    return term;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String pollLast() {
+    final String term = extreme(descending);
+    if (null != term) {
+      dawg.remove(term);
+    }
+    return term;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public NavigableSet<String> subSet(
+      final String fromElement,
+      final boolean fromElementInclusive,
+      final String toElement,
+      final boolean toElementInclusive) {
+    final int comparison = fromElement.compareTo(toElement);
+    if (descending ? comparison < 0 : comparison > 0) {
+      throw new IllegalArgumentException(String.format(
+          "Expected [%s] not to follow [%s] in the order of the range",
+          fromElement, toElement));
+    }
+    if (descending) {
+      return nested(
+          toElement, toElementInclusive, fromElement, fromElementInclusive);
+    }
+    return nested(
+        fromElement, fromElementInclusive, toElement, toElementInclusive);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public NavigableSet<String> headSet(
+      final String toElement,
+      final boolean inclusive) {
+    if (descending) {
+      return nested(toElement, inclusive, null, false);
+    }
+    return nested(null, false, toElement, inclusive);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public NavigableSet<String> tailSet(
+      final String fromElement,
+      final boolean inclusive) {
+    if (descending) {
+      return nested(null, false, fromElement, inclusive);
+    }
+    return nested(fromElement, inclusive, null, false);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public SortedSet<String> subSet(
+      final String fromElement,
+      final String toElement) {
+    return subSet(fromElement, true, toElement, false);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public SortedSet<String> headSet(final String toElement) {
+    return headSet(toElement, false);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public SortedSet<String> tailSet(final String fromElement) {
+    return tailSet(fromElement, true);
+  }
+
+  /**
+   * Iterates over a range of ordinals in descending order, finding the term
+   * of each one from the root.
+   */
+  private static final class DescendingIterator extends AbstractIterator<String> {
+
+    /**
+     * DAWG whose terms are iterated over.
+     */
+    private final Dawg dawg;
+
+    /**
+     * Ordinal of the last term to visit.
+     */
+    private final int begin;
+
+    /**
+     * Ordinal just past the next term to visit.
+     */
+    private int end;
+
+    /**
+     * Constructs a new {@link DescendingIterator}.
+     * @param dawg DAWG whose terms should be iterated over.
+     * @param begin Ordinal of the last term to visit.
+     * @param end Ordinal just past the first term to visit.
+     */
+    DescendingIterator(final Dawg dawg, final int begin, final int end) {
+      this.dawg = dawg;
+      this.begin = begin;
+      this.end = end;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void advance() {
+      if (null == next && end > begin) {
+        end -= 1;
+        this.next = dawg.term(end);
+      }
+    }
+  }
+}
@@ -0,0 +1,241 @@
+package com.github.liblevenshtein.collection.dictionary;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * <p>
+ * Read-only DAWG that follows each edge in constant time, with a double-array
+ * (BASE/CHECK) transition table.  The outgoing edge of node {@code n} labeled
+ * {@code c} occupies the slot {@code base[n] + c}, which belongs to the node
+ * iff {@code check[base[n] + c] == n}; since the nodes of a DAWG are shared,
+ * the target of each slot is kept in a third array, {@code next}, rather than
+ * being the slot itself (as it would be in a trie).
+ * </p>
+ * <p>
+ * The bases are chosen first-fit, placing the nodes with the most edges
+ * first, so the slots of different nodes interleave and the table stays
+ * dense.  This takes longer to build than a {@link FrozenDawg}, whose sorted
+ * edges it keeps for enumerating the labels of each node in order, but
+ * {@link #transition(int, char)} is a few array reads instead of a binary
+ * search, which speeds up exact lookups such as {@link #contains(Object)} and
+ * the descent to the node of a prefix.
+ * </p>
+ * <p>
+ * Transducers do not benefit from the table: a fuzzy query follows every
+ * outgoing edge of the nodes it visits, which its {@link IEdgeCursor} reads
+ * from the sorted edges, exactly as it does over a {@link FrozenDawg}.
+ * </p>
+ * @since 3.1.0
+ */
+public class DoubleArrayDawg extends AbstractFrozenDawg {
+
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Sorted edges of each node, for enumerating their labels.
+   */
+  private final FrozenDawg edges;
+
+  /**
+   * Offset of the slots of each node, indexed by id.
+   */
+  private final int[] base;
+
+  /**
+   * Id of the node that owns each slot, or {@link #NO_NODE} if it is free.
+   */
+  private final int[] check;
+
+  /**
+   * Id of the target of the edge in each slot.
+   */
+  private final int[] next;
+
+  /**
+   * Builds the transition table of a {@link FrozenDawg}.
+   * @param edges DAWG whose transitions should be tabulated.
+   */
+  public DoubleArrayDawg(final FrozenDawg edges) {
+    this.edges = edges;
+    final int nodeCount = edges.nodeCount();
+    this.base = new int[nodeCount];
+
+    int[] check = new int[Math.max(16, edges.edgeCount() + (edges.edgeCount() >> 2))];
+    int[] next = new int[check.length];
+    Arrays.fill(check, NO_NODE);
+    final BitSet used = new BitSet(check.length);
+    // Slots below the first free one are all occupied
+    int firstFree = 0;
+
+    for (final int node : byDescendingDegree(edges)) {
+      final int begin = edges.edgesBegin(node);
+      final int end = edges.edgesEnd(node);
+      if (begin == end) {
+        continue;
+      }
+      final char first = edges.label(begin);
+      final char last = edges.label(end - 1);
+
+      int slot = used.nextClearBit(Math.max(firstFree, first));
+      while (!fits(edges, used, slot - first, begin, end)) {
+        slot = used.nextClearBit(slot + 1);
+      }
+      final int nodeBase = slot - first;
+      base[node] = nodeBase;
+
+      if (nodeBase + last >= check.length) {
+        final int length = Math.max(nodeBase + last + 1, check.length + (check.length >> 1));
+        final int previous = check.length;
+        check = Arrays.copyOf(check, length);
+        next = Arrays.copyOf(next, length);
+        Arrays.fill(check, previous, length, NO_NODE);
+      }
+      for (int edge = begin; edge < end; ++edge) {
+        final int index = nodeBase + edges.label(edge);
+        used.set(index);
+        check[index] = node;
+        next[index] = edges.target(edge);
+      }
+      firstFree = used.nextClearBit(firstFree);
+    }
+
+    final int length = Math.max(0, used.length());
+    this.check = Arrays.copyOf(check, length);
+    this.next = Arrays.copyOf(next, length);
+  }
+
+  /**
+   * Specifies whether the slots of some edges are all free at some base.
+   * @param edges DAWG whose edges are being placed.
+   * @param used Slots that are occupied.
+   * @param base Candidate base of the node.
+   * @param begin Index of the first edge of the node.
+   * @param end Index one past the last edge of the node.
+   * @return Whether every edge of the node fits at the base.
+   */
+  private static boolean fits(
+      final FrozenDawg edges,
+      final BitSet used,
+      final int base,
+      final int begin,
+      final int end) {
+    for (int edge = begin + 1; edge < end; ++edge) {
+      if (used.get(base + edges.label(edge))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Orders the nodes of a DAWG by their out-degrees, descending, with a
+   * counting sort.
+   * @param edges DAWG whose nodes should be ordered.
+   * @return Ids of the nodes, by descending out-degree.
+   */
+  private static int[] byDescendingDegree(final FrozenDawg edges) {
+    final int nodeCount = edges.nodeCount();
+    int maxDegree = 0;
+    for (int node = 0; node < nodeCount; ++node) {
+      maxDegree = Math.max(maxDegree, edges.edgesEnd(node) - edges.edgesBegin(node));
+    }
+    final int[] offsets = new int[maxDegree + 2];
+    for (int node = 0; node < nodeCount; ++node) {
+      offsets[maxDegree - (edges.edgesEnd(node) - edges.edgesBegin(node)) + 1] += 1;
+    }
+    for (int degree = 1; degree < offsets.length; ++degree) {
+      offsets[degree] += offsets[degree - 1];
+    }
+    final int[] nodes = new int[nodeCount];
+    for (int node = 0; node < nodeCount; ++node) {
+      nodes[offsets[maxDegree - (edges.edgesEnd(node) - edges.edgesBegin(node))]++] = node;
+    }
+    return nodes;
+  }
+
+  /**
+   * Returns the number of slots in the transition table, which is at least
+   * {@link #edgeCount()}.
+   * @return Number of slots in the transition table.
+   */
+  public int slotCount() {
+    return check.length;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int nodeCount() {
+    return edges.nodeCount();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int edgeCount() {
+    return edges.edgeCount();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int edgesBegin(final int node) {
+    return edges.edgesBegin(node);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int edgesEnd(final int node) {
+    return edges.edgesEnd(node);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public char label(final int edge) {
+    return edges.label(edge);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int target(final int edge) {
+    return edges.target(edge);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean isFinal(final int node) {
+    return edges.isFinal(node);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int transition(final int node, final char label) {
+    final int slot = base[node] + label;
+    if (slot < check.length && check[slot] == node) {
+      return next[slot];
+    }
+    return NO_NODE;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int size() {
+    return edges.size();
+  }
+}
@@ -0,0 +1,357 @@
+package com.github.liblevenshtein.collection.dictionary;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * <p>
+ * Node reference-based DAWG that accepts terms in any order, and supports
+ * removing and replacing them, while remaining minimal after every operation.
+ * </p>
+ * <p>
+ * Every node but the root is immutable once it has been registered, and the
+ * register holds exactly one node per right-language (the set of suffixes
+ * accepted from a node).  Adding or removing a term copies the nodes along its
+ * path, bottom-up, and replaces each copy with its registered equivalent, if
+ * there is one.  Since registered nodes are never modified, confluence nodes
+ * (those with more than one incoming edge) are cloned implicitly, rather than
+ * having their in-degrees tracked.  Nodes that are no longer reachable are
+ * purged from the register once it has doubled in size.
+ * </p>
+ * <p>
+ * The root is the only mutable node, and is updated in place, so transducers
+ * built over this DAWG observe the changes.  Its edges are kept in a
+ * concurrent map, and every other node is immutable, so queries may proceed
+ * while terms are being added or removed.  Mutations are serialized.
+ * </p>
+ * <p>
+ * The algorithms are adapted from the following papers:
+ * </p>
+ * <pre>
+ * <code>
+ * {@literal @}MISC {Daciuk00incrementalconstruction,
+ *   author = {Jan Daciuk and
+ *     Bruce W. Watson and
+ *     Richard E. Watson and
+ *     Stoyan Mihov},
+ *   title = {Incremental Construction of Minimal Acyclic Finite-State Automata},
+ *   year = {2000}
+ * }
+ *
+ * {@literal @}ARTICLE {Carrasco02incrementalconstruction,
+ *   author = {Rafael C. Carrasco and Mikel L. Forcada},
+ *   title = {Incremental Construction and Maintenance of Minimal Finite-State
+ *     Automata},
+ *   journal = {Computational Linguistics},
+ *   year = {2002},
+ *   volume = {28},
+ *   pages = {207--216}
+ * }
+ * </code>
+ * </pre>
+ * @since 3.1.0
+ */
+public class DynamicDawg extends Dawg {
+
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Minimum size the register must reach before unreachable nodes are purged
+   * from it.
+   */
+  private static final int MIN_REGISTER_LIMIT = 1 << 10;
+
+  /**
+   * Canonical node of each right-language in this DAWG (excluding the root).
+   * It is rebuilt from the graph upon deserialization.
+   */
+  private transient DawgNodeRegistry register = new DawgNodeRegistry();
+
+  /**
+   * Size the register may reach before unreachable nodes are purged from it.
+   */
+  private transient int registerLimit = MIN_REGISTER_LIMIT;
+
+  /**
+   * Constructs a new, empty {@link DynamicDawg}.
+   */
+  public DynamicDawg() {
+    super(new RootNode(), 0);
+  }
+
+  /**
+   * Constructs a new {@link DynamicDawg}.
+   * @param terms Terms to add to this dictionary, in any order.
+   */
+  public DynamicDawg(final Collection<String> terms) {
+    this();
+    addAll(terms);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public synchronized boolean add(final String term) {
+    final RootNode root = (RootNode) this.root;
+
+    if (term.isEmpty()) {
+      if (root.isFinal()) {
+        return false;
+      }
+      root.isFinal(true);
+      size += 1;
+      return true;
+    }
+
+    final DawgNode[] path = path(term);
+
+    // Find the length of the longest prefix of term already in the graph
+    int k = 0;
+    while (k < term.length() && null != path[k + 1]) {
+      k += 1;
+    }
+
+    if (k == term.length() && path[k].isFinal()) {
+      return false;
+    }
+
+    // Build the suffix that is not in the graph, bottom-up, followed by the
+    // node at which it diverges from the graph
+    DawgNode child;
+    if (k == term.length()) {
+      child = copy(path[k], true);
+    }
+    else {
+      child = register.canonical(new FinalDawgNode());
+      for (int j = term.length() - 1; j > k; j -= 1) {
+        child = register.canonical(
+            new DawgNode().addEdge(term.charAt(j), child));
+      }
+      if (0 == k) {
+        root.addEdge(term.charAt(0), child);
+        size += 1;
+        purgeIfNecessary();
+        return true;
+      }
+      child = copy(path[k], path[k].isFinal()).addEdge(term.charAt(k), child);
+    }
+
+    replacePath(term, path, k, register.canonical(child));
+    size += 1;
+    purgeIfNecessary();
+    return true;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public synchronized boolean remove(final Object object) {
+    if (!(object instanceof String)) {
+      return false;
+    }
+
+    final String term = (String) object;
+    final RootNode root = (RootNode) this.root;
+
+    if (term.isEmpty()) {
+      if (!root.isFinal()) {
+        return false;
+      }
+      root.isFinal(false);
+      size -= 1;
+      return true;
+    }
+
+    final DawgNode[] path = path(term);
+    final int k = term.length();
+    if (null == path[k] || !path[k].isFinal()) {
+      return false;
+    }
+
+    // Copy the path bottom-up, pruning the nodes that accept nothing once term
+    // has been removed.  Each child replaces the node at its depth, or removes
+    // it if null.
+    int depth = k;
+    DawgNode child = path[k].edges.isEmpty()
+      ? null
+      : register.canonical(copy(path[k], false));
+    while (null == child && depth > 1) {
+      depth -= 1;
+      final DawgNode node = copy(path[depth], path[depth].isFinal())
+        .removeEdge(term.charAt(depth));
+      child = !node.isFinal() && node.edges.isEmpty()
+        ? null
+        : register.canonical(node);
+    }
+
+    if (null == child) {
+      root.removeEdge(term.charAt(0));
+    }
+    else {
+      replacePath(term, path, depth, child);
+    }
+
+    size -= 1;
+    purgeIfNecessary();
+    return true;
+  }
+
+  /**
+   * Replaces one term with another.  If the replacement is already in this
+   * DAWG, the current term is removed, only.
+   * @param current Term in this DAWG to replace
+   * @param replacement Term to replace the current one with
+   * @return Whether the current term was in this DAWG.
+   */
+  @Override
+  public synchronized boolean replace(
+      final String current,
+      final String replacement) {
+    if (!remove(current)) {
+      return false;
+    }
+    add(replacement);
+    return true;
+  }
+
+  /**
+   * Replaces all instances of the term keys with their values.
+   * @param c Replacement mappings.
+   * @return Whether all the terms to replace were in this DAWG.
+   */
+  @Override
+  public synchronized boolean replaceAll(
+      final Collection<? extends Map.Entry<String, String>> c) {
+    boolean replaced = true;
+    for (final Map.Entry<String, String> entry : c) {
+      replaced &= replace(entry.getKey(), entry.getValue());
+    }
+    return replaced;
+  }
+
+  /**
+   * Follows the path of a term from the root.
+   * @param term Term whose path should be followed.
+   * @return Nodes along the path of the term, indexed by depth.  Elements
+   *   following the end of the longest prefix of the term in this DAWG are
+   *   null.
+   */
+  private DawgNode[] path(final String term) {
+    final DawgNode[] path = new DawgNode[term.length() + 1];
+    path[0] = root;
+    for (int i = 0; i < term.length() && null != path[i]; ++i) {
+      path[i + 1] = path[i].transition(term.charAt(i));
+    }
+    return path;
+  }
+
+  /**
+   * Replaces the node at some depth along the path of a term, along with all
+   * its ancestors (which are copied, bottom-up), and links the new ancestors to
+   * the root.
+   * @param term Term whose path is being modified.
+   * @param path Nodes along the path of the term, indexed by depth.
+   * @param depth Depth of the node to replace (at least 1).
+   * @param replacement Registered node to replace the one at the depth.
+   */
+  private void replacePath(
+      final String term,
+      final DawgNode[] path,
+      final int depth,
+      final DawgNode replacement) {
+    DawgNode child = replacement;
+    for (int i = depth - 1; i > 0; i -= 1) {
+      child = register.canonical(
+          copy(path[i], path[i].isFinal()).addEdge(term.charAt(i), child));
+    }
+    root.addEdge(term.charAt(0), child);
+  }
+
+  /**
+   * Copies a node, which is about to be modified, so registered nodes remain
+   * unchanged.
+   * @param node Node to copy.
+   * @param isFinal Whether the copy should be final.
+   * @return Unregistered copy of the node.
+   */
+  private DawgNode copy(final DawgNode node, final boolean isFinal) {
+    final Map<Character, DawgNode> edges =
+      new TreeMap<Character, DawgNode>(node.edges);
+    return isFinal ? new FinalDawgNode(edges) : new DawgNode(edges);
+  }
+
+  /**
+   * Purges the unreachable nodes from the register, if it has grown enough
+   * since the last time.
+   */
+  private void purgeIfNecessary() {
+    if (register.size() > registerLimit) {
+      rebuildRegister();
+    }
+  }
+
+  /**
+   * Rebuilds the register from the nodes that are reachable from the root.
+   */
+  private void rebuildRegister() {
+    this.register =
+      new DawgNodeRegistry(Collections.singleton(root));
+    this.registerLimit = Math.max(MIN_REGISTER_LIMIT, register.size() << 1);
+  }
+
+  /**
+   * Restores the register after deserialization.
+   * @param stream Source of this DAWG.
+   * @throws IOException If this DAWG cannot be read.
+   * @throws ClassNotFoundException If a class of this DAWG cannot be found.
+   */
+  private void readObject(final ObjectInputStream stream)
+      throws IOException, ClassNotFoundException {
+    stream.defaultReadObject();
+    rebuildRegister();
+  }
+
+  /**
+   * Mutable root of a {@link DynamicDawg}, whose edges may be read while they
+   * are being modified.
+   */
+  private static final class RootNode extends DawgNode {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Whether this DAWG contains the empty string.
+     */
+    private volatile boolean isFinal = false;
+
+    /**
+     * Constructs a new, empty {@link RootNode}.
+     */
+    RootNode() {
+      super(new ConcurrentSkipListMap<Character, DawgNode>());
+    }
+
+    /**
+     * Specifies whether the empty string is in this DAWG.
+     * @param isFinal Whether the empty string is in this DAWG.
+     */
+    void isFinal(final boolean isFinal) {
+      this.isFinal = isFinal;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isFinal() {
+      return isFinal;
+    }
+  }
+}
@@ -0,0 +1,461 @@
+package com.github.liblevenshtein.collection.dictionary;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import com.github.liblevenshtein.collection.AbstractIterator;
+
+/**
+ * <p>
+ * Sorts and deduplicates an arbitrary number of terms with a bounded amount of
+ * heap, so a {@link SortedDawg} may be built from terms in any order (e.g. by
+ * feeding {@link #sorted()} to a {@link StreamingDawgBuilder}).
+ * </p>
+ * <p>
+ * Terms are buffered until {@code runSize} of them have been added, at which
+ * point they are sorted, deduplicated and spilled to a temporary file (a
+ * "run").  The runs are then merged, {@code fanIn} at a time, into a single
+ * sorted sequence of distinct terms.  If every term fits within a single run,
+ * nothing is written to disk.
+ * </p>
+ * <p>
+ * Closing the sorter deletes its temporary files.
+ * </p>
+ * @since 3.1.0
+ */
+public class ExternalTermSorter implements Closeable {
+
+  /**
+   * Default number of terms buffered in memory before they are spilled.
+   */
+  public static final int DEFAULT_RUN_SIZE = 1 << 20;
+
+  /**
+   * Default maximum number of runs that are merged at once.
+   */
+  public static final int DEFAULT_FAN_IN = 64;
+
+  /**
+   * Length that marks the end of a run.
+   */
+  private static final int END_OF_RUN = -1;
+
+  /**
+   * Orders runs by their current terms.
+   */
+  private static final Comparator<Run> BY_HEAD = new Comparator<Run>() {
+    @Override
+    public int compare(final Run lhs, final Run rhs) {
+      return lhs.head.compareTo(rhs.head);
+    }
+  };
+
+  /**
+   * Directory in which runs are spilled, or null for the default temporary
+   * directory.
+   */
+  private final File directory;
+
+  /**
+   * Number of terms buffered in memory before they are spilled.
+   */
+  private final int runSize;
+
+  /**
+   * Maximum number of runs that are merged at once.
+   */
+  private final int fanIn;
+
+  /**
+   * Terms that have not been spilled yet.  It grows up to {@link #runSize}.
+   */
+  private String[] buffer;
+
+  /**
+   * Number of terms in {@link #buffer}.
+   */
+  private int buffered = 0;
+
+  /**
+   * Runs that have been spilled, but not merged yet.
+   */
+  private final List<File> runs = new ArrayList<File>();
+
+  /**
+   * Runs being read by the final merge, which are closed with this sorter.
+   */
+  private final List<Run> merging = new ArrayList<Run>();
+
+  /**
+   * Whether {@link #sorted()} has been called.
+   */
+  private boolean isSorted = false;
+
+  /**
+   * Constructs a new {@link ExternalTermSorter} which spills runs of
+   * {@link #DEFAULT_RUN_SIZE} terms to the default temporary directory.
+   */
+  public ExternalTermSorter() {
+    this(null, DEFAULT_RUN_SIZE, DEFAULT_FAN_IN);
+  }
+
+  /**
+   * Constructs a new {@link ExternalTermSorter}.
+   * @param directory Directory in which runs should be spilled, or null for
+   *   the default temporary directory.
+   * @param runSize Number of terms to buffer in memory before spilling them.
+   * @param fanIn Maximum number of runs to merge at once.
+   * @throws IllegalArgumentException If runSize is not positive or fanIn is
+   *   less than 2.
+   */
+  public ExternalTermSorter(
+      final File directory,
+      final int runSize,
+      final int fanIn) {
+    if (runSize < 1) {
+      throw new IllegalArgumentException(String.format(
+          "Expected runSize to be positive, but was [%d]", runSize));
+    }
+    if (fanIn < 2) {
+      throw new IllegalArgumentException(String.format(
+          "Expected fanIn to be at least 2, but was [%d]", fanIn));
+    }
+    this.directory = directory;
+    this.runSize = runSize;
+    this.fanIn = fanIn;
+    this.buffer = new String[Math.min(runSize, 1 << 10)];
+  }
+
+  /**
+   * Adds a term to be sorted.
+   * @param term Term to sort.
+   * @throws IOException If the buffered terms must be spilled, but cannot be.
+   * @throws IllegalStateException If the terms have already been sorted.
+   */
+  public void add(final String term) throws IOException {
+    if (isSorted) {
+      throw new IllegalStateException("Terms have already been sorted");
+    }
+    if (buffered == buffer.length) {
+      if (buffer.length < runSize) {
+        buffer = Arrays.copyOf(
+            buffer, (int) Math.min(runSize, 2L * buffer.length));
+      }
+      else {
+        spill();
+      }
+    }
+    buffer[buffered++] = term;
+  }
+
+  /**
+   * Returns the distinct terms that have been added, in ascending order.  This
+   * may only be called once, and the returned iterator is only valid until
+   * this sorter is closed.  Errors reading the runs are rethrown by the
+   * iterator as {@link UncheckedIOException}s.
+   * @return Iterator over the sorted, distinct terms.
+   * @throws IOException If the runs cannot be merged.
+   * @throws IllegalStateException If the terms have already been sorted.
+   */
+  public Iterator<String> sorted() throws IOException {
+    if (isSorted) {
+      throw new IllegalStateException("Terms have already been sorted");
+    }
+    isSorted = true;
+
+    if (runs.isEmpty()) {
+      final int size = sortBuffer();
+      return Arrays.asList(buffer).subList(0, size).iterator();
+    }
+
+    if (buffered > 0) {
+      spill();
+    }
+    while (runs.size() > fanIn) {
+      merge(new ArrayList<File>(runs.subList(0, fanIn)));
+    }
+
+    for (final File run : runs) {
+      merging.add(new Run(run));
+    }
+    return new MergeIterator(merging);
+  }
+
+  /**
+   * Deletes the temporary files of this sorter.
+   * @throws IOException If a run cannot be closed.
+   */
+  @Override
+  public void close() throws IOException {
+    IOException failure = null;
+    for (final Run run : merging) {
+      try {
+        run.close();
+      }
+      catch (final IOException exception) {
+        failure = exception;
+      }
+    }
+    merging.clear();
+    for (final File run : runs) {
+      if (!run.delete() && run.exists()) {
+        run.deleteOnExit();
+      }
+    }
+    runs.clear();
+    Arrays.fill(buffer, 0, buffered, null);
+    buffered = 0;
+    if (null != failure) {
+      throw failure;
+    }
+  }
+
+  /**
+   * Sorts and deduplicates the buffered terms, in place.
+   * @return Number of distinct, buffered terms.
+   */
+  private int sortBuffer() {
+    Arrays.sort(buffer, 0, buffered);
+    int size = 0;
+    for (int i = 0; i < buffered; ++i) {
+      if (0 == size || !buffer[i].equals(buffer[size - 1])) {
+        buffer[size++] = buffer[i];
+      }
+    }
+    Arrays.fill(buffer, size, buffered, null);
+    return size;
+  }
+
+  /**
+   * Sorts the buffered terms and writes them to a new run.
+   * @throws IOException If the run cannot be written.
+   */
+  private void spill() throws IOException {
+    final int size = sortBuffer();
+    final File run = createRun();
+    final RunWriter writer = new RunWriter(run);
+    try {
+      for (int i = 0; i < size; ++i) {
+        writer.write(buffer[i]);
+      }
+    }
+    finally {
+      writer.close();
+    }
+    Arrays.fill(buffer, 0, size, null);
+    buffered = 0;
+  }
+
+  /**
+   * Merges some runs into a new one, which is appended to {@link #runs}, and
+   * deletes them.
+   * @param group Runs to merge.
+   * @throws IOException If the runs cannot be merged.
+   */
+  private void merge(final List<File> group) throws IOException {
+    final File merged = createRun();
+    final List<Run> sources = new ArrayList<Run>(group.size());
+    final RunWriter writer = new RunWriter(merged);
+    try {
+      for (final File run : group) {
+        sources.add(new Run(run));
+      }
+      final Iterator<String> terms = new MergeIterator(sources);
+      while (terms.hasNext()) {
+        writer.write(terms.next());
+      }
+    }
+    catch (final UncheckedIOException exception) {
+      throw exception.getCause();
+    }
+    finally {
+      writer.close();
+      for (final Run source : sources) {
+        source.close();
+      }
+    }
+    runs.removeAll(group);
+    for (final File run : group) {
+      run.delete();
+    }
+  }
+
+  /**
+   * Creates an empty, temporary file for a run, and appends it to
+   * {@link #runs}.
+   * @return Temporary file for a run.
+   * @throws IOException If the file cannot be created.
+   */
+  private File createRun() throws IOException {
+    final File run = File.createTempFile("liblevenshtein-", ".run", directory);
+    runs.add(run);
+    return run;
+  }
+
+  /**
+   * Writes sorted terms to a run.  Each term is written as its length,
+   * followed by its UTF-16 code units, so that any string may be spilled, and
+   * the run is terminated by {@link #END_OF_RUN}.
+   */
+  private static final class RunWriter implements Closeable {
+
+    /**
+     * Stream to the run.
+     */
+    private final DataOutputStream output;
+
+    /**
+     * Constructs a new {@link RunWriter}.
+     * @param run File to write.
+     * @throws IOException If the file cannot be opened.
+     */
+    RunWriter(final File run) throws IOException {
+      this.output = new DataOutputStream(
+          new BufferedOutputStream(new FileOutputStream(run), 1 << 16));
+    }
+
+    /**
+     * Writes the next term of the run.
+     * @param term Next term of the run.
+     * @throws IOException If the term cannot be written.
+     */
+    void write(final String term) throws IOException {
+      output.writeInt(term.length());
+      output.writeChars(term);
+    }
+
+    /**
+     * Terminates the run and closes it.
+     * @throws IOException If the run cannot be written.
+     */
+    @Override
+    public void close() throws IOException {
+      try {
+        output.writeInt(END_OF_RUN);
+      }
+      finally {
+        output.close();
+      }
+    }
+  }
+
+  /**
+   * Reads the terms of a run, one at a time.
+   */
+  private static final class Run implements Closeable {
+
+    /**
+     * Stream from the run.
+     */
+    private final DataInputStream input;
+
+    /**
+     * Current term of the run, or null once it has been exhausted.
+     */
+    private String head;
+
+    /**
+     * Constructs a new {@link Run}, positioned at its first term.
+     * @param run File to read.
+     * @throws IOException If the file cannot be read.
+     */
+    Run(final File run) throws IOException {
+      this.input = new DataInputStream(
+          new BufferedInputStream(new FileInputStream(run), 1 << 16));
+      advance();
+    }
+
+    /**
+     * Reads the next term of the run into {@link #head}.
+     * @return Whether there was another term.
+     * @throws IOException If the run cannot be read.
+     */
+    boolean advance() throws IOException {
+      final int length = input.readInt();
+      if (END_OF_RUN == length) {
+        head = null;
+        return false;
+      }
+      final char[] term = new char[length];
+      for (int i = 0; i < length; ++i) {
+        term[i] = input.readChar();
+      }
+      head = new String(term);
+      return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+      input.close();
+    }
+  }
+
+  /**
+   * Merges sorted runs into a single, sorted sequence of distinct terms.
+   */
+  private static final class MergeIterator extends AbstractIterator<String> {
+
+    /**
+     * Runs that have not been exhausted, ordered by their current terms.
+     */
+    private final PriorityQueue<Run> queue;
+
+    /**
+     * Term that was last returned.
+     */
+    private String previous = null;
+
+    /**
+     * Constructs a new {@link MergeIterator}.
+     * @param runs Runs to merge.
+     */
+    MergeIterator(final List<Run> runs) {
+      this.queue = new PriorityQueue<Run>(Math.max(1, runs.size()), BY_HEAD);
+      for (final Run run : runs) {
+        if (null != run.head) {
+          queue.add(run);
+        }
+      }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void advance() {
+      while (null == next && !queue.isEmpty()) {
+        final Run run = queue.poll();
+        final String term = run.head;
+        try {
+          if (run.advance()) {
+            queue.add(run);
+          }
+        }
+        catch (final IOException exception) {
+          throw new UncheckedIOException(exception);
+        }
+        if (!term.equals(previous)) {
+          next = term;
+          previous = term;
+        }
+      }
+    }
+  }
+}
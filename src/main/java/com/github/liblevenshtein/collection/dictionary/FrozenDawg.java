@@ -0,0 +1,211 @@
+package com.github.liblevenshtein.collection.dictionary;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ * Read-only DAWG whose minimized graph is stored in flat, primitive arrays
+ * instead of a graph of {@link DawgNode}s.  Nodes are identified by integer
+ * ids in the range {@code [0, nodeCount())}, and the outgoing edges of node
+ * {@code n} occupy the slots {@code [edgeOffsets[n], edgeOffsets[n + 1])} of
+ * {@link #labels} and {@link #targets}, sorted ascendingly by label.
+ * </p>
+ * <p>
+ * This layout (sometimes called compressed sparse rows) needs no per-edge
+ * objects, so it takes a fraction of the heap of a {@link SortedDawg} with the
+ * same terms, and each transition is a binary search over a contiguous
+ * {@code char[]} rather than a walk through a {@link java.util.TreeMap}.
+ * </p>
+ * @since 3.1.0
+ */
+public class FrozenDawg extends AbstractFrozenDawg {
+
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Offsets into {@link #labels} and {@link #targets} of the first outgoing
+   * edge of each node.  The last element is the total number of edges.
+   */
+  private final int[] edgeOffsets;
+
+  /**
+   * Labels of all the edges, grouped by source node.
+   */
+  private final char[] labels;
+
+  /**
+   * Target node ids of all the edges, parallel to {@link #labels}.
+   */
+  private final int[] targets;
+
+  /**
+   * Ids of the nodes that represent the last character of some term.
+   */
+  private final BitSet finalNodes;
+
+  /**
+   * Number of terms in this dictionary.
+   */
+  private final int size;
+
+  /**
+   * Constructs a {@link FrozenDawg} from its raw arrays.  The arrays are not
+   * copied, so they must not be modified afterwards.
+   * @param edgeOffsets Offset of the first outgoing edge of each node, followed
+   *   by the total number of edges.
+   * @param labels Labels of the edges, sorted ascendingly within each node.
+   * @param targets Target node ids of the edges.
+   * @param finalNodes Ids of the final nodes.
+   * @param size Number of terms in the dictionary.
+   */
+  public FrozenDawg(
+      final int[] edgeOffsets,
+      final char[] labels,
+      final int[] targets,
+      final BitSet finalNodes,
+      final int size) {
+    this.edgeOffsets = edgeOffsets;
+    this.labels = labels;
+    this.targets = targets;
+    this.finalNodes = finalNodes;
+    this.size = size;
+  }
+
+  /**
+   * Compiles the graph rooted at some {@link DawgNode} into a
+   * {@link FrozenDawg}.  The graph should be minimized already (e.g. by
+   * {@link SortedDawg#finish()}), since nodes are shared by identity.
+   * @param root Root node of the graph to compile.
+   * @param size Number of terms reachable from the root.
+   */
+  public FrozenDawg(final DawgNode root, final int size) {
+    final Map<DawgNode, Integer> ids = new IdentityHashMap<DawgNode, Integer>();
+    final List<DawgNode> nodes = new ArrayList<DawgNode>();
+    ids.put(root, ROOT);
+    nodes.add(root);
+
+    int numEdges = 0;
+    for (int i = 0; i < nodes.size(); ++i) {
+      for (final DawgNode target : nodes.get(i).edges.values()) {
+        numEdges += 1;
+        if (!ids.containsKey(target)) {
+          ids.put(target, nodes.size());
+          nodes.add(target);
+        }
+      }
+    }
+
+    this.edgeOffsets = new int[nodes.size() + 1];
+    this.labels = new char[numEdges];
+    this.targets = new int[numEdges];
+    this.finalNodes = new BitSet(nodes.size());
+    this.size = size;
+
+    int edge = 0;
+    for (int i = 0; i < nodes.size(); ++i) {
+      final DawgNode node = nodes.get(i);
+      edgeOffsets[i] = edge;
+      if (node.isFinal()) {
+        finalNodes.set(i);
+      }
+      // DawgNode keeps its edges in a TreeMap, so they arrive sorted by label.
+      for (final Map.Entry<Character, DawgNode> entry : node.edges.entrySet()) {
+        labels[edge] = entry.getKey();
+        targets[edge] = ids.get(entry.getValue());
+        edge += 1;
+      }
+    }
+    edgeOffsets[nodes.size()] = edge;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int nodeCount() {
+    return edgeOffsets.length - 1;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int edgeCount() {
+    return labels.length;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int edgesBegin(final int node) {
+    return edgeOffsets[node];
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int edgesEnd(final int node) {
+    return edgeOffsets[node + 1];
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public char label(final int edge) {
+    return labels[edge];
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int target(final int edge) {
+    return targets[edge];
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean isFinal(final int node) {
+    return finalNodes.get(node);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int transition(final int node, final char label) {
+    int lower = edgeOffsets[node];
+    int upper = edgeOffsets[node + 1] - 1;
+    while (lower <= upper) {
+      final int middle = (lower + upper) >>> 1;
+      final char other = labels[middle];
+      if (other < label) {
+        lower = middle + 1;
+      }
+      else if (other > label) {
+        upper = middle - 1;
+      }
+      else {
+        return targets[middle];
+      }
+    }
+    return NO_NODE;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int size() {
+    return size;
+  }
+}
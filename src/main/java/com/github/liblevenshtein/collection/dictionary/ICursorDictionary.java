@@ -0,0 +1,18 @@
+package com.github.liblevenshtein.collection.dictionary;
+
+/**
+ * Dictionary automaton that enumerates the edges of its nodes with an
+ * {@link IEdgeCursor}, which the transducer prefers to the labels returned
+ * by {@link ITransitionFunction#of(Object)}.
+ * @param <Node> Kind of the nodes of this dictionary.
+ * @since 3.1.0
+ */
+public interface ICursorDictionary<Node> extends IDictionary<Node> {
+
+  /**
+   * Returns a new cursor over the edges of this dictionary, which may be
+   * reset to any number of nodes.
+   * @return New cursor over the edges of this dictionary.
+   */
+  IEdgeCursor<Node> cursor();
+}
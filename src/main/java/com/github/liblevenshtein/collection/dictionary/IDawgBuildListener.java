@@ -0,0 +1,16 @@
+package com.github.liblevenshtein.collection.dictionary;
+
+/**
+ * Receives the progress of building a DAWG, e.g. from a
+ * {@link StreamingDawgBuilder}.  It is called on the thread that builds the
+ * DAWG, so it should return quickly.
+ * @since 3.1.0
+ */
+public interface IDawgBuildListener {
+
+  /**
+   * Reports the progress of the build.
+   * @param progress Snapshot of the progress of the build.
+   */
+  void progress(DawgBuildProgress progress);
+}
@@ -0,0 +1,21 @@
+package com.github.liblevenshtein.collection.dictionary;
+
+import java.util.Set;
+
+/**
+ * Dictionary automaton that may be intersected with a Levenshtein automaton.
+ * Implementations expose their own kind of node (e.g. {@link DawgNode} or an
+ * integer node id), which lets the transducer traverse them without knowing
+ * how their edges are stored.
+ * @param <Node> Kind of the nodes of this dictionary automaton.
+ * @since 3.1.0
+ */
+public interface IDictionary<Node>
+    extends Set<String>, IFinalFunction<Node>, ITransitionFunction<Node> {
+
+  /**
+   * Returns the node at which every term of this dictionary begins.
+   * @return Root node of this dictionary automaton.
+   */
+  Node root();
+}
@@ -0,0 +1,44 @@
+package com.github.liblevenshtein.collection.dictionary;
+
+/**
+ * <p>
+ * Reusable cursor over the outgoing edges of dictionary nodes, which yields
+ * each label as a primitive {@code char} together with its target, so
+ * visiting an edge neither boxes its label nor searches for its target.
+ * </p>
+ * <p>
+ * A cursor is positioned at a node with {@link #reset(Object)} and then
+ * advanced with {@link #next()}, which visits the edges in ascending order of
+ * their labels.  Cursors hold mutable state, so they must not be shared
+ * across threads.
+ * </p>
+ * @param <Node> Kind of the nodes of the dictionary.
+ * @since 3.1.0
+ */
+public interface IEdgeCursor<Node> {
+
+  /**
+   * Positions this cursor before the first outgoing edge of a node.
+   * @param node Node whose edges should be visited.
+   */
+  void reset(Node node);
+
+  /**
+   * Advances this cursor to the next outgoing edge.  A new cursor, and one
+   * whose edges are exhausted, remains before no edge until it is reset.
+   * @return Whether this cursor is positioned at an edge.
+   */
+  boolean next();
+
+  /**
+   * Returns the label of the current edge.
+   * @return Label of the current edge.
+   */
+  char label();
+
+  /**
+   * Returns the target of the current edge.
+   * @return Node the current edge points to.
+   */
+  Node target();
+}
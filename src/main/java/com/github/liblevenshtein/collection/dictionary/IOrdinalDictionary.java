@@ -0,0 +1,49 @@
+package com.github.liblevenshtein.collection.dictionary;
+
+/**
+ * <p>
+ * Dictionary automaton that numbers its terms densely, as a minimal perfect
+ * hash: the ordinal of each term is its rank in lexicographical order, in the
+ * range {@code [0, size())}.  Payloads may therefore be kept in arrays indexed
+ * by ordinal, rather than in maps keyed by term.
+ * </p>
+ * <p>
+ * Ordinals are derived from the number of terms accepted from each node (the
+ * size of its right-language): the ordinal of a term is the number of terms
+ * that end on the path to it, plus the number of terms beneath the siblings
+ * with smaller labels of each node on that path.  Both directions of the
+ * mapping take time proportional to the length of the term (times the
+ * out-degree of the nodes along its path).  The ordinals of a dictionary that
+ * is modified are renumbered accordingly.
+ * </p>
+ * @param <Node> Kind of the nodes of this dictionary.
+ * @since 3.1.0
+ */
+public interface IOrdinalDictionary<Node> extends IDictionary<Node> {
+
+  /**
+   * Returns the number of terms accepted from a node, i.e. the number of
+   * suffixes that lead from it to a final node (including the empty suffix if
+   * the node is final).
+   * @param node Node whose terms should be counted.
+   * @return Number of terms accepted from the node.
+   */
+  int count(Node node);
+
+  /**
+   * Returns the ordinal of a term.
+   * @param term Term whose ordinal should be returned.
+   * @return Lexicographical rank of the term in {@code [0, size())}, or -1 if
+   *   this dictionary does not contain it.
+   */
+  int ordinal(String term);
+
+  /**
+   * Returns the term having some ordinal.
+   * @param ordinal Lexicographical rank of the term.
+   * @return Term having the ordinal.
+   * @throws IndexOutOfBoundsException If the ordinal is not in
+   *   {@code [0, size())}.
+   */
+  String term(int ordinal);
+}
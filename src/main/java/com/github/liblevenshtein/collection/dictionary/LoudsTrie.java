@@ -0,0 +1,729 @@
+package com.github.liblevenshtein.collection.dictionary;
+
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import com.github.liblevenshtein.collection.AbstractIterator;
+
+/**
+ * <p>
+ * Read-only trie in a succinct, level-order unary degree sequence (LOUDS)
+ * encoding, for term sets too large for a pointer- or array-based DAWG.  The
+ * nodes are numbered in breadth-first order, from the root ({@link #ROOT}),
+ * and each node of degree d contributes d one bits followed by a zero bit to
+ * a bit vector, which is prefixed with {@code 10} for a virtual super-root.
+ * Counting from zero, the i-th zero bit ends the block of node
+ * {@code i - 1}, so the children of node {@code i} are the nodes numbered
+ * from {@code select0(i) - i}, as many as there are one bits between
+ * {@code select0(i)} and the next zero.
+ * </p>
+ * <p>
+ * The label of the edge into each node is packed into as few bits as its
+ * alphabet needs (e.g. 5 bits for lowercase English), so the trie occupies
+ * roughly {@code 2.2 + 1 + log2(alphabet)} bits per node: the LOUDS bits and
+ * their select directory, a finality bit, and a label.  Tries have more nodes
+ * than the equivalent DAWG, since they share no suffixes, but no pointers
+ * are stored.  Each transition costs a select query and a binary search over
+ * the packed labels of the node, so it is slower than that of a
+ * {@link FrozenDawg}.
+ * </p>
+ * <p>
+ * A trie may be encoded from a DAWG, or from sorted terms with
+ * {@link #fromSortedTerms(Iterable)}, which never holds more than the trie in
+ * memory.
+ * </p>
+ * @since 3.1.0
+ */
+public class LoudsTrie
+    extends AbstractSet<String>
+    implements ICursorDictionary<Integer>,
+               Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Id of the root node.
+   */
+  public static final int ROOT = 0;
+
+  /**
+   * Returned from {@link #transition(int, char)} when there is no outgoing
+   * edge for the requested label.
+   */
+  public static final int NO_NODE = -1;
+
+  /**
+   * Degrees of the nodes, in level-order and in unary.
+   */
+  private final SelectBitVector louds;
+
+  /**
+   * Ids of the nodes that represent the last character of some term.
+   */
+  private final BitSet finalNodes;
+
+  /**
+   * Distinct labels of the trie.  Each label is stored as its symbol id.
+   */
+  private final Alphabet alphabet;
+
+  /**
+   * Number of bits per packed label.
+   */
+  private final int labelWidth;
+
+  /**
+   * Label indices of the edges into each node but the root, packed
+   * {@link #labelWidth} bits apiece: the label of node {@code i} begins at bit
+   * {@code (i - 1) * labelWidth}.
+   */
+  private final long[] labels;
+
+  /**
+   * Number of nodes in this trie.
+   */
+  private final int nodeCount;
+
+  /**
+   * Number of terms in this trie.
+   */
+  private final int size;
+
+  /**
+   * Encodes the terms of a DAWG, expanding its shared suffixes into a trie.
+   * The DAWG is traversed level-by-level, so only the DAWG and the current
+   * level are held in memory besides the trie itself.  To encode more terms
+   * than fit in a DAWG, use {@link #fromSortedTerms(Iterable)}.
+   * @param dawg DAWG whose terms should be encoded.
+   * @throws IllegalArgumentException If the trie would have more than
+   *   {@link Integer#MAX_VALUE} nodes.
+   */
+  public LoudsTrie(final AbstractFrozenDawg dawg) {
+    this(encode(dawg));
+  }
+
+  /**
+   * Takes the arrays of a finished encoding.
+   * @param encoder Encoding of every node of the trie.
+   */
+  private LoudsTrie(final Encoder encoder) {
+    this.alphabet = encoder.alphabet;
+    this.labelWidth = encoder.labelWidth;
+    this.size = encoder.size;
+    this.louds = new SelectBitVector(encoder.louds.words, encoder.louds.length);
+    this.labels = Arrays.copyOf(
+        encoder.labels.words, (int) ((encoder.labels.length + 63) >>> 6));
+    this.finalNodes = encoder.finalNodes;
+    this.nodeCount = (int) encoder.nodeCount;
+  }
+
+  /**
+   * <p>
+   * Encodes a sorted sequence of terms, without building a DAWG (or any other
+   * intermediate structure) first.  Since the nodes of each level of a trie,
+   * in level-order, are the distinct prefixes of that length in sorted order,
+   * the terms are read once more per level: once to collect their alphabet,
+   * and then once for each level, to encode its nodes.  Only the trie, the
+   * term being read, and the one before it are held in memory, so the terms
+   * may be streamed from a file that is too large to load.
+   * </p>
+   * <p>
+   * Every iteration over the terms must yield the same sequence, sorted
+   * ascendingly by {@link String#compareTo(String)}.  Duplicates are ignored.
+   * </p>
+   * @param terms Sorted terms to encode, which are iterated over once more
+   *   than the length of the longest term.
+   * @return A new trie, containing the terms.
+   * @throws IllegalArgumentException If the terms are not sorted, or the trie
+   *   would have more than {@link Integer#MAX_VALUE} nodes.
+   */
+  public static LoudsTrie fromSortedTerms(final Iterable<String> terms) {
+    final BitSet seen = new BitSet(Alphabet.DIRECT_LIMIT);
+    int size = 0;
+    int maxLength = 0;
+    String previous = null;
+    for (final String term : terms) {
+      if (null != previous) {
+        final int order = term.compareTo(previous);
+        if (order < 0) {
+          throw new IllegalArgumentException(String.format(
+              "Expected terms to be sorted, but [%s] follows [%s]",
+              term, previous));
+        }
+        if (0 == order) {
+          continue;
+        }
+      }
+      for (int i = 0; i < term.length(); ++i) {
+        seen.set(term.charAt(i));
+      }
+      maxLength = Math.max(maxLength, term.length());
+      size += 1;
+      previous = term;
+    }
+
+    final Encoder encoder = new Encoder(Alphabet.of(seen), size);
+    for (int depth = 0; depth <= maxLength; ++depth) {
+      // The terms that share their first depth characters descend through the
+      // same node, and are consecutive since they are sorted.
+      long nextLevelSize = 0L;
+      String group = null;
+      int previousLabel = -1;
+      for (final String term : terms) {
+        if (term.length() < depth) {
+          continue;
+        }
+        if (null == group || !term.regionMatches(0, group, 0, depth)) {
+          if (null != group) {
+            encoder.endNode();
+          }
+          encoder.beginNode(term.length() == depth);
+          group = term;
+          previousLabel = -1;
+        }
+        if (term.length() > depth && term.charAt(depth) != previousLabel) {
+          previousLabel = term.charAt(depth);
+          encoder.edge((char) previousLabel);
+          nextLevelSize += 1;
+        }
+      }
+      if (null != group) {
+        encoder.endNode();
+      }
+      else if (0 == depth) {
+        // The root is encoded even if there are no terms.
+        encoder.beginNode(false);
+        encoder.endNode();
+      }
+      encoder.checkLevel(nextLevelSize);
+    }
+    return new LoudsTrie(encoder);
+  }
+
+  /**
+   * Encodes the nodes of a DAWG in level-order, expanding its shared suffixes.
+   * @param dawg DAWG whose terms should be encoded.
+   * @return Encoding of every node of the trie.
+   */
+  private static Encoder encode(final AbstractFrozenDawg dawg) {
+    final Encoder encoder = new Encoder(Alphabet.of(dawg), dawg.size());
+    int[] level = {AbstractFrozenDawg.ROOT};
+    int levelSize = 1;
+    while (levelSize > 0) {
+      int[] nextLevel = new int[Math.max(16, levelSize)];
+      int nextLevelSize = 0;
+      for (int i = 0; i < levelSize; ++i) {
+        final int node = level[i];
+        encoder.beginNode(dawg.isFinal(node));
+        final int end = dawg.edgesEnd(node);
+        for (int edge = dawg.edgesBegin(node); edge < end; ++edge) {
+          encoder.edge(dawg.label(edge));
+          if (nextLevelSize == nextLevel.length) {
+            nextLevel = Arrays.copyOf(nextLevel, nextLevel.length << 1);
+          }
+          nextLevel[nextLevelSize++] = dawg.target(edge);
+        }
+        encoder.endNode();
+      }
+      encoder.checkLevel(nextLevelSize);
+      level = nextLevel;
+      levelSize = nextLevelSize;
+    }
+    return encoder;
+  }
+
+  /**
+   * Returns the number of nodes in this trie.
+   * @return Number of nodes in this trie.
+   */
+  public int nodeCount() {
+    return nodeCount;
+  }
+
+  /**
+   * Returns the approximate number of bytes occupied by the arrays of this
+   * trie.
+   * @return Approximate size of this trie, in bytes.
+   */
+  public long sizeInBytes() {
+    return louds.sizeInBytes()
+      + (finalNodes.size() >>> 3)
+      + alphabet.sizeInBytes()
+      + 8L * labels.length;
+  }
+
+  /**
+   * Returns the id of the first child of a node.
+   * @param node Id of the node.
+   * @return Id of the first child of the node (if it has any).
+   */
+  private int firstChild(final int node) {
+    return (int) (louds.select0(node) - node);
+  }
+
+  /**
+   * Returns the number of children of a node.
+   * @param node Id of the node.
+   * @param firstChild Id of its first child.
+   * @return Number of children of the node.
+   */
+  private int degree(final int node, final int firstChild) {
+    final long begin = (long) firstChild + node + 1;
+    return (int) (louds.nextZero(begin) - begin);
+  }
+
+  /**
+   * Returns the symbol id of the label of the edge into a
+   * node.
+   * @param node Id of the node, other than the root.
+   * @return Symbol id of the label of the node.
+   */
+  private int labelIndex(final int node) {
+    final long bit = (long) (node - 1) * labelWidth;
+    final int word = (int) (bit >>> 6);
+    final int offset = (int) (bit & 63);
+    long value = labels[word] >>> offset;
+    if (offset + labelWidth > 64) {
+      value |= labels[word + 1] << (64 - offset);
+    }
+    return (int) (value & ((1L << labelWidth) - 1));
+  }
+
+  /**
+   * Returns the label of the edge into a node.
+   * @param node Id of the node, other than the root.
+   * @return Label of the edge into the node.
+   */
+  public char label(final int node) {
+    return alphabet.label(labelIndex(node));
+  }
+
+  /**
+   * Specifies whether a node represents the last character of some term.
+   * @param node Id of the node to check.
+   * @return Whether the node represents the last character of some term.
+   */
+  public boolean isFinal(final int node) {
+    return finalNodes.get(node);
+  }
+
+  /**
+   * Follows the outgoing edge of a node that is labeled with some character.
+   * @param node Id of the node to leave.
+   * @param label Label of the edge to follow.
+   * @return Id of the child, or {@link #NO_NODE} if the node has no edge with
+   *   that label.
+   */
+  public int transition(final int node, final char label) {
+    final int index = alphabet.symbol(label);
+    if (Alphabet.UNKNOWN == index) {
+      return NO_NODE;
+    }
+    final int firstChild = firstChild(node);
+    int lower = firstChild;
+    int upper = firstChild + degree(node, firstChild) - 1;
+    while (lower <= upper) {
+      final int middle = (lower + upper) >>> 1;
+      final int other = labelIndex(middle);
+      if (other < index) {
+        lower = middle + 1;
+      }
+      else if (other > index) {
+        upper = middle - 1;
+      }
+      else {
+        return middle;
+      }
+    }
+    return NO_NODE;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Integer root() {
+    return ROOT;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean at(final Integer node) {
+    return isFinal(node);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Integer of(final Integer node, final char label) {
+    final int child = transition(node, label);
+    return NO_NODE == child ? null : child;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Iterator<Character> of(final Integer node) {
+    final int firstChild = firstChild(node);
+    return new LabelIterator(firstChild, firstChild + degree(node, firstChild));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public IEdgeCursor<Integer> cursor() {
+    return new EdgeCursor();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean contains(final Object o) {
+    if (!(o instanceof String)) {
+      return false;
+    }
+    final String term = (String) o;
+    int node = ROOT;
+    for (int i = 0; i < term.length() && NO_NODE != node; ++i) {
+      node = transition(node, term.charAt(i));
+    }
+    return NO_NODE != node && isFinal(node);
+  }
+
+  /**
+   * Iterates over the terms of this dictionary in lexicographical order.
+   * @return Iterator over the terms of this dictionary.
+   */
+  @Override
+  public Iterator<String> iterator() {
+    return new TermIterator();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("LoudsTrie(size=%d, nodes=%d, bytes=%d)",
+        size, nodeCount, sizeInBytes());
+  }
+
+  /**
+   * Appends fixed-width values to a growable array of bits.
+   */
+  private static final class BitBuilder {
+
+    /**
+     * Bits appended so far.
+     */
+    private long[] words = new long[16];
+
+    /**
+     * Number of bits appended so far.
+     */
+    private long length = 0L;
+
+    /**
+     * Appends the low bits of a value.
+     * @param value Value to append.
+     * @param width Number of low bits of the value to append.
+     */
+    void append(final long value, final int width) {
+      final int word = (int) (length >>> 6);
+      final int offset = (int) (length & 63);
+      if (word + 1 >= words.length) {
+        words = Arrays.copyOf(words, words.length << 1);
+      }
+      words[word] |= value << offset;
+      if (offset + width > 64) {
+        words[word + 1] |= value >>> (64 - offset);
+      }
+      length += width;
+    }
+  }
+
+  /**
+   * Accumulates the bits of a trie as its nodes are visited in level-order.
+   */
+  private static final class Encoder {
+
+    /**
+     * Distinct labels of the trie.
+     */
+    private final Alphabet alphabet;
+
+    /**
+     * Number of bits per packed label.
+     */
+    private final int labelWidth;
+
+    /**
+     * Number of terms in the trie.
+     */
+    private final int size;
+
+    /**
+     * Degrees of the nodes encoded so far, in unary.
+     */
+    private final BitBuilder louds = new BitBuilder();
+
+    /**
+     * Packed labels of the edges encoded so far.
+     */
+    private final BitBuilder labels = new BitBuilder();
+
+    /**
+     * Ids of the final nodes encoded so far.
+     */
+    private final BitSet finalNodes = new BitSet();
+
+    /**
+     * Number of nodes encoded so far.
+     */
+    private long nodeCount = 0L;
+
+    /**
+     * Constructs a new {@link Encoder}, which begins with the virtual
+     * super-root.
+     * @param alphabet Distinct labels of the trie.
+     * @param size Number of terms in the trie.
+     */
+    Encoder(final Alphabet alphabet, final int size) {
+      this.alphabet = alphabet;
+      this.labelWidth = alphabet.width();
+      this.size = size;
+      louds.append(1L, 1);
+      louds.append(0L, 1);
+    }
+
+    /**
+     * Begins the next node, in level-order.
+     * @param isFinal Whether the node represents the last character of some
+     *   term.
+     */
+    void beginNode(final boolean isFinal) {
+      if (isFinal) {
+        finalNodes.set((int) nodeCount);
+      }
+      nodeCount += 1;
+    }
+
+    /**
+     * Adds the next outgoing edge of the current node, in order of label.
+     * @param label Label of the edge.
+     */
+    void edge(final char label) {
+      louds.append(1L, 1);
+      labels.append(alphabet.symbol(label), labelWidth);
+    }
+
+    /**
+     * Ends the current node.
+     */
+    void endNode() {
+      louds.append(0L, 1);
+    }
+
+    /**
+     * Ensures the nodes of the next level may be numbered.
+     * @param nextLevelSize Number of nodes in the next level.
+     * @throws IllegalArgumentException If the trie would have more than
+     *   {@link Integer#MAX_VALUE} nodes.
+     */
+    void checkLevel(final long nextLevelSize) {
+      if (nodeCount + nextLevelSize > Integer.MAX_VALUE - 1) {
+        throw new IllegalArgumentException(
+            "Expected the trie to have fewer than 2^31 nodes");
+      }
+    }
+  }
+
+  /**
+   * Iterates over the labels of a contiguous range of children.
+   */
+  private final class LabelIterator implements Iterator<Character> {
+
+    /**
+     * Id of the next child whose label should be returned.
+     */
+    private int child;
+
+    /**
+     * Id one past the last child whose label should be returned.
+     */
+    private final int end;
+
+    /**
+     * Constructs a new {@link LabelIterator}.
+     * @param begin Id of the first child.
+     * @param end Id one past the last child.
+     */
+    LabelIterator(final int begin, final int end) {
+      this.child = begin;
+      this.end = end;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return child < end;
+    }
+
+    @Override
+    public Character next() {
+      if (child >= end) {
+        throw new NoSuchElementException();
+      }
+      return label(child++);
+    }
+
+    @Override
+    public void remove() {
+      throw new UnsupportedOperationException(
+          "java.util.Iterator.remove() is not supported");
+    }
+  }
+
+  /**
+   * Visits the children of a node, which are numbered consecutively.
+   */
+  private final class EdgeCursor implements IEdgeCursor<Integer> {
+
+    /**
+     * Id of the current child.
+     */
+    private int child = 0;
+
+    /**
+     * Id one past the last child of the node.
+     */
+    private int end = 0;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void reset(final Integer node) {
+      final int firstChild = firstChild(node);
+      this.child = firstChild - 1;
+      this.end = firstChild + degree(node, firstChild);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean next() {
+      if (child < end) {
+        child += 1;
+      }
+      return child < end;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public char label() {
+      return LoudsTrie.this.label(child);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Integer target() {
+      return child;
+    }
+  }
+
+  /**
+   * Depth-first traversal over the terms of this dictionary, which keeps the
+   * current path in a single buffer.  Since children are numbered
+   * consecutively, each level of the path needs only the next and last child
+   * to visit.
+   */
+  private final class TermIterator extends AbstractIterator<String> {
+
+    /**
+     * Labels along the path from the root to the current node.
+     */
+    private char[] path = new char[16];
+
+    /**
+     * Next child to visit at each depth of the path.
+     */
+    private int[] children = new int[17];
+
+    /**
+     * Id one past the last child to visit at each depth of the path.
+     */
+    private int[] ends = new int[17];
+
+    /**
+     * Depth of the current node, or -1 once the traversal is complete.
+     */
+    private int depth = 0;
+
+    /**
+     * Constructs a new {@link TermIterator}, positioned at the root.
+     */
+    TermIterator() {
+      descend(ROOT);
+      if (isFinal(ROOT)) {
+        next = "";
+      }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void advance() {
+      while (null == next && depth >= 0) {
+        final int child = children[depth];
+        if (child < ends[depth]) {
+          children[depth] = child + 1;
+          if (depth == path.length) {
+            path = Arrays.copyOf(path, path.length << 1);
+            children = Arrays.copyOf(children, path.length + 1);
+            ends = Arrays.copyOf(ends, path.length + 1);
+          }
+          path[depth] = label(child);
+          depth += 1;
+          descend(child);
+          if (isFinal(child)) {
+            next = new String(path, 0, depth);
+          }
+        }
+        else {
+          depth -= 1;
+        }
+      }
+    }
+
+    /**
+     * Records the children of the node at the current depth.
+     * @param node Node at the current depth.
+     */
+    private void descend(final int node) {
+      final int firstChild = firstChild(node);
+      children[depth] = firstChild;
+      ends[depth] = firstChild + degree(node, firstChild);
+    }
+  }
+}
@@ -0,0 +1,247 @@
+package com.github.liblevenshtein.collection.dictionary;
+
+import java.io.ObjectStreamException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.IntBuffer;
+import java.util.BitSet;
+
+/**
+ * <p>
+ * Read-only DAWG that walks its nodes and edges directly within a binary
+ * dictionary image, which is typically a file mapped into memory via
+ * {@link java.nio.channels.FileChannel#map} (see
+ * {@link com.github.liblevenshtein.collection.dictionary.factory.DawgFactory#map(java.io.File)}).
+ * Opening an image only validates its header, so it takes constant time
+ * regardless of the size of the dictionary, and processes that map the same
+ * file share the same pages of the OS page-cache.
+ * </p>
+ * <p>
+ * The image is laid out as follows, in big-endian order:
+ * </p>
+ * <pre>
+ * int    magic        ({@link #MAGIC})
+ * int    version      ({@link #VERSION})
+ * int    size         (number of terms)
+ * int    nodeCount
+ * int    edgeCount
+ * int    reserved     (zero)
+ * int[]  edgeOffsets  (nodeCount + 1 elements)
+ * int[]  finalNodes   ((nodeCount + 31) / 32 elements; bit n of word n / 32)
+ * int[]  targets      (edgeCount elements)
+ * char[] labels       (edgeCount elements)
+ * </pre>
+ * <p>
+ * The sections mirror the arrays of a {@link FrozenDawg}; images are written by
+ * {@link com.github.liblevenshtein.serialization.DawgImageWriter}.
+ * </p>
+ * @since 3.1.0
+ */
+public class MappedDawg extends AbstractFrozenDawg {
+
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Identifies a dictionary image ("LDAW" in ASCII).
+   */
+  public static final int MAGIC = 0x4C444157;
+
+  /**
+   * Version of the image layout read by this class.
+   */
+  public static final int VERSION = 1;
+
+  /**
+   * Number of bytes preceding the first section of the image.
+   */
+  public static final int HEADER_SIZE = 24;
+
+  /**
+   * Number of terms in this dictionary.
+   */
+  private final int size;
+
+  /**
+   * Number of nodes in this dictionary.
+   */
+  private final int nodeCount;
+
+  /**
+   * Number of edges in this dictionary.
+   */
+  private final int edgeCount;
+
+  /**
+   * View of the edge-offsets section of the image.
+   */
+  private final transient IntBuffer edgeOffsets;
+
+  /**
+   * View of the final-nodes section of the image.
+   */
+  private final transient IntBuffer finalNodes;
+
+  /**
+   * View of the edge-targets section of the image.
+   */
+  private final transient IntBuffer targets;
+
+  /**
+   * View of the edge-labels section of the image.
+   */
+  private final transient CharBuffer labels;
+
+  /**
+   * Opens a dictionary image, beginning at the current position of the buffer.
+   * The buffer is neither copied nor modified.
+   * @param image Dictionary image, such as a mapped file.
+   * @throws IllegalArgumentException If the buffer does not hold a complete
+   *   image of a supported version.
+   */
+  public MappedDawg(final ByteBuffer image) {
+    final ByteBuffer buffer = image.slice().order(ByteOrder.BIG_ENDIAN);
+
+    if (buffer.remaining() < HEADER_SIZE || MAGIC != buffer.getInt(0)) {
+      throw new IllegalArgumentException("Not a dictionary image");
+    }
+
+    final int version = buffer.getInt(4);
+    if (VERSION != version) {
+      throw new IllegalArgumentException(String.format(
+          "Unsupported dictionary image version [%d], expected [%d]",
+          version, VERSION));
+    }
+
+    this.size = buffer.getInt(8);
+    this.nodeCount = buffer.getInt(12);
+    this.edgeCount = buffer.getInt(16);
+
+    final long finalsOffset = HEADER_SIZE + 4L * (nodeCount + 1);
+    final long targetsOffset = finalsOffset + 4L * ((nodeCount + 31) >>> 5);
+    final long labelsOffset = targetsOffset + 4L * edgeCount;
+    final long length = labelsOffset + 2L * edgeCount;
+
+    if (nodeCount < 1 || edgeCount < 0 || length > buffer.remaining()) {
+      throw new IllegalArgumentException(String.format(
+          "Truncated dictionary image: expected [%d] bytes, but found [%d]",
+          length, buffer.remaining()));
+    }
+
+    this.edgeOffsets = section(buffer, HEADER_SIZE, finalsOffset).asIntBuffer();
+    this.finalNodes = section(buffer, finalsOffset, targetsOffset).asIntBuffer();
+    this.targets = section(buffer, targetsOffset, labelsOffset).asIntBuffer();
+    this.labels = section(buffer, labelsOffset, length).asCharBuffer();
+  }
+
+  /**
+   * Returns a zero-copy view of a range of bytes in the image.
+   * @param buffer Image whose bytes should be viewed.
+   * @param begin Offset of the first byte of the range.
+   * @param end Offset one past the last byte of the range.
+   * @return View of the range of bytes.
+   */
+  private static ByteBuffer section(
+      final ByteBuffer buffer,
+      final long begin,
+      final long end) {
+    final ByteBuffer section = buffer.duplicate();
+    section.position((int) begin);
+    section.limit((int) end);
+    return section.slice().order(ByteOrder.BIG_ENDIAN);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int nodeCount() {
+    return nodeCount;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int edgeCount() {
+    return edgeCount;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int edgesBegin(final int node) {
+    return edgeOffsets.get(node);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int edgesEnd(final int node) {
+    return edgeOffsets.get(node + 1);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public char label(final int edge) {
+    return labels.get(edge);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int target(final int edge) {
+    return targets.get(edge);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean isFinal(final int node) {
+    return 0 != (finalNodes.get(node >>> 5) & (1 << (node & 31)));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Copies the image into a heap-backed {@link FrozenDawg}.
+   * @return A {@link FrozenDawg} with the same nodes and edges as this one.
+   */
+  public FrozenDawg toFrozenDawg() {
+    final int[] edgeOffsets = new int[nodeCount + 1];
+    final char[] labels = new char[edgeCount];
+    final int[] targets = new int[edgeCount];
+    final BitSet finalNodes = new BitSet(nodeCount);
+    this.edgeOffsets.duplicate().get(edgeOffsets);
+    this.labels.duplicate().get(labels);
+    this.targets.duplicate().get(targets);
+    for (int node = 0; node < nodeCount; ++node) {
+      if (isFinal(node)) {
+        finalNodes.set(node);
+      }
+    }
+    return new FrozenDawg(edgeOffsets, labels, targets, finalNodes, size);
+  }
+
+  /**
+   * Mapped buffers cannot be serialized, so this dictionary is serialized as
+   * an equivalent {@link FrozenDawg}.
+   * @return A {@link FrozenDawg} to serialize in place of this one.
+   * @throws ObjectStreamException Never.
+   */
+  private Object writeReplace() throws ObjectStreamException {
+    return toFrozenDawg();
+  }
+}
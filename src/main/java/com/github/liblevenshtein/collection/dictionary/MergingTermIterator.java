@@ -0,0 +1,154 @@
+package com.github.liblevenshtein.collection.dictionary;
+
+import java.util.Iterator;
+
+import com.github.liblevenshtein.collection.AbstractIterator;
+
+/**
+ * <p>
+ * Merges the sorted terms of a dictionary with sorted additions and
+ * deletions, in a single pass, yielding the distinct terms that are in the
+ * dictionary or the additions, but not the deletions, in ascending order.
+ * Only the current term of each source is held, so the terms may be fed
+ * straight into a {@link StreamingDawgBuilder} (see
+ * {@link StreamingDawgBuilder#rebuild(Iterable, Iterator, Iterator)}) to
+ * rebuild a DAWG without sorting or collecting them.
+ * </p>
+ * <p>
+ * Each source must be sorted ascendingly, in lexicographical order
+ * (case-sensitive), and may contain duplicates.  A source that is out of
+ * order causes an {@link IllegalArgumentException} when it is reached.
+ * </p>
+ * @since 3.1.0
+ */
+public class MergingTermIterator extends AbstractIterator<String> {
+
+  /**
+   * Terms of the dictionary being rebuilt.
+   */
+  private final Source existing;
+
+  /**
+   * Terms to add.
+   */
+  private final Source additions;
+
+  /**
+   * Terms to remove.
+   */
+  private final Source deletions;
+
+  /**
+   * Last term that was yielded, or null if none has been.
+   */
+  private String last = null;
+
+  /**
+   * Constructs a new {@link MergingTermIterator}.
+   * @param existing Sorted terms of the dictionary being rebuilt.
+   * @param additions Sorted terms to add.
+   * @param deletions Sorted terms to remove, which take precedence over the
+   *   additions.
+   */
+  public MergingTermIterator(
+      final Iterator<String> existing,
+      final Iterator<String> additions,
+      final Iterator<String> deletions) {
+    this.existing = new Source("existing", existing);
+    this.additions = new Source("additions", additions);
+    this.deletions = new Source("deletions", deletions);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected void advance() {
+    while (null == next) {
+      final String term = min(existing.head, additions.head);
+      if (null == term) {
+        return;
+      }
+      if (term.equals(existing.head)) {
+        existing.pull();
+      }
+      if (term.equals(additions.head)) {
+        additions.pull();
+      }
+      while (null != deletions.head && deletions.head.compareTo(term) < 0) {
+        deletions.pull();
+      }
+      if (!term.equals(deletions.head) && !term.equals(last)) {
+        this.next = term;
+        this.last = term;
+      }
+    }
+  }
+
+  /**
+   * Returns the lesser of two terms, either of which may be null.
+   * @param lhs First term, or null.
+   * @param rhs Second term, or null.
+   * @return Lesser of the non-null terms, or null if both are null.
+   */
+  private static String min(final String lhs, final String rhs) {
+    if (null == lhs) {
+      return rhs;
+    }
+    if (null == rhs) {
+      return lhs;
+    }
+    return lhs.compareTo(rhs) <= 0 ? lhs : rhs;
+  }
+
+  /**
+   * Sorted source of terms, positioned at its current term.
+   */
+  private static final class Source {
+
+    /**
+     * Name of this source, for error messages.
+     */
+    private final String name;
+
+    /**
+     * Remaining terms of this source.
+     */
+    private final Iterator<String> terms;
+
+    /**
+     * Current term of this source, or null once it is exhausted.
+     */
+    private String head;
+
+    /**
+     * Constructs a new {@link Source}, positioned at its first term.
+     * @param name Name of this source, for error messages.
+     * @param terms Sorted terms of this source.
+     */
+    Source(final String name, final Iterator<String> terms) {
+      this.name = name;
+      this.terms = terms;
+      this.head = terms.hasNext() ? terms.next() : null;
+    }
+
+    /**
+     * Advances to the next term of this source.
+     * @throws IllegalArgumentException If the next term precedes the current
+     *   one.
+     */
+    void pull() {
+      if (!terms.hasNext()) {
+        head = null;
+        return;
+      }
+      final String term = terms.next();
+      if (term.compareTo(head) < 0) {
+        throw new IllegalArgumentException(String.format(
+            "Expected %s to be sorted, but [%s] followed [%s]",
+            name, term, head));
+      }
+      head = term;
+    }
+  }
+}
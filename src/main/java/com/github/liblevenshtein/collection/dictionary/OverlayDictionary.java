@@ -0,0 +1,576 @@
+package com.github.liblevenshtein.collection.dictionary;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+
+import com.github.liblevenshtein.collection.AbstractIterator;
+
+/**
+ * <p>
+ * Mutable dictionary layered over an immutable base (e.g. a large
+ * {@link FrozenDawg} that is rebuilt periodically), so terms may be added and
+ * removed between rebuilds.  Added terms are kept in a small delta
+ * {@link DynamicDawg}, and removed terms of the base in a second one, of
+ * tombstones.  The delta holds only terms the base lacks, and the tombstones
+ * only terms the base has, so each write takes time proportional to the
+ * length of its term.
+ * </p>
+ * <p>
+ * The layers are searched as one automaton, whose nodes pair the nodes
+ * reached by the same prefix in each layer: a node is final if it is final in
+ * the delta, or in the base but not among the tombstones.  A transducer over
+ * this dictionary intersects every layer at once, so a query visits at most
+ * the paths of the delta and tombstones beyond those of the base.  The labels
+ * of the base must be visited in ascending order, as they are by every
+ * dictionary of this package.
+ * </p>
+ * <p>
+ * Once the delta and tombstones hold {@link #threshold()} terms, they are
+ * compacted (on the executor, if one was given) into a new {@link FrozenDawg}
+ * base.  While the new base is being built, the old layers are frozen and
+ * serve as the base of a fresh delta and tombstones, so writes and queries
+ * proceed.  Each query (and iterator) searches the layers that were current
+ * when it began.
+ * </p>
+ * @since 3.1.0
+ */
+public class OverlayDictionary
+    extends AbstractSet<String>
+    implements IDictionary<OverlayDictionary.Node> {
+
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Default number of terms in the delta and tombstones at which they are
+   * compacted into the base.
+   */
+  public static final int DEFAULT_THRESHOLD = 1 << 16;
+
+  /**
+   * Number of terms in the delta and tombstones at which they are compacted
+   * into the base.
+   */
+  private final int threshold;
+
+  /**
+   * Executor on which the layers are compacted, or null if they are compacted
+   * on the thread whose write crosses the threshold.  It is not serialized.
+   */
+  private final transient Executor executor;
+
+  /**
+   * Current layers of this dictionary.
+   */
+  private volatile Layers layers;
+
+  /**
+   * Whether the layers are being compacted.
+   */
+  private boolean isCompacting = false;
+
+  /**
+   * Constructs a new {@link OverlayDictionary}, whose layers are compacted on
+   * the thread whose write crosses the default threshold.
+   * @param base Immutable dictionary of the initial terms.
+   */
+  public OverlayDictionary(final IDictionary<?> base) {
+    this(base, DEFAULT_THRESHOLD, null);
+  }
+
+  /**
+   * Constructs a new {@link OverlayDictionary}.
+   * @param base Immutable dictionary of the initial terms.
+   * @param threshold Number of terms in the delta and tombstones at which they
+   *   should be compacted into the base.
+   * @param executor Executor on which the layers should be compacted, or null
+   *   if they should be compacted on the thread whose write crosses the
+   *   threshold.
+   * @throws IllegalArgumentException If the threshold is not positive.
+   */
+  @SuppressWarnings("unchecked")
+  public OverlayDictionary(
+      final IDictionary<?> base,
+      final int threshold,
+      final Executor executor) {
+    if (threshold < 1) {
+      throw new IllegalArgumentException(String.format(
+          "Expected threshold to be positive, but was [%d]", threshold));
+    }
+    this.threshold = threshold;
+    this.executor = executor;
+    this.layers = new Layers((IDictionary<Object>) base);
+  }
+
+  /**
+   * Returns the number of terms in the delta and tombstones at which they are
+   * compacted into the base.
+   * @return Compaction threshold.
+   */
+  public int threshold() {
+    return threshold;
+  }
+
+  /**
+   * Returns the base dictionary of the current layers, which is a frozen view
+   * of the previous layers while they are being compacted.
+   * @return Base dictionary of the current layers.
+   */
+  public IDictionary<?> base() {
+    return layers.base;
+  }
+
+  /**
+   * Returns the number of terms added to or removed from the base, which are
+   * not yet compacted.
+   * @return Number of terms in the delta and tombstones.
+   */
+  public int pending() {
+    final Layers current = layers;
+    return current.delta.size() + current.tombstones.size();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Node root() {
+    return layers.root();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean at(final Node node) {
+    return node.layers.at(node);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Node of(final Node node, final char label) {
+    return node.layers.of(node, label);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Iterator<Character> of(final Node node) {
+    return node.layers.of(node);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int size() {
+    return layers.size();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean contains(final Object term) {
+    return layers.contains(term);
+  }
+
+  /**
+   * Iterates over the terms of the current layers in lexicographical order.
+   * @return Iterator over the terms of this dictionary.
+   */
+  @Override
+  public Iterator<String> iterator() {
+    return layers.iterator();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean add(final String term) {
+    final boolean added;
+    synchronized (this) {
+      final Layers current = layers;
+      if (current.tombstones.contains(term)) {
+        added = current.tombstones.remove(term);
+      }
+      else if (current.base.contains(term)) {
+        added = false;
+      }
+      else {
+        added = current.delta.add(term);
+      }
+    }
+    if (added) {
+      compactIfNecessary();
+    }
+    return added;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean remove(final Object o) {
+    if (!(o instanceof String)) {
+      return false;
+    }
+    final String term = (String) o;
+    final boolean removed;
+    synchronized (this) {
+      final Layers current = layers;
+      if (current.delta.contains(term)) {
+        removed = current.delta.remove(term);
+      }
+      else if (current.base.contains(term)) {
+        removed = current.tombstones.add(term);
+      }
+      else {
+        removed = false;
+      }
+    }
+    if (removed) {
+      compactIfNecessary();
+    }
+    return removed;
+  }
+
+  /**
+   * Compacts the layers once the delta and tombstones have reached the
+   * threshold, on the executor if there is one.
+   */
+  private void compactIfNecessary() {
+    if (pending() < threshold) {
+      return;
+    }
+    final Layers frozen = beginCompaction();
+    if (null != frozen) {
+      if (null == executor) {
+        finishCompaction(frozen);
+      }
+      else {
+        executor.execute(new Runnable() {
+          @Override
+          public void run() {
+            finishCompaction(frozen);
+          }
+        });
+      }
+    }
+  }
+
+  /**
+   * Merges the delta and tombstones into a new base on the calling thread.
+   * Writes and queries may proceed on other threads while it is built.  If
+   * the layers are already being compacted, this returns immediately.
+   */
+  public void compact() {
+    final Layers frozen = beginCompaction();
+    if (null != frozen) {
+      finishCompaction(frozen);
+    }
+  }
+
+  /**
+   * Freezes the current layers beneath a fresh delta and tombstones.
+   * @return Frozen layers to compact, or null if the layers are already being
+   *   compacted.
+   */
+  private synchronized Layers beginCompaction() {
+    if (isCompacting) {
+      return null;
+    }
+    isCompacting = true;
+    final Layers frozen = layers;
+    this.layers = new Layers(frozen);
+    return frozen;
+  }
+
+  /**
+   * Builds a new base from frozen layers, and replaces them with it.  The new
+   * base has the same terms as the frozen layers, so the delta and tombstones
+   * above them remain valid.  If they reached the threshold while the base
+   * was being built, they are compacted again.
+   * @param frozen Layers that are no longer written.
+   */
+  private void finishCompaction(final Layers frozen) {
+    try {
+      final IDictionary<?> base =
+        new StreamingDawgBuilder().build(frozen.iterator()).freeze();
+      synchronized (this) {
+        final Layers current = layers;
+        this.layers = new Layers(base, current.delta, current.tombstones);
+      }
+    }
+    finally {
+      synchronized (this) {
+        isCompacting = false;
+      }
+    }
+    compactIfNecessary();
+  }
+
+  @Override
+  public String toString() {
+    return String.format("OverlayDictionary(size=%d, pending=%d)",
+        size(), pending());
+  }
+
+  /**
+   * State of the automaton of an {@link OverlayDictionary}, which pairs the
+   * nodes reached by some prefix in each of its layers.
+   */
+  public static final class Node {
+
+    /**
+     * Layers in which the prefix was followed.
+     */
+    private final Layers layers;
+
+    /**
+     * Node reached in the base, or null if the base has no such prefix.
+     */
+    private final Object base;
+
+    /**
+     * Node reached in the delta, or null if the delta has no such prefix.
+     */
+    private final DawgNode delta;
+
+    /**
+     * Node reached in the tombstones, or null if they have no such prefix.
+     */
+    private final DawgNode tombstone;
+
+    /**
+     * Constructs a new {@link Node}.
+     * @param layers Layers in which the prefix was followed.
+     * @param base Node reached in the base, or null.
+     * @param delta Node reached in the delta, or null.
+     * @param tombstone Node reached in the tombstones, or null.
+     */
+    Node(
+        final Layers layers,
+        final Object base,
+        final DawgNode delta,
+        final DawgNode tombstone) {
+      this.layers = layers;
+      this.base = base;
+      this.delta = delta;
+      this.tombstone = tombstone;
+    }
+  }
+
+  /**
+   * Base, delta, and tombstones of an {@link OverlayDictionary}, which are
+   * searched as one dictionary.  Frozen layers serve as the base of the
+   * layers above them while they are being compacted.
+   */
+  static final class Layers
+      extends AbstractSet<String>
+      implements IDictionary<Node> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Immutable terms beneath the delta and tombstones.
+     */
+    private final IDictionary<Object> base;
+
+    /**
+     * Terms that have been added, none of which belong to the base.
+     */
+    private final DynamicDawg delta;
+
+    /**
+     * Terms that have been removed, all of which belong to the base.
+     */
+    private final DynamicDawg tombstones;
+
+    /**
+     * Constructs layers with an empty delta and tombstones.
+     * @param base Immutable terms beneath the delta and tombstones.
+     */
+    Layers(final IDictionary<?> base) {
+      this(base, new DynamicDawg(), new DynamicDawg());
+    }
+
+    /**
+     * Constructs new {@link Layers}.
+     * @param base Immutable terms beneath the delta and tombstones.
+     * @param delta Terms that have been added.
+     * @param tombstones Terms that have been removed.
+     */
+    @SuppressWarnings("unchecked")
+    Layers(
+        final IDictionary<?> base,
+        final DynamicDawg delta,
+        final DynamicDawg tombstones) {
+      this.base = (IDictionary<Object>) base;
+      this.delta = delta;
+      this.tombstones = tombstones;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Node root() {
+      return new Node(this, base.root(), delta.root(), tombstones.root());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean at(final Node node) {
+      if (null != node.delta && node.delta.isFinal()) {
+        return true;
+      }
+      return null != node.base
+        && base.at(node.base)
+        && (null == node.tombstone || !node.tombstone.isFinal());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Node of(final Node node, final char label) {
+      final Object nextBase = null == node.base ? null : base.of(node.base, label);
+      final DawgNode nextDelta =
+        null == node.delta ? null : node.delta.transition(label);
+      if (null == nextBase && null == nextDelta) {
+        return null;
+      }
+      final DawgNode nextTombstone =
+        null == node.tombstone || null == nextBase
+          ? null
+          : node.tombstone.transition(label);
+      return new Node(this, nextBase, nextDelta, nextTombstone);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Iterator<Character> of(final Node node) {
+      if (null == node.delta) {
+        return base.of(node.base);
+      }
+      if (null == node.base) {
+        return node.delta.labels();
+      }
+      return new MergedLabels(base.of(node.base), node.delta.labels());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+      return base.size() + delta.size() - tombstones.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean contains(final Object term) {
+      return delta.contains(term)
+        || base.contains(term) && !tombstones.contains(term);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Iterator<String> iterator() {
+      return Completions.of(this, "").iterator();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean add(final String term) {
+      throw new UnsupportedOperationException("Layers are modified by their dictionary");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean remove(final Object term) {
+      throw new UnsupportedOperationException("Layers are modified by their dictionary");
+    }
+  }
+
+  /**
+   * Merges two ascending iterators over labels, skipping those in both.
+   */
+  private static final class MergedLabels extends AbstractIterator<Character> {
+
+    /**
+     * Labels of the base node.
+     */
+    private final Iterator<Character> lhs;
+
+    /**
+     * Labels of the delta node.
+     */
+    private final Iterator<Character> rhs;
+
+    /**
+     * Next label of the base node, or null if it has no more.
+     */
+    private Character lhsNext;
+
+    /**
+     * Next label of the delta node, or null if it has no more.
+     */
+    private Character rhsNext;
+
+    /**
+     * Constructs a new {@link MergedLabels}.
+     * @param lhs Labels of the base node, in ascending order.
+     * @param rhs Labels of the delta node, in ascending order.
+     */
+    MergedLabels(final Iterator<Character> lhs, final Iterator<Character> rhs) {
+      this.lhs = lhs;
+      this.rhs = rhs;
+      this.lhsNext = lhs.hasNext() ? lhs.next() : null;
+      this.rhsNext = rhs.hasNext() ? rhs.next() : null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void advance() {
+      if (null != next) {
+        return;
+      }
+      if (null == lhsNext && null == rhsNext) {
+        return;
+      }
+      if (null == rhsNext || null != lhsNext && lhsNext < rhsNext) {
+        next = lhsNext;
+        lhsNext = lhs.hasNext() ? lhs.next() : null;
+      }
+      else if (null == lhsNext || rhsNext < lhsNext) {
+        next = rhsNext;
+        rhsNext = rhs.hasNext() ? rhs.next() : null;
+      }
+      else {
+        next = lhsNext;
+        lhsNext = lhs.hasNext() ? lhs.next() : null;
+        rhsNext = rhs.hasNext() ? rhs.next() : null;
+      }
+    }
+  }
+}
@@ -0,0 +1,238 @@
+package com.github.liblevenshtein.collection.dictionary;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * <p>
+ * Builds a {@link SortedDawg} on all the threads of a {@link ForkJoinPool}.
+ * </p>
+ * <p>
+ * The sorted terms are partitioned by their leading characters: every term in
+ * a partition shares the same prefix, so its suffixes form an independent
+ * sub-DAWG that is built by a single thread.  Partitions that are too large
+ * are split again on their next character.  All the threads minimize their
+ * sub-DAWGs against the same, concurrent register of nodes, so equivalent
+ * nodes are shared across partitions, and the sub-DAWGs are linked beneath
+ * the nodes of their prefixes into a single, minimal DAWG (the same one that
+ * {@link SortedDawg#SortedDawg(Collection)} would build).
+ * </p>
+ * @since 3.1.0
+ */
+public class ParallelDawgBuilder {
+
+  /**
+   * Default number of terms beneath which a partition is built sequentially.
+   */
+  public static final int DEFAULT_THRESHOLD = 1 << 14;
+
+  /**
+   * Pool whose threads build the partitions.
+   */
+  private final ForkJoinPool pool;
+
+  /**
+   * Number of terms beneath which a partition is built sequentially.
+   */
+  private final int threshold;
+
+  /**
+   * Constructs a new {@link ParallelDawgBuilder} over the common pool.
+   */
+  public ParallelDawgBuilder() {
+    this(ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Constructs a new {@link ParallelDawgBuilder}.
+   * @param pool Pool whose threads should build the partitions.
+   */
+  public ParallelDawgBuilder(final ForkJoinPool pool) {
+    this(pool, DEFAULT_THRESHOLD);
+  }
+
+  /**
+   * Constructs a new {@link ParallelDawgBuilder}.
+   * @param pool Pool whose threads should build the partitions.
+   * @param threshold Number of terms beneath which a partition is built
+   *   sequentially.
+   * @throws IllegalArgumentException If the threshold is not positive.
+   */
+  public ParallelDawgBuilder(final ForkJoinPool pool, final int threshold) {
+    if (threshold < 1) {
+      throw new IllegalArgumentException(String.format(
+          "Expected threshold to be positive, but was [%d]", threshold));
+    }
+    this.pool = pool;
+    this.threshold = threshold;
+  }
+
+  /**
+   * Builds a minimal DAWG from some terms.  Duplicate terms are ignored.
+   * @param terms Terms to insert into the DAWG.
+   * @param isSorted Whether the terms are sorted ascendingly, in
+   *   lexicographical order (case-sensitive).
+   * @return A new, finished DAWG containing the terms.
+   */
+  public SortedDawg build(
+      final Collection<String> terms,
+      final boolean isSorted) {
+    final String[] sorted = terms.toArray(new String[terms.size()]);
+    if (!isSorted) {
+      Arrays.parallelSort(sorted);
+    }
+
+    final int size = deduplicate(sorted);
+    final DawgNodeRegistry minimizedNodes = DawgNodeRegistry.concurrent();
+    if (0 == size) {
+      return new SortedDawg(minimizedNodes);
+    }
+
+    final DawgNode root =
+      pool.invoke(new PartitionTask(sorted, 0, size, 0, minimizedNodes));
+    return new SortedDawg(root, size, sorted[size - 1], minimizedNodes);
+  }
+
+  /**
+   * Moves the distinct terms of a sorted array to its front.
+   * @param terms Sorted terms.
+   * @return Number of distinct terms.
+   * @throws IllegalArgumentException If the terms are not sorted.
+   */
+  private static int deduplicate(final String[] terms) {
+    int size = 0;
+    for (int i = 0; i < terms.length; ++i) {
+      final int order = 0 == size ? 1 : terms[i].compareTo(terms[size - 1]);
+      if (order < 0) {
+        throw new IllegalArgumentException(
+            "Due to caveats with the current DAWG implementation, terms must be "
+            + "inserted in ascending order");
+      }
+      if (order > 0) {
+        terms[size++] = terms[i];
+      }
+    }
+    return size;
+  }
+
+  /**
+   * Builds the sub-DAWG of the suffixes of a range of sorted, distinct terms
+   * which share a common prefix.
+   */
+  private final class PartitionTask extends RecursiveTask<DawgNode> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Sorted, distinct terms.
+     */
+    private final String[] terms;
+
+    /**
+     * Index of the first term of the partition.
+     */
+    private final int lower;
+
+    /**
+     * Index one past the last term of the partition.
+     */
+    private final int upper;
+
+    /**
+     * Length of the prefix shared by the terms of the partition.
+     */
+    private final int depth;
+
+    /**
+     * Register shared by every partition.
+     */
+    private final DawgNodeRegistry minimizedNodes;
+
+    /**
+     * Constructs a new {@link PartitionTask}.
+     * @param terms Sorted, distinct terms.
+     * @param lower Index of the first term of the partition.
+     * @param upper Index one past the last term of the partition.
+     * @param depth Length of the prefix shared by the terms of the partition.
+     * @param minimizedNodes Register shared by every partition.
+     */
+    PartitionTask(
+        final String[] terms,
+        final int lower,
+        final int upper,
+        final int depth,
+        final DawgNodeRegistry minimizedNodes) {
+      this.terms = terms;
+      this.lower = lower;
+      this.upper = upper;
+      this.depth = depth;
+      this.minimizedNodes = minimizedNodes;
+    }
+
+    /**
+     * Returns the root of the sub-DAWG, which has not been registered (its
+     * descendants have been).
+     * @return Root of the sub-DAWG of the partition.
+     */
+    @Override
+    protected DawgNode compute() {
+      if (upper - lower <= threshold) {
+        final SortedDawg dawg = new SortedDawg(minimizedNodes);
+        for (int i = lower; i < upper; ++i) {
+          dawg.add(terms[i].substring(depth));
+        }
+        dawg.finish();
+        return dawg.root();
+      }
+
+      // Terms are distinct, so at most one (the first) equals the prefix.
+      int i = lower;
+      final boolean isFinal = terms[i].length() == depth;
+      if (isFinal) {
+        i += 1;
+      }
+
+      final List<PartitionTask> children = new ArrayList<PartitionTask>();
+      while (i < upper) {
+        final int j = endOfGroup(i);
+        children.add(new PartitionTask(terms, i, j, depth + 1, minimizedNodes));
+        i = j;
+      }
+      invokeAll(children);
+
+      final DawgNode node = isFinal ? new FinalDawgNode() : new DawgNode();
+      for (final PartitionTask child : children) {
+        node.addEdge(
+            terms[child.lower].charAt(depth),
+            minimizedNodes.canonical(child.join()));
+      }
+      return node;
+    }
+
+    /**
+     * Finds the end of the group of terms that share the label of some term
+     * at the current depth, by binary search.
+     * @param begin Index of the first term of the group.
+     * @return Index one past the last term of the group.
+     */
+    private int endOfGroup(final int begin) {
+      final char label = terms[begin].charAt(depth);
+      int lower = begin + 1;
+      int upper = this.upper;
+      while (lower < upper) {
+        final int middle = (lower + upper) >>> 1;
+        if (terms[middle].charAt(depth) == label) {
+          lower = middle + 1;
+        }
+        else {
+          upper = middle;
+        }
+      }
+      return lower;
+    }
+  }
+}
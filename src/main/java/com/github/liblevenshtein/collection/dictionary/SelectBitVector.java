@@ -0,0 +1,166 @@
+package com.github.liblevenshtein.collection.dictionary;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Immutable bit vector that finds the position of its k-th zero bit in
+ * (nearly) constant time, with about 0.2 bits of overhead per bit.  The
+ * number of zeros preceding each block of {@link #BLOCK_WORDS} words is
+ * recorded, along with the block of every {@link #SAMPLE_RATE}-th zero, so
+ * {@link #select0(int)} jumps to a nearby block and scans a few words with
+ * {@link Long#bitCount(long)}.
+ * @since 3.1.0
+ */
+final class SelectBitVector implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Number of 64-bit words per block of the rank directory.
+   */
+  private static final int BLOCK_WORDS = 8;
+
+  /**
+   * Number of zeros between consecutive samples of the select directory.
+   */
+  private static final int SAMPLE_RATE = 256;
+
+  /**
+   * Bits of this vector, with the unused bits of the last word set.
+   */
+  private final long[] words;
+
+  /**
+   * Number of bits in this vector.
+   */
+  private final long length;
+
+  /**
+   * Number of zeros preceding each block, followed by the total number of
+   * zeros.
+   */
+  private final int[] zerosBefore;
+
+  /**
+   * Block containing every {@link #SAMPLE_RATE}-th zero.
+   */
+  private final int[] samples;
+
+  /**
+   * Constructs a new {@link SelectBitVector}.
+   * @param words Bits of the vector, which are not copied.
+   * @param length Number of bits in the vector.
+   */
+  SelectBitVector(final long[] words, final long length) {
+    final int wordCount = (int) ((length + 63) >>> 6);
+    this.words = wordCount == words.length ? words : Arrays.copyOf(words, wordCount);
+    this.length = length;
+    if (0 != (length & 63)) {
+      this.words[wordCount - 1] |= -1L << (length & 63);
+    }
+
+    final int blockCount = (wordCount + BLOCK_WORDS - 1) / BLOCK_WORDS;
+    this.zerosBefore = new int[blockCount + 1];
+    int zeros = 0;
+    for (int block = 0; block < blockCount; ++block) {
+      zerosBefore[block] = zeros;
+      final int end = Math.min(wordCount, (block + 1) * BLOCK_WORDS);
+      for (int word = block * BLOCK_WORDS; word < end; ++word) {
+        zeros += Long.bitCount(~this.words[word]);
+      }
+    }
+    zerosBefore[blockCount] = zeros;
+
+    this.samples = new int[(zeros + SAMPLE_RATE - 1) / SAMPLE_RATE];
+    int block = 0;
+    for (int sample = 0; sample < samples.length; ++sample) {
+      final int zero = sample * SAMPLE_RATE;
+      while (zerosBefore[block + 1] <= zero) {
+        block += 1;
+      }
+      samples[sample] = block;
+    }
+  }
+
+  /**
+   * Returns the number of bits in this vector.
+   * @return Number of bits in this vector.
+   */
+  long length() {
+    return length;
+  }
+
+  /**
+   * Returns the number of zero bits in this vector.
+   * @return Number of zero bits in this vector.
+   */
+  int zeros() {
+    return zerosBefore[zerosBefore.length - 1];
+  }
+
+  /**
+   * Returns a bit of this vector.
+   * @param index Index of the bit.
+   * @return Whether the bit is set.
+   */
+  boolean get(final long index) {
+    return 0L != (words[(int) (index >>> 6)] & (1L << index));
+  }
+
+  /**
+   * Finds the position of a zero bit.
+   * @param k Rank of the zero bit, from 0.
+   * @return Position of the k-th zero bit.
+   */
+  long select0(final int k) {
+    int block = samples[k / SAMPLE_RATE];
+    while (zerosBefore[block + 1] <= k) {
+      block += 1;
+    }
+    int remaining = k - zerosBefore[block];
+    int word = block * BLOCK_WORDS;
+    long zeros = ~words[word];
+    int count = Long.bitCount(zeros);
+    while (count <= remaining) {
+      remaining -= count;
+      word += 1;
+      zeros = ~words[word];
+      count = Long.bitCount(zeros);
+    }
+    for (; remaining > 0; --remaining) {
+      zeros &= zeros - 1;
+    }
+    return ((long) word << 6) + Long.numberOfTrailingZeros(zeros);
+  }
+
+  /**
+   * Finds the position of the first zero bit at or after some index.
+   * @param from Index at which to begin searching.
+   * @return Position of the next zero bit, or {@link #length()} if there is
+   *   none.
+   */
+  long nextZero(final long from) {
+    int word = (int) (from >>> 6);
+    if (word >= words.length) {
+      return length;
+    }
+    long zeros = ~words[word] & (-1L << from);
+    while (0L == zeros) {
+      word += 1;
+      if (word == words.length) {
+        return length;
+      }
+      zeros = ~words[word];
+    }
+    return ((long) word << 6) + Long.numberOfTrailingZeros(zeros);
+  }
+
+  /**
+   * Returns the number of bytes occupied by this vector and its directories.
+   * @return Approximate size of this vector, in bytes.
+   */
+  long sizeInBytes() {
+    return 8L * words.length + 4L * zerosBefore.length + 4L * samples.length;
+  }
+}
@@ -1,5 +1,7 @@
 package com.github.liblevenshtein.collection.dictionary;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.util.*;
 
 /**
@@ -42,8 +44,11 @@ public class SortedDawg extends Dawg {
   /** Transitions that have not been checked for redundancy. */
   private Deque<Transition> uncheckedTransitions = new ArrayDeque<Transition>();
 
-  /** Nodes that have been checked for redundancy. */
-  private Map<DawgNode, DawgNode> minimizedNodes = new HashMap<DawgNode, DawgNode>();
+  /**
+   * Nodes that have been checked for redundancy.  It is rebuilt from the graph
+   * upon deserialization.
+   */
+  private transient DawgNodeRegistry minimizedNodes = new DawgNodeRegistry();
 
   /** References the term that was last added. */
   private String previousTerm = "";
@@ -64,9 +69,7 @@ public class SortedDawg extends Dawg {
    */
   public SortedDawg(final Collection<String> terms) {
     this();
-    if (!addAll(terms)) {
-      throw new IllegalStateException("Failed to add all terms");
-    }
+    addAll(terms);
     finish();
   }
 
@@ -81,6 +84,34 @@ public class SortedDawg extends Dawg {
     super(root, size);
   }
 
+  /**
+   * Constructs a new SortedDawg instance that registers its minimized nodes in
+   * a register which may be shared with other DAWGs, so equivalent nodes are
+   * shared among them.
+   * @param minimizedNodes Register of minimized nodes.
+   */
+  SortedDawg(final DawgNodeRegistry minimizedNodes) {
+    this();
+    this.minimizedNodes = minimizedNodes;
+  }
+
+  /**
+   * Constructs a new SortedDawg instance from a finished, minimized graph.
+   * @param root Root node of this dictionary.
+   * @param size Number of terms in this dictionary.
+   * @param previousTerm Greatest term in this dictionary.
+   * @param minimizedNodes Register holding every node below the root.
+   */
+  SortedDawg(
+      final DawgNode root,
+      final int size,
+      final String previousTerm,
+      final DawgNodeRegistry minimizedNodes) {
+    super(root, size);
+    this.previousTerm = previousTerm;
+    this.minimizedNodes = minimizedNodes;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -94,10 +125,19 @@ public class SortedDawg extends Dawg {
 
     // Special Case: Empty String
     if (term.isEmpty()) {
-      root = new FinalDawgNode();
+      if (root.isFinal()) {
+        return false;
+      }
+      root = new FinalDawgNode(root.edges);
+      size += 1;
       return true;
     }
 
+    // Terms are added in order, so a duplicate can only be the previous one
+    if (term.equals(previousTerm)) {
+      return false;
+    }
+
     final int upperBound = term.length() < previousTerm.length()
       ? term.length()
       : previousTerm.length();
@@ -109,6 +149,13 @@ public class SortedDawg extends Dawg {
       i += 1;
     }
 
+    // Once this DAWG has been finished (or if it was built by DawgAlgebra), the
+    // nodes along the previous term have been minimized and may be shared, so
+    // the common prefix is re-opened with copies of them.
+    if (uncheckedTransitions.isEmpty() && i > 0) {
+      reopen(i);
+    }
+
     // Check the unchecked nodes for redundancy, proceeding from the last one
     // down to the common prefix size. Then, truncate the list at that point.
     minimize(i);
@@ -143,6 +190,25 @@ public class SortedDawg extends Dawg {
     minimize(0);
   }
 
+  /**
+   * Finishes processing the pending transitions and compiles this DAWG into a
+   * read-only, array-backed {@link FrozenDawg}.  This DAWG is left intact, so
+   * it may be discarded once the frozen one has been built.
+   * @return A {@link FrozenDawg} containing the same terms as this one.
+   */
+  public synchronized FrozenDawg freeze() {
+    finish();
+    return new FrozenDawg(root, size);
+  }
+
+  /**
+   * Returns the number of nodes that have been checked for redundancy.
+   * @return Number of minimized nodes.
+   */
+  int minimizedNodeCount() {
+    return minimizedNodes.size();
+  }
+
   /**
    * Builds this DAWG in such a way that it remains a minimal trie.
    * @param lowerBound Number of pending transitions to leave for the next
@@ -155,17 +221,51 @@ public class SortedDawg extends Dawg {
       final DawgNode source = transition.source();
       final char label = transition.label();
       final DawgNode target = transition.target();
+      // The children of target have all been minimized, so its signature is
+      // final and may be compared in time proportional to its out-degree.
+      source.addEdge(label, minimizedNodes.canonical(target));
+    }
+  }
 
-      final DawgNode existing = minimizedNodes.get(target);
+  /**
+   * Replaces the minimized nodes along a prefix of the previous term with
+   * unchecked copies of them, so edges may be added beneath the prefix
+   * without modifying nodes that other paths share.  The copies replace the
+   * originals in the graph when they are minimized.
+   * @param length Length of the prefix to re-open.
+   */
+  private void reopen(final int length) {
+    DawgNode node = root;
+    for (int i = 0; i < length; i += 1) {
+      final char label = previousTerm.charAt(i);
+      final DawgNode target = node.transition(label);
+      final Map<Character, DawgNode> edges =
+        new TreeMap<Character, DawgNode>(target.edges);
+      final DawgNode copy = target.isFinal()
+        ? new FinalDawgNode(edges)
+        : new DawgNode(edges);
+      uncheckedTransitions.addFirst(new Transition(node, label, copy));
+      node = copy;
+    }
+  }
 
-      if (null != existing) {
-        source.addEdge(label, existing);
-      }
-      else {
-        source.addEdge(label, target);
-        minimizedNodes.put(target, target);
-      }
+  /**
+   * Restores the minimized nodes after deserialization.  The targets of the
+   * pending transitions have not been minimized yet, nor linked into the
+   * graph, but every node below them or below the root has been.
+   * @param stream Source of this DAWG.
+   * @throws IOException If this DAWG cannot be read.
+   * @throws ClassNotFoundException If a class of this DAWG cannot be found.
+   */
+  private void readObject(final ObjectInputStream stream)
+      throws IOException, ClassNotFoundException {
+    stream.defaultReadObject();
+    final List<DawgNode> ancestors = new ArrayList<DawgNode>();
+    ancestors.add(root);
+    for (final Transition transition : uncheckedTransitions) {
+      ancestors.add(transition.target());
     }
+    minimizedNodes = new DawgNodeRegistry(ancestors);
   }
 
   /**
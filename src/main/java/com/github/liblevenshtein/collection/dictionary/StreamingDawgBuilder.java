@@ -0,0 +1,237 @@
+package com.github.liblevenshtein.collection.dictionary;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * <p>
+ * Builds a {@link SortedDawg} from a source of pre-sorted terms, such as a
+ * file with one term per line, without collecting the terms first.  Each term
+ * is fed to {@link SortedDawg#add(String)} as soon as it is read and may be
+ * reclaimed immediately afterwards, so the peak heap is that of the DAWG and
+ * its pending transitions rather than that of the raw terms.
+ * </p>
+ * <p>
+ * Consecutive duplicate terms are skipped, and terms that are out of order
+ * cause an {@link IllegalArgumentException}.  The progress of the build is
+ * reported to an {@link IDawgBuildListener} after every
+ * {@code reportInterval} terms, and once more when the DAWG is finished.
+ * </p>
+ * @since 3.1.0
+ */
+public class StreamingDawgBuilder {
+
+  /**
+   * Default number of terms between progress reports.
+   */
+  public static final int DEFAULT_REPORT_INTERVAL = 1 << 16;
+
+  /**
+   * Listener that ignores the progress.
+   */
+  private static final IDawgBuildListener NO_LISTENER = new IDawgBuildListener() {
+    @Override
+    public void progress(final DawgBuildProgress progress) {
+      // ignore
+    }
+  };
+
+  /**
+   * Receives the progress of each build.
+   */
+  private final IDawgBuildListener listener;
+
+  /**
+   * Number of terms between progress reports.
+   */
+  private final int reportInterval;
+
+  /**
+   * Constructs a new {@link StreamingDawgBuilder} that does not report its
+   * progress.
+   */
+  public StreamingDawgBuilder() {
+    this(NO_LISTENER);
+  }
+
+  /**
+   * Constructs a new {@link StreamingDawgBuilder}.
+   * @param listener Receives the progress of each build.
+   */
+  public StreamingDawgBuilder(final IDawgBuildListener listener) {
+    this(listener, DEFAULT_REPORT_INTERVAL);
+  }
+
+  /**
+   * Constructs a new {@link StreamingDawgBuilder}.
+   * @param listener Receives the progress of each build.
+   * @param reportInterval Number of terms between progress reports.
+   * @throws IllegalArgumentException If the interval is not positive.
+   */
+  public StreamingDawgBuilder(
+      final IDawgBuildListener listener,
+      final int reportInterval) {
+    if (reportInterval < 1) {
+      throw new IllegalArgumentException(String.format(
+          "Expected reportInterval to be positive, but was [%d]",
+          reportInterval));
+    }
+    this.listener = listener;
+    this.reportInterval = reportInterval;
+  }
+
+  /**
+   * Builds a DAWG from a UTF-8 file of sorted terms, one per line.
+   * @param path File of sorted terms.
+   * @return A new, finished DAWG containing the terms.
+   * @throws IOException If the file cannot be read.
+   */
+  public SortedDawg build(final Path path) throws IOException {
+    return build(path, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Builds a DAWG from a file of sorted terms, one per line.
+   * @param path File of sorted terms.
+   * @param charset Encoding of the file.
+   * @return A new, finished DAWG containing the terms.
+   * @throws IOException If the file cannot be read.
+   */
+  public SortedDawg build(
+      final Path path,
+      final Charset charset) throws IOException {
+    final BufferedReader reader = Files.newBufferedReader(path, charset);
+    try {
+      return build(reader);
+    }
+    finally {
+      reader.close();
+    }
+  }
+
+  /**
+   * Builds a DAWG from a character stream of sorted terms, one per line.  The
+   * reader is not closed.
+   * @param reader Character stream of sorted terms.
+   * @return A new, finished DAWG containing the terms.
+   * @throws IOException If the reader cannot be read.
+   */
+  public SortedDawg build(final Reader reader) throws IOException {
+    final BufferedReader lines = reader instanceof BufferedReader
+      ? (BufferedReader) reader
+      : new BufferedReader(reader);
+    final Build build = new Build();
+    String term;
+    while (null != (term = lines.readLine())) {
+      build.add(term);
+    }
+    return build.finish();
+  }
+
+  /**
+   * Builds a DAWG from a stream of sorted terms.  The stream is consumed, but
+   * not closed.
+   * @param terms Stream of sorted terms.
+   * @return A new, finished DAWG containing the terms.
+   */
+  public SortedDawg build(final Stream<String> terms) {
+    return build(terms.iterator());
+  }
+
+  /**
+   * Builds a DAWG from an iterator over sorted terms.
+   * @param terms Iterator over sorted terms.
+   * @return A new, finished DAWG containing the terms.
+   */
+  public SortedDawg build(final Iterator<String> terms) {
+    final Build build = new Build();
+    while (terms.hasNext()) {
+      build.add(terms.next());
+    }
+    return build.finish();
+  }
+
+  /**
+   * Rebuilds a DAWG from the terms of an existing dictionary, merged with
+   * sorted additions and deletions, in a single pass that neither sorts nor
+   * collects the terms.
+   * @param existing Terms of the dictionary to rebuild, which must be iterated
+   *   in lexicographical order (as every {@link Dawg} and
+   *   {@link AbstractFrozenDawg} is).
+   * @param additions Sorted terms to add.
+   * @param deletions Sorted terms to remove, which take precedence over the
+   *   additions.
+   * @return A new, finished DAWG containing the merged terms.
+   * @throws IllegalArgumentException If any of the terms are out of order.
+   * @see MergingTermIterator
+   */
+  public SortedDawg rebuild(
+      final Iterable<String> existing,
+      final Iterator<String> additions,
+      final Iterator<String> deletions) {
+    return build(
+        new MergingTermIterator(existing.iterator(), additions, deletions));
+  }
+
+  /**
+   * State of a single build.
+   */
+  private final class Build {
+
+    /**
+     * DAWG being built.
+     */
+    private final SortedDawg dawg = new SortedDawg();
+
+    /**
+     * Time at which the build began.
+     */
+    private final long start = System.nanoTime();
+
+    /**
+     * Number of distinct terms added so far.
+     */
+    private long terms = 0L;
+
+    /**
+     * Adds a term to the DAWG, unless it was the last one added.
+     * @param term Term to add.
+     */
+    void add(final String term) {
+      if (!dawg.add(term)) {
+        return;
+      }
+      terms += 1L;
+      if (0L == terms % reportInterval) {
+        report(false);
+      }
+    }
+
+    /**
+     * Finishes the DAWG and reports the final progress.
+     * @return The finished DAWG.
+     */
+    SortedDawg finish() {
+      dawg.finish();
+      report(true);
+      return dawg;
+    }
+
+    /**
+     * Reports the current progress to the listener.
+     * @param finished Whether the DAWG has been finished.
+     */
+    private void report(final boolean finished) {
+      listener.progress(new DawgBuildProgress(
+          terms, dawg.minimizedNodeCount(), System.nanoTime() - start,
+          finished));
+    }
+  }
+}
@@ -0,0 +1,93 @@
+package com.github.liblevenshtein.collection.dictionary;
+
+import java.util.Iterator;
+
+/**
+ * {@link IEdgeCursor} over any dictionary automaton, which iterates over the
+ * labels of each node and follows them one at a time.  It is the fallback
+ * for dictionaries that are not {@link ICursorDictionary}s.
+ * @param <Node> Kind of the nodes of the dictionary.
+ * @since 3.1.0
+ */
+public final class TransitionCursor<Node> implements IEdgeCursor<Node> {
+
+  /**
+   * Transition function of the dictionary.
+   */
+  private final ITransitionFunction<Node> transition;
+
+  /**
+   * Node whose edges are being visited.
+   */
+  private Node node = null;
+
+  /**
+   * Remaining labels of {@link #node}, or null before the first reset.
+   */
+  private Iterator<Character> labels = null;
+
+  /**
+   * Label of the current edge.
+   */
+  private char label = '\0';
+
+  /**
+   * Constructs a new {@link TransitionCursor}.
+   * @param transition Transition function of the dictionary.
+   */
+  public TransitionCursor(final ITransitionFunction<Node> transition) {
+    this.transition = transition;
+  }
+
+  /**
+   * Returns a cursor over the edges of a dictionary, which is its own if it
+   * provides one.
+   * @param dictionary Dictionary whose edges should be visited.
+   * @param <Node> Kind of the nodes of the dictionary.
+   * @return New cursor over the edges of the dictionary.
+   */
+  @SuppressWarnings("unchecked")
+  public static <Node> IEdgeCursor<Node> of(final IDictionary<Node> dictionary) {
+    if (dictionary instanceof ICursorDictionary) {
+      return ((ICursorDictionary<Node>) dictionary).cursor();
+    }
+    return new TransitionCursor<Node>(dictionary);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void reset(final Node node) {
+    this.node = node;
+    this.labels = transition.of(node);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean next() {
+    if (null == labels || !labels.hasNext()) {
+      return false;
+    }
+    label = labels.next();
+    return true;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public char label() {
+    return label;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Node target() {
+    return transition.of(node, label);
+  }
+}
@@ -0,0 +1,295 @@
+package com.github.liblevenshtein.collection.dictionary;
+
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.PriorityQueue;
+
+/**
+ * <p>
+ * Dictionary that associates a weight (e.g. a frequency) with each of its
+ * terms, and that finds the maximum weight of the terms beneath any node along
+ * some path, so searches may visit the heaviest terms first and prune the
+ * subtrees that cannot contain a heavier term than those already found.
+ * </p>
+ * <p>
+ * The nodes of a DAWG are shared by the terms of different prefixes, which may
+ * have different weights, so the weights cannot be stored with the nodes
+ * without undoing its minimization.  They are indexed by the ordinals of the
+ * terms, instead: the terms beneath the node reached by some prefix have the
+ * contiguous ordinals {@code [ordinal, ordinal + count(node))}, where
+ * {@code ordinal} is that of the first of them, so the maximum weight beneath
+ * the node is found with a range-maximum query over a segment tree of the
+ * weights, in time logarithmic in the size of the dictionary.
+ * </p>
+ * @param <Node> Kind of the nodes of the underlying dictionary.
+ * @since 3.1.0
+ */
+public class WeightedDictionary<Node>
+    extends AbstractSet<String>
+    implements IOrdinalDictionary<Node>,
+               ICursorDictionary<Node>,
+               Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Numbers the terms whose weights are stored.
+   */
+  private final IOrdinalDictionary<Node> dictionary;
+
+  /**
+   * Number of terms in {@link #dictionary}.
+   */
+  private final int size;
+
+  /**
+   * Segment tree over the weights: the weight of the term with ordinal
+   * {@code i} is at index {@code size + i}, and every internal node at index
+   * {@code j} holds the maximum of its children, at {@code 2j} and
+   * {@code 2j + 1}.
+   */
+  private final long[] maxWeights;
+
+  /**
+   * Constructs a new {@link WeightedDictionary}.
+   * @param dictionary Numbers the terms of this dictionary.
+   * @param weights Weights of the terms, indexed by their ordinals.
+   * @throws IllegalArgumentException If there is not exactly one weight for
+   *   each term.
+   */
+  public WeightedDictionary(
+      final IOrdinalDictionary<Node> dictionary,
+      final long[] weights) {
+    final int size = dictionary.count(dictionary.root());
+    if (weights.length != size) {
+      throw new IllegalArgumentException(String.format(
+          "Expected [%d] weights, but was [%d]", size, weights.length));
+    }
+    this.dictionary = dictionary;
+    this.size = size;
+    this.maxWeights = new long[size << 1];
+    System.arraycopy(weights, 0, maxWeights, size, size);
+    for (int i = size - 1; i > 0; --i) {
+      maxWeights[i] = Math.max(maxWeights[i << 1], maxWeights[(i << 1) + 1]);
+    }
+  }
+
+  /**
+   * Returns the weight of the term having some ordinal.
+   * @param ordinal Ordinal of the term.
+   * @return Weight of the term.
+   * @throws IndexOutOfBoundsException If the ordinal is not in
+   *   {@code [0, size())}.
+   */
+  public long weight(final int ordinal) {
+    if (ordinal < 0 || ordinal >= size) {
+      throw new IndexOutOfBoundsException(String.format(
+          "Ordinal [%d] is not in [0, %d)", ordinal, size));
+    }
+    return maxWeights[size + ordinal];
+  }
+
+  /**
+   * Returns the weight of a term.
+   * @param term Term whose weight should be returned.
+   * @return Weight of the term, or null if this dictionary does not contain it.
+   */
+  public Long weight(final String term) {
+    final int ordinal = dictionary.ordinal(term);
+    return -1 == ordinal ? null : maxWeights[size + ordinal];
+  }
+
+  /**
+   * Returns the maximum weight of the terms having a range of ordinals.
+   * @param begin Ordinal of the first term in the range.
+   * @param end Ordinal one past that of the last term in the range.
+   * @return Maximum weight of the terms in the range, or
+   *   {@link Long#MIN_VALUE} if it is empty.
+   */
+  public long maxWeight(final int begin, final int end) {
+    long maxWeight = Long.MIN_VALUE;
+    int lower = size + Math.max(0, begin);
+    int upper = size + Math.min(size, end);
+    while (lower < upper) {
+      if (1 == (lower & 1)) {
+        maxWeight = Math.max(maxWeight, maxWeights[lower++]);
+      }
+      if (1 == (upper & 1)) {
+        maxWeight = Math.max(maxWeight, maxWeights[--upper]);
+      }
+      lower >>= 1;
+      upper >>= 1;
+    }
+    return maxWeight;
+  }
+
+  /**
+   * Returns the ordinals of the heaviest terms having a range of ordinals.
+   * The segment tree is searched best-first, so this takes time proportional
+   * to {@code k log(size())}, regardless of the width of the range.
+   * @param begin Ordinal of the first term in the range.
+   * @param end Ordinal one past that of the last term in the range.
+   * @param k Maximum number of ordinals to return.
+   * @return Ordinals of up to k of the heaviest terms in the range, ordered
+   *   by descending weight and then by ascending ordinal.
+   */
+  public int[] topOrdinals(final int begin, final int end, final int k) {
+    // Among subtrees of equal weight, the one with the least ordinal is
+    // expanded first, so a term is never dequeued ahead of a lesser one with
+    // the same weight.
+    final PriorityQueue<Integer> pending = new PriorityQueue<Integer>(
+        64, new Comparator<Integer>() {
+          @Override
+          public int compare(final Integer lhs, final Integer rhs) {
+            final int order = Long.compare(maxWeights[rhs], maxWeights[lhs]);
+            return 0 != order
+              ? order
+              : Integer.compare(firstOrdinal(lhs), firstOrdinal(rhs));
+          }
+        });
+    int lower = size + Math.max(0, begin);
+    int upper = size + Math.min(size, end);
+    while (lower < upper) {
+      if (1 == (lower & 1)) {
+        pending.add(lower++);
+      }
+      if (1 == (upper & 1)) {
+        pending.add(--upper);
+      }
+      lower >>= 1;
+      upper >>= 1;
+    }
+    final int[] ordinals = new int[Math.max(0, Math.min(k, end - begin))];
+    int found = 0;
+    while (found < ordinals.length && !pending.isEmpty()) {
+      final int index = pending.poll();
+      if (index >= size) {
+        ordinals[found++] = index - size;
+      }
+      else {
+        pending.add(index << 1);
+        pending.add((index << 1) + 1);
+      }
+    }
+    return found == ordinals.length ? ordinals : Arrays.copyOf(ordinals, found);
+  }
+
+  /**
+   * Returns the least ordinal beneath a node of the segment tree.  The leaves
+   * need not all be at the same depth, so this is the least index of a leaf
+   * on the first level of its descendants that reaches the leaves.
+   * @param index Index of the node.
+   * @return Least ordinal of the terms beneath the node.
+   */
+  private int firstOrdinal(final int index) {
+    int lower = index;
+    int upper = index + 1;
+    while (upper <= size) {
+      lower <<= 1;
+      upper <<= 1;
+    }
+    return Math.max(lower, size) - size;
+  }
+
+  /**
+   * Finds the terms of this dictionary that begin with some prefix.  The
+   * heaviest of them are found with {@link Completions#top(int)}.
+   * @param prefix Prefix of the terms.
+   * @return Terms of this dictionary that begin with the prefix, which are
+   *   enumerated lazily.
+   */
+  public Completions<Node> completions(final String prefix) {
+    return Completions.of(this, prefix);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Node root() {
+    return dictionary.root();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean at(final Node node) {
+    return dictionary.at(node);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Node of(final Node node, final char label) {
+    return dictionary.of(node, label);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Iterator<Character> of(final Node node) {
+    return dictionary.of(node);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public IEdgeCursor<Node> cursor() {
+    return TransitionCursor.of(dictionary);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int count(final Node node) {
+    return dictionary.count(node);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int ordinal(final String term) {
+    return dictionary.ordinal(term);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String term(final int ordinal) {
+    return dictionary.term(ordinal);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean contains(final Object o) {
+    return dictionary.contains(o);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Iterator<String> iterator() {
+    return dictionary.iterator();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int size() {
+    return size;
+  }
+}
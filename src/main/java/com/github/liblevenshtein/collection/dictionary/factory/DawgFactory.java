@@ -2,11 +2,23 @@ package com.github.liblevenshtein.collection.dictionary.factory;
 
 import com.github.liblevenshtein.collection.dictionary.*;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.Reader;
 import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.stream.Stream;
 
 /**
  * Constructs DAWG instances.
@@ -41,16 +53,274 @@ public class DawgFactory implements Serializable {
     }
 
     if (!isSorted) {
-      if (!(terms instanceof List)) {
-        return build(new ArrayList<String>(terms), false);
+      try {
+        return buildUnsorted(terms.iterator());
+      }
+      catch (final IOException exception) {
+        throw new UncheckedIOException(exception);
       }
-
-      Collections.sort((List<String>) terms);
     }
 
     return new SortedDawg(terms);
   }
 
+  /**
+   * Returns a new DAWG, built from terms in any order.  The terms are sorted
+   * and deduplicated by an {@link ExternalTermSorter}, which spills them to
+   * temporary files once there are too many to sort in memory.
+   * @param terms Iterator over the terms to insert into the DAWG
+   * @return A new DAWG, containing the distinct terms.
+   * @throws IOException If the terms cannot be spilled to disk.
+   */
+  public Dawg buildUnsorted(final Iterator<String> terms) throws IOException {
+    final ExternalTermSorter sorter = new ExternalTermSorter();
+    try {
+      while (terms.hasNext()) {
+        sorter.add(terms.next());
+      }
+      return new StreamingDawgBuilder().build(sorter.sorted());
+    }
+    finally {
+      sorter.close();
+    }
+  }
+
+  /**
+   * Returns a new DAWG, built from a UTF-8 file of sorted terms, one per line,
+   * without reading the whole file into memory.
+   * @param terms File of sorted terms
+   * @return A new DAWG, containing the terms.
+   * @throws IOException If the file cannot be read.
+   * @see StreamingDawgBuilder
+   */
+  public Dawg build(final Path terms) throws IOException {
+    return new StreamingDawgBuilder().build(terms);
+  }
+
+  /**
+   * Returns a new DAWG, built from a character stream of sorted terms, one per
+   * line, without reading the whole stream into memory.
+   * @param terms Character stream of sorted terms
+   * @return A new DAWG, containing the terms.
+   * @throws IOException If the stream cannot be read.
+   * @see StreamingDawgBuilder
+   */
+  public Dawg build(final Reader terms) throws IOException {
+    return new StreamingDawgBuilder().build(terms);
+  }
+
+  /**
+   * Returns a new DAWG, built incrementally from an iterator over sorted terms.
+   * @param terms Iterator over sorted terms
+   * @return A new DAWG, containing the terms.
+   * @see StreamingDawgBuilder
+   */
+  public Dawg build(final Iterator<String> terms) {
+    return new StreamingDawgBuilder().build(terms);
+  }
+
+  /**
+   * Returns a new DAWG, built incrementally from a stream of sorted terms.
+   * @param terms Stream of sorted terms
+   * @return A new DAWG, containing the terms.
+   * @see StreamingDawgBuilder
+   */
+  public Dawg build(final Stream<String> terms) {
+    return new StreamingDawgBuilder().build(terms);
+  }
+
+  /**
+   * Returns a new DAWG with the terms of an existing one, plus some additions
+   * and minus some deletions.  The terms are merged in a single pass, rather
+   * than sorted and inserted again.
+   * @param existing DAWG to rebuild
+   * @param additions Sorted terms to add
+   * @param deletions Sorted terms to remove, which take precedence over the
+   *   additions
+   * @return A new DAWG, containing the merged terms.
+   * @see StreamingDawgBuilder#rebuild(Iterable, Iterator, Iterator)
+   */
+  public Dawg rebuild(
+      final Dawg existing,
+      final Iterator<String> additions,
+      final Iterator<String> deletions) {
+    return new StreamingDawgBuilder().rebuild(existing, additions, deletions);
+  }
+
+  /**
+   * Returns a new DAWG, which is built on all the threads of the common
+   * {@link java.util.concurrent.ForkJoinPool}.  Duplicate terms are ignored.
+   * @param terms Terms to insert into the DAWG
+   * @param isSorted Whether terms has been sorted
+   * @return A new DAWG, containing the terms.
+   * @see ParallelDawgBuilder
+   */
+  public Dawg buildParallel(
+      final Collection<String> terms,
+      final boolean isSorted) {
+    return new ParallelDawgBuilder().build(terms, isSorted);
+  }
+
+  /**
+   * Returns a read-only, array-backed copy of the DAWG.
+   * @param dictionary DAWG to freeze
+   * @return A {@link FrozenDawg} containing the terms of the dictionary.
+   */
+  public FrozenDawg freeze(final Dawg dictionary) {
+    if (dictionary instanceof SortedDawg) {
+      return ((SortedDawg) dictionary).freeze();
+    }
+    return new FrozenDawg(dictionary.root(), dictionary.size());
+  }
+
+  /**
+   * Returns a new, read-only DAWG.
+   * @param terms Terms to insert into the DAWG
+   * @param isSorted Whether terms has been sorted
+   * @return A new {@link FrozenDawg}, containing the terms.
+   */
+  public FrozenDawg buildFrozen(
+      final Collection<String> terms,
+      final boolean isSorted) {
+    if (terms instanceof FrozenDawg) {
+      return (FrozenDawg) terms;
+    }
+    return freeze(build(terms, isSorted));
+  }
+
+  /**
+   * Returns a new, read-only DAWG whose transitions take constant time.
+   * @param terms Terms to insert into the DAWG
+   * @param isSorted Whether terms has been sorted
+   * @return A new {@link DoubleArrayDawg}, containing the terms.
+   */
+  public DoubleArrayDawg buildDoubleArray(
+      final Collection<String> terms,
+      final boolean isSorted) {
+    if (terms instanceof DoubleArrayDawg) {
+      return (DoubleArrayDawg) terms;
+    }
+    return new DoubleArrayDawg(buildFrozen(terms, isSorted));
+  }
+
+  /**
+   * Returns a new, read-only DAWG whose densest nodes follow their edges by
+   * symbol id, with a single array load.
+   * @param terms Terms to insert into the DAWG
+   * @param isSorted Whether terms has been sorted
+   * @return A new {@link AlphabetDawg}, containing the terms.
+   */
+  public AlphabetDawg buildAlphabetDawg(
+      final Collection<String> terms,
+      final boolean isSorted) {
+    if (terms instanceof AlphabetDawg) {
+      return (AlphabetDawg) terms;
+    }
+    return new AlphabetDawg(buildFrozen(terms, isSorted));
+  }
+
+  /**
+   * Returns a new, read-only DAWG whose edges are labeled with code points
+   * rather than UTF-16 code units.
+   * @param terms Terms to insert into the DAWG
+   * @param isSorted Whether terms has been sorted in
+   *   {@link CodePointDawg#CODE_POINT_ORDER} (which differs from the natural
+   *   order of strings with supplementary characters)
+   * @return A new {@link CodePointDawg}, containing the terms.
+   */
+  public CodePointDawg buildCodePoint(
+      final Collection<String> terms,
+      final boolean isSorted) {
+    if (terms instanceof CodePointDawg) {
+      return (CodePointDawg) terms;
+    }
+    if (isSorted) {
+      return new CodePointDawg(terms);
+    }
+    final List<String> sorted = new ArrayList<String>(terms);
+    Collections.sort(sorted, CodePointDawg.CODE_POINT_ORDER);
+    return new CodePointDawg(sorted);
+  }
+
+  /**
+   * Returns a new, read-only trie in a succinct encoding, for term sets too
+   * large for a DAWG.  The trie is encoded directly from the sorted terms,
+   * without building a DAWG, so the build needs no more memory than the trie
+   * and the terms (and a sorted copy of them, if they have not been sorted).
+   * To encode terms that do not fit in memory, stream them from a sorted file
+   * into {@link LoudsTrie#fromSortedTerms(Iterable)}.
+   * @param terms Terms to insert into the trie
+   * @param isSorted Whether terms has been sorted
+   * @return A new {@link LoudsTrie}, containing the terms.
+   */
+  public LoudsTrie buildLouds(
+      final Collection<String> terms,
+      final boolean isSorted) {
+    if (terms instanceof LoudsTrie) {
+      return (LoudsTrie) terms;
+    }
+    if (isSorted) {
+      return LoudsTrie.fromSortedTerms(terms);
+    }
+    final List<String> sorted = new ArrayList<String>(terms);
+    Collections.sort(sorted);
+    return LoudsTrie.fromSortedTerms(sorted);
+  }
+
+  /**
+   * Returns a new, read-only DAWG that associates a weight with each of its
+   * terms.
+   * @param weights Weights of the terms to insert into the DAWG.
+   * @return A new {@link WeightedDictionary} over a {@link FrozenDawg},
+   *   containing the terms and their weights.
+   * @throws IllegalArgumentException If the weight of some term is null.
+   */
+  public WeightedDictionary<Integer> buildWeighted(
+      final Map<String, Long> weights) {
+    final SortedMap<String, Long> sorted = weights instanceof SortedMap
+        && null == ((SortedMap<String, Long>) weights).comparator()
+      ? (SortedMap<String, Long>) weights
+      : new TreeMap<String, Long>(weights);
+    final long[] ordinalWeights = new long[sorted.size()];
+    int ordinal = 0;
+    for (final Map.Entry<String, Long> entry : sorted.entrySet()) {
+      if (null == entry.getValue()) {
+        throw new IllegalArgumentException(String.format(
+            "Expected the weight of [%s] to be non-null", entry.getKey()));
+      }
+      ordinalWeights[ordinal++] = entry.getValue();
+    }
+    return new WeightedDictionary<Integer>(
+        buildFrozen(sorted.keySet(), true), ordinalWeights);
+  }
+
+  /**
+   * Opens a dictionary image by mapping it into memory.  The image is neither
+   * read nor copied onto the heap; its pages are loaded on demand by the OS, so
+   * this takes constant time regardless of the size of the dictionary.
+   * @param image File written by
+   *   {@link com.github.liblevenshtein.serialization.DawgImageWriter}
+   * @return A {@link MappedDawg} over the mapped image.
+   * @throws IOException If the image cannot be mapped.
+   * @throws IllegalArgumentException If the file is not a valid image.
+   */
+  public MappedDawg map(final File image) throws IOException {
+    final RandomAccessFile file = new RandomAccessFile(image, "r");
+    try {
+      final FileChannel channel = file.getChannel();
+      if (channel.size() > Integer.MAX_VALUE) {
+        throw new IOException(String.format(
+            "Dictionary image [%s] exceeds the maximum mappable size", image));
+      }
+      // The mapping remains valid after the channel is closed.
+      return new MappedDawg(
+          channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+    }
+    finally {
+      file.close();
+    }
+  }
+
   /**
    * Returns the final function of the dictionary.
    * @param dictionary Dawg whose final function should be returned
@@ -0,0 +1,140 @@
+package com.github.liblevenshtein.serialization;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StreamCorruptedException;
+import java.util.zip.CRC32;
+
+/**
+ * Buffered reader of the values written by {@link BinaryEncoder}, which
+ * verifies the trailing checksum.  It may read ahead of the last value it
+ * decodes, so the stream should not be read by anything else afterwards.
+ * @since 3.1.0
+ */
+class BinaryDecoder {
+
+  /**
+   * Source of the encoded bytes.
+   */
+  private final InputStream input;
+
+  /**
+   * Bytes that have been read from {@link #input} but not yet decoded.
+   */
+  private final byte[] buffer = new byte[1 << 16];
+
+  /**
+   * Index of the next byte to decode from {@link #buffer}.
+   */
+  private int position = 0;
+
+  /**
+   * Number of bytes in {@link #buffer}.
+   */
+  private int limit = 0;
+
+  /**
+   * Checksum of every byte decoded before the current {@link #buffer}.
+   */
+  private final CRC32 checksum = new CRC32();
+
+  /**
+   * Constructs a new {@link BinaryDecoder}.
+   * @param input Source of the encoded bytes.
+   */
+  BinaryDecoder(final InputStream input) {
+    this.input = input;
+  }
+
+  /**
+   * Reads a single byte.
+   * @return The byte, as an unsigned value.
+   * @throws IOException If the stream ends or cannot be read.
+   */
+  int readByte() throws IOException {
+    if (position == limit) {
+      checksum.update(buffer, 0, limit);
+      position = 0;
+      limit = 0;
+      while (0 == limit) {
+        final int count = input.read(buffer, 0, buffer.length);
+        if (count < 0) {
+          throw new EOFException("Unexpected end of stream");
+        }
+        limit = count;
+      }
+    }
+    return buffer[position++] & 0xFF;
+  }
+
+  /**
+   * Reads a 32-bit integer in big-endian order.
+   * @return The integer.
+   * @throws IOException If the stream ends or cannot be read.
+   */
+  int readInt() throws IOException {
+    return readByte() << 24 | readByte() << 16 | readByte() << 8 | readByte();
+  }
+
+  /**
+   * Reads an unsigned varint.
+   * @return The integer.
+   * @throws IOException If the stream ends, cannot be read, or holds a varint
+   *   longer than 32 bits.
+   */
+  int readVarInt() throws IOException {
+    int value = 0;
+    for (int shift = 0; shift < 35; shift += 7) {
+      final int b = readByte();
+      value |= (b & 0x7F) << shift;
+      if (0 == (b & 0x80)) {
+        return value;
+      }
+    }
+    throw new StreamCorruptedException("Malformed varint");
+  }
+
+  /**
+   * Reads a signed varint.
+   * @return The integer.
+   * @throws IOException If the stream ends or cannot be read.
+   */
+  int readSignedVarInt() throws IOException {
+    final int value = readVarInt();
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  /**
+   * Reads a string.
+   * @return The string.
+   * @throws IOException If the stream ends or cannot be read.
+   */
+  String readString() throws IOException {
+    final int length = readVarInt();
+    final StringBuilder value = new StringBuilder(length);
+    for (int i = 0; i < length; ++i) {
+      value.append((char) readVarInt());
+    }
+    return value.toString();
+  }
+
+  /**
+   * Reads the trailing checksum and compares it against the checksum of
+   * everything decoded so far.
+   * @throws IOException If the stream ends or cannot be read, or the checksums
+   *   differ.
+   */
+  void finish() throws IOException {
+    checksum.update(buffer, 0, position);
+    final int expected = (int) checksum.getValue();
+    // Keep the checksum bytes out of the running checksum.
+    checksum.reset();
+    final int actual = readInt();
+    if (expected != actual) {
+      throw new StreamCorruptedException(String.format(
+          "Checksum mismatch: expected [%08x], but found [%08x]",
+          expected, actual));
+    }
+  }
+}
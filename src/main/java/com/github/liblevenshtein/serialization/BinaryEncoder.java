@@ -0,0 +1,130 @@
+package com.github.liblevenshtein.serialization;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.CRC32;
+
+/**
+ * Buffered writer of fixed-width integers and variable-length integers
+ * (varints), which keeps a running CRC-32 checksum of everything it writes.
+ * @since 3.1.0
+ */
+class BinaryEncoder {
+
+  /**
+   * Destination of the encoded bytes.
+   */
+  private final OutputStream output;
+
+  /**
+   * Bytes that have been encoded but not yet written to {@link #output}.
+   */
+  private final byte[] buffer = new byte[1 << 16];
+
+  /**
+   * Number of bytes in {@link #buffer}.
+   */
+  private int length = 0;
+
+  /**
+   * Checksum of every byte encoded so far.
+   */
+  private final CRC32 checksum = new CRC32();
+
+  /**
+   * Constructs a new {@link BinaryEncoder}.
+   * @param output Destination of the encoded bytes.
+   */
+  BinaryEncoder(final OutputStream output) {
+    this.output = output;
+  }
+
+  /**
+   * Writes a single byte.
+   * @param value Byte to write (only the low 8 bits are written).
+   * @throws IOException If the byte cannot be written.
+   */
+  void writeByte(final int value) throws IOException {
+    if (length == buffer.length) {
+      drain();
+    }
+    buffer[length++] = (byte) value;
+  }
+
+  /**
+   * Writes a 32-bit integer in big-endian order.
+   * @param value Integer to write.
+   * @throws IOException If the integer cannot be written.
+   */
+  void writeInt(final int value) throws IOException {
+    writeByte(value >>> 24);
+    writeByte(value >>> 16);
+    writeByte(value >>> 8);
+    writeByte(value);
+  }
+
+  /**
+   * Writes an unsigned integer in 7-bit groups, least-significant first, such
+   * that small values take a single byte.
+   * @param value Integer to write, treated as unsigned.
+   * @throws IOException If the integer cannot be written.
+   */
+  void writeVarInt(final int value) throws IOException {
+    int remaining = value;
+    while (0 != (remaining & ~0x7F)) {
+      writeByte((remaining & 0x7F) | 0x80);
+      remaining >>>= 7;
+    }
+    writeByte(remaining);
+  }
+
+  /**
+   * Writes a signed integer as a varint, mapping values of small magnitude to
+   * small unsigned ones (0, -1, 1, -2, ... become 0, 1, 2, 3, ...).
+   * @param value Integer to write.
+   * @throws IOException If the integer cannot be written.
+   */
+  void writeSignedVarInt(final int value) throws IOException {
+    writeVarInt((value << 1) ^ (value >> 31));
+  }
+
+  /**
+   * Writes a string as its length followed by its characters, all as varints.
+   * @param value String to write.
+   * @throws IOException If the string cannot be written.
+   */
+  void writeString(final String value) throws IOException {
+    writeVarInt(value.length());
+    for (int i = 0; i < value.length(); ++i) {
+      writeVarInt(value.charAt(i));
+    }
+  }
+
+  /**
+   * Writes the checksum of everything encoded so far, and flushes the output.
+   * The checksum is not itself included in the checksum.
+   * @throws IOException If the checksum cannot be written.
+   */
+  void finish() throws IOException {
+    drain();
+    final int value = (int) checksum.getValue();
+    buffer[length++] = (byte) (value >>> 24);
+    buffer[length++] = (byte) (value >>> 16);
+    buffer[length++] = (byte) (value >>> 8);
+    buffer[length++] = (byte) value;
+    output.write(buffer, 0, length);
+    length = 0;
+    output.flush();
+  }
+
+  /**
+   * Writes the buffered bytes to {@link #output}, and adds them to the
+   * checksum.
+   * @throws IOException If the bytes cannot be written.
+   */
+  private void drain() throws IOException {
+    checksum.update(buffer, 0, length);
+    output.write(buffer, 0, length);
+    length = 0;
+  }
+}
@@ -0,0 +1,100 @@
+package com.github.liblevenshtein.serialization;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+import com.github.liblevenshtein.collection.dictionary.AbstractFrozenDawg;
+import com.github.liblevenshtein.collection.dictionary.MappedDawg;
+
+/**
+ * Writes frozen DAWGs as binary dictionary images, which may be opened with
+ * zero-copy by {@link MappedDawg}.  See {@link MappedDawg} for the layout.
+ * @since 3.1.0
+ */
+public class DawgImageWriter {
+
+  /**
+   * Writes the image of a DAWG to a file.  The image is written to a temporary
+   * file in the same directory, first, which then atomically replaces the
+   * target, so processes that have mapped a previous image of the same file
+   * never observe a partially-written one.
+   * @param dawg DAWG to write.
+   * @param file Destination of the image.
+   * @throws IOException If the image cannot be written.
+   */
+  public void write(final AbstractFrozenDawg dawg, final File file)
+      throws IOException {
+    final File directory = file.getAbsoluteFile().getParentFile();
+    final File temp = File.createTempFile(file.getName(), ".tmp", directory);
+    try {
+      final OutputStream output = new FileOutputStream(temp);
+      try {
+        write(dawg, output);
+      }
+      finally {
+        output.close();
+      }
+      Files.move(temp.toPath(), file.toPath(),
+          StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+    }
+    finally {
+      if (temp.exists() && !temp.delete()) {
+        temp.deleteOnExit();
+      }
+    }
+  }
+
+  /**
+   * Writes the image of a DAWG to a stream.  The stream is flushed, but not
+   * closed.
+   * @param dawg DAWG to write.
+   * @param stream Destination of the image.
+   * @throws IOException If the image cannot be written.
+   */
+  public void write(final AbstractFrozenDawg dawg, final OutputStream stream)
+      throws IOException {
+    final int nodeCount = dawg.nodeCount();
+    final int edgeCount = dawg.edgeCount();
+    final DataOutputStream output =
+      new DataOutputStream(new BufferedOutputStream(stream, 1 << 16));
+
+    output.writeInt(MappedDawg.MAGIC);
+    output.writeInt(MappedDawg.VERSION);
+    output.writeInt(dawg.size());
+    output.writeInt(nodeCount);
+    output.writeInt(edgeCount);
+    output.writeInt(0);
+
+    for (int node = 0; node < nodeCount; ++node) {
+      output.writeInt(dawg.edgesBegin(node));
+    }
+    output.writeInt(edgeCount);
+
+    for (int word = 0; word < nodeCount; word += 32) {
+      int bits = 0;
+      for (int node = word; node < word + 32 && node < nodeCount; ++node) {
+        if (dawg.isFinal(node)) {
+          bits |= 1 << (node & 31);
+        }
+      }
+      output.writeInt(bits);
+    }
+
+    for (int edge = 0; edge < edgeCount; ++edge) {
+      output.writeInt(dawg.target(edge));
+    }
+
+    for (int edge = 0; edge < edgeCount; ++edge) {
+      output.writeChar(dawg.label(edge));
+    }
+
+    output.flush();
+  }
+}
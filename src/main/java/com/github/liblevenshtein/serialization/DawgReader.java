@@ -0,0 +1,152 @@
+package com.github.liblevenshtein.serialization;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StreamCorruptedException;
+import java.util.Arrays;
+import java.util.BitSet;
+
+import com.github.liblevenshtein.collection.dictionary.FrozenDawg;
+
+/**
+ * Reads dictionaries written by {@link DawgWriter} (see it for the format)
+ * directly into the arrays of a {@link FrozenDawg}.
+ * @since 3.1.0
+ */
+public class DawgReader {
+
+  /**
+   * Number of nodes and edges the arrays of a DAWG are allocated for before
+   * they begin to grow.
+   */
+  private static final int INITIAL_CAPACITY = 1024;
+
+  /**
+   * Reads a dictionary from a stream, and verifies its checksum.  The reader
+   * may buffer bytes beyond the end of the dictionary, and does not close the
+   * stream.
+   * @param stream Source of the dictionary.
+   * @return The dictionary.
+   * @throws IOException If the dictionary cannot be read, or is corrupt.
+   */
+  public FrozenDawg read(final InputStream stream) throws IOException {
+    final BinaryDecoder decoder = new BinaryDecoder(stream);
+    readHeader(decoder, DawgWriter.MAGIC, DawgWriter.VERSION);
+    final FrozenDawg dawg = readBody(decoder);
+    decoder.finish();
+    return dawg;
+  }
+
+  /**
+   * Reads and validates the magic number and version of a stream.
+   * @param decoder Source of the header.
+   * @param magic Expected magic number.
+   * @param version Expected version.
+   * @throws IOException If the header cannot be read, or is not the expected
+   *   one.
+   */
+  static void readHeader(
+      final BinaryDecoder decoder,
+      final int magic,
+      final int version) throws IOException {
+    if (magic != decoder.readInt()) {
+      throw new StreamCorruptedException("Unrecognized stream header");
+    }
+    final int actual = decoder.readVarInt();
+    if (version != actual) {
+      throw new StreamCorruptedException(String.format(
+          "Unsupported format version [%d], expected [%d]", actual, version));
+    }
+  }
+
+  /**
+   * Reads the nodes and edges of a DAWG, without the header or checksum.  The
+   * dimensions in the stream are not trusted before its checksum is verified,
+   * so the arrays grow with the nodes and edges actually read (to at most the
+   * declared dimensions), rather than being allocated from them up front.
+   * @param decoder Source of the DAWG.
+   * @return The DAWG.
+   * @throws IOException If the DAWG cannot be read, or is corrupt.
+   */
+  FrozenDawg readBody(final BinaryDecoder decoder) throws IOException {
+    final int size = decoder.readVarInt();
+    final int nodeCount = decoder.readVarInt();
+    final int edgeCount = decoder.readVarInt();
+    if (size < 0 || nodeCount < 1 || nodeCount == Integer.MAX_VALUE
+        || edgeCount < 0) {
+      throw new StreamCorruptedException("Invalid dictionary dimensions");
+    }
+
+    int[] edgeOffsets = new int[Math.min(nodeCount, INITIAL_CAPACITY) + 1];
+    char[] labels = new char[Math.min(edgeCount, INITIAL_CAPACITY)];
+    int[] targets = new int[labels.length];
+    final BitSet finalNodes = new BitSet();
+
+    int edge = 0;
+    int node = 0;
+    try {
+      for (; node < nodeCount; ++node) {
+        final int header = decoder.readVarInt();
+        final int end = edge + (header >>> 1);
+        if (end < edge || end > edgeCount) {
+          throw new StreamCorruptedException("Too many edges");
+        }
+        if (node == edgeOffsets.length) {
+          edgeOffsets = Arrays.copyOf(edgeOffsets, grow(node, nodeCount + 1));
+        }
+        edgeOffsets[node] = edge;
+        if (0 != (header & 1)) {
+          finalNodes.set(node);
+        }
+        int label = 0;
+        for (final int begin = edge; edge < end; ++edge) {
+          if (edge == labels.length) {
+            final int capacity = grow(edge, edgeCount);
+            labels = Arrays.copyOf(labels, capacity);
+            targets = Arrays.copyOf(targets, capacity);
+          }
+          final int delta = decoder.readVarInt();
+          label += delta;
+          final int target = node + decoder.readSignedVarInt();
+          // Labels must ascend strictly within each node for binary searches.
+          if (delta < 0 || (0 == delta && edge > begin)
+              || label > Character.MAX_VALUE
+              || target < 0 || target >= nodeCount) {
+            throw new StreamCorruptedException("Invalid edge");
+          }
+          labels[edge] = (char) label;
+          targets[edge] = target;
+        }
+      }
+    }
+    catch (final EOFException exception) {
+      final StreamCorruptedException corrupted =
+        new StreamCorruptedException(String.format(
+            "Expected [%d] nodes and [%d] edges, but the stream ended after "
+            + "[%d] nodes and [%d] edges", nodeCount, edgeCount, node, edge));
+      corrupted.initCause(exception);
+      throw corrupted;
+    }
+
+    if (edge != edgeCount) {
+      throw new StreamCorruptedException("Too few edges");
+    }
+    if (edgeOffsets.length == nodeCount) {
+      edgeOffsets = Arrays.copyOf(edgeOffsets, nodeCount + 1);
+    }
+    edgeOffsets[nodeCount] = edgeCount;
+
+    return new FrozenDawg(edgeOffsets, labels, targets, finalNodes, size);
+  }
+
+  /**
+   * Returns the next capacity of an array that has filled up.
+   * @param length Current length of the array.
+   * @param limit Greatest length the array may need.
+   * @return Larger length of the array, which does not exceed the limit.
+   */
+  private static int grow(final int length, final int limit) {
+    return (int) Math.min(2L * Math.max(length, 1), limit);
+  }
+}
@@ -0,0 +1,108 @@
+package com.github.liblevenshtein.serialization;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+
+import com.github.liblevenshtein.collection.dictionary.AbstractFrozenDawg;
+import com.github.liblevenshtein.collection.dictionary.Dawg;
+import com.github.liblevenshtein.collection.dictionary.IDictionary;
+import com.github.liblevenshtein.collection.dictionary.factory.DawgFactory;
+
+/**
+ * <p>
+ * Writes dictionaries in a compact, binary format, which is read back by
+ * {@link DawgReader}.  Unlike {@link java.io.ObjectOutputStream}, it writes no
+ * class descriptors and does not recurse through the graph: the nodes of the
+ * minimized DAWG are written iteratively, in the order of their ids, as
+ * follows:
+ * </p>
+ * <pre>
+ * int     magic      ({@link #MAGIC})
+ * varint  version    ({@link #VERSION})
+ * varint  size       (number of terms)
+ * varint  nodeCount
+ * varint  edgeCount
+ * for each node:
+ *   varint  edges &lt;&lt; 1 | isFinal
+ *   for each edge:
+ *     varint        label - (label of the previous edge of the node, or 0)
+ *     signed varint target - node
+ * int     CRC-32 of all the preceding bytes
+ * </pre>
+ * @since 3.1.0
+ */
+public class DawgWriter {
+
+  /**
+   * Identifies a serialized dictionary ("LDWB" in ASCII).
+   */
+  public static final int MAGIC = 0x4C445742;
+
+  /**
+   * Version of the format written by this class.
+   */
+  public static final int VERSION = 1;
+
+  /**
+   * Builds DAWGs from dictionaries that are not already DAWGs.
+   */
+  private final DawgFactory dawgFactory = new DawgFactory();
+
+  /**
+   * Writes a dictionary to a stream.  The stream is flushed, but not closed.
+   * @param dictionary Dictionary to write.
+   * @param stream Destination of the dictionary.
+   * @throws IOException If the dictionary cannot be written.
+   */
+  public void write(final IDictionary<?> dictionary, final OutputStream stream)
+      throws IOException {
+    final BinaryEncoder encoder = new BinaryEncoder(stream);
+    encoder.writeInt(MAGIC);
+    encoder.writeVarInt(VERSION);
+    writeBody(encoder, freeze(dictionary));
+    encoder.finish();
+  }
+
+  /**
+   * Returns an array-backed copy of a dictionary (or the dictionary, itself,
+   * if it is already array-backed), whose node ids may be written directly.
+   * @param dictionary Dictionary to freeze.
+   * @return Array-backed equivalent of the dictionary.
+   */
+  AbstractFrozenDawg freeze(final IDictionary<?> dictionary) {
+    if (dictionary instanceof AbstractFrozenDawg) {
+      return (AbstractFrozenDawg) dictionary;
+    }
+    if (dictionary instanceof Dawg) {
+      return dawgFactory.freeze((Dawg) dictionary);
+    }
+    return dawgFactory.buildFrozen(new ArrayList<String>(dictionary), false);
+  }
+
+  /**
+   * Writes the nodes and edges of a DAWG, without the header or checksum.
+   * @param encoder Destination of the DAWG.
+   * @param dawg DAWG to write.
+   * @throws IOException If the DAWG cannot be written.
+   */
+  void writeBody(final BinaryEncoder encoder, final AbstractFrozenDawg dawg)
+      throws IOException {
+    final int nodeCount = dawg.nodeCount();
+    encoder.writeVarInt(dawg.size());
+    encoder.writeVarInt(nodeCount);
+    encoder.writeVarInt(dawg.edgeCount());
+    for (int node = 0; node < nodeCount; ++node) {
+      final int begin = dawg.edgesBegin(node);
+      final int end = dawg.edgesEnd(node);
+      encoder.writeVarInt((end - begin) << 1 | (dawg.isFinal(node) ? 1 : 0));
+      char previous = 0;
+      for (int edge = begin; edge < end; ++edge) {
+        final char label = dawg.label(edge);
+        encoder.writeVarInt(label - previous);
+        encoder.writeSignedVarInt(dawg.target(edge) - node);
+        previous = label;
+      }
+    }
+  }
+}
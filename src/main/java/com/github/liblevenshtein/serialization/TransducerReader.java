@@ -0,0 +1,62 @@
+package com.github.liblevenshtein.serialization;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StreamCorruptedException;
+
+import com.github.liblevenshtein.collection.dictionary.FrozenDawg;
+import com.github.liblevenshtein.transducer.Algorithm;
+import com.github.liblevenshtein.transducer.ITransducer;
+import com.github.liblevenshtein.transducer.factory.TransducerBuilder;
+
+/**
+ * Reads transducers written by {@link TransducerWriter} (see it for the
+ * format), and rebuilds them over {@link FrozenDawg} dictionaries.
+ * @since 3.1.0
+ */
+public class TransducerReader {
+
+  /**
+   * Reads the dictionary of the transducer.
+   */
+  private final DawgReader dawgReader = new DawgReader();
+
+  /**
+   * Reads a transducer from a stream, and verifies its checksum.  The reader
+   * may buffer bytes beyond the end of the transducer, and does not close the
+   * stream.
+   * @param stream Source of the transducer.
+   * @param <CandidateType> Implicit type of the spelling candidates generated
+   *   by the transducer.
+   * @return The transducer.
+   * @throws IOException If the transducer cannot be read, or is corrupt.
+   */
+  public <CandidateType> ITransducer<CandidateType> read(final InputStream stream)
+      throws IOException {
+    final BinaryDecoder decoder = new BinaryDecoder(stream);
+    DawgReader.readHeader(decoder, TransducerWriter.MAGIC, TransducerWriter.VERSION);
+
+    final Algorithm algorithm;
+    final String name = decoder.readString();
+    try {
+      algorithm = Algorithm.valueOf(name);
+    }
+    catch (final IllegalArgumentException exception) {
+      throw new StreamCorruptedException(
+          String.format("Unsupported algorithm [%s]", name));
+    }
+
+    final int maxDistance = decoder.readVarInt();
+    final int flags = decoder.readByte();
+    final FrozenDawg dictionary = dawgReader.readBody(decoder);
+    decoder.finish();
+
+    return new TransducerBuilder()
+      .algorithm(algorithm)
+      .defaultMaxDistance(maxDistance)
+      .includeDistance(0 != (flags & TransducerWriter.INCLUDE_DISTANCE))
+      .includeOrdinal(0 != (flags & TransducerWriter.INCLUDE_ORDINAL))
+      .dictionary(dictionary)
+      .build();
+  }
+}
@@ -0,0 +1,87 @@
+package com.github.liblevenshtein.serialization;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.github.liblevenshtein.transducer.ITransducer;
+import com.github.liblevenshtein.transducer.Transducer;
+import com.github.liblevenshtein.transducer.TransducerAttributes;
+
+/**
+ * <p>
+ * Writes transducers in a compact, binary format, which is read back by
+ * {@link TransducerReader}.  Only the configuration from which the transducer
+ * was built is written, followed by its dictionary; the algorithm-specific
+ * factories and functions are rebuilt from the configuration when it is read:
+ * </p>
+ * <pre>
+ * int     magic            ({@link #MAGIC})
+ * varint  version          ({@link #VERSION})
+ * string  algorithm        (name of the {@link com.github.liblevenshtein.transducer.Algorithm})
+ * varint  maxDistance      (default maximum distance)
+ * byte    flags            (1 if candidates include their distances, plus 2
+ *                           if they include their ordinals)
+ * ...     dictionary       (as written by {@link DawgWriter}, without its
+ *                           header or checksum)
+ * int     CRC-32 of all the preceding bytes
+ * </pre>
+ * @since 3.1.0
+ */
+public class TransducerWriter {
+
+  /**
+   * Identifies a serialized transducer ("LTRB" in ASCII).
+   */
+  public static final int MAGIC = 0x4C545242;
+
+  /**
+   * Version of the format written by this class.
+   */
+  public static final int VERSION = 1;
+
+  /**
+   * Flag set when candidates include their distances.
+   */
+  static final int INCLUDE_DISTANCE = 1;
+
+  /**
+   * Flag set when candidates include their ordinals.
+   */
+  static final int INCLUDE_ORDINAL = 2;
+
+  /**
+   * Writes the dictionary of the transducer.
+   */
+  private final DawgWriter dawgWriter = new DawgWriter();
+
+  /**
+   * Writes a transducer to a stream.  The stream is flushed, but not closed.
+   * @param transducer Transducer to write, as built by
+   *   {@link com.github.liblevenshtein.transducer.factory.TransducerBuilder}.
+   * @param stream Destination of the transducer.
+   * @throws IOException If the transducer cannot be written.
+   * @throws IllegalArgumentException If the transducer is not a
+   *   {@link Transducer}.
+   */
+  public void write(final ITransducer<?> transducer, final OutputStream stream)
+      throws IOException {
+    if (!(transducer instanceof Transducer)) {
+      throw new IllegalArgumentException(String.format(
+          "Unsupported transducer type [%s]", transducer.getClass().getName()));
+    }
+
+    final TransducerAttributes<?, ?> attributes =
+      ((Transducer<?, ?>) transducer).attributes();
+
+    final BinaryEncoder encoder = new BinaryEncoder(stream);
+    encoder.writeInt(MAGIC);
+    encoder.writeVarInt(VERSION);
+    encoder.writeString(attributes.algorithm().name());
+    encoder.writeVarInt(attributes.maxDistance());
+    encoder.writeByte(
+        (attributes.includeDistance() ? INCLUDE_DISTANCE : 0)
+        | (attributes.includeOrdinal() ? INCLUDE_ORDINAL : 0));
+    dawgWriter.writeBody(encoder, dawgWriter.freeze(attributes.dictionary()));
+    encoder.finish();
+  }
+}
@@ -0,0 +1,6 @@
+/**
+ * Binary formats for storing dictionaries and transducers, and for loading
+ * them back.
+ * @since 3.1.0
+ */
+package com.github.liblevenshtein.serialization;
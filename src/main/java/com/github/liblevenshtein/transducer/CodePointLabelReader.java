@@ -0,0 +1,100 @@
+package com.github.liblevenshtein.transducer;
+
+import com.github.liblevenshtein.collection.dictionary.CodePointDawg;
+
+/**
+ * Reads the labels of a {@link CodePointDawg}, and of its query terms, as
+ * code points, so each supplementary character is a single label.
+ * @since 3.1.0
+ */
+final class CodePointLabelReader implements ILabelReader<Integer> {
+
+  /**
+   * Dictionary whose labels are read.
+   */
+  private final CodePointDawg dictionary;
+
+  /**
+   * Index of the current edge.
+   */
+  private int edge = 0;
+
+  /**
+   * Index one past the last edge of the current node.
+   */
+  private int end = 0;
+
+  /**
+   * Constructs a reader over a dictionary of code points.
+   * @param dictionary Dictionary whose labels should be read.
+   */
+  CodePointLabelReader(final CodePointDawg dictionary) {
+    this.dictionary = dictionary;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Integer root() {
+    return dictionary.root();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean isFinal(final Integer node) {
+    return dictionary.isFinal(node);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int[] decode(final String term) {
+    final int[] labels = new int[term.codePointCount(0, term.length())];
+    for (int offset = 0, index = 0; index < labels.length; ++index) {
+      labels[index] = term.codePointAt(offset);
+      offset += Character.charCount(labels[index]);
+    }
+    return labels;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void reset(final Integer node) {
+    this.edge = dictionary.edgesBegin(node) - 1;
+    this.end = dictionary.edgesEnd(node);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean next() {
+    if (edge + 1 < end) {
+      edge += 1;
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int label() {
+    return dictionary.label(edge);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Integer target() {
+    return dictionary.target(edge);
+  }
+}
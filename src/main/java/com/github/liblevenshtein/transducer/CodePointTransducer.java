@@ -0,0 +1,84 @@
+package com.github.liblevenshtein.transducer;
+
+import java.io.Serializable;
+
+import com.github.liblevenshtein.collection.dictionary.CodePointDawg;
+
+/**
+ * Levenshtein transducer over a {@link CodePointDawg}, which compares query
+ * terms with the dictionary by code point rather than by UTF-16 code unit, so
+ * each supplementary character counts as a single edit.  The distances of
+ * the spelling candidates are measured in code points, as well.
+ * @param <CandidateType> Kind of the spelling candidates returned from the
+ *   dictionary.
+ * @since 3.1.0
+ */
+public class CodePointTransducer<CandidateType>
+  implements ITransducer<CandidateType>, Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Dictionary whose terms are searched.
+   */
+  private final CodePointDawg dictionary;
+
+  /**
+   * Attributes of the Levenshtein automaton (its dictionary attributes are
+   * unused).
+   */
+  private final TransducerAttributes<?, CandidateType> attributes;
+
+  /**
+   * Constructs a new {@link CodePointTransducer}.
+   * @param dictionary Dictionary whose terms should be searched.
+   * @param attributes Attributes of the Levenshtein automaton.
+   */
+  public CodePointTransducer(
+      final CodePointDawg dictionary,
+      final TransducerAttributes<?, CandidateType> attributes) {
+    this.dictionary = dictionary;
+    this.attributes = attributes;
+  }
+
+  /**
+   * Returns the dictionary whose terms are searched.
+   * @return Dictionary of this transducer.
+   */
+  public CodePointDawg dictionary() {
+    return dictionary;
+  }
+
+  /**
+   * Returns the attributes of the Levenshtein automaton.
+   * @return Attributes of the Levenshtein automaton.
+   */
+  public TransducerAttributes<?, CandidateType> attributes() {
+    return attributes;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Iterable<CandidateType> transduce(final String term) {
+    return transduce(term, attributes.maxDistance());
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Iterable<CandidateType> transduce(
+      final String term,
+      final int maxDistance) {
+    return new LazyTransducerCollection<Integer, CandidateType>(
+        term, maxDistance, attributes, new CodePointLabelReader(dictionary));
+  }
+
+  @Override
+  public String toString() {
+    return String.format("CodePointTransducer(dictionary=%s, maxDistance=%d)",
+        dictionary, attributes.maxDistance());
+  }
+}
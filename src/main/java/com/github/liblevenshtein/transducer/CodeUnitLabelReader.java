@@ -0,0 +1,112 @@
+package com.github.liblevenshtein.transducer;
+
+import com.github.liblevenshtein.collection.dictionary.IEdgeCursor;
+import com.github.liblevenshtein.collection.dictionary.IFinalFunction;
+import com.github.liblevenshtein.collection.dictionary.TransitionCursor;
+
+/**
+ * Reads the labels of a character dictionary, and of its query terms, as
+ * UTF-16 code units.
+ * @param <DictionaryNode> Kind of the nodes of the dictionary.
+ * @since 3.1.0
+ */
+final class CodeUnitLabelReader<DictionaryNode>
+    implements ILabelReader<DictionaryNode> {
+
+  /**
+   * Root of the dictionary.
+   */
+  private final DictionaryNode root;
+
+  /**
+   * Finality of the dictionary nodes.
+   */
+  private final IFinalFunction<DictionaryNode> isFinal;
+
+  /**
+   * Outgoing edges of the current node.
+   */
+  private final IEdgeCursor<DictionaryNode> edges;
+
+  /**
+   * Constructs a reader over the dictionary of a transducer.
+   * @param attributes Attributes of the transducer.
+   */
+  CodeUnitLabelReader(final TransducerAttributes<DictionaryNode, ?> attributes) {
+    // Transducers may be assembled from a transition function alone, without
+    // a dictionary to provide a cursor.  Otherwise, the root is read from the
+    // dictionary for each query, so dictionaries that replace their root (e.g.
+    // an OverlayDictionary, once it has been compacted) are searched at their
+    // latest version.
+    if (null != attributes.dictionary()) {
+      this.root = attributes.dictionary().root();
+      this.edges = TransitionCursor.of(attributes.dictionary());
+    }
+    else {
+      this.root = attributes.dictionaryRoot();
+      this.edges = new TransitionCursor<DictionaryNode>(
+          attributes.dictionaryTransition());
+    }
+    this.isFinal = attributes.isFinal();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public DictionaryNode root() {
+    return root;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean isFinal(final DictionaryNode node) {
+    return isFinal.at(node);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int[] decode(final String term) {
+    final int[] labels = new int[term.length()];
+    for (int i = 0; i < labels.length; ++i) {
+      labels[i] = term.charAt(i);
+    }
+    return labels;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void reset(final DictionaryNode node) {
+    edges.reset(node);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean next() {
+    return edges.next();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int label() {
+    return edges.label();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public DictionaryNode target() {
+    return edges.target();
+  }
+}
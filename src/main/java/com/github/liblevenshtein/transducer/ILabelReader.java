@@ -0,0 +1,63 @@
+package com.github.liblevenshtein.transducer;
+
+/**
+ * <p>
+ * Strategy by which {@link LazyTransducerCollection} reads the labels of a
+ * dictionary and of its query terms, which must be read in the same units
+ * (e.g. UTF-16 code units, or code points).  The length of a query, and the
+ * distances of its candidates, are measured in those units.
+ * </p>
+ * <p>
+ * A reader doubles as a cursor over the outgoing edges of the dictionary
+ * nodes, so it holds mutable state and must not be shared across searches.
+ * </p>
+ * @param <DictionaryNode> Kind of the nodes of the dictionary.
+ * @since 3.1.0
+ */
+interface ILabelReader<DictionaryNode> {
+
+  /**
+   * Returns the root of the dictionary, at which to begin searching.
+   * @return Root of the dictionary.
+   */
+  DictionaryNode root();
+
+  /**
+   * Specifies whether a node represents the last label of some term.
+   * @param node Node to check.
+   * @return Whether the node represents the last label of some term.
+   */
+  boolean isFinal(DictionaryNode node);
+
+  /**
+   * Splits a query term into labels.
+   * @param term Query term to split.
+   * @return Labels of the query term.
+   */
+  int[] decode(String term);
+
+  /**
+   * Positions this reader before the first outgoing edge of a node.
+   * @param node Node whose edges should be visited.
+   */
+  void reset(DictionaryNode node);
+
+  /**
+   * Advances this reader to the next outgoing edge, in ascending order of
+   * label.
+   * @return Whether this reader is positioned at an edge.
+   */
+  boolean next();
+
+  /**
+   * Returns the label of the current edge.
+   * @return Label of the current edge.
+   */
+  int label();
+
+  /**
+   * Returns the target of the current edge.
+   * @return Node the current edge points to.
+   */
+  DictionaryNode target();
+}
@@ -0,0 +1,18 @@
+package com.github.liblevenshtein.transducer;
+
+/**
+ * Is notified once a snapshot of a {@link TransducerHolder} has been replaced
+ * and its last reader has released it, so the resources of its transducer
+ * (e.g. the file of a mapped dictionary) may be reclaimed.
+ * @param <CandidateType> Kind of the spelling candidates returned by the
+ *   transducer of the snapshot.
+ * @since 3.1.0
+ */
+public interface IReleaseListener<CandidateType> {
+
+  /**
+   * Called on the thread that released the last reference to a snapshot.
+   * @param snapshot Snapshot that is no longer used by any reader.
+   */
+  void released(TransducerSnapshot<CandidateType> snapshot);
+}
@@ -0,0 +1,20 @@
+package com.github.liblevenshtein.transducer;
+
+import java.nio.file.Path;
+
+/**
+ * Is notified when a {@link TransducerHolder} that is watching a source file
+ * fails to rebuild its transducer from it (e.g. because the file was read
+ * while it was being written).  The current transducer is kept, and the
+ * rebuild is retried on the next poll.
+ * @since 3.1.0
+ */
+public interface IReloadFailureListener {
+
+  /**
+   * Called on the scheduler's thread after a rebuild has failed.
+   * @param source File from which the transducer was being rebuilt.
+   * @param cause Exception that failed the rebuild.
+   */
+  void failed(Path source, Exception cause);
+}
@@ -22,9 +22,10 @@ public class Intersection<DictionaryNode> implements Serializable {
 
   /**
    * Label annotating the edge between the previous dictionary node and
-   * {@link #dictionaryNode}.
+   * {@link #dictionaryNode}, which is a code point if the dictionary is
+   * labeled by code point.
    */
-  private final char label;
+  private final int label;
 
   /**
    * Current node in the dictionary, along the intersection's path.
@@ -36,6 +37,12 @@ public class Intersection<DictionaryNode> implements Serializable {
    */
   private final State levenshteinState;
 
+  /**
+   * Ordinal of the first term beneath {@link #dictionaryNode}, if the
+   * dictionary numbers its terms (otherwise, 0).
+   */
+  private final int ordinal;
+
   /**
    * Constructs an intersection representing the start states of both the
    * dictionary and Levenshtein automata.
@@ -49,17 +56,61 @@ public class Intersection<DictionaryNode> implements Serializable {
   }
 
   public Intersection(Intersection<DictionaryNode> prevIntersection, char label, DictionaryNode dictionaryNode, State levenshteinState) {
+    this(prevIntersection, label, dictionaryNode, levenshteinState, 0);
+  }
+
+  /**
+   * Constructs an intersection along the path of some prefix.
+   * @param prevIntersection Intersection along the path to the previous
+   *   dictionary node.
+   * @param label Label of the edge from the previous dictionary node, as a
+   *   UTF-16 code unit or a code point.
+   * @param dictionaryNode Current node in the dictionary.
+   * @param levenshteinState Current state of the Levenshtein automaton.
+   * @param ordinal Ordinal of the first term beneath the dictionary node.
+   * @since 3.1.0
+   */
+  public Intersection(
+      final Intersection<DictionaryNode> prevIntersection,
+      final int label,
+      final DictionaryNode dictionaryNode,
+      final State levenshteinState,
+      final int ordinal) {
     this.prevIntersection = prevIntersection;
     this.label = label;
     this.dictionaryNode = dictionaryNode;
     this.levenshteinState = levenshteinState;
+    this.ordinal = ordinal;
   }
 
   public Intersection<DictionaryNode> prevIntersection() {
     return prevIntersection;
   }
 
+  /**
+   * Returns the label of the edge from the previous dictionary node, which
+   * must be a UTF-16 code unit.
+   * @return Label of the edge from the previous dictionary node.
+   * @throws IllegalStateException If the label is a supplementary code point,
+   *   which does not fit in a {@code char} (see {@link #codePoint()}).
+   */
   public char label() {
+    if (label > Character.MAX_VALUE) {
+      throw new IllegalStateException(String.format(
+          "Expected the label to be a UTF-16 code unit, but was [U+%X]",
+          label));
+    }
+    return (char) label;
+  }
+
+  /**
+   * Returns the label of the edge from the previous dictionary node, as a
+   * code point if the dictionary is labeled by code point (otherwise, as a
+   * UTF-16 code unit).
+   * @return Label of the edge from the previous dictionary node.
+   * @since 3.1.0
+   */
+  public int codePoint() {
     return label;
   }
 
@@ -71,6 +122,16 @@ public class Intersection<DictionaryNode> implements Serializable {
     return levenshteinState;
   }
 
+  /**
+   * Returns the ordinal of the first term beneath the dictionary node.
+   * @return Ordinal of the first term beneath the dictionary node, or 0 if the
+   *   dictionary does not number its terms.
+   * @since 3.1.0
+   */
+  public int ordinal() {
+    return ordinal;
+  }
+
   /**
    * Spelling candidate from the dictionary automaton, represented as the prefix
    * of a term in the dictionary constructed by traversing from its root to
@@ -91,7 +152,9 @@ public class Intersection<DictionaryNode> implements Serializable {
 
     if (prevIntersection != null) {
       buffer = prevIntersection.buffer();
-      buffer.append(label);
+      // A lone surrogate is appended as-is, so code units and code points
+      // are appended alike.
+      buffer.appendCodePoint(label);
     }
     else {
       buffer = new StringBuilder();
@@ -106,6 +169,7 @@ public class Intersection<DictionaryNode> implements Serializable {
     if (o == null || getClass() != o.getClass()) return false;
     Intersection<?> that = (Intersection<?>) o;
     return label == that.label &&
+            ordinal == that.ordinal &&
             Objects.equals(prevIntersection, that.prevIntersection) &&
             Objects.equals(dictionaryNode, that.dictionaryNode) &&
             Objects.equals(levenshteinState, that.levenshteinState);
@@ -114,6 +178,6 @@ public class Intersection<DictionaryNode> implements Serializable {
   @Override
   public int hashCode() {
 
-    return Objects.hash(prevIntersection, label, dictionaryNode, levenshteinState);
+    return Objects.hash(prevIntersection, label, dictionaryNode, levenshteinState, ordinal);
   }
 }
@@ -1,6 +1,7 @@
 package com.github.liblevenshtein.transducer;
 
 import com.github.liblevenshtein.collection.AbstractIterator;
+import com.github.liblevenshtein.collection.dictionary.IOrdinalDictionary;
 
 import java.util.ArrayDeque;
 import java.util.Deque;
@@ -51,6 +52,12 @@ import java.util.Iterator;
  * of the journal article, above.
  * </p>
  *
+ * <p>
+ * The labels of the dictionary and of the query term are read by an
+ * {@link ILabelReader}, as UTF-16 code units unless the transducer compares
+ * them by code point (see {@link CodePointTransducer}).
+ * </p>
+ *
  * @author Dylon Edwards
  * @param <DictionaryNode> Kind of nodes of the dictionary automaton.
  * @param <CandidateType> Kind of the spelling candidates returned from the
@@ -62,9 +69,9 @@ public class LazyTransducerCollection<DictionaryNode, CandidateType>
     implements Iterable<CandidateType> {
 
   /**
-   * Query term whose spelling should be corrected.
+   * Labels of the query term whose spelling should be corrected.
    */
-  private final String term;
+  private final int[] term;
 
   /**
    * Maximum number of spelling errors candidates may have from the query term.
@@ -74,7 +81,13 @@ public class LazyTransducerCollection<DictionaryNode, CandidateType>
   /**
    * Attributes required for this transducer to search the dictionary.
    */
-  private final TransducerAttributes<DictionaryNode, CandidateType> attributes;
+  private final TransducerAttributes<?, CandidateType> attributes;
+
+  /**
+   * Numbers the candidate terms, if their ordinals were requested (otherwise,
+   * null).
+   */
+  private final IOrdinalDictionary<DictionaryNode> ordinals;
 
   /**
    * Breadth-first traversal of the dictionary automaton.
@@ -103,15 +116,23 @@ public class LazyTransducerCollection<DictionaryNode, CandidateType>
   private int i;
 
   /**
-   * Labels of the outgoing transitions for a dictionary state.
+   * Reads the labels of the query term and of the outgoing edges of the
+   * dictionary node of {@link #intersection}, which is reset for each
+   * intersection rather than reallocated.
    */
-  private Iterator<Character> labels = null;
+  private final ILabelReader<DictionaryNode> edges;
 
   /**
    * Current intersection between the dictionary and Levenshtein automata.
    */
   private Intersection<DictionaryNode> intersection = null;
 
+  /**
+   * Ordinal of the first term beneath the target of the next label, if
+   * {@link #ordinals} is non-null.
+   */
+  private int ordinal = 0;
+
   /**
    * Initializes a new LazyTransducerCollection with a query against the
    * dictionary automaton.
@@ -125,18 +146,40 @@ public class LazyTransducerCollection<DictionaryNode, CandidateType>
       final String term,
       final int maxDistance,
       final TransducerAttributes<DictionaryNode, CandidateType> attributes) {
+    this(term, maxDistance, attributes,
+        new CodeUnitLabelReader<DictionaryNode>(attributes));
+  }
 
-    this.term = term;
+  /**
+   * Initializes a new LazyTransducerCollection with a query against a
+   * dictionary whose labels are read by some strategy.
+   * @param term Query term whose spelling should be corrected.
+   * @param maxDistance Maximum number of spelling errors candidates may have
+   *   from the query term.
+   * @param attributes Attributes of the Levenshtein automaton (and of the
+   *   ordinals of the dictionary, if requested).
+   * @param edges Reads the labels of the query term and the dictionary.
+   */
+  @SuppressWarnings("unchecked")
+  LazyTransducerCollection(
+      final String term,
+      final int maxDistance,
+      final TransducerAttributes<?, CandidateType> attributes,
+      final ILabelReader<DictionaryNode> edges) {
+
+    this.term = edges.decode(term);
     this.maxDistance = maxDistance;
     this.attributes = attributes;
+    this.edges = edges;
+    this.ordinals = attributes.includeOrdinal()
+      ? (IOrdinalDictionary<DictionaryNode>) attributes.dictionary()
+      : null;
 
     pendingQueue.addLast(
-      new Intersection<DictionaryNode>(
-        attributes.dictionaryRoot(),
-        attributes.initialState()));
+      new Intersection<DictionaryNode>(edges.root(), attributes.initialState()));
 
     this.stateTransition =
-      attributes.stateTransitionFactory().build(maxDistance, term.length());
+      attributes.stateTransitionFactory().build(maxDistance, this.term.length);
 
     // f(x) := x * 2 + 1
     // a := (n - 1) / 2
@@ -167,15 +210,11 @@ public class LazyTransducerCollection<DictionaryNode, CandidateType>
    */
   @Override
   protected void advance() {
-    while (null == next
-        && (null != labels && labels.hasNext() || !pendingQueue.isEmpty())) {
-
-      if (null != labels && labels.hasNext()) {
-        final DictionaryNode dictionaryNode = intersection.dictionaryNode();
+    while (null == next) {
+      if (edges.next()) {
         final State levenshteinState = intersection.levenshteinState();
-        final char label = labels.next();
-        final DictionaryNode nextDictionaryNode =
-          attributes.dictionaryTransition().of(dictionaryNode, label);
+        final int label = edges.label();
+        final DictionaryNode nextDictionaryNode = edges.target();
         final boolean[] characteristicVector =
           characteristicVector(label, term, k, i);
         final State nextLevenshteinState =
@@ -185,30 +224,43 @@ public class LazyTransducerCollection<DictionaryNode, CandidateType>
             intersection,
             label,
             nextDictionaryNode,
-            nextLevenshteinState);
+            nextLevenshteinState,
+            ordinal);
 
           pendingQueue.addLast(nextIntersection);
 
-          if (attributes.isFinal().at(nextDictionaryNode)) {
+          if (edges.isFinal(nextDictionaryNode)) {
             final int distance =
-              attributes.minDistance().at(nextLevenshteinState, term.length());
+              attributes.minDistance().at(nextLevenshteinState, term.length);
             if (distance <= maxDistance) {
               final String nextCandidate = nextIntersection.candidate();
-              this.next =
-                attributes.candidateFactory().build(nextCandidate, distance);
+              this.next = attributes.candidateFactory()
+                .build(nextCandidate, distance, ordinal);
             }
           }
         }
+        if (null != ordinals) {
+          // The labels are visited in ascending order, so the terms beneath
+          // the next one follow those beneath this one.
+          ordinal += ordinals.count(nextDictionaryNode);
+        }
       }
-      else {
+      else if (!pendingQueue.isEmpty()) {
         this.intersection = pendingQueue.removeFirst();
         final DictionaryNode dictionaryNode = intersection.dictionaryNode();
         final State levenshteinState = intersection.levenshteinState();
 
         this.i = levenshteinState.head().termIndex();
-        final int b = term.length() - i;
+        final int b = term.length - i;
         this.k = a < b ? a : b;
-        this.labels = attributes.dictionaryTransition().of(dictionaryNode);
+        edges.reset(dictionaryNode);
+        if (null != ordinals) {
+          this.ordinal = intersection.ordinal()
+            + (edges.isFinal(dictionaryNode) ? 1 : 0);
+        }
+      }
+      else {
+        break;
       }
     }
   }
@@ -225,7 +277,7 @@ public class LazyTransducerCollection<DictionaryNode, CandidateType>
    * @return Characteristic vector marking where x appears in the relevant
    *   substring of term.
    */
-  private boolean[] characteristicVector(
+  static boolean[] characteristicVector(
       final char x,
       final String term,
       final int k,
@@ -239,4 +291,29 @@ public class LazyTransducerCollection<DictionaryNode, CandidateType>
 
     return characteristicVector;
   }
+
+  /**
+   * Returns the characteristic vector of the labels of the term between index
+   * i and index k (see {@link #characteristicVector(char, String, int, int)}).
+   * @param x Label to find all occurrences of in the relevant labels of term
+   * @param term Labels of the term in which to find all occurrences of x
+   * @param k Number of labels of term to examine
+   * @param i Base-index of the labels of term to examine
+   * @return Characteristic vector marking where x appears in the relevant
+   *   labels of term.
+   */
+  static boolean[] characteristicVector(
+      final int x,
+      final int[] term,
+      final int k,
+      final int i) {
+
+    final boolean[] characteristicVector = new boolean[k];
+
+    for (int j = 0; j < k; ++j) {
+      characteristicVector[j] = x == term[i + j];
+    }
+
+    return characteristicVector;
+  }
 }
@@ -0,0 +1,56 @@
+package com.github.liblevenshtein.transducer;
+
+/**
+ * Spelling candidate that includes the ordinal of its term within an
+ * {@link com.github.liblevenshtein.collection.dictionary.IOrdinalDictionary},
+ * so a payload may be looked up by index without hashing the term.
+ * @since 3.1.0
+ */
+public class OrdinalCandidate extends Candidate {
+
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Lexicographical rank of the candidate term within the dictionary.
+   */
+  private final int ordinal;
+
+  /**
+   * Constructs a new {@link OrdinalCandidate}.
+   * @param term Candidate term from the dictionary automaton.
+   * @param distance Distance between the candidate term and the query term.
+   * @param ordinal Lexicographical rank of the candidate term within the
+   *   dictionary.
+   */
+  public OrdinalCandidate(
+      final String term,
+      final int distance,
+      final int ordinal) {
+    super(term, distance);
+    this.ordinal = ordinal;
+  }
+
+  /**
+   * Returns the ordinal of the candidate term.
+   * @return Lexicographical rank of the candidate term within the dictionary.
+   */
+  public int ordinal() {
+    return ordinal;
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    return super.equals(o) && ordinal == ((OrdinalCandidate) o).ordinal;
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * super.hashCode() + ordinal;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("OrdinalCandidate(term=%s, distance=%d, ordinal=%d)",
+        term(), distance(), ordinal);
+  }
+}
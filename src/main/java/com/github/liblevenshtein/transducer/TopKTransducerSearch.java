@@ -0,0 +1,275 @@
+package com.github.liblevenshtein.transducer;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import com.github.liblevenshtein.collection.dictionary.IEdgeCursor;
+import com.github.liblevenshtein.collection.dictionary.WeightedDictionary;
+
+/**
+ * <p>
+ * Best-first search for the spelling candidates of a query term that are
+ * nearest to it and, among those at the same distance, heaviest.
+ * </p>
+ * <p>
+ * Intersections are expanded in order of the fewest errors of their
+ * Levenshtein states (which never decrease along a path, so they bound the
+ * distances of the candidates beneath them), and then of the maximum weight of
+ * the terms beneath their dictionary nodes, and then of the least ordinal
+ * beneath them.  Each candidate is queued with its exact distance, weight and
+ * ordinal, ahead of the intersections with the same keys, so the candidates
+ * are dequeued in order, and the search stops as soon as k of them have been,
+ * without expanding the subtrees that could only contain farther or lighter
+ * terms.
+ * </p>
+ * @param <DictionaryNode> Kind of nodes of the dictionary automaton.
+ * @param <CandidateType> Kind of the spelling candidates returned from the
+ *   dictionary.
+ * @since 3.1.0
+ */
+final class TopKTransducerSearch<DictionaryNode, CandidateType> {
+
+  /**
+   * Orders entries by distance, then by descending weight, then by ordinal,
+   * and finally candidates ahead of intersections.  The ordinal of an
+   * intersection is the least of those beneath it, so candidates of equal
+   * distance and weight are dequeued in ascending order of ordinal.
+   */
+  private static final Comparator<Entry<?>> BEST_FIRST = new Comparator<Entry<?>>() {
+    @Override
+    public int compare(final Entry<?> lhs, final Entry<?> rhs) {
+      if (lhs.distance != rhs.distance) {
+        return lhs.distance < rhs.distance ? -1 : 1;
+      }
+      if (lhs.weight != rhs.weight) {
+        return lhs.weight > rhs.weight ? -1 : 1;
+      }
+      final int lhsOrdinal = lhs.intersection.ordinal();
+      final int rhsOrdinal = rhs.intersection.ordinal();
+      if (lhsOrdinal != rhsOrdinal) {
+        return lhsOrdinal < rhsOrdinal ? -1 : 1;
+      }
+      if (lhs.isCandidate != rhs.isCandidate) {
+        return lhs.isCandidate ? -1 : 1;
+      }
+      return 0;
+    }
+  };
+
+  /**
+   * Query term whose spelling should be corrected.
+   */
+  private final String term;
+
+  /**
+   * Maximum number of spelling errors candidates may have from the query term.
+   */
+  private final int maxDistance;
+
+  /**
+   * Attributes required for this transducer to search the dictionary.
+   */
+  private final TransducerAttributes<DictionaryNode, CandidateType> attributes;
+
+  /**
+   * Weighs the terms of the dictionary.
+   */
+  private final WeightedDictionary<DictionaryNode> dictionary;
+
+  /**
+   * Outgoing edges of the dictionary node being expanded.
+   */
+  private final IEdgeCursor<DictionaryNode> edges;
+
+  /**
+   * Transitions one state to another.
+   */
+  private final StateTransitionFunction stateTransition;
+
+  /**
+   * Maximum length of a characteristic vector (see
+   * {@link LazyTransducerCollection}).
+   */
+  private final int a;
+
+  /**
+   * Constructs a new {@link TopKTransducerSearch}.
+   * @param term Query term whose spelling should be corrected.
+   * @param maxDistance Maximum number of spelling errors candidates may have
+   *   from the query term.
+   * @param attributes Attributes required for this transducer to search the
+   *   dictionary, which must be a {@link WeightedDictionary}.
+   */
+  @SuppressWarnings("unchecked")
+  TopKTransducerSearch(
+      final String term,
+      final int maxDistance,
+      final TransducerAttributes<DictionaryNode, CandidateType> attributes) {
+    this.term = term;
+    this.maxDistance = maxDistance;
+    this.attributes = attributes;
+    this.dictionary =
+      (WeightedDictionary<DictionaryNode>) attributes.dictionary();
+    this.edges = dictionary.cursor();
+    this.stateTransition =
+      attributes.stateTransitionFactory().build(maxDistance, term.length());
+    this.a = maxDistance < (Integer.MAX_VALUE - 1) >> 1
+      ? (maxDistance << 1) + 1
+      : Integer.MAX_VALUE;
+  }
+
+  /**
+   * Finds the best spelling candidates.
+   * @param k Maximum number of candidates to find.
+   * @return Up to k of the nearest candidates, ordered by distance and then by
+   *   descending weight.
+   */
+  List<CandidateType> search(final int k) {
+    final List<CandidateType> candidates = new ArrayList<CandidateType>(
+        Math.min(k, dictionary.size()));
+    final PriorityQueue<Entry<DictionaryNode>> queue =
+      new PriorityQueue<Entry<DictionaryNode>>(64, BEST_FIRST);
+
+    final DictionaryNode root = dictionary.root();
+    final State initialState = attributes.initialState();
+    final int first = dictionary.at(root) ? 1 : 0;
+    final int end = dictionary.count(root);
+    if (first < end) {
+      queue.add(new Entry<DictionaryNode>(
+          new Intersection<DictionaryNode>(null, '\0', root, initialState, 0),
+          minErrors(initialState), dictionary.maxWeight(first, end), false));
+    }
+
+    while (candidates.size() < k && !queue.isEmpty()) {
+      final Entry<DictionaryNode> entry = queue.poll();
+      final Intersection<DictionaryNode> intersection = entry.intersection;
+      if (entry.isCandidate) {
+        candidates.add(attributes.candidateFactory().build(
+            intersection.candidate(), entry.distance, intersection.ordinal()));
+      }
+      else {
+        expand(intersection, queue);
+      }
+    }
+
+    return candidates;
+  }
+
+  /**
+   * Queues the candidates and intersections that follow an intersection.
+   * @param intersection Intersection to expand.
+   * @param queue Entries that have not been dequeued yet.
+   */
+  private void expand(
+      final Intersection<DictionaryNode> intersection,
+      final PriorityQueue<Entry<DictionaryNode>> queue) {
+    final DictionaryNode dictionaryNode = intersection.dictionaryNode();
+    final State levenshteinState = intersection.levenshteinState();
+    final int i = levenshteinState.head().termIndex();
+    final int b = term.length() - i;
+    final int k = a < b ? a : b;
+
+    // The labels are visited in ascending order, so the terms beneath each
+    // child follow those beneath the previous one.
+    int ordinal = intersection.ordinal() + (dictionary.at(dictionaryNode) ? 1 : 0);
+    edges.reset(dictionaryNode);
+    while (edges.next()) {
+      final char label = edges.label();
+      final DictionaryNode nextDictionaryNode = edges.target();
+      final int count = dictionary.count(nextDictionaryNode);
+      final State nextLevenshteinState = stateTransition.of(
+          levenshteinState,
+          LazyTransducerCollection.characteristicVector(label, term, k, i));
+      if (null != nextLevenshteinState) {
+        final Intersection<DictionaryNode> nextIntersection =
+          new Intersection<DictionaryNode>(
+              intersection, label, nextDictionaryNode, nextLevenshteinState,
+              ordinal);
+        int first = ordinal;
+        if (dictionary.at(nextDictionaryNode)) {
+          first += 1;
+          final int distance =
+            attributes.minDistance().at(nextLevenshteinState, term.length());
+          if (distance <= maxDistance) {
+            queue.add(new Entry<DictionaryNode>(
+                nextIntersection, distance, dictionary.weight(ordinal), true));
+          }
+        }
+        if (first < ordinal + count) {
+          queue.add(new Entry<DictionaryNode>(
+              nextIntersection, minErrors(nextLevenshteinState),
+              dictionary.maxWeight(first, ordinal + count), false));
+        }
+      }
+      ordinal += count;
+    }
+  }
+
+  /**
+   * Returns the fewest errors among the positions of a state, which bounds
+   * the distances of the candidates that may be reached from it.
+   * @param state Levenshtein state.
+   * @return Fewest errors among the positions of the state.
+   */
+  private static int minErrors(final State state) {
+    int minErrors = Integer.MAX_VALUE;
+    for (final Position position : state) {
+      if (position.numErrors() < minErrors) {
+        minErrors = position.numErrors();
+      }
+    }
+    return minErrors;
+  }
+
+  /**
+   * Queued candidate or intersection.
+   * @param <DictionaryNode> Kind of nodes of the dictionary automaton.
+   */
+  private static final class Entry<DictionaryNode> {
+
+    /**
+     * Intersection of the candidate, or to expand.
+     */
+    private final Intersection<DictionaryNode> intersection;
+
+    /**
+     * Distance of the candidate, or the fewest errors of any candidate beneath
+     * the intersection.
+     */
+    private final int distance;
+
+    /**
+     * Weight of the candidate, or the maximum weight of any term beneath the
+     * intersection.
+     */
+    private final long weight;
+
+    /**
+     * Whether this entry is a candidate, rather than an intersection to
+     * expand.
+     */
+    private final boolean isCandidate;
+
+    /**
+     * Constructs a new {@link Entry}.
+     * @param intersection Intersection of the candidate, or to expand.
+     * @param distance Distance of the candidate, or bound on those beneath the
+     *   intersection.
+     * @param weight Weight of the candidate, or bound on those beneath the
+     *   intersection.
+     * @param isCandidate Whether the entry is a candidate.
+     */
+    Entry(
+        final Intersection<DictionaryNode> intersection,
+        final int distance,
+        final long weight,
+        final boolean isCandidate) {
+      this.intersection = intersection;
+      this.distance = distance;
+      this.weight = weight;
+      this.isCandidate = isCandidate;
+    }
+  }
+}
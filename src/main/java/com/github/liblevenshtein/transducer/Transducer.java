@@ -1,8 +1,11 @@
 package com.github.liblevenshtein.transducer;
 
 import java.io.Serializable;
+import java.util.List;
 import java.util.Objects;
 
+import com.github.liblevenshtein.collection.dictionary.WeightedDictionary;
+
 /**
  * This wrapper around {@link LazyTransducerCollection}, which handles all the
  * heavy lifting.
@@ -50,6 +53,40 @@ public class Transducer<DictionaryNode, CandidateType>
         term, maxDistance, attributes);
   }
 
+  /**
+   * Finds the k best spelling candidates for the query term, among the terms
+   * of a {@link WeightedDictionary} that are within maxDistance errors of it:
+   * the nearest ones, and among those at the same distance, the heaviest.
+   * The dictionary is searched best-first, so only the subtrees that may
+   * contain such candidates are expanded.
+   * @param term Query term whose spelling candidates should be determined.
+   * @param maxDistance Maximum number of spelling errors the spelling
+   *   candidates may have from the query term.
+   * @param k Maximum number of spelling candidates to return.
+   * @return Up to k spelling candidates, ordered by their distances from the
+   *   query term, then by their descending weights, and then by their
+   *   ascending ordinals (i.e. lexicographically).
+   * @throws UnsupportedOperationException If the dictionary of this transducer
+   *   is not a {@link WeightedDictionary}.
+   * @throws IllegalArgumentException If k is negative.
+   * @since 3.1.0
+   */
+  public List<CandidateType> transduceTopK(
+      final String term,
+      final int maxDistance,
+      final int k) {
+    if (!(attributes.dictionary() instanceof WeightedDictionary)) {
+      throw new UnsupportedOperationException(
+          "Top-k transduction requires a WeightedDictionary");
+    }
+    if (k < 0) {
+      throw new IllegalArgumentException(String.format(
+          "Expected k to be non-negative, but was [%d]", k));
+    }
+    return new TopKTransducerSearch<DictionaryNode, CandidateType>(
+        term, maxDistance, attributes).search(k);
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
@@ -1,6 +1,6 @@
 package com.github.liblevenshtein.transducer;
 
-import com.github.liblevenshtein.collection.dictionary.Dawg;
+import com.github.liblevenshtein.collection.dictionary.IDictionary;
 import com.github.liblevenshtein.collection.dictionary.IFinalFunction;
 import com.github.liblevenshtein.collection.dictionary.ITransitionFunction;
 import com.github.liblevenshtein.transducer.factory.CandidateFactory;
@@ -27,13 +27,14 @@ public class TransducerAttributes<DictionaryNode, CandidateType> implements Seri
     TransducerAttributes<?, ?> that = (TransducerAttributes<?, ?>) o;
     return maxDistance == that.maxDistance &&
             includeDistance == that.includeDistance &&
+            includeOrdinal == that.includeOrdinal &&
             Objects.equals(dictionary, that.dictionary) &&
             algorithm == that.algorithm;
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(maxDistance, dictionary, algorithm, includeDistance);
+    return Objects.hash(maxDistance, dictionary, algorithm, includeDistance, includeOrdinal);
   }
 
   /**
@@ -83,7 +84,7 @@ public class TransducerAttributes<DictionaryNode, CandidateType> implements Seri
   /**
    * Dictionary of this transducer.
    */
-  protected Dawg dictionary;
+  protected IDictionary<DictionaryNode> dictionary;
 
   /**
    * Transduction algorithm.
@@ -96,6 +97,13 @@ public class TransducerAttributes<DictionaryNode, CandidateType> implements Seri
    */
   protected boolean includeDistance;
 
+  /**
+   * Whether to include the ordinals of the candidate terms within the
+   * dictionary, which must then be an
+   * {@link com.github.liblevenshtein.collection.dictionary.IOrdinalDictionary}.
+   */
+  protected boolean includeOrdinal;
+
   public int maxDistance() {
     return maxDistance;
   }
@@ -128,7 +136,7 @@ public class TransducerAttributes<DictionaryNode, CandidateType> implements Seri
     return dictionaryRoot;
   }
 
-  public Dawg dictionary() {
+  public IDictionary<DictionaryNode> dictionary() {
     return dictionary;
   }
 
@@ -140,6 +148,10 @@ public class TransducerAttributes<DictionaryNode, CandidateType> implements Seri
     return includeDistance;
   }
 
+  public boolean includeOrdinal() {
+    return includeOrdinal;
+  }
+
   public TransducerAttributes maxDistance(int maxDistance) {
     this.maxDistance = maxDistance;
     return this;
@@ -180,7 +192,7 @@ public class TransducerAttributes<DictionaryNode, CandidateType> implements Seri
     return this;
   }
 
-  public TransducerAttributes dictionary(Dawg dictionary) {
+  public TransducerAttributes dictionary(IDictionary<DictionaryNode> dictionary) {
     this.dictionary = dictionary;
     return this;
   }
@@ -194,4 +206,10 @@ public class TransducerAttributes<DictionaryNode, CandidateType> implements Seri
     this.includeDistance = includeDistance;
     return this;
   }
+
+  @SuppressWarnings("rawtypes")
+  public TransducerAttributes includeOrdinal(boolean includeOrdinal) {
+    this.includeOrdinal = includeOrdinal;
+    return this;
+  }
 }
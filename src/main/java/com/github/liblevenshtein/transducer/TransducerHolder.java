@@ -0,0 +1,213 @@
+package com.github.liblevenshtein.transducer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * <p>
+ * Holds the current version of a transducer, which may be replaced while it
+ * is being queried (e.g. after its dictionary has been rebuilt), in the
+ * manner of read-copy-update.
+ * </p>
+ * <p>
+ * Readers {@link #acquire()} a {@link TransducerLease} on the current
+ * {@link TransducerSnapshot} without locking, query its transducer, and then
+ * close the lease.  A replacement transducer is
+ * built off to the side (e.g. by {@link #reload(Callable, ExecutorService)} on
+ * a background thread) and swapped in atomically, so readers never wait for
+ * it: those that acquire a snapshot afterwards see the new version, and those
+ * holding the old one finish their queries against it.  The old snapshot is
+ * released (and the {@link IReleaseListener}, if any, notified) once the last
+ * lease on it has been closed.
+ * </p>
+ * <p>
+ * The holder drops its reference to the old transducer as soon as it is
+ * replaced, so the two versions only coexist while the new one is being built
+ * and the old one is being read; a transducer that is never acquired (e.g.
+ * one returned by {@link #current()}) is reclaimed by the garbage collector
+ * once its last iterator is unreachable.
+ * </p>
+ * @param <CandidateType> Kind of the spelling candidates returned by the
+ *   transducers.
+ * @since 3.1.0
+ */
+public class TransducerHolder<CandidateType> {
+
+  /**
+   * Snapshot of the current transducer.
+   */
+  private final AtomicReference<TransducerSnapshot<CandidateType>> snapshot;
+
+  /**
+   * Notified when a replaced snapshot has been released, or null.
+   */
+  private final IReleaseListener<CandidateType> listener;
+
+  /**
+   * Constructs a new {@link TransducerHolder}.
+   * @param transducer Initial transducer, whose snapshot is version 0.
+   */
+  public TransducerHolder(final ITransducer<CandidateType> transducer) {
+    this(transducer, null);
+  }
+
+  /**
+   * Constructs a new {@link TransducerHolder}.
+   * @param transducer Initial transducer, whose snapshot is version 0.
+   * @param listener Notified when a replaced snapshot has been released, or
+   *   null.
+   */
+  public TransducerHolder(
+      final ITransducer<CandidateType> transducer,
+      final IReleaseListener<CandidateType> listener) {
+    this.snapshot = new AtomicReference<TransducerSnapshot<CandidateType>>(
+        new TransducerSnapshot<CandidateType>(0L, transducer));
+    this.listener = listener;
+  }
+
+  /**
+   * Acquires a lease on the snapshot of the current transducer, which must be
+   * closed when the reader is done with it.  This never blocks.
+   * @return New lease on the snapshot of the current transducer.
+   */
+  public TransducerLease<CandidateType> acquire() {
+    while (true) {
+      final TransducerSnapshot<CandidateType> current = snapshot.get();
+      // A snapshot that has been released was replaced before this reader
+      // could retain it, so the holder has a newer one.
+      if (current.retain()) {
+        return new TransducerLease<CandidateType>(this, current);
+      }
+    }
+  }
+
+  /**
+   * Releases a reference to a snapshot of this holder, either that of a lease
+   * or that of the holder itself.
+   * @param released Snapshot to release.
+   */
+  void release(final TransducerSnapshot<CandidateType> released) {
+    if (released.decrement() && null != listener) {
+      listener.released(released);
+    }
+  }
+
+  /**
+   * Returns the current transducer, without acquiring its snapshot.  Its
+   * iterators remain valid after it is replaced, but the release listener is
+   * not told to wait for them.
+   * @return Current transducer.
+   */
+  public ITransducer<CandidateType> current() {
+    return snapshot.get().transducer();
+  }
+
+  /**
+   * Returns the version of the current snapshot.
+   * @return Version of the current snapshot.
+   */
+  public long version() {
+    return snapshot.get().version();
+  }
+
+  /**
+   * Replaces the current transducer, atomically.  Readers that acquire a
+   * snapshot afterwards see the new transducer.
+   * @param transducer Replacement transducer.
+   * @return Version of the replacement's snapshot.
+   */
+  public synchronized long swap(final ITransducer<CandidateType> transducer) {
+    final TransducerSnapshot<CandidateType> previous = snapshot.get();
+    final TransducerSnapshot<CandidateType> next =
+      new TransducerSnapshot<CandidateType>(
+          previous.version() + 1L, transducer);
+    snapshot.set(next);
+    release(previous);
+    return next.version();
+  }
+
+  /**
+   * Builds a replacement transducer on an executor and swaps it in once it
+   * has been built.  If the build fails, the current transducer is kept.
+   * @param loader Builds the replacement transducer.
+   * @param executor Executor on which to build the replacement.
+   * @return Version of the replacement's snapshot, once it has been swapped
+   *   in, or the exception that failed the build.
+   */
+  public Future<Long> reload(
+      final Callable<? extends ITransducer<CandidateType>> loader,
+      final ExecutorService executor) {
+    return executor.submit(new Callable<Long>() {
+      @Override
+      public Long call() throws Exception {
+        return swap(loader.call());
+      }
+    });
+  }
+
+  /**
+   * Polls a source file for modifications, and rebuilds the transducer on the
+   * scheduler's thread whenever the file has been modified since it was last
+   * built.  The file is not loaded until it has been modified.  If the file
+   * cannot be read or the build fails (e.g. because the file was read while it
+   * was being written), the current transducer is kept, the failure listener
+   * is notified, and the build is retried on the next poll.
+   * @param source File from which the loader builds the transducer.
+   * @param loader Builds the replacement transducer.
+   * @param scheduler Executor on which to poll and build.
+   * @param period Delay between polls.
+   * @param unit Unit of the period.
+   * @param failureListener Notified of each failed build, or null.
+   * @return Future of the polling, which may be cancelled to stop it.
+   * @throws IOException If the modification time of the file cannot be read.
+   */
+  public ScheduledFuture<?> watch(
+      final Path source,
+      final Callable<? extends ITransducer<CandidateType>> loader,
+      final ScheduledExecutorService scheduler,
+      final long period,
+      final TimeUnit unit,
+      final IReloadFailureListener failureListener) throws IOException {
+    final FileTime initial = Files.getLastModifiedTime(source);
+    return scheduler.scheduleWithFixedDelay(new Runnable() {
+
+      /**
+       * Modification time of the file when it was last built.
+       */
+      private FileTime built = initial;
+
+      @Override
+      public void run() {
+        // An exception must not escape, since the scheduler would never run
+        // this task again.  The modification time is only recorded once the
+        // build succeeds, so a failed build is retried.
+        try {
+          final FileTime modified = Files.getLastModifiedTime(source);
+          if (!modified.equals(built)) {
+            swap(loader.call());
+            built = modified;
+          }
+        }
+        catch (final Exception exception) {
+          if (null != failureListener) {
+            failureListener.failed(source, exception);
+          }
+        }
+      }
+    }, period, period, unit);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("TransducerHolder(version=%d)", version());
+  }
+}
@@ -0,0 +1,98 @@
+package com.github.liblevenshtein.transducer;
+
+import java.io.Closeable;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * <p>
+ * One reader's hold on a {@link TransducerSnapshot}, which is returned by
+ * {@link TransducerHolder#acquire()} and released by {@link #close()}.
+ * </p>
+ * <p>
+ * Readers of the same version share its snapshot, but each holds its own
+ * lease, so closing a lease more than once has no further effect and cannot
+ * release another reader's reference.
+ * </p>
+ * @param <CandidateType> Kind of the spelling candidates returned by the
+ *   transducer.
+ * @since 3.1.0
+ */
+public final class TransducerLease<CandidateType> implements Closeable {
+
+  /**
+   * Holder from which the snapshot was acquired.
+   */
+  private final TransducerHolder<CandidateType> holder;
+
+  /**
+   * Snapshot held by this lease.
+   */
+  private final TransducerSnapshot<CandidateType> snapshot;
+
+  /**
+   * Whether this lease has been closed.
+   */
+  private final AtomicBoolean closed = new AtomicBoolean(false);
+
+  /**
+   * Constructs a new {@link TransducerLease} on a snapshot that has been
+   * retained for it.
+   * @param holder Holder from which the snapshot was acquired.
+   * @param snapshot Snapshot held by this lease.
+   */
+  TransducerLease(
+      final TransducerHolder<CandidateType> holder,
+      final TransducerSnapshot<CandidateType> snapshot) {
+    this.holder = holder;
+    this.snapshot = snapshot;
+  }
+
+  /**
+   * Returns the snapshot held by this lease.
+   * @return Snapshot held by this lease.
+   */
+  public TransducerSnapshot<CandidateType> snapshot() {
+    return snapshot;
+  }
+
+  /**
+   * Returns the transducer of the snapshot held by this lease.
+   * @return Transducer of the snapshot.
+   */
+  public ITransducer<CandidateType> transducer() {
+    return snapshot.transducer();
+  }
+
+  /**
+   * Returns the version of the snapshot held by this lease.
+   * @return Version of the snapshot.
+   */
+  public long version() {
+    return snapshot.version();
+  }
+
+  /**
+   * Specifies whether this lease has been closed.
+   * @return Whether this lease has been closed.
+   */
+  public boolean isClosed() {
+    return closed.get();
+  }
+
+  /**
+   * Releases this lease's reference to its snapshot, the first time it is
+   * called.
+   */
+  @Override
+  public void close() {
+    if (closed.compareAndSet(false, true)) {
+      holder.release(snapshot);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return String.format("TransducerLease(version=%d, closed=%b)",
+        version(), isClosed());
+  }
+}
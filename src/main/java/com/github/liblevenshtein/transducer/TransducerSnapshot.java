@@ -0,0 +1,111 @@
+package com.github.liblevenshtein.transducer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>
+ * Version of the transducer of a {@link TransducerHolder}, which readers hold
+ * through {@link TransducerLease}s for the duration of their queries.  The
+ * holder keeps one reference to its current snapshot, and drops it when the
+ * snapshot is replaced, so a snapshot is released once it has been replaced
+ * and every lease on it has been closed.
+ * </p>
+ * <p>
+ * The candidates of a snapshot remain valid after it has been released, since
+ * they reference its dictionary, but its release listener may have reclaimed
+ * resources the dictionary depends on.
+ * </p>
+ * @param <CandidateType> Kind of the spelling candidates returned by the
+ *   transducer.
+ * @since 3.1.0
+ */
+public final class TransducerSnapshot<CandidateType> {
+
+  /**
+   * Version of this snapshot, which increases with each swap.
+   */
+  private final long version;
+
+  /**
+   * Transducer of this version.
+   */
+  private final ITransducer<CandidateType> transducer;
+
+  /**
+   * Number of open leases on this snapshot, plus one while it is current.
+   */
+  private final AtomicInteger references = new AtomicInteger(1);
+
+  /**
+   * Constructs a new, current {@link TransducerSnapshot}.
+   * @param version Version of this snapshot.
+   * @param transducer Transducer of this version.
+   */
+  TransducerSnapshot(
+      final long version,
+      final ITransducer<CandidateType> transducer) {
+    this.version = version;
+    this.transducer = transducer;
+  }
+
+  /**
+   * Returns the version of this snapshot, which increases with each swap.
+   * @return Version of this snapshot.
+   */
+  public long version() {
+    return version;
+  }
+
+  /**
+   * Returns the transducer of this version.
+   * @return Transducer of this version.
+   */
+  public ITransducer<CandidateType> transducer() {
+    return transducer;
+  }
+
+  /**
+   * Specifies whether this snapshot has been replaced and every lease on it
+   * has been closed.
+   * @return Whether this snapshot has been released.
+   */
+  public boolean isReleased() {
+    return 0 == references.get();
+  }
+
+  /**
+   * Adds a reference to this snapshot, unless it has been released already
+   * (in which case it has been replaced, and the holder should be read
+   * again).
+   * @return Whether the reference was added.
+   */
+  boolean retain() {
+    for (int count = references.get(); count > 0; count = references.get()) {
+      if (references.compareAndSet(count, count + 1)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Removes a reference to this snapshot.
+   * @return Whether that was the last reference.
+   * @throws IllegalStateException If this snapshot has been released already.
+   */
+  boolean decrement() {
+    final int count = references.decrementAndGet();
+    if (count < 0) {
+      references.incrementAndGet();
+      throw new IllegalStateException(String.format(
+          "Expected snapshot [%d] to be held, but it was released", version));
+    }
+    return 0 == count;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("TransducerSnapshot(version=%d, references=%d)",
+        version, references.get());
+  }
+}
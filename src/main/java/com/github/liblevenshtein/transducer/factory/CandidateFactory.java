@@ -1,6 +1,7 @@
 package com.github.liblevenshtein.transducer.factory;
 
 import com.github.liblevenshtein.transducer.Candidate;
+import com.github.liblevenshtein.transducer.OrdinalCandidate;
 
 import java.io.Serializable;
 
@@ -25,6 +26,25 @@ public abstract class CandidateFactory<CandidateType> implements Serializable {
    */
   public abstract CandidateType build(String term, int distance);
 
+  /**
+   * Builds a new spelling candidate from the dictionary term, its Levenshtein
+   * distance from the query term, and its ordinal within the dictionary.  By
+   * default, the ordinal is discarded.
+   * @param term Candidate term from the dictionary.
+   * @param distance Levenshtein distance of the dictionary term from the query
+   *   term.
+   * @param ordinal Lexicographical rank of the term within the dictionary.
+   * @return A new spelling candidate, optionally with the distance and ordinal
+   *   included.
+   * @since 3.1.0
+   */
+  public CandidateType build(
+      final String term,
+      final int distance,
+      final int ordinal) {
+    return build(term, distance);
+  }
+
   /**
    * Builds instances of {@link Candidate}, with the dictionary term and its
    * Levenshtein distance from the query term.
@@ -62,4 +82,38 @@ public abstract class CandidateFactory<CandidateType> implements Serializable {
       return term;
     }
   }
+
+  /**
+   * Builds instances of {@link OrdinalCandidate}, with the dictionary term, its
+   * Levenshtein distance from the query term, and its ordinal within the
+   * dictionary.
+   * @since 3.1.0
+   */
+  public static class WithOrdinal extends CandidateFactory<OrdinalCandidate> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Ordinals are unknown, so they are reported as -1.
+     * @param term Candidate term from the dictionary.
+     * @param distance Levenshtein distance of the dictionary term from the
+     *   query term.
+     * @return A new spelling candidate, whose ordinal is -1.
+     */
+    @Override
+    public OrdinalCandidate build(final String term, final int distance) {
+      return new OrdinalCandidate(term, distance, -1);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public OrdinalCandidate build(
+        final String term,
+        final int distance,
+        final int ordinal) {
+      return new OrdinalCandidate(term, distance, ordinal);
+    }
+  }
 }
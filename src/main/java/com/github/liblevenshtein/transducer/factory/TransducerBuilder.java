@@ -4,10 +4,12 @@ import java.io.Serializable;
 import java.util.Collection;
 import java.util.Collections;
 
-import com.github.liblevenshtein.collection.dictionary.Dawg;
-import com.github.liblevenshtein.collection.dictionary.DawgNode;
+import com.github.liblevenshtein.collection.dictionary.CodePointDawg;
+import com.github.liblevenshtein.collection.dictionary.IDictionary;
+import com.github.liblevenshtein.collection.dictionary.IOrdinalDictionary;
 import com.github.liblevenshtein.collection.dictionary.factory.DawgFactory;
 import com.github.liblevenshtein.transducer.Algorithm;
+import com.github.liblevenshtein.transducer.CodePointTransducer;
 import com.github.liblevenshtein.transducer.DistanceFunction;
 import com.github.liblevenshtein.transducer.ITransducer;
 import com.github.liblevenshtein.transducer.MergeFunction;
@@ -62,6 +64,18 @@ public class TransducerBuilder implements Serializable {
    */
   private boolean includeDistance = true;
 
+  /**
+   * Whether the ordinals of the spelling candidates within the dictionary
+   * should be included in the collections of spelling candidates.
+   */
+  private boolean includeOrdinal = false;
+
+  /**
+   * Whether the dictionary should be compiled into a {@link CodePointDawg}, so
+   * it is searched by code point rather than by UTF-16 code unit.
+   */
+  private boolean codePoints = false;
+
   public TransducerBuilder dictionary(Collection<String> dictionary) {
     this.dictionary = dictionary;
     return this;
@@ -87,6 +101,35 @@ public class TransducerBuilder implements Serializable {
     return this;
   }
 
+  /**
+   * Specifies whether the spelling candidates should include the ordinals of
+   * their terms within the dictionary (see {@link IOrdinalDictionary}).  If
+   * so, the candidates are
+   * {@link com.github.liblevenshtein.transducer.OrdinalCandidate}s, which
+   * include their distances as well, and the dictionary must number its terms
+   * (every DAWG does).
+   * @param includeOrdinal Whether to include the ordinals of the candidates.
+   * @return This {@link TransducerBuilder}, for fluency.
+   */
+  public TransducerBuilder includeOrdinal(final boolean includeOrdinal) {
+    this.includeOrdinal = includeOrdinal;
+    return this;
+  }
+
+  /**
+   * Specifies whether terms should be compared by code point rather than by
+   * UTF-16 code unit, so each supplementary character (e.g. an emoji) counts
+   * as one edit rather than two.  If so, a dictionary that is not already a
+   * {@link CodePointDawg} is compiled into one, and the transducer is a
+   * {@link CodePointTransducer}.
+   * @param codePoints Whether to compare terms by code point.
+   * @return This {@link TransducerBuilder}, for fluency.
+   */
+  public TransducerBuilder codePoints(final boolean codePoints) {
+    this.codePoints = codePoints;
+    return this;
+  }
+
   /**
    * Specifies the collection of dictionary terms for the dictionary automaton.
    * @param dictionary Collection of dictionary terms to consider when
@@ -105,7 +148,11 @@ public class TransducerBuilder implements Serializable {
 
   /**
    * Builds a Levenshtein transducer according to the parameters set for this
-   * {@link TransducerBuilder}.
+   * {@link TransducerBuilder}.  If the dictionary is already an
+   * {@link IDictionary} (such as a
+   * {@link com.github.liblevenshtein.collection.dictionary.FrozenDawg}), it is
+   * searched as-is; otherwise, it is compiled into a DAWG, first.  A
+   * {@link CodePointDawg} is searched by code point.
    * @param <CandidateType> Implicit type of the spelling candidates generated
    *   by the transducer.
    * @return Levenshtein transducer for seeking spelling candidates for query
@@ -113,7 +160,78 @@ public class TransducerBuilder implements Serializable {
    */
   @SuppressWarnings("unchecked")
   public <CandidateType> ITransducer<CandidateType> build() {
-    final Dawg dictionary = dawgFactory.build(this.dictionary, this.isSorted);
+    if (codePoints || this.dictionary instanceof CodePointDawg) {
+      return build(dawgFactory.buildCodePoint(this.dictionary, this.isSorted));
+    }
+    if (this.dictionary instanceof IDictionary) {
+      return build((IDictionary<Object>) this.dictionary);
+    }
+    return build(dawgFactory.build(this.dictionary, this.isSorted));
+  }
+
+  /**
+   * Builds a Levenshtein transducer over a dictionary automaton, according to
+   * the parameters set for this {@link TransducerBuilder}.
+   * @param dictionary Dictionary automaton for seeking spelling candidates.
+   * @param <DictionaryNode> Kind of the nodes of the dictionary automaton.
+   * @param <CandidateType> Implicit type of the spelling candidates generated
+   *   by the transducer.
+   * @return Levenshtein transducer for seeking spelling candidates for query
+   *   terms.
+   * @throws IllegalArgumentException If ordinals were requested, but the
+   *   dictionary does not number its terms.
+   */
+  @SuppressWarnings("unchecked")
+  protected <DictionaryNode, CandidateType> ITransducer<CandidateType> build(
+      final IDictionary<DictionaryNode> dictionary) {
+    if (includeOrdinal && !(dictionary instanceof IOrdinalDictionary)) {
+      throw new IllegalArgumentException(String.format(
+          "Ordinals are not supported by dictionaries of type [%s]",
+          dictionary.getClass().getName()));
+    }
+
+    final TransducerAttributes<DictionaryNode, CandidateType> attributes =
+      this.<DictionaryNode, CandidateType>attributes()
+        .isFinal(dictionary)
+        .dictionaryTransition(dictionary)
+        .dictionaryRoot(dictionary.root())
+        .dictionary(dictionary);
+
+    return new Transducer<DictionaryNode, CandidateType>(attributes);
+  }
+
+  /**
+   * Builds a Levenshtein transducer over a dictionary of code points,
+   * according to the parameters set for this {@link TransducerBuilder}.
+   * @param dictionary Dictionary automaton for seeking spelling candidates.
+   * @param <CandidateType> Implicit type of the spelling candidates generated
+   *   by the transducer.
+   * @return Levenshtein transducer that compares terms by code point.
+   * @throws IllegalArgumentException If ordinals were requested, since the
+   *   dictionary does not number its terms.
+   */
+  protected <CandidateType> ITransducer<CandidateType> build(
+      final CodePointDawg dictionary) {
+    if (includeOrdinal) {
+      throw new IllegalArgumentException(String.format(
+          "Ordinals are not supported by dictionaries of type [%s]",
+          dictionary.getClass().getName()));
+    }
+    return new CodePointTransducer<CandidateType>(
+        dictionary, this.<Object, CandidateType>attributes());
+  }
+
+  /**
+   * Builds the attributes of the Levenshtein automaton, which are shared by
+   * every kind of dictionary.
+   * @param <DictionaryNode> Kind of the nodes of the dictionary automaton.
+   * @param <CandidateType> Implicit type of the spelling candidates generated
+   *   by the transducer.
+   * @return Attributes without a dictionary.
+   */
+  @SuppressWarnings("unchecked")
+  private <DictionaryNode, CandidateType>
+      TransducerAttributes<DictionaryNode, CandidateType> attributes() {
     final PositionFactory positionFactory = new PositionFactory();
     final StateFactory stateFactory = new StateFactory();
 
@@ -127,32 +245,30 @@ public class TransducerBuilder implements Serializable {
 
     final State initialState = stateFactory.build(positionFactory.build(0, 0));
 
-    final TransducerAttributes<DawgNode, CandidateType> attributes =
-      new TransducerAttributes()
-        .maxDistance(defaultMaxDistance)
-        .stateTransitionFactory(stateTransitionFactory)
-        .candidateFactory(candidateFactory())
-        .minDistance(minDistance())
-        .isFinal(dawgFactory.finalFunction(dictionary))
-        .dictionaryTransition(dawgFactory.transitionFunction(dictionary))
-        .dictionaryRoot(dictionary.root())
-        .initialState(initialState)
-        .dictionary(dictionary)
-        .algorithm(algorithm)
-        .includeDistance(includeDistance);
-
-    return new Transducer<DawgNode, CandidateType>(attributes);
+    return new TransducerAttributes()
+      .maxDistance(defaultMaxDistance)
+      .stateTransitionFactory(stateTransitionFactory)
+      .candidateFactory(candidateFactory())
+      .minDistance(minDistance())
+      .initialState(initialState)
+      .algorithm(algorithm)
+      .includeDistance(includeDistance)
+      .includeOrdinal(includeOrdinal);
   }
 
   /**
    * Builds the factory for spelling candidates, according to whether they
-   * should include the candidates' distances from query terms.
+   * should include the candidates' distances from query terms, and their
+   * ordinals.
    * @param <CandidateType> Implicit type of the spelling candidates generated
    *   by the transducer.
    * @return Factory for spelling candidates.
    */
   @SuppressWarnings("unchecked")
   protected <CandidateType> CandidateFactory<CandidateType> candidateFactory() {
+    if (includeOrdinal) {
+      return (CandidateFactory<CandidateType>) new CandidateFactory.WithOrdinal();
+    }
     return (CandidateFactory<CandidateType>)
       (includeDistance
         ? new CandidateFactory.WithDistance()
@@ -0,0 +1,105 @@
+package com.github.liblevenshtein;
+
+import com.github.liblevenshtein.collection.dictionary.AbstractFrozenDawg;
+import com.github.liblevenshtein.collection.dictionary.FrozenDawg;
+import com.github.liblevenshtein.collection.dictionary.SortedDawg;
+import com.github.liblevenshtein.transducer.Candidate;
+import com.github.liblevenshtein.transducer.ITransducer;
+import com.github.liblevenshtein.transducer.factory.TransducerBuilder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.github.liblevenshtein.assertion.SetAssertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that an alternative dictionary backend behaves like a
+ * {@link FrozenDawg} of the same terms.
+ */
+public class DictionaryEquivalence {
+
+  public static final List<String> UNICODE_TERMS =
+    Arrays.asList("", "\u0000", "a\uFFFF", "été", "日本");
+
+  private static final List<String> QUERIES =
+    Arrays.asList("mispell", "teh", "", "qzxj");
+
+  private final List<String> terms;
+
+  private final FrozenDawg frozen;
+
+  private DictionaryEquivalence(final List<String> terms) {
+    this.terms = terms;
+    this.frozen = new SortedDawg(terms).freeze();
+  }
+
+  public static DictionaryEquivalence ofWordsEn() {
+    final List<String> terms = ReadLines.fromResources("wordsEn.txt");
+    Collections.sort(terms);
+    return new DictionaryEquivalence(terms);
+  }
+
+  public List<String> terms() {
+    return terms;
+  }
+
+  public FrozenDawg frozen() {
+    return frozen;
+  }
+
+  public void assertEquivalent(final Set<String> dictionary) {
+    assertThat(dictionary).hasSize(terms.size());
+    assertThat(new ArrayList<>(dictionary)).isEqualTo(terms);
+    assertThat(dictionary).doesNotContain("notaword", "", "abandonmentx");
+
+    final ITransducer<Candidate> expected = new TransducerBuilder()
+      .dictionary(frozen)
+      .defaultMaxDistance(2)
+      .build();
+    final ITransducer<Candidate> actual = new TransducerBuilder()
+      .dictionary(dictionary)
+      .defaultMaxDistance(2)
+      .build();
+    for (final String query : QUERIES) {
+      assertThat(candidates(actual.transduce(query))).isEqualTo(candidates(expected.transduce(query)));
+    }
+  }
+
+  public void assertSameTransitions(final AbstractFrozenDawg dawg) {
+    for (int node = 0; node < frozen.nodeCount(); ++node) {
+      for (char label = 0; label < 256; ++label) {
+        assertThat(dawg.transition(node, label))
+          .isEqualTo(frozen.transition(node, label));
+      }
+    }
+    assertThat(dawg.transition(AbstractFrozenDawg.ROOT, '\uFFFF'))
+      .isEqualTo(AbstractFrozenDawg.NO_NODE);
+  }
+
+  public static void assertHoldsUnicodeTerms(final Set<String> dictionary) {
+    final List<String> sorted = new ArrayList<>(UNICODE_TERMS);
+    Collections.sort(sorted);
+    assertThat(new ArrayList<>(dictionary)).isEqualTo(sorted);
+    assertThat(dictionary).contains(UNICODE_TERMS.toArray(new String[0]));
+    assertThat(dictionary).doesNotContain("日", "a");
+  }
+
+  public static void assertHoldsNoTerms(final Set<String> dictionary) {
+    assertThat(dictionary).isEmpty();
+    assertThat(dictionary).doesNotContain("", "a");
+    assertThat(new ArrayList<>(dictionary)).isEmpty();
+  }
+
+  public static Set<Candidate> candidates(final Iterable<Candidate> candidates) {
+    final Set<Candidate> set = new HashSet<>();
+    for (final Candidate candidate : candidates) {
+      set.add(candidate);
+    }
+    return set;
+  }
+}
@@ -0,0 +1,17 @@
+package com.github.liblevenshtein;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class SortedCandidates {
+
+  public static List<String> of(final Iterable<String> results) {
+    final List<String> candidates = new ArrayList<>();
+    for (final String candidate : results) {
+      candidates.add(candidate);
+    }
+    Collections.sort(candidates);
+    return candidates;
+  }
+}
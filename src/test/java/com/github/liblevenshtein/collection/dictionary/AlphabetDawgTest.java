@@ -0,0 +1,67 @@
+package com.github.liblevenshtein.collection.dictionary;
+
+import com.github.liblevenshtein.DictionaryEquivalence;
+import com.github.liblevenshtein.collection.dictionary.factory.DawgFactory;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AlphabetDawgTest {
+
+  private DictionaryEquivalence equivalence;
+
+  private AlphabetDawg dawg;
+
+  @BeforeClass
+  public void setUp() {
+    equivalence = DictionaryEquivalence.ofWordsEn();
+    dawg = new AlphabetDawg(equivalence.frozen());
+  }
+
+  @Test
+  public void dawgShouldBeEquivalentToTheFrozenDawg() {
+    equivalence.assertEquivalent(dawg);
+    equivalence.assertSameTransitions(dawg);
+  }
+
+  @Test
+  public void onlyHighFanOutNodesShouldBeTabulated() {
+    assertThat(dawg.denseNodeCount()).isPositive();
+    assertThat(dawg.denseNodeCount()).isLessThan(dawg.nodeCount());
+  }
+
+  @Test
+  public void symbolTransitionsShouldFollowTheEncodedQuery() {
+    final Alphabet alphabet = dawg.alphabet();
+    for (int symbol = 0; symbol < alphabet.size(); ++symbol) {
+      assertThat(alphabet.symbol(alphabet.label(symbol))).isEqualTo(symbol);
+    }
+    for (final String term : Arrays.asList("abandon", "zygote", "abandonmentx", "日本")) {
+      int node = AbstractFrozenDawg.ROOT;
+      for (final int symbol : alphabet.encode(term)) {
+        if (AbstractFrozenDawg.NO_NODE != node) {
+          node = dawg.symbolTransition(node, symbol);
+        }
+      }
+      assertThat(AbstractFrozenDawg.NO_NODE != node && dawg.isFinal(node))
+        .isEqualTo(equivalence.frozen().contains(term));
+    }
+    assertThat(alphabet.encode("a日")).containsExactly(alphabet.symbol('a'), Alphabet.UNKNOWN);
+  }
+
+  @Test
+  public void dawgShouldSupportArbitraryLabels() {
+    DictionaryEquivalence.assertHoldsUnicodeTerms(
+      new DawgFactory().buildAlphabetDawg(DictionaryEquivalence.UNICODE_TERMS, false));
+  }
+
+  @Test
+  public void emptyDawgShouldContainNothing() {
+    DictionaryEquivalence.assertHoldsNoTerms(
+      new DawgFactory().buildAlphabetDawg(Collections.<String>emptyList(), true));
+  }
+}
@@ -0,0 +1,102 @@
+package com.github.liblevenshtein.collection.dictionary;
+
+import com.github.liblevenshtein.ReadLines;
+import com.github.liblevenshtein.collection.dictionary.factory.DawgFactory;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BatchMembershipTest {
+
+  private List<String> terms;
+
+  private List<String> queries;
+
+  @BeforeClass
+  public void setUp() {
+    terms = ReadLines.fromResources("wordsEn.txt");
+    Collections.sort(terms);
+    queries = new ArrayList<>();
+    for (final String term : terms) {
+      queries.add(term);
+      queries.add(term + "q");
+      queries.add(term.substring(0, term.length() / 2));
+    }
+    queries.add("");
+    Collections.shuffle(queries, new Random(0));
+  }
+
+  @DataProvider(name = "dictionaries")
+  public Object[][] dictionaries() {
+    final DawgFactory factory = new DawgFactory();
+    return new Object[][] {
+      {new SortedDawg(terms)},
+      {factory.buildFrozen(terms, true)},
+      {factory.buildLouds(terms, true)},
+    };
+  }
+
+  @Test(dataProvider = "dictionaries")
+  public void testFilterContained(final IDictionary<Object> dictionary) {
+    final BitSet expected = new BitSet(queries.size());
+    for (int i = 0; i < queries.size(); ++i) {
+      if (dictionary.contains(queries.get(i))) {
+        expected.set(i);
+      }
+    }
+    assertThat(new BatchMembership<>(dictionary).filterContained(queries, false))
+      .isEqualTo(expected);
+    assertThat(new BatchMembership<>(dictionary, ForkJoinPool.commonPool(), 64)
+        .filterContained(queries, false))
+      .isEqualTo(expected);
+  }
+
+  @Test(dataProvider = "dictionaries")
+  public void testFilterSortedBatch(final IDictionary<Object> dictionary) {
+    final List<String> sorted = new ArrayList<>(queries);
+    Collections.sort(sorted);
+    final BitSet contained =
+      new BatchMembership<>(dictionary, ForkJoinPool.commonPool(), 64)
+        .filterContained(sorted, true);
+    for (int i = 0; i < sorted.size(); ++i) {
+      assertThat(contained.get(i)).isEqualTo(dictionary.contains(sorted.get(i)));
+    }
+  }
+
+  @Test
+  public void testContainsAll() {
+    final Dawg dawg = new SortedDawg(terms);
+    final FrozenDawg frozen = new DawgFactory().freeze(dawg);
+    assertThat(dawg.containsAll(terms)).isTrue();
+    assertThat(frozen.containsAll(terms)).isTrue();
+    assertThat(dawg.containsAll(queries)).isFalse();
+    assertThat(frozen.containsAll(queries)).isFalse();
+    assertThat(dawg.containsAll(Arrays.asList("zebra", "aardvark"))).isTrue();
+    assertThat(dawg.containsAll(Arrays.asList("aardvark", 1))).isFalse();
+    assertThat(dawg.containsAll(Collections.emptyList())).isTrue();
+  }
+
+  @Test
+  public void testSharedPrefixesOfMissingTerms() {
+    final Dawg dawg = new SortedDawg(Arrays.asList("", "ab", "abc", "abd"));
+    assertThat(dawg.filterContained(
+        Arrays.asList("", "a", "ab", "abc", "abcd", "abd", "ax", "axb", "b"),
+        true))
+      .isEqualTo(BitSet.valueOf(new long[] {0b000101101L}));
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testRejectsNonPositiveThreshold() {
+    new BatchMembership<>(new SortedDawg(), ForkJoinPool.commonPool(), 0);
+  }
+}
@@ -0,0 +1,114 @@
+package com.github.liblevenshtein.collection.dictionary;
+
+import com.github.liblevenshtein.DictionaryEquivalence;
+import com.github.liblevenshtein.collection.dictionary.factory.DawgFactory;
+import com.github.liblevenshtein.transducer.Candidate;
+import com.github.liblevenshtein.transducer.CodePointTransducer;
+import com.github.liblevenshtein.transducer.ITransducer;
+import com.github.liblevenshtein.transducer.factory.TransducerBuilder;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static com.github.liblevenshtein.DictionaryEquivalence.candidates;
+import static com.github.liblevenshtein.assertion.SetAssertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CodePointDawgTest {
+
+  private static final String GRINNING = new String(Character.toChars(0x1F600));
+
+  private static final String GLOBE = new String(Character.toChars(0x1F30D));
+
+  private static final String CJK_EXTENSION_B = new String(Character.toChars(0x20000));
+
+  private DictionaryEquivalence equivalence;
+
+  private CodePointDawg dawg;
+
+  @BeforeClass
+  public void setUp() {
+    equivalence = DictionaryEquivalence.ofWordsEn();
+    dawg = new CodePointDawg(equivalence.terms());
+  }
+
+  @Test
+  public void dawgShouldBeEquivalentToTheFrozenDawg() {
+    equivalence.assertEquivalent(dawg);
+  }
+
+  @Test
+  public void dawgShouldBeAsSmallAsTheFrozenDawg() {
+    assertThat(dawg.nodeCount()).isEqualTo(equivalence.frozen().nodeCount());
+    assertThat(dawg.edgeCount()).isEqualTo(equivalence.frozen().edgeCount());
+    assertThat(dawg.hasSupplementaryLabels()).isFalse();
+  }
+
+  @Test
+  public void supplementaryCharactersShouldBeSingleEdges() {
+    final List<String> unicode = Arrays.asList(
+        "", "a", "\uFFFF", "x", GRINNING, "a" + GRINNING + "b",
+        CJK_EXTENSION_B, GLOBE + GRINNING);
+    final CodePointDawg dawg = new DawgFactory().buildCodePoint(unicode, false);
+
+    final List<String> sorted = new ArrayList<String>(unicode);
+    Collections.sort(sorted, CodePointDawg.CODE_POINT_ORDER);
+    assertThat(new ArrayList<String>(dawg)).isEqualTo(sorted);
+    assertThat(sorted.indexOf(GRINNING)).isGreaterThan(sorted.indexOf("\uFFFF"));
+    assertThat(dawg).contains(unicode.toArray());
+    assertThat(dawg).doesNotContain(GRINNING.substring(0, 1), "a" + GRINNING);
+    assertThat(dawg.hasSupplementaryLabels()).isTrue();
+
+    final int node = dawg.transition(dawg.root(), 0x1F600);
+    assertThat(node).isNotEqualTo(CodePointDawg.NO_NODE);
+    assertThat(dawg.isFinal(node)).isTrue();
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void dawgShouldRequireCodePointOrder() {
+    // UTF-16 order places the surrogates of U+1F600 before U+FFFF
+    new CodePointDawg(Arrays.asList(GRINNING, "\uFFFF"));
+  }
+
+  @Test
+  public void emptyDawgShouldContainNothing() {
+    final CodePointDawg dawg = new CodePointDawg(Collections.<String>emptyList());
+    assertThat(dawg).isEmpty();
+    assertThat(dawg).doesNotContain("", "a");
+  }
+
+  @Test
+  public void transducerShouldCountCodePoints() {
+    final List<String> dictionary = Arrays.asList("cat", "x" + GRINNING + "y");
+    final ITransducer<Candidate> utf16 = new TransducerBuilder()
+      .dictionary(dictionary)
+      .defaultMaxDistance(1)
+      .build();
+    final ITransducer<Candidate> codePoints = new TransducerBuilder()
+      .dictionary(dictionary)
+      .codePoints(true)
+      .defaultMaxDistance(1)
+      .build();
+    assertThat(codePoints).isInstanceOf(CodePointTransducer.class);
+
+    for (final String query : Arrays.asList("c" + GLOBE + "t", "ca" + GRINNING + "t", "x" + GLOBE + "y")) {
+      assertThat(candidates(utf16.transduce(query))).isEmpty();
+      assertThat(candidates(codePoints.transduce(query))).hasSize(1);
+    }
+    assertThat(candidates(codePoints.transduce("x" + GLOBE + "y")))
+      .isEqualTo(Collections.singleton(new Candidate("x" + GRINNING + "y", 1)));
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void transducerShouldNotSupportOrdinals() {
+    new TransducerBuilder()
+      .dictionary(equivalence.terms())
+      .codePoints(true)
+      .includeOrdinal(true)
+      .build();
+  }
+}
@@ -0,0 +1,127 @@
+package com.github.liblevenshtein.collection.dictionary;
+
+import com.github.liblevenshtein.ReadLines;
+import com.github.liblevenshtein.collection.dictionary.factory.DawgFactory;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CompletionsTest {
+
+  private static final List<String> PREFIXES =
+    Arrays.asList("", "a", "qu", "inter", "zzz", "abandon", "abandonment");
+
+  private List<String> terms;
+
+  @BeforeClass
+  public void setUp() {
+    terms = ReadLines.fromResources("wordsEn.txt");
+    Collections.sort(terms);
+  }
+
+  @DataProvider(name = "dictionaries")
+  public Object[][] dictionaries() {
+    final List<String> shuffled = new ArrayList<String>(terms);
+    Collections.shuffle(shuffled, new Random(0xC0));
+    final SortedDawg sorted = new SortedDawg(terms);
+    return new Object[][] {
+      {sorted.completions("")},
+      {new DynamicDawg(shuffled).completions("")},
+      {sorted.freeze().completions("")},
+    };
+  }
+
+  @Test(dataProvider = "dictionaries")
+  public void completionsShouldBeSortedTermsWithThePrefix(
+      final Completions<?> root) {
+    for (final String prefix : PREFIXES) {
+      final List<String> expected = withPrefix(prefix);
+      assertThat(toList(root.extend(prefix))).isEqualTo(expected);
+      assertThat(root.extend(prefix).isEmpty()).isEqualTo(expected.isEmpty());
+      assertThat(root.extend(prefix).prefix()).isEqualTo(prefix);
+    }
+  }
+
+  @Test
+  public void extendingShouldMatchLookingUpTheLongerPrefix() {
+    final FrozenDawg dawg = new SortedDawg(terms).freeze();
+    Completions<Integer> completions = dawg.completions("");
+    for (final char c : "interna".toCharArray()) {
+      completions = completions.extend(String.valueOf(c));
+    }
+    assertThat(toList(completions)).isEqualTo(toList(dawg.completions("interna")));
+    assertThat(toList(completions.extend("tionalx"))).isEmpty();
+  }
+
+  @Test
+  public void completionsShouldFollowLongTerms() {
+    final char[] chars = new char[100000];
+    Arrays.fill(chars, 'a');
+    final String term = new String(chars);
+    final SortedDawg dawg = new SortedDawg(Arrays.asList("a", term));
+    assertThat(toList(dawg.completions("aa"))).containsExactly(term);
+  }
+
+  @Test
+  public void topShouldReturnTheHeaviestCompletions() {
+    final Random random = new Random(0xC1);
+    final Map<String, Long> weights = new HashMap<String, Long>();
+    for (final String term : terms) {
+      weights.put(term, (long) random.nextInt(1 << 20));
+    }
+    final WeightedDictionary<Integer> dictionary =
+      new DawgFactory().buildWeighted(weights);
+
+    for (final String prefix : PREFIXES) {
+      final List<Long> expected = new ArrayList<Long>();
+      for (final String term : withPrefix(prefix)) {
+        expected.add(weights.get(term));
+      }
+      Collections.sort(expected, Collections.reverseOrder());
+
+      for (final int k : new int[] {0, 1, 5, 1000000}) {
+        final List<String> top = dictionary.completions(prefix).top(k);
+        final List<Long> actual = new ArrayList<Long>();
+        for (final String term : top) {
+          assertThat(term).startsWith(prefix);
+          actual.add(weights.get(term));
+        }
+        assertThat(actual).isEqualTo(expected.subList(0, Math.min(k, expected.size())));
+        assertThat(top).doesNotHaveDuplicates();
+      }
+    }
+  }
+
+  @Test(expectedExceptions = UnsupportedOperationException.class)
+  public void topShouldRequireAWeightedDictionary() {
+    new SortedDawg(terms).completions("a").top(1);
+  }
+
+  private List<String> withPrefix(final String prefix) {
+    final List<String> expected = new ArrayList<String>();
+    for (final String term : terms) {
+      if (term.startsWith(prefix)) {
+        expected.add(term);
+      }
+    }
+    return expected;
+  }
+
+  private static List<String> toList(final Iterable<String> completions) {
+    final List<String> list = new ArrayList<String>();
+    for (final String completion : completions) {
+      list.add(completion);
+    }
+    return list;
+  }
+}
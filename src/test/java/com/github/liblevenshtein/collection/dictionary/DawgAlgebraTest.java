@@ -0,0 +1,125 @@
+package com.github.liblevenshtein.collection.dictionary;
+
+import com.github.liblevenshtein.ReadLines;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DawgAlgebraTest {
+
+  private TreeSet<String> lhsTerms;
+
+  private TreeSet<String> rhsTerms;
+
+  @BeforeClass
+  public void setUp() {
+    final List<String> terms = ReadLines.fromResources("wordsEn.txt");
+    final Random random = new Random(0);
+    lhsTerms = new TreeSet<>();
+    rhsTerms = new TreeSet<>();
+    for (final String term : terms) {
+      final int choice = random.nextInt(3);
+      if (choice < 2) {
+        lhsTerms.add(term);
+      }
+      if (choice > 0) {
+        rhsTerms.add(term);
+      }
+    }
+  }
+
+  @DataProvider(name = "operands")
+  public Object[][] operands() {
+    final List<String> shuffled = new ArrayList<>(rhsTerms);
+    Collections.shuffle(shuffled, new Random(1));
+    return new Object[][] {
+      {new SortedDawg(new ArrayList<>(lhsTerms)), new SortedDawg(new ArrayList<>(rhsTerms))},
+      {new SortedDawg(new ArrayList<>(lhsTerms)), new DynamicDawg(shuffled)},
+    };
+  }
+
+  private static void assertMinimal(final SortedDawg actual, final TreeSet<String> expected) {
+    assertThat(actual.size()).isEqualTo(expected.size());
+    assertThat(new ArrayList<>(actual)).isEqualTo(new ArrayList<>(expected));
+    final FrozenDawg minimal = new SortedDawg(new ArrayList<>(expected)).freeze();
+    final FrozenDawg frozen = actual.freeze();
+    assertThat(frozen.nodeCount()).isEqualTo(minimal.nodeCount());
+    assertThat(frozen.edgeCount()).isEqualTo(minimal.edgeCount());
+  }
+
+  @Test(dataProvider = "operands")
+  public void testUnion(final Dawg lhs, final Dawg rhs) {
+    final TreeSet<String> expected = new TreeSet<>(lhsTerms);
+    expected.addAll(rhsTerms);
+    assertMinimal(DawgAlgebra.union(lhs, rhs), expected);
+  }
+
+  @Test(dataProvider = "operands")
+  public void testIntersection(final Dawg lhs, final Dawg rhs) {
+    final TreeSet<String> expected = new TreeSet<>(lhsTerms);
+    expected.retainAll(rhsTerms);
+    assertMinimal(DawgAlgebra.intersection(lhs, rhs), expected);
+  }
+
+  @Test(dataProvider = "operands")
+  public void testDifference(final Dawg lhs, final Dawg rhs) {
+    final TreeSet<String> expected = new TreeSet<>(lhsTerms);
+    expected.removeAll(rhsTerms);
+    assertMinimal(DawgAlgebra.difference(lhs, rhs), expected);
+  }
+
+  @Test
+  public void testEmptyResultsAndEmptyTerm() {
+    final Dawg lhs = new SortedDawg(Arrays.asList("", "a", "ab"));
+    final Dawg rhs = new SortedDawg(Arrays.asList("", "a", "ab"));
+    final SortedDawg empty = DawgAlgebra.difference(lhs, rhs);
+    assertThat(empty.isEmpty()).isTrue();
+    assertThat(empty.add("z")).isTrue();
+    empty.finish();
+    assertThat(empty.contains("z")).isTrue();
+
+    final SortedDawg withEmpty =
+      DawgAlgebra.intersection(lhs, new SortedDawg(Arrays.asList("", "b")));
+    assertThat(new ArrayList<>(withEmpty)).containsExactly("");
+    assertThat(withEmpty.ordinal("")).isEqualTo(0);
+  }
+
+  @Test
+  public void testResultAcceptsGreaterTerms() {
+    final SortedDawg union = DawgAlgebra.union(
+        new SortedDawg(Arrays.asList("ab", "xy")),
+        new SortedDawg(Arrays.asList("cd")));
+    assertThat(union.add("xz")).isTrue();
+    assertThat(union.add("y")).isTrue();
+    union.finish();
+    assertThat(new ArrayList<>(union)).containsExactly("ab", "cd", "xy", "xz", "y");
+    assertThat(union.size()).isEqualTo(5);
+    assertThat(union.term(3)).isEqualTo("xz");
+  }
+
+  @Test
+  public void testAddingLeavesSharedNodesIntact() {
+    // "a" and "x" lead to the same node, whose only suffix is "y".
+    final SortedDawg union = DawgAlgebra.union(
+        new SortedDawg(Arrays.asList("ay")),
+        new SortedDawg(Arrays.asList("xy")));
+    assertThat(union.add("xz")).isTrue();
+    union.finish();
+    assertThat(new ArrayList<>(union)).containsExactly("ay", "xy", "xz");
+    assertThat(union.contains("az")).isFalse();
+
+    final SortedDawg finished = new SortedDawg(Arrays.asList("ay", "xy"));
+    assertThat(finished.add("xyz")).isTrue();
+    finished.finish();
+    assertThat(new ArrayList<>(finished)).containsExactly("ay", "xy", "xyz");
+  }
+}
@@ -0,0 +1,119 @@
+package com.github.liblevenshtein.collection.dictionary;
+
+import com.github.liblevenshtein.ReadLines;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DawgIteratorTest {
+
+  private List<String> terms;
+
+  @BeforeClass
+  public void setUp() {
+    terms = ReadLines.fromResources("wordsEn.txt");
+    Collections.sort(terms);
+  }
+
+  @DataProvider(name = "dawgs")
+  public Object[][] dawgs() {
+    final List<String> shuffled = new ArrayList<>(terms);
+    Collections.shuffle(shuffled);
+    return new Object[][] {
+      {new SortedDawg(terms)},
+      {new DynamicDawg(shuffled)},
+    };
+  }
+
+  @Test(dataProvider = "dawgs")
+  public void testIterationIsLexicographic(final Dawg dawg) {
+    final List<String> iterated = new ArrayList<>(terms.size());
+    for (final String term : dawg) {
+      iterated.add(term);
+    }
+    assertThat(iterated).isEqualTo(terms);
+  }
+
+  @Test(dataProvider = "dawgs")
+  public void testViewsMatchTerms(final Dawg dawg) {
+    final List<String> viewed = new ArrayList<>(terms.size());
+    CharSequence previous = null;
+    final Iterator<CharSequence> views = dawg.viewIterator();
+    while (views.hasNext()) {
+      final CharSequence view = views.next();
+      if (null != previous) {
+        assertThat(view).isSameAs(previous);
+      }
+      previous = view;
+      viewed.add(view.toString());
+    }
+    assertThat(viewed).isEqualTo(terms);
+  }
+
+  @Test
+  public void testViewIsACharSequence() {
+    final Dawg dawg = new SortedDawg(Arrays.asList("bar", "baz", "foo"));
+    final Iterator<CharSequence> views = dawg.viewIterator();
+    final CharSequence view = views.next();
+    assertThat(view.length()).isEqualTo(3);
+    assertThat(view.charAt(2)).isEqualTo('r');
+    assertThat(view.subSequence(1, 3).toString()).isEqualTo("ar");
+    assertThat(views.next().toString()).isEqualTo("baz");
+    assertThat(view.toString()).isEqualTo("baz");
+  }
+
+  @Test(expectedExceptions = IndexOutOfBoundsException.class)
+  public void testViewRejectsIndexOutOfBounds() {
+    final Dawg dawg = new SortedDawg(Arrays.asList("bar"));
+    dawg.viewIterator().next().charAt(3);
+  }
+
+  @Test
+  public void testEmptyDawg() {
+    assertThat(new SortedDawg().iterator().hasNext()).isFalse();
+    assertThat(new SortedDawg().viewIterator().hasNext()).isFalse();
+  }
+
+  @Test
+  public void testEmptyTerm() {
+    final List<String> expected = Arrays.asList("", "a", "ab");
+    final List<String> iterated = new ArrayList<>();
+    for (final String term : new SortedDawg(expected)) {
+      iterated.add(term);
+    }
+    assertThat(iterated).isEqualTo(expected);
+  }
+
+  @Test
+  public void testLabelsBeyondAscii() {
+    final List<String> expected = Arrays.asList(
+        "caf\u00e9", "caf\u00e9s", "na\u00efve", "\u00e9t\u00e9", "\u65e5\u672c", "\uffff");
+    final List<String> iterated = new ArrayList<>();
+    for (final String term : new SortedDawg(expected)) {
+      iterated.add(term);
+    }
+    assertThat(iterated).isEqualTo(expected);
+  }
+
+  @Test
+  public void testLongTermsDoNotExhaustTheStack() {
+    final char[] chars = new char[100_000];
+    Arrays.fill(chars, 'a');
+    final String longest = new String(chars);
+    final List<String> expected =
+      Arrays.asList(longest.substring(0, 50_000), longest);
+    final List<String> iterated = new ArrayList<>();
+    for (final String term : new SortedDawg(expected)) {
+      iterated.add(term);
+    }
+    assertThat(iterated).isEqualTo(expected);
+  }
+}
@@ -0,0 +1,107 @@
+package com.github.liblevenshtein.collection.dictionary;
+
+import com.github.liblevenshtein.ReadLines;
+import com.github.liblevenshtein.SortedCandidates;
+import com.github.liblevenshtein.collection.dictionary.factory.DawgFactory;
+import com.github.liblevenshtein.transducer.ITransducer;
+import com.github.liblevenshtein.transducer.factory.TransducerBuilder;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DawgLayoutTest {
+
+  private static final List<String> QUERIES =
+    Arrays.asList("recieve", "teh", "wrod", "zebra", "qxj");
+
+  private List<String> terms;
+
+  private FrozenDawg frozen;
+
+  @BeforeClass
+  public void setUp() {
+    terms = ReadLines.fromResources("wordsEn.txt");
+    Collections.sort(terms);
+    frozen = new DawgFactory().buildFrozen(terms, true);
+  }
+
+  @DataProvider(name = "layouts")
+  public Object[][] layouts() {
+    return new Object[][] {
+      {DawgLayout.breadthFirst(frozen)},
+      {DawgLayout.depthFirst(frozen)},
+      {DawgLayout.hybrid(frozen, 2)},
+      {DawgLayout.hotFirst(frozen, QUERIES)},
+    };
+  }
+
+  private static List<String> candidates(
+      final IDictionary<?> dictionary,
+      final String query) {
+    final ITransducer<String> transducer = new TransducerBuilder()
+      .dictionary(dictionary)
+      .defaultMaxDistance(2)
+      .includeDistance(false)
+      .<String>build();
+    return SortedCandidates.of(transducer.transduce(query));
+  }
+
+  @Test(dataProvider = "layouts")
+  public void testLayoutPreservesTermsAndOrdinals(final FrozenDawg layout) {
+    assertThat(layout.nodeCount()).isEqualTo(frozen.nodeCount());
+    assertThat(layout.edgeCount()).isEqualTo(frozen.edgeCount());
+    assertThat(layout.size()).isEqualTo(frozen.size());
+    assertThat(new ArrayList<>(layout)).isEqualTo(terms);
+    for (int ordinal = 0; ordinal < terms.size(); ordinal += 97) {
+      assertThat(layout.term(ordinal)).isEqualTo(terms.get(ordinal));
+    }
+    for (final String query : QUERIES) {
+      assertThat(candidates(layout, query)).isEqualTo(candidates(frozen, query));
+    }
+  }
+
+  @Test
+  public void testBreadthFirstMatchesCompiledOrder() {
+    final FrozenDawg layout = DawgLayout.breadthFirst(frozen);
+    for (int node = 0; node < frozen.nodeCount(); ++node) {
+      assertThat(layout.edgesBegin(node)).isEqualTo(frozen.edgesBegin(node));
+      assertThat(layout.isFinal(node)).isEqualTo(frozen.isFinal(node));
+    }
+    for (int edge = 0; edge < frozen.edgeCount(); ++edge) {
+      assertThat(layout.target(edge)).isEqualTo(frozen.target(edge));
+    }
+  }
+
+  @Test
+  public void testDepthFirstPlacesSubtreesAfterTheirRoots() {
+    final FrozenDawg layout = DawgLayout.depthFirst(
+        new DawgFactory().buildFrozen(Arrays.asList("ab", "ac", "b"), true));
+    // root, a, ab, ac and b: "ab" and "ac" share their final node, as do "b".
+    assertThat(layout.transition(AbstractFrozenDawg.ROOT, 'a')).isEqualTo(1);
+    assertThat(layout.transition(1, 'b')).isEqualTo(2);
+    assertThat(layout.transition(1, 'c')).isEqualTo(2);
+    assertThat(layout.transition(AbstractFrozenDawg.ROOT, 'b')).isEqualTo(2);
+  }
+
+  @Test
+  public void testHotFirstPlacesSampledPathsFirst() {
+    final FrozenDawg layout = DawgLayout.hotFirst(frozen, Arrays.asList("zebra"));
+    int node = AbstractFrozenDawg.ROOT;
+    for (int i = 0; i < "zebra".length(); ++i) {
+      node = layout.transition(node, "zebra".charAt(i));
+      assertThat(node).isEqualTo(i + 1);
+    }
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testRejectsNegativeDepth() {
+    DawgLayout.hybrid(frozen, -1);
+  }
+}
@@ -0,0 +1,99 @@
+package com.github.liblevenshtein.collection.dictionary;
+
+import com.github.liblevenshtein.ReadLines;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DawgSpliteratorTest {
+
+  private List<String> terms;
+
+  @BeforeClass
+  public void setUp() {
+    terms = ReadLines.fromResources("wordsEn.txt");
+    Collections.sort(terms);
+  }
+
+  @DataProvider(name = "dawgs")
+  public Object[][] dawgs() {
+    final List<String> shuffled = new ArrayList<>(terms);
+    Collections.shuffle(shuffled);
+    return new Object[][] {
+      {new SortedDawg(terms)},
+      {new DynamicDawg(shuffled)},
+    };
+  }
+
+  @Test(dataProvider = "dawgs")
+  public void testParallelStream(final Dawg dawg) {
+    assertThat(dawg.parallelStream().collect(Collectors.toList()))
+      .isEqualTo(terms);
+    assertThat(dawg.parallelStream().filter(term -> term.startsWith("un")).count())
+      .isEqualTo(terms.stream().filter(term -> term.startsWith("un")).count());
+  }
+
+  @Test(dataProvider = "dawgs")
+  public void testSplitsAreExactlySized(final Dawg dawg) {
+    final Spliterator<String> suffix = dawg.spliterator();
+    final Spliterator<String> prefix = suffix.trySplit();
+    assertThat(prefix.getExactSizeIfKnown() + suffix.getExactSizeIfKnown())
+      .isEqualTo(terms.size());
+
+    final List<String> iterated = new ArrayList<>();
+    prefix.forEachRemaining(iterated::add);
+    assertThat(iterated).isEqualTo(terms.subList(0, iterated.size()));
+    suffix.forEachRemaining(iterated::add);
+    assertThat(iterated).isEqualTo(terms);
+  }
+
+  @Test(dataProvider = "dawgs")
+  public void testSplitAfterAdvancing(final Dawg dawg) {
+    final Spliterator<String> spliterator = dawg.spliterator();
+    final List<String> iterated = new ArrayList<>();
+    for (int i = 0; i < 10; ++i) {
+      assertThat(spliterator.tryAdvance(iterated::add)).isTrue();
+    }
+    final Spliterator<String> prefix = spliterator.trySplit();
+    prefix.forEachRemaining(iterated::add);
+    spliterator.forEachRemaining(iterated::add);
+    assertThat(iterated).isEqualTo(terms);
+  }
+
+  @Test
+  public void testCharacteristics() {
+    final Spliterator<String> spliterator = new SortedDawg(terms).spliterator();
+    assertThat(spliterator.hasCharacteristics(
+        Spliterator.SIZED
+        | Spliterator.SUBSIZED
+        | Spliterator.SORTED
+        | Spliterator.ORDERED
+        | Spliterator.DISTINCT
+        | Spliterator.NONNULL)).isTrue();
+    assertThat(spliterator.getComparator()).isNull();
+  }
+
+  @Test
+  public void testSmallDawgs() {
+    final Spliterator<String> empty = new SortedDawg().spliterator();
+    assertThat(empty.trySplit()).isNull();
+    assertThat(empty.tryAdvance(term -> { throw new AssertionError(term); }))
+      .isFalse();
+
+    final List<String> expected = Arrays.asList("", "a", "ab", "b");
+    final Dawg dawg = new SortedDawg(expected);
+    for (int size = 1; size <= expected.size(); ++size) {
+      assertThat(dawg.parallelStream().limit(size).collect(Collectors.toList()))
+        .isEqualTo(expected.subList(0, size));
+    }
+  }
+}
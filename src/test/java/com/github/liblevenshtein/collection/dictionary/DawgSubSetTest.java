@@ -0,0 +1,146 @@
+package com.github.liblevenshtein.collection.dictionary;
+
+import com.github.liblevenshtein.ReadLines;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DawgSubSetTest {
+
+  private List<String> terms;
+
+  private TreeSet<String> expected;
+
+  private List<String> probes;
+
+  @BeforeClass
+  public void setUp() {
+    final List<String> allTerms = ReadLines.fromResources("wordsEn.txt");
+    Collections.sort(allTerms);
+    final Random random = new Random(0);
+    terms = new ArrayList<>();
+    probes = new ArrayList<>(Arrays.asList("", "a", "zzzz", "\uFFFF"));
+    for (final String term : allTerms) {
+      if (random.nextInt(4) > 0) {
+        terms.add(term);
+      }
+      if (random.nextInt(500) == 0) {
+        probes.add(term);
+        probes.add(term.substring(0, term.length() / 2));
+        probes.add(term + "a");
+      }
+    }
+    expected = new TreeSet<>(terms);
+  }
+
+  @DataProvider(name = "dawgs")
+  public Object[][] dawgs() {
+    final List<String> shuffled = new ArrayList<>(terms);
+    Collections.shuffle(shuffled, new Random(1));
+    return new Object[][] {
+      {new SortedDawg(terms)},
+      {new DynamicDawg(shuffled)},
+    };
+  }
+
+  private void assertNavigatesLike(
+      final NavigableSet<String> actual,
+      final NavigableSet<String> expected) {
+    assertThat(actual.size()).isEqualTo(expected.size());
+    assertThat(new ArrayList<>(actual)).isEqualTo(new ArrayList<>(expected));
+    if (!expected.isEmpty()) {
+      assertThat(actual.first()).isEqualTo(expected.first());
+      assertThat(actual.last()).isEqualTo(expected.last());
+    }
+    for (final String probe : probes) {
+      assertThat(actual.contains(probe)).isEqualTo(expected.contains(probe));
+      assertThat(actual.lower(probe)).isEqualTo(expected.lower(probe));
+      assertThat(actual.floor(probe)).isEqualTo(expected.floor(probe));
+      assertThat(actual.ceiling(probe)).isEqualTo(expected.ceiling(probe));
+      assertThat(actual.higher(probe)).isEqualTo(expected.higher(probe));
+    }
+  }
+
+  @Test(dataProvider = "dawgs")
+  public void testRankAndSelect(final Dawg dawg) {
+    for (final String probe : probes) {
+      final int rank = dawg.rank(probe);
+      assertThat(rank).isEqualTo(expected.headSet(probe).size());
+      if (rank < dawg.size()) {
+        assertThat(dawg.term(rank)).isEqualTo(expected.ceiling(probe));
+      }
+    }
+  }
+
+  @Test(dataProvider = "dawgs")
+  public void testNavigation(final Dawg dawg) {
+    assertNavigatesLike(dawg, expected);
+    assertNavigatesLike(dawg.descendingSet(), expected.descendingSet());
+  }
+
+  @Test(dataProvider = "dawgs")
+  public void testRanges(final Dawg dawg) {
+    assertNavigatesLike(
+        dawg.subSet("cat", true, "dog", false),
+        expected.subSet("cat", true, "dog", false));
+    assertNavigatesLike(
+        dawg.subSet("cat", false, "cat", true),
+        expected.subSet("cat", false, "cat", true));
+    assertNavigatesLike(dawg.headSet("b", false), expected.headSet("b", false));
+    assertNavigatesLike(dawg.tailSet("x", false), expected.tailSet("x", false));
+    assertNavigatesLike(
+        dawg.subSet("m", true, "p", false).descendingSet(),
+        expected.subSet("m", true, "p", false).descendingSet());
+    assertNavigatesLike(
+        dawg.descendingSet().subSet("p", true, "m", true).headSet("o", true),
+        expected.descendingSet().subSet("p", true, "m", true).headSet("o", true));
+    assertNavigatesLike(
+        dawg.tailSet("q", true).headSet("r", false).tailSet("qu", false),
+        expected.tailSet("q", true).headSet("r", false).tailSet("qu", false));
+  }
+
+  @Test(dataProvider = "dawgs")
+  public void testRangesSplitForParallelStreams(final Dawg dawg) {
+    assertThat(dawg.subSet("s", "u").parallelStream().collect(Collectors.toList()))
+      .isEqualTo(new ArrayList<>(expected.subSet("s", "u")));
+  }
+
+  @Test
+  public void testRangesAreLiveViews() {
+    final DynamicDawg dawg = new DynamicDawg(Arrays.asList("a", "c", "e"));
+    final NavigableSet<String> range = dawg.subSet("b", true, "e", false);
+    assertThat(new ArrayList<>(range)).containsExactly("c");
+    assertThat(range.add("d")).isTrue();
+    dawg.add("b");
+    dawg.remove("c");
+    assertThat(new ArrayList<>(range)).containsExactly("b", "d");
+    assertThat(range.pollFirst()).isEqualTo("b");
+    assertThat(new ArrayList<>(dawg)).containsExactly("a", "d", "e");
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testRejectsTermsOutOfRange() {
+    new DynamicDawg().headSet("m").add("n");
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testRejectsNestedRangesOutOfRange() {
+    new DynamicDawg().headSet("m").tailSet("n");
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testRejectsReversedBounds() {
+    new DynamicDawg().subSet("n", "m");
+  }
+}
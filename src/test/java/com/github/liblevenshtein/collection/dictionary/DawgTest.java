@@ -6,13 +6,18 @@ import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.stream.Collectors;
 
 import static com.github.liblevenshtein.assertion.SetAssertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
 
 public class DawgTest {
 
@@ -111,6 +116,18 @@ public class DawgTest {
     }
   }
 
+  @Test
+  public void duplicateTermsShouldNotIncreaseTheSize() {
+    final SortedDawg dawg = new SortedDawg();
+    assertThat(dawg.add("")).isTrue();
+    assertThat(dawg.add("")).isFalse();
+    assertThat(dawg.add("a")).isTrue();
+    assertThat(dawg.add("a")).isFalse();
+    assertThat(dawg.add("b")).isTrue();
+    dawg.finish();
+    assertThat(dawg).contains("", "a", "b").hasSize(3);
+  }
+
   @Test(expectedExceptions = IllegalArgumentException.class)
   public void insertingTermsOutOfOrderShouldThrowAnException() {
     final List<String> termsList = new ArrayList<String>(3);
@@ -126,6 +143,44 @@ public class DawgTest {
     assertThat(fullDawg).isEqualTo(other);
   }
 
+  @Test
+  public void sortedDawgHandlesLongTerms() {
+    final StringBuilder term = new StringBuilder();
+    for (int i = 0; i < 100000; ++i) {
+      term.append((char) ('a' + i % 26));
+    }
+    final List<String> termsList = new ArrayList<String>(2);
+    termsList.add(term.toString());
+    termsList.add(term.append('z').toString());
+    final SortedDawg dawg = new SortedDawg(termsList);
+    assertThat(dawg).contains(termsList.get(0), termsList.get(1));
+    assertThat(dawg.freeze().nodeCount()).isEqualTo(100002);
+  }
+
+  @Test
+  public void sortedDawgRemainsMinimalAfterDeserialization()
+      throws IOException, ClassNotFoundException {
+    final int half = terms.size() / 2;
+    final SortedDawg dawg = new SortedDawg();
+    dawg.addAll(terms.subList(0, half));
+
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    final ObjectOutputStream output = new ObjectOutputStream(bytes);
+    output.writeObject(dawg);
+    output.close();
+    final ObjectInputStream input =
+      new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+    final SortedDawg copy = (SortedDawg) input.readObject();
+    input.close();
+
+    copy.addAll(terms.subList(half, terms.size()));
+    final FrozenDawg expected = new SortedDawg(terms).freeze();
+    final FrozenDawg actual = copy.freeze();
+    assertThat(actual).hasSize(terms.size());
+    assertThat(actual.nodeCount()).isEqualTo(expected.nodeCount());
+    assertThat(actual.edgeCount()).isEqualTo(expected.edgeCount());
+  }
+
   private static class TermIterator implements Iterator<Object[]> {
 
     private final Iterator<String> terms;
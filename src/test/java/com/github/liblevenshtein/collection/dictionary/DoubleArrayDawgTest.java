@@ -0,0 +1,55 @@
+package com.github.liblevenshtein.collection.dictionary;
+
+import com.github.liblevenshtein.DictionaryEquivalence;
+import com.github.liblevenshtein.collection.dictionary.factory.DawgFactory;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DoubleArrayDawgTest {
+
+  private DictionaryEquivalence equivalence;
+
+  private DoubleArrayDawg dawg;
+
+  @BeforeClass
+  public void setUp() {
+    equivalence = DictionaryEquivalence.ofWordsEn();
+    dawg = new DoubleArrayDawg(equivalence.frozen());
+  }
+
+  @Test
+  public void dawgShouldBeEquivalentToTheFrozenDawg() {
+    equivalence.assertEquivalent(dawg);
+    equivalence.assertSameTransitions(dawg);
+  }
+
+  @Test
+  public void slotsShouldBeOwnedByTheirNodes() {
+    final FrozenDawg frozen = equivalence.frozen();
+    assertThat(dawg.slotCount()).isGreaterThanOrEqualTo(dawg.edgeCount());
+    int owned = 0;
+    for (int node = 0; node < frozen.nodeCount(); ++node) {
+      for (int edge = frozen.edgesBegin(node); edge < frozen.edgesEnd(node); ++edge) {
+        assertThat(dawg.transition(node, frozen.label(edge))).isEqualTo(frozen.target(edge));
+        owned += 1;
+      }
+    }
+    assertThat(owned).isEqualTo(dawg.edgeCount());
+  }
+
+  @Test
+  public void dawgShouldSupportArbitraryLabels() {
+    DictionaryEquivalence.assertHoldsUnicodeTerms(
+      new DawgFactory().buildDoubleArray(DictionaryEquivalence.UNICODE_TERMS, false));
+  }
+
+  @Test
+  public void emptyDawgShouldContainNothing() {
+    DictionaryEquivalence.assertHoldsNoTerms(
+      new DawgFactory().buildDoubleArray(Collections.<String>emptyList(), true));
+  }
+}
@@ -0,0 +1,136 @@
+package com.github.liblevenshtein.collection.dictionary;
+
+import com.github.liblevenshtein.ReadLines;
+import com.github.liblevenshtein.transducer.ITransducer;
+import com.github.liblevenshtein.transducer.factory.TransducerBuilder;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static com.github.liblevenshtein.assertion.SetAssertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DynamicDawgTest {
+
+  private List<String> terms;
+
+  private List<String> shuffled;
+
+  @BeforeClass
+  public void setUp() {
+    terms = ReadLines.fromResources("wordsEn.txt");
+    Collections.sort(terms);
+    shuffled = new ArrayList<String>(terms);
+    Collections.shuffle(shuffled, new Random(42L));
+  }
+
+  @Test
+  public void unsortedInsertsYieldTheMinimalDawg() {
+    final DynamicDawg dawg = new DynamicDawg(shuffled);
+    assertThat(dawg).hasSize(terms.size()).contains(terms.toArray());
+    assertThat(dawg).doesNotContain("", "foobar", "C+");
+    assertMinimal(dawg, terms);
+  }
+
+  @Test
+  public void removalsKeepTheDawgMinimal() {
+    final DynamicDawg dawg = new DynamicDawg(shuffled);
+    final List<String> removed = shuffled.subList(0, shuffled.size() / 2);
+    final List<String> remaining =
+      new ArrayList<String>(shuffled.subList(shuffled.size() / 2, shuffled.size()));
+    Collections.sort(remaining);
+
+    for (final String term : removed) {
+      assertThat(dawg.remove(term)).isTrue();
+    }
+
+    assertThat(dawg).hasSize(remaining.size()).contains(remaining.toArray());
+    assertThat(dawg).doesNotContain(removed.toArray());
+    assertMinimal(dawg, remaining);
+
+    for (final String term : removed.subList(0, 100)) {
+      assertThat(dawg.remove(term)).isFalse();
+    }
+    assertThat(dawg).hasSize(remaining.size());
+  }
+
+  @Test
+  public void removingEverythingLeavesAnEmptyDawg() {
+    final DynamicDawg dawg = new DynamicDawg(shuffled.subList(0, 1000));
+    for (final String term : shuffled.subList(0, 1000)) {
+      dawg.remove(term);
+    }
+    assertThat(dawg).isEmpty();
+    assertThat(dawg.root().labels().hasNext()).isFalse();
+  }
+
+  @Test
+  public void duplicatesAreNotCounted() {
+    final DynamicDawg dawg = new DynamicDawg();
+    assertThat(dawg.add("foo")).isTrue();
+    assertThat(dawg.add("foo")).isFalse();
+    assertThat(dawg.add("")).isTrue();
+    assertThat(dawg.add("")).isFalse();
+    assertThat(dawg).hasSize(2).contains("", "foo");
+    assertThat(dawg.remove("")).isTrue();
+    assertThat(dawg).hasSize(1).doesNotContain("");
+  }
+
+  @Test
+  public void prefixesMayBeAddedAndRemoved() {
+    final DynamicDawg dawg = new DynamicDawg();
+    dawg.add("taps");
+    dawg.add("tops");
+    dawg.add("top");
+    assertThat(dawg).contains("taps", "tops", "top").doesNotContain("tap", "to");
+    dawg.remove("tops");
+    assertThat(dawg).contains("taps", "top").doesNotContain("tops");
+    dawg.remove("top");
+    assertThat(dawg).hasSize(1).contains("taps").doesNotContain("top", "to");
+  }
+
+  @Test
+  public void replacementsSwapTerms() {
+    final DynamicDawg dawg = new DynamicDawg(shuffled.subList(0, 1000));
+    final List<Map.Entry<String, String>> replacements =
+      new ArrayList<Map.Entry<String, String>>();
+    replacements.add(new AbstractMap.SimpleEntry<String, String>(shuffled.get(0), "foobar"));
+    replacements.add(new AbstractMap.SimpleEntry<String, String>(shuffled.get(1), "bazqux"));
+    assertThat(dawg.replaceAll(replacements)).isTrue();
+    assertThat(dawg).hasSize(1000).contains("foobar", "bazqux");
+    assertThat(dawg).doesNotContain(shuffled.get(0), shuffled.get(1));
+    assertThat(dawg.replace("not-a-term", "quux")).isFalse();
+    assertThat(dawg).doesNotContain("quux");
+  }
+
+  @Test
+  public void transducersObserveEdits() {
+    final DynamicDawg dawg = new DynamicDawg();
+    dawg.add("foo");
+    final ITransducer<String> transducer = new TransducerBuilder()
+      .dictionary(dawg)
+      .includeDistance(false)
+      .build();
+    dawg.add("fob");
+    dawg.remove("foo");
+    final List<String> candidates = new ArrayList<String>();
+    for (final String candidate : transducer.transduce("foo", 1)) {
+      candidates.add(candidate);
+    }
+    assertThat(candidates).containsExactly("fob");
+  }
+
+  private void assertMinimal(final Dawg dawg, final List<String> sortedTerms) {
+    final FrozenDawg expected = new SortedDawg(sortedTerms).freeze();
+    final FrozenDawg actual = new FrozenDawg(dawg.root(), dawg.size());
+    assertThat(actual.nodeCount()).isEqualTo(expected.nodeCount());
+    assertThat(actual.edgeCount()).isEqualTo(expected.edgeCount());
+    assertThat(new ArrayList<String>(actual)).isEqualTo(sortedTerms);
+  }
+}
@@ -0,0 +1,139 @@
+package com.github.liblevenshtein.collection.dictionary;
+
+import com.github.liblevenshtein.ReadLines;
+import com.github.liblevenshtein.collection.dictionary.factory.DawgFactory;
+import com.github.liblevenshtein.transducer.Transducer;
+import com.github.liblevenshtein.transducer.TransducerAttributes;
+import com.github.liblevenshtein.transducer.factory.TransducerBuilder;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EdgeCursorTest {
+
+  private List<String> terms;
+
+  @BeforeClass
+  public void setUp() {
+    terms = ReadLines.fromResources("wordsEn.txt");
+    Collections.sort(terms);
+  }
+
+  @DataProvider(name = "dictionaries")
+  public Object[][] dictionaries() {
+    final DawgFactory factory = new DawgFactory();
+    final FrozenDawg frozen = factory.buildFrozen(terms, true);
+    final Map<String, Long> weights = new HashMap<String, Long>();
+    for (final String term : terms) {
+      weights.put(term, (long) term.length());
+    }
+    return new Object[][] {
+      {new SortedDawg(terms)},
+      {new DynamicDawg(terms)},
+      {frozen},
+      {new DoubleArrayDawg(frozen)},
+      {new AlphabetDawg(frozen)},
+      {new LoudsTrie(frozen)},
+      {factory.buildWeighted(weights)},
+    };
+  }
+
+  @Test(dataProvider = "dictionaries")
+  public <Node> void cursorShouldVisitTheSameEdgesAsTheLabels(
+      final ICursorDictionary<Node> dictionary) {
+    assertSameEdges(dictionary, dictionary.cursor());
+  }
+
+  @Test(dataProvider = "dictionaries")
+  public <Node> void transitionCursorShouldVisitTheSameEdgesAsTheLabels(
+      final ICursorDictionary<Node> dictionary) {
+    assertSameEdges(dictionary, new TransitionCursor<Node>(dictionary));
+  }
+
+  @Test(dataProvider = "dictionaries")
+  public <Node> void cursorShouldBeEmptyUntilReset(
+      final ICursorDictionary<Node> dictionary) {
+    final IEdgeCursor<Node> cursor = dictionary.cursor();
+    assertThat(cursor.next()).isFalse();
+    cursor.reset(dictionary.root());
+    while (cursor.next()) {
+      // exhaust the edges of the root
+    }
+    assertThat(cursor.next()).isFalse();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void transducerWithoutDictionaryShouldFollowItsTransitionFunction() {
+    final SortedDawg dawg = new SortedDawg(terms);
+    final Transducer<DawgNode, String> transducer =
+      (Transducer<DawgNode, String>) new TransducerBuilder()
+        .dictionary(dawg)
+        .defaultMaxDistance(2)
+        .includeDistance(false)
+        .<String>build();
+    final TransducerAttributes<DawgNode, String> built = transducer.attributes();
+
+    // Assembled from the parts of a dictionary, as before transducers held one.
+    final TransducerAttributes<DawgNode, String> attributes =
+      new TransducerAttributes<DawgNode, String>();
+    attributes.maxDistance(built.maxDistance());
+    attributes.candidateFactory(built.candidateFactory());
+    attributes.stateTransitionFactory(built.stateTransitionFactory());
+    attributes.minDistance(built.minDistance());
+    attributes.initialState(built.initialState());
+    attributes.algorithm(built.algorithm());
+    attributes.includeDistance(built.includeDistance());
+    attributes.dictionaryRoot(dawg.root());
+    attributes.dictionaryTransition(dawg);
+    attributes.isFinal(dawg);
+
+    final List<String> expected = new ArrayList<String>();
+    for (final String candidate : transducer.transduce("recieve")) {
+      expected.add(candidate);
+    }
+    final List<String> actual = new ArrayList<String>();
+    for (final String candidate
+        : new Transducer<DawgNode, String>(attributes).transduce("recieve")) {
+      actual.add(candidate);
+    }
+    assertThat(actual).isNotEmpty().isEqualTo(expected);
+  }
+
+  private <Node> void assertSameEdges(
+      final IDictionary<Node> dictionary,
+      final IEdgeCursor<Node> cursor) {
+    final Deque<Node> pending = new ArrayDeque<Node>();
+    pending.push(dictionary.root());
+    int edges = 0;
+    while (!pending.isEmpty() && edges < 50000) {
+      final Node node = pending.pop();
+      final List<Character> labels = new ArrayList<Character>();
+      for (final Iterator<Character> iter = dictionary.of(node); iter.hasNext(); ) {
+        labels.add(iter.next());
+      }
+      final List<Character> visited = new ArrayList<Character>();
+      cursor.reset(node);
+      while (cursor.next()) {
+        final char label = cursor.label();
+        visited.add(label);
+        assertThat(cursor.target()).isEqualTo(dictionary.of(node, label));
+        pending.push(cursor.target());
+        edges += 1;
+      }
+      assertThat(visited).isEqualTo(labels);
+    }
+    assertThat(edges).isPositive();
+  }
+}
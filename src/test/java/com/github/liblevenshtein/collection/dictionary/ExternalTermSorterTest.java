@@ -0,0 +1,127 @@
+package com.github.liblevenshtein.collection.dictionary;
+
+import com.github.liblevenshtein.ReadLines;
+import com.github.liblevenshtein.collection.dictionary.factory.DawgFactory;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static com.github.liblevenshtein.assertion.SetAssertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ExternalTermSorterTest {
+
+  private List<String> sortedTerms;
+
+  private List<String> shuffledTerms;
+
+  @BeforeClass
+  public void setUp() {
+    sortedTerms = ReadLines.fromResources("wordsEn.txt");
+    Collections.sort(sortedTerms);
+    shuffledTerms = new ArrayList<String>(sortedTerms);
+    Collections.shuffle(shuffledTerms, new Random(0xDA96));
+  }
+
+  @Test
+  public void sorterMergesSpilledRuns() throws IOException {
+    final File directory = Files.createTempDirectory("runs").toFile();
+    try {
+      // 110 runs with a fan-in of 4 need several merge passes
+      final ExternalTermSorter sorter = new ExternalTermSorter(directory, 1000, 4);
+      try {
+        for (final String term : shuffledTerms) {
+          sorter.add(term);
+          sorter.add(term);
+        }
+        assertThat(directory.list().length).isGreaterThan(4);
+        assertThat(toList(sorter.sorted())).isEqualTo(sortedTerms);
+        assertThat(directory.list()).hasSize(4);
+      }
+      finally {
+        sorter.close();
+      }
+      assertThat(directory.list()).isEmpty();
+    }
+    finally {
+      directory.delete();
+    }
+  }
+
+  @Test
+  public void sorterSortsSmallInputsInMemory() throws IOException {
+    final File directory = Files.createTempDirectory("runs").toFile();
+    try {
+      final ExternalTermSorter sorter = new ExternalTermSorter(directory, 16, 2);
+      try {
+        for (final String term : Arrays.asList("b", "", "ab", "a", "b", "ab")) {
+          sorter.add(term);
+        }
+        assertThat(toList(sorter.sorted())).containsExactly("", "a", "ab", "b");
+        assertThat(directory.list()).isEmpty();
+      }
+      finally {
+        sorter.close();
+      }
+    }
+    finally {
+      directory.delete();
+    }
+  }
+
+  @Test
+  public void sorterPreservesArbitraryStrings() throws IOException {
+    final ExternalTermSorter sorter = new ExternalTermSorter(null, 1, 2);
+    try {
+      final List<String> terms = Arrays.asList("line\nbreak", "\uD800", "\u0000", "\uFFFF");
+      for (final String term : terms) {
+        sorter.add(term);
+      }
+      final List<String> expected = new ArrayList<String>(terms);
+      Collections.sort(expected);
+      assertThat(toList(sorter.sorted())).isEqualTo(expected);
+    }
+    finally {
+      sorter.close();
+    }
+  }
+
+  @Test(expectedExceptions = IllegalStateException.class)
+  public void sorterRejectsTermsOnceSorted() throws IOException {
+    final ExternalTermSorter sorter = new ExternalTermSorter();
+    try {
+      sorter.sorted();
+      sorter.add("a");
+    }
+    finally {
+      sorter.close();
+    }
+  }
+
+  @Test
+  public void factoryBuildsFromUnsortedTermsWithoutSortingThem() {
+    final List<String> terms = new ArrayList<String>(shuffledTerms);
+    terms.addAll(shuffledTerms.subList(0, 1000));
+    final Dawg dawg = new DawgFactory().build(terms, false);
+    assertThat(dawg).hasSize(sortedTerms.size());
+    assertThat(dawg).contains(sortedTerms.toArray());
+    assertThat(terms.subList(0, shuffledTerms.size())).isEqualTo(shuffledTerms);
+  }
+
+  private static List<String> toList(final Iterator<String> terms) {
+    final List<String> list = new ArrayList<String>();
+    while (terms.hasNext()) {
+      list.add(terms.next());
+    }
+    return list;
+  }
+}
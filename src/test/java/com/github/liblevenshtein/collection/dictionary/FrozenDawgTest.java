@@ -0,0 +1,101 @@
+package com.github.liblevenshtein.collection.dictionary;
+
+import com.github.liblevenshtein.ReadLines;
+import com.github.liblevenshtein.transducer.Candidate;
+import com.github.liblevenshtein.transducer.ITransducer;
+import com.github.liblevenshtein.transducer.factory.TransducerBuilder;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.github.liblevenshtein.assertion.SetAssertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FrozenDawgTest {
+
+  private List<String> terms;
+
+  private SortedDawg sortedDawg;
+
+  private FrozenDawg frozenDawg;
+
+  @BeforeClass
+  public void setUp() {
+    terms = ReadLines.fromResources("wordsEn.txt");
+    Collections.sort(terms);
+    sortedDawg = new SortedDawg(terms);
+    frozenDawg = sortedDawg.freeze();
+  }
+
+  @Test
+  public void frozenDawgAcceptsAllItsTerms() {
+    assertThat(frozenDawg).contains(terms.toArray());
+  }
+
+  @Test
+  public void frozenDawgAcceptsNoTermsItDoesNotContain() {
+    assertThat(frozenDawg).doesNotContain("", "foobar", "C+", 'a');
+  }
+
+  @Test
+  public void frozenDawgSizeIsSameAsTerms() {
+    assertThat(frozenDawg).hasSize(terms.size());
+    assertThat(new SortedDawg().freeze()).isEmpty();
+  }
+
+  @Test
+  public void frozenDawgIteratesInLexicographicalOrder() {
+    final List<String> iterated = new ArrayList<String>(frozenDawg);
+    assertThat(iterated).isEqualTo(terms);
+  }
+
+  @Test
+  public void frozenDawgAcceptsEmptyStringIfInTerms() {
+    final List<String> termsList = new ArrayList<String>();
+    termsList.add("");
+    termsList.add("a");
+    final FrozenDawg dawg = new SortedDawg(termsList).freeze();
+    assertThat(dawg).contains("", "a");
+    assertThat(dawg).hasSize(2);
+    assertThat(new ArrayList<String>(dawg)).containsExactly("", "a");
+  }
+
+  @Test
+  public void frozenDawgSharesMinimizedNodes() {
+    final List<String> termsList = new ArrayList<String>();
+    termsList.add("tap");
+    termsList.add("taps");
+    termsList.add("top");
+    termsList.add("tops");
+    final FrozenDawg dawg = new SortedDawg(termsList).freeze();
+    // root -t-> 1 -a,o-> 2 -p-> 3 (final) -s-> 4 (final)
+    assertThat(dawg.nodeCount()).isEqualTo(5);
+    assertThat(dawg.edgeCount()).isEqualTo(5);
+  }
+
+  @Test
+  public void frozenDawgTransducesLikeSortedDawg() {
+    final ITransducer<Candidate> expected = new TransducerBuilder()
+      .dictionary(sortedDawg)
+      .build();
+    final ITransducer<Candidate> actual = new TransducerBuilder()
+      .dictionary(frozenDawg)
+      .build();
+    for (final String query : new String[] {"", "a", "levenshtein", "spelling", "qwerty"}) {
+      final Set<Candidate> candidates = new HashSet<Candidate>();
+      for (final Candidate candidate : actual.transduce(query)) {
+        candidates.add(candidate);
+      }
+      final Set<Candidate> expectedCandidates = new HashSet<Candidate>();
+      for (final Candidate candidate : expected.transduce(query)) {
+        expectedCandidates.add(candidate);
+      }
+      assertThat(candidates).isEqualTo(expectedCandidates);
+    }
+  }
+}
@@ -0,0 +1,122 @@
+package com.github.liblevenshtein.collection.dictionary;
+
+import com.github.liblevenshtein.DictionaryEquivalence;
+import com.github.liblevenshtein.collection.dictionary.factory.DawgFactory;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import static com.github.liblevenshtein.assertion.SetAssertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LoudsTrieTest {
+
+  private DictionaryEquivalence equivalence;
+
+  private LoudsTrie trie;
+
+  @BeforeClass
+  public void setUp() {
+    equivalence = DictionaryEquivalence.ofWordsEn();
+    trie = new LoudsTrie(equivalence.frozen());
+  }
+
+  @Test
+  public void trieShouldBeEquivalentToTheFrozenDawg() {
+    equivalence.assertEquivalent(trie);
+  }
+
+  @Test
+  public void transitionsShouldMatchTheDawg() {
+    final FrozenDawg frozen = equivalence.frozen();
+    for (final String term : equivalence.terms()) {
+      Integer expected = frozen.root();
+      Integer actual = trie.root();
+      for (int i = 0; i <= term.length(); ++i) {
+        assertThat(toList(trie.of(actual))).isEqualTo(toList(frozen.of(expected)));
+        assertThat(trie.at(actual)).isEqualTo(frozen.at(expected));
+        if (i < term.length()) {
+          expected = frozen.of(expected, term.charAt(i));
+          actual = trie.of(actual, term.charAt(i));
+        }
+      }
+      assertThat(trie.of(actual, '\uFFFF')).isNull();
+    }
+  }
+
+  @Test
+  public void sortedTermsShouldEncodeLikeTheDawg() {
+    final LoudsTrie streamed = LoudsTrie.fromSortedTerms(equivalence.terms());
+    assertThat(streamed.nodeCount()).isEqualTo(trie.nodeCount());
+    assertThat(streamed.sizeInBytes()).isEqualTo(trie.sizeInBytes());
+    assertThat(streamed).hasSize(trie.size());
+    for (int node = 0; node < trie.nodeCount(); ++node) {
+      assertThat(toList(streamed.of(node))).isEqualTo(toList(trie.of(node)));
+      assertThat(streamed.isFinal(node)).isEqualTo(trie.isFinal(node));
+    }
+  }
+
+  @Test
+  public void sortedTermsShouldIgnoreDuplicates() {
+    final LoudsTrie trie =
+      LoudsTrie.fromSortedTerms(Arrays.asList("", "", "a", "ab", "ab", "b"));
+    assertThat(trie).hasSize(4);
+    assertThat(new ArrayList<String>(trie)).containsExactly("", "a", "ab", "b");
+    assertThat(trie.nodeCount()).isEqualTo(4);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void unsortedTermsShouldBeRejected() {
+    LoudsTrie.fromSortedTerms(Arrays.asList("b", "a"));
+  }
+
+  @Test
+  public void childrenShouldBeFoundAcrossSelectSamples() {
+    // 1,641 nodes, so the zeros that select0 finds span several samples and
+    // blocks of the LOUDS bits.
+    final List<String> terms = new ArrayList<String>();
+    for (char first = '0'; first < '0' + 40; ++first) {
+      for (char second = '0'; second < '0' + 40; ++second) {
+        terms.add(new String(new char[] {first, second}));
+      }
+    }
+    final LoudsTrie trie = LoudsTrie.fromSortedTerms(terms);
+    assertThat(trie.nodeCount()).isEqualTo(1 + 40 + 1600);
+    assertThat(new ArrayList<String>(trie)).isEqualTo(terms);
+    for (int node = 0; node < trie.nodeCount(); ++node) {
+      assertThat(toList(trie.of(node))).hasSize(node <= 40 ? 40 : 0);
+    }
+    assertThat(trie.transition(trie.nodeCount() - 1, '0')).isEqualTo(LoudsTrie.NO_NODE);
+  }
+
+  @Test
+  public void trieShouldBeSuccinct() {
+    // LOUDS and select directory, finality bit, and a label of a few bits
+    assertThat(trie.sizeInBytes() * 8.0 / trie.nodeCount()).isLessThan(12.0);
+  }
+
+  @Test
+  public void trieShouldSupportArbitraryLabels() {
+    DictionaryEquivalence.assertHoldsUnicodeTerms(
+      new DawgFactory().buildLouds(DictionaryEquivalence.UNICODE_TERMS, false));
+  }
+
+  @Test
+  public void emptyTrieShouldContainNothing() {
+    DictionaryEquivalence.assertHoldsNoTerms(
+      new DawgFactory().buildLouds(Collections.<String>emptyList(), true));
+  }
+
+  private static List<Character> toList(final Iterator<Character> labels) {
+    final List<Character> list = new ArrayList<Character>();
+    while (labels.hasNext()) {
+      list.add(labels.next());
+    }
+    return list;
+  }
+}
@@ -0,0 +1,108 @@
+package com.github.liblevenshtein.collection.dictionary;
+
+import com.github.liblevenshtein.ReadLines;
+import com.github.liblevenshtein.collection.dictionary.factory.DawgFactory;
+import com.github.liblevenshtein.serialization.DawgImageWriter;
+import com.github.liblevenshtein.transducer.Candidate;
+import com.github.liblevenshtein.transducer.ITransducer;
+import com.github.liblevenshtein.transducer.factory.TransducerBuilder;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.github.liblevenshtein.assertion.SetAssertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MappedDawgTest {
+
+  private List<String> terms;
+
+  private FrozenDawg frozenDawg;
+
+  private File image;
+
+  private MappedDawg mappedDawg;
+
+  @BeforeClass
+  public void setUp() throws IOException {
+    terms = ReadLines.fromResources("wordsEn.txt");
+    Collections.sort(terms);
+    frozenDawg = new SortedDawg(terms).freeze();
+    image = File.createTempFile("wordsEn", ".dawg");
+    new DawgImageWriter().write(frozenDawg, image);
+    mappedDawg = new DawgFactory().map(image);
+  }
+
+  @AfterClass
+  public void tearDown() {
+    image.delete();
+  }
+
+  @Test
+  public void mappedDawgHasTheShapeOfTheFrozenDawg() {
+    assertThat(mappedDawg.size()).isEqualTo(frozenDawg.size());
+    assertThat(mappedDawg.nodeCount()).isEqualTo(frozenDawg.nodeCount());
+    assertThat(mappedDawg.edgeCount()).isEqualTo(frozenDawg.edgeCount());
+  }
+
+  @Test
+  public void mappedDawgAcceptsAllItsTerms() {
+    assertThat(mappedDawg).contains(terms.toArray());
+    assertThat(mappedDawg).doesNotContain("", "foobar", "C+");
+  }
+
+  @Test
+  public void mappedDawgIteratesInLexicographicalOrder() {
+    assertThat(new ArrayList<String>(mappedDawg)).isEqualTo(terms);
+  }
+
+  @Test
+  public void mappedDawgCopiesIntoAnEquivalentFrozenDawg() {
+    final FrozenDawg copy = mappedDawg.toFrozenDawg();
+    assertThat(copy.nodeCount()).isEqualTo(frozenDawg.nodeCount());
+    assertThat(new ArrayList<String>(copy)).isEqualTo(terms);
+  }
+
+  @Test
+  public void mappedDawgTransducesLikeFrozenDawg() {
+    final ITransducer<Candidate> expected = new TransducerBuilder()
+      .dictionary(frozenDawg)
+      .build();
+    final ITransducer<Candidate> actual = new TransducerBuilder()
+      .dictionary(mappedDawg)
+      .build();
+    for (final String query : new String[] {"", "levenshtein", "spelling"}) {
+      final Set<Candidate> candidates = new HashSet<Candidate>();
+      for (final Candidate candidate : actual.transduce(query)) {
+        candidates.add(candidate);
+      }
+      final Set<Candidate> expectedCandidates = new HashSet<Candidate>();
+      for (final Candidate candidate : expected.transduce(query)) {
+        expectedCandidates.add(candidate);
+      }
+      assertThat(candidates).isEqualTo(expectedCandidates);
+    }
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void mappedDawgRejectsForeignData() {
+    new MappedDawg(ByteBuffer.wrap(new byte[64]));
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void mappedDawgRejectsTruncatedImages() throws IOException {
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    new DawgImageWriter().write(frozenDawg, output);
+    new MappedDawg(ByteBuffer.wrap(output.toByteArray(), 0, output.size() - 1));
+  }
+}
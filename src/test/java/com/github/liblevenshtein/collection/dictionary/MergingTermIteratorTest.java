@@ -0,0 +1,93 @@
+package com.github.liblevenshtein.collection.dictionary;
+
+import com.github.liblevenshtein.ReadLines;
+import com.github.liblevenshtein.collection.dictionary.factory.DawgFactory;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MergingTermIteratorTest {
+
+  private List<String> terms;
+
+  @BeforeClass
+  public void setUp() {
+    terms = ReadLines.fromResources("wordsEn.txt");
+    Collections.sort(terms);
+  }
+
+  private static List<String> merge(
+      final List<String> existing,
+      final List<String> additions,
+      final List<String> deletions) {
+    final List<String> merged = new ArrayList<>();
+    new MergingTermIterator(
+        existing.iterator(), additions.iterator(), deletions.iterator())
+      .forEachRemaining(merged::add);
+    return merged;
+  }
+
+  @Test
+  public void testMerge() {
+    assertThat(merge(
+        Arrays.asList("b", "d", "f", "f", "h"),
+        Arrays.asList("", "a", "d", "e", "e", "g", "z"),
+        Arrays.asList("a", "c", "f", "f", "y")))
+      .containsExactly("", "b", "d", "e", "g", "h", "z");
+    assertThat(merge(
+        Collections.emptyList(), Collections.emptyList(), Arrays.asList("a")))
+      .isEmpty();
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class,
+      expectedExceptionsMessageRegExp = "Expected additions to be sorted.*")
+  public void testRejectsUnsortedSource() {
+    merge(Arrays.asList("a", "c"), Arrays.asList("d", "b"),
+        Collections.emptyList());
+  }
+
+  @Test
+  public void testRebuild() {
+    final Random random = new Random(0);
+    final TreeSet<String> expected = new TreeSet<>();
+    final TreeSet<String> additions = new TreeSet<>();
+    final TreeSet<String> deletions = new TreeSet<>();
+    for (final String term : terms) {
+      final int choice = random.nextInt(100);
+      if (choice < 1) {
+        additions.add(term);
+        expected.add(term);
+      }
+      else if (choice < 90) {
+        expected.add(term);
+      }
+    }
+    final TreeSet<String> original = new TreeSet<>(expected);
+    original.removeAll(additions);
+    final Dawg existing = new SortedDawg(new ArrayList<>(original));
+    for (final String term : existing) {
+      if (random.nextInt(100) < 1) {
+        deletions.add(term);
+        expected.remove(term);
+      }
+    }
+
+    final Dawg rebuilt = new DawgFactory().rebuild(
+        existing, additions.iterator(), deletions.iterator());
+    assertThat(rebuilt.size()).isEqualTo(expected.size());
+    assertThat(new ArrayList<>(rebuilt)).isEqualTo(new ArrayList<>(expected));
+
+    final FrozenDawg frozen = new DawgFactory().freeze(existing);
+    final SortedDawg fromFrozen = new StreamingDawgBuilder().rebuild(
+        frozen, additions.iterator(), deletions.iterator());
+    assertThat(new ArrayList<>(fromFrozen)).isEqualTo(new ArrayList<>(expected));
+  }
+}
@@ -0,0 +1,158 @@
+package com.github.liblevenshtein.collection.dictionary;
+
+import com.github.liblevenshtein.ReadLines;
+import com.github.liblevenshtein.transducer.ITransducer;
+import com.github.liblevenshtein.transducer.OrdinalCandidate;
+import com.github.liblevenshtein.transducer.factory.TransducerBuilder;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OrdinalDictionaryTest {
+
+  private List<String> terms;
+
+  @BeforeClass
+  public void setUp() {
+    terms = ReadLines.fromResources("wordsEn.txt");
+    Collections.sort(terms);
+  }
+
+  @DataProvider(name = "dictionaries")
+  public Object[][] dictionaries() {
+    final List<String> shuffled = new ArrayList<String>(terms);
+    Collections.shuffle(shuffled, new Random(0x0D1));
+    final SortedDawg sorted = new SortedDawg(terms);
+    return new Object[][] {
+      {sorted},
+      {new DynamicDawg(shuffled)},
+      {sorted.freeze()},
+    };
+  }
+
+  @Test(dataProvider = "dictionaries")
+  public void ordinalsShouldBeTheRanksOfTheTerms(
+      final IOrdinalDictionary<?> dictionary) {
+    assertThat(count(dictionary)).isEqualTo(terms.size());
+    for (int i = 0; i < terms.size(); ++i) {
+      assertThat(dictionary.ordinal(terms.get(i))).isEqualTo(i);
+      assertThat(dictionary.term(i)).isEqualTo(terms.get(i));
+    }
+    assertThat(dictionary.ordinal("notaword")).isEqualTo(-1);
+    assertThat(dictionary.ordinal("")).isEqualTo(-1);
+  }
+
+  @Test(dataProvider = "dictionaries",
+      expectedExceptions = IndexOutOfBoundsException.class)
+  public void ordinalsOutOfRangeShouldThrowAnException(
+      final IOrdinalDictionary<?> dictionary) {
+    dictionary.term(terms.size());
+  }
+
+  @Test
+  public void ordinalsShouldFollowModifications() {
+    final DynamicDawg dawg = new DynamicDawg(Arrays.asList("b", "bc", "d"));
+    assertThat(dawg.ordinal("d")).isEqualTo(2);
+    dawg.add("");
+    dawg.add("a");
+    dawg.remove("bc");
+    assertThat(dawg.ordinal("")).isEqualTo(0);
+    assertThat(dawg.ordinal("a")).isEqualTo(1);
+    assertThat(dawg.ordinal("d")).isEqualTo(3);
+    assertThat(dawg.ordinal("bc")).isEqualTo(-1);
+    assertThat(dawg.term(2)).isEqualTo("b");
+  }
+
+  @Test
+  public void ordinalsShouldBeCountedAlongLongTerms() {
+    final StringBuilder term = new StringBuilder();
+    for (int i = 0; i < 100000; ++i) {
+      term.append('a');
+    }
+    final SortedDawg dawg = new SortedDawg(
+        Arrays.asList(term.substring(0, 50000), term.toString()));
+    assertThat(dawg.ordinal(term.toString())).isEqualTo(1);
+    assertThat(dawg.freeze().term(0)).hasSize(50000);
+  }
+
+  @Test
+  public void transducerShouldIncludeTheOrdinals() {
+    final ITransducer<OrdinalCandidate> transducer = new TransducerBuilder()
+      .dictionary(new SortedDawg(terms).freeze())
+      .defaultMaxDistance(2)
+      .includeOrdinal(true)
+      .build();
+    int candidates = 0;
+    for (final OrdinalCandidate candidate : transducer.transduce("mispell")) {
+      assertThat(candidate.ordinal())
+        .isEqualTo(Collections.binarySearch(terms, candidate.term()));
+      candidates += 1;
+    }
+    assertThat(candidates).isGreaterThan(1);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void transducerShouldRequireAnOrdinalDictionary() {
+    new TransducerBuilder()
+      .dictionary(new UnnumberedDictionary(new SortedDawg(terms)))
+      .includeOrdinal(true)
+      .build();
+  }
+
+  private static <Node> int count(final IOrdinalDictionary<Node> dictionary) {
+    return dictionary.count(dictionary.root());
+  }
+
+  private static final class UnnumberedDictionary
+      extends AbstractSet<String>
+      implements IDictionary<DawgNode> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Dawg dawg;
+
+    UnnumberedDictionary(final Dawg dawg) {
+      this.dawg = dawg;
+    }
+
+    @Override
+    public DawgNode root() {
+      return dawg.root();
+    }
+
+    @Override
+    public boolean at(final DawgNode node) {
+      return dawg.at(node);
+    }
+
+    @Override
+    public DawgNode of(final DawgNode node, final char label) {
+      return dawg.of(node, label);
+    }
+
+    @Override
+    public Iterator<Character> of(final DawgNode node) {
+      return dawg.of(node);
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+      return dawg.iterator();
+    }
+
+    @Override
+    public int size() {
+      return dawg.size();
+    }
+  }
+}
@@ -0,0 +1,133 @@
+package com.github.liblevenshtein.collection.dictionary;
+
+import com.github.liblevenshtein.ReadLines;
+import com.github.liblevenshtein.SortedCandidates;
+import com.github.liblevenshtein.collection.dictionary.factory.DawgFactory;
+import com.github.liblevenshtein.transducer.ITransducer;
+import com.github.liblevenshtein.transducer.factory.TransducerBuilder;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OverlayDictionaryTest {
+
+  private List<String> terms;
+
+  @BeforeClass
+  public void setUp() {
+    terms = ReadLines.fromResources("wordsEn.txt");
+    Collections.sort(terms);
+  }
+
+  @Test
+  public void testLayersBehaveAsOneSet() {
+    final List<String> base = terms.subList(0, terms.size() / 2);
+    final OverlayDictionary dictionary = new OverlayDictionary(
+        new DawgFactory().buildFrozen(base, true), 1 << 20, null);
+    final TreeSet<String> expected = new TreeSet<>(base);
+    final Random random = new Random(0);
+    for (int i = 0; i < 20_000; ++i) {
+      final String term = terms.get(random.nextInt(terms.size()));
+      if (random.nextBoolean()) {
+        assertThat(dictionary.add(term)).isEqualTo(expected.add(term));
+      }
+      else {
+        assertThat(dictionary.remove(term)).isEqualTo(expected.remove(term));
+      }
+    }
+    assertThat(dictionary.size()).isEqualTo(expected.size());
+    assertThat(new ArrayList<>(dictionary)).isEqualTo(new ArrayList<>(expected));
+    for (final String term : terms) {
+      assertThat(dictionary.contains(term)).isEqualTo(expected.contains(term));
+    }
+  }
+
+  @Test
+  public void testTransducerSeesWritesAndFiltersTombstones() {
+    final OverlayDictionary dictionary = new OverlayDictionary(
+        new DawgFactory().buildFrozen(Arrays.asList("bat", "cat", "hat"), false));
+    final ITransducer<String> transducer = new TransducerBuilder()
+      .dictionary(dictionary)
+      .defaultMaxDistance(1)
+      .includeDistance(false)
+      .<String>build();
+
+    assertThat(SortedCandidates.of(transducer.transduce("cat")))
+      .containsExactly("bat", "cat", "hat");
+    dictionary.remove("hat");
+    dictionary.add("cot");
+    dictionary.add("ca");
+    assertThat(SortedCandidates.of(transducer.transduce("cat")))
+      .containsExactly("bat", "ca", "cat", "cot");
+    dictionary.add("hat");
+    dictionary.remove("cot");
+    assertThat(SortedCandidates.of(transducer.transduce("cat")))
+      .containsExactly("bat", "ca", "cat", "hat");
+  }
+
+  @Test
+  public void testCompaction() {
+    final OverlayDictionary dictionary = new OverlayDictionary(
+        new DawgFactory().buildFrozen(Arrays.asList("a", "b"), true), 3, null);
+    dictionary.add("c");
+    dictionary.remove("a");
+    assertThat(dictionary.pending()).isEqualTo(2);
+    dictionary.add("d");
+    assertThat(dictionary.pending()).isEqualTo(0);
+    assertThat(dictionary.base()).isInstanceOf(FrozenDawg.class);
+    assertThat(new ArrayList<>(dictionary)).containsExactly("b", "c", "d");
+    dictionary.remove("b");
+    dictionary.add("a");
+    dictionary.compact();
+    assertThat(new ArrayList<>(dictionary)).containsExactly("a", "c", "d");
+    assertThat(dictionary.base().size()).isEqualTo(3);
+  }
+
+  @Test
+  public void testBackgroundCompactionWithConcurrentWrites() throws Exception {
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    final OverlayDictionary dictionary;
+    final TreeSet<String> expected = new TreeSet<>();
+    try {
+      dictionary = new OverlayDictionary(new SortedDawg(), 1_000, executor);
+      final Random random = new Random(1);
+      for (int i = 0; i < 50_000; ++i) {
+        final String term = terms.get(random.nextInt(terms.size()));
+        if (random.nextInt(4) > 0) {
+          assertThat(dictionary.add(term)).isEqualTo(expected.add(term));
+        }
+        else {
+          assertThat(dictionary.remove(term)).isEqualTo(expected.remove(term));
+        }
+      }
+      // Writes made during the last compaction are compacted in turn.
+      final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+      while (dictionary.pending() >= 1_000 && System.nanoTime() < deadline) {
+        Thread.sleep(10);
+      }
+    }
+    finally {
+      executor.shutdown();
+      assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+    }
+    assertThat(dictionary.pending()).isLessThan(1_000);
+    assertThat(dictionary.size()).isEqualTo(expected.size());
+    assertThat(new ArrayList<>(dictionary)).isEqualTo(new ArrayList<>(expected));
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testRejectsNonPositiveThreshold() {
+    new OverlayDictionary(new SortedDawg(), 0, null);
+  }
+}
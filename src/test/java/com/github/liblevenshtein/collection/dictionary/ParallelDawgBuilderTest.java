@@ -0,0 +1,76 @@
+package com.github.liblevenshtein.collection.dictionary;
+
+import com.github.liblevenshtein.ReadLines;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.github.liblevenshtein.assertion.SetAssertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ParallelDawgBuilderTest {
+
+  private List<String> terms;
+
+  private ForkJoinPool pool;
+
+  private ParallelDawgBuilder builder;
+
+  private SortedDawg parallelDawg;
+
+  @BeforeClass
+  public void setUp() {
+    terms = ReadLines.fromResources("wordsEn.txt");
+    Collections.sort(terms);
+    pool = new ForkJoinPool(4);
+    // A small threshold splits the terms several characters deep
+    builder = new ParallelDawgBuilder(pool, 64);
+    parallelDawg = builder.build(terms, true);
+  }
+
+  @AfterClass
+  public void tearDown() {
+    pool.shutdown();
+  }
+
+  @Test
+  public void parallelDawgAcceptsAllItsTerms() {
+    assertThat(parallelDawg).contains(terms.toArray());
+    assertThat(parallelDawg).doesNotContain("", "foobar", "C+");
+    assertThat(parallelDawg).hasSize(terms.size());
+  }
+
+  @Test
+  public void parallelDawgIsMinimal() {
+    final FrozenDawg expected = new SortedDawg(terms).freeze();
+    final FrozenDawg actual = parallelDawg.freeze();
+    assertThat(actual.nodeCount()).isEqualTo(expected.nodeCount());
+    assertThat(actual.edgeCount()).isEqualTo(expected.edgeCount());
+    assertThat(new ArrayList<String>(actual)).isEqualTo(terms);
+  }
+
+  @Test
+  public void parallelDawgSortsAndDeduplicatesTerms() {
+    final List<String> unsorted = new ArrayList<String>(
+        Arrays.asList("b", "", "ab", "a", "b", "abc", "ab"));
+    final SortedDawg dawg = new ParallelDawgBuilder(pool, 1).build(unsorted, false);
+    assertThat(dawg).contains("", "a", "ab", "abc", "b");
+    assertThat(dawg).hasSize(5);
+  }
+
+  @Test
+  public void parallelDawgOfNoTermsIsEmpty() {
+    assertThat(builder.build(new ArrayList<String>(0), true)).isEmpty();
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void unsortedTermsShouldThrowAnException() {
+    builder.build(Arrays.asList("a", "c", "b"), true);
+  }
+}
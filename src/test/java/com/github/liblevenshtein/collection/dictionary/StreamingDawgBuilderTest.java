@@ -0,0 +1,100 @@
+package com.github.liblevenshtein.collection.dictionary;
+
+import com.github.liblevenshtein.ReadLines;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static com.github.liblevenshtein.assertion.SetAssertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StreamingDawgBuilderTest {
+
+  private List<String> terms;
+
+  private FrozenDawg expected;
+
+  @BeforeClass
+  public void setUp() {
+    terms = ReadLines.fromResources("wordsEn.txt");
+    Collections.sort(terms);
+    expected = new SortedDawg(terms).freeze();
+  }
+
+  @Test
+  public void builderReadsTermsFromFiles() throws IOException {
+    final Path path = Files.createTempFile("terms", ".txt");
+    try {
+      Files.write(path, terms, StandardCharsets.UTF_8);
+      assertSameAsExpected(new StreamingDawgBuilder().build(path));
+    }
+    finally {
+      Files.delete(path);
+    }
+  }
+
+  @Test
+  public void builderReadsTermsFromReaders() throws IOException {
+    final StringBuilder text = new StringBuilder();
+    for (final String term : terms) {
+      text.append(term).append('\n');
+    }
+    assertSameAsExpected(
+        new StreamingDawgBuilder().build(new StringReader(text.toString())));
+  }
+
+  @Test
+  public void builderReadsTermsFromIteratorsAndStreams() {
+    assertSameAsExpected(new StreamingDawgBuilder().build(terms.iterator()));
+    assertSameAsExpected(new StreamingDawgBuilder().build(terms.stream()));
+  }
+
+  @Test
+  public void builderSkipsDuplicateTerms() {
+    final SortedDawg dawg = new StreamingDawgBuilder()
+      .build(Arrays.asList("a", "a", "ab", "b", "b", "b").iterator());
+    assertThat(dawg).contains("a", "ab", "b");
+    assertThat(dawg).hasSize(3);
+  }
+
+  @Test
+  public void builderReportsProgress() {
+    final List<DawgBuildProgress> reports = new ArrayList<DawgBuildProgress>();
+    new StreamingDawgBuilder(reports::add, 10000).build(terms.iterator());
+
+    assertThat(reports).hasSize(terms.size() / 10000 + 1);
+    for (int i = 0; i < reports.size() - 1; ++i) {
+      assertThat(reports.get(i).terms()).isEqualTo(10000L * (i + 1));
+      assertThat(reports.get(i).finished()).isFalse();
+    }
+
+    final DawgBuildProgress last = reports.get(reports.size() - 1);
+    assertThat(last.finished()).isTrue();
+    assertThat(last.terms()).isEqualTo(terms.size());
+    // Every node but the root is registered once the DAWG is finished
+    assertThat(last.nodes()).isEqualTo(expected.nodeCount() - 1);
+    assertThat(last.termsPerSecond()).isPositive();
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void unsortedTermsShouldThrowAnException() {
+    new StreamingDawgBuilder().build(Arrays.asList("a", "c", "b").iterator());
+  }
+
+  private void assertSameAsExpected(final SortedDawg dawg) {
+    assertThat(dawg).hasSize(terms.size());
+    final FrozenDawg actual = dawg.freeze();
+    assertThat(actual.nodeCount()).isEqualTo(expected.nodeCount());
+    assertThat(actual.edgeCount()).isEqualTo(expected.edgeCount());
+    assertThat(new ArrayList<String>(actual)).isEqualTo(terms);
+  }
+}
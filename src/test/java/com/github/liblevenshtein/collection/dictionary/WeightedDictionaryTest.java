@@ -0,0 +1,146 @@
+package com.github.liblevenshtein.collection.dictionary;
+
+import com.github.liblevenshtein.ReadLines;
+import com.github.liblevenshtein.collection.dictionary.factory.DawgFactory;
+import com.github.liblevenshtein.transducer.Algorithm;
+import com.github.liblevenshtein.transducer.OrdinalCandidate;
+import com.github.liblevenshtein.transducer.Transducer;
+import com.github.liblevenshtein.transducer.factory.TransducerBuilder;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WeightedDictionaryTest {
+
+  private Map<String, Long> weights;
+
+  private WeightedDictionary<Integer> dictionary;
+
+  @BeforeClass
+  public void setUp() {
+    final Random random = new Random(0x3E16);
+    weights = new HashMap<String, Long>();
+    for (final String term : ReadLines.fromResources("wordsEn.txt")) {
+      // Zipf-like frequencies, with many ties among the rare terms
+      weights.put(term, (long) (1000000 / (1 + random.nextInt(50000))));
+    }
+    dictionary = new DawgFactory().buildWeighted(weights);
+  }
+
+  @Test
+  public void weightsShouldBeIndexedByOrdinal() {
+    assertThat(dictionary).hasSize(weights.size());
+    for (final Map.Entry<String, Long> entry : weights.entrySet()) {
+      assertThat(dictionary.weight(entry.getKey())).isEqualTo(entry.getValue());
+      assertThat(dictionary.weight(dictionary.ordinal(entry.getKey())))
+        .isEqualTo(entry.getValue().longValue());
+    }
+    assertThat(dictionary.weight("notaword")).isNull();
+  }
+
+  @Test
+  public void maxWeightShouldCoverTheRange() {
+    final Random random = new Random(0x3E17);
+    for (int i = 0; i < 1000; ++i) {
+      final int begin = random.nextInt(dictionary.size());
+      final int end = begin + random.nextInt(Math.min(5000, dictionary.size() - begin) + 1);
+      long expected = Long.MIN_VALUE;
+      for (int ordinal = begin; ordinal < end; ++ordinal) {
+        expected = Math.max(expected, dictionary.weight(ordinal));
+      }
+      assertThat(dictionary.maxWeight(begin, end)).isEqualTo(expected);
+    }
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void mismatchedWeightsShouldThrowAnException() {
+    new WeightedDictionary<DawgNode>(new SortedDawg(Arrays.asList("a", "b")), new long[1]);
+  }
+
+  @DataProvider(name = "queries")
+  public Object[][] queries() {
+    final List<Object[]> queries = new ArrayList<Object[]>();
+    for (final Algorithm algorithm : Algorithm.values()) {
+      for (final String query : Arrays.asList("teh", "mispell", "a", "", "recieve", "qzxj")) {
+        queries.add(new Object[] {algorithm, query});
+      }
+    }
+    return queries.toArray(new Object[queries.size()][]);
+  }
+
+  @Test(dataProvider = "queries")
+  public void topKShouldMatchSortingEveryCandidate(
+      final Algorithm algorithm,
+      final String query) {
+    final Transducer<?, OrdinalCandidate> transducer =
+      (Transducer<?, OrdinalCandidate>) new TransducerBuilder()
+        .algorithm(algorithm)
+        .dictionary(dictionary)
+        .defaultMaxDistance(2)
+        .includeOrdinal(true)
+        .<OrdinalCandidate>build();
+
+    final List<OrdinalCandidate> expected = new ArrayList<OrdinalCandidate>();
+    for (final OrdinalCandidate candidate : transducer.transduce(query)) {
+      expected.add(candidate);
+    }
+    expected.sort(Comparator
+        .comparingInt(OrdinalCandidate::distance)
+        .thenComparing(candidate -> -dictionary.weight(candidate.ordinal()))
+        .thenComparingInt(OrdinalCandidate::ordinal));
+
+    for (final int k : new int[] {0, 1, 10, 1000000}) {
+      assertThat(transducer.transduceTopK(query, 2, k))
+        .isEqualTo(expected.subList(0, Math.min(k, expected.size())));
+    }
+  }
+
+  @Test
+  public void topOrdinalsShouldBreakTiesByOrdinal() {
+    final Random random = new Random(0x3E18);
+    for (int i = 0; i < 200; ++i) {
+      final int begin = random.nextInt(dictionary.size());
+      final int end = begin + random.nextInt(Math.min(5000, dictionary.size() - begin) + 1);
+      final List<Integer> expected = new ArrayList<Integer>();
+      for (int ordinal = begin; ordinal < end; ++ordinal) {
+        expected.add(ordinal);
+      }
+      expected.sort(Comparator
+          .comparingLong((Integer ordinal) -> -dictionary.weight(ordinal))
+          .thenComparingInt(ordinal -> ordinal));
+      final int k = random.nextInt(100);
+      final List<Integer> actual = new ArrayList<Integer>();
+      for (final int ordinal : dictionary.topOrdinals(begin, end, k)) {
+        actual.add(ordinal);
+      }
+      assertThat(actual).isEqualTo(expected.subList(0, Math.min(k, expected.size())));
+    }
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class,
+        expectedExceptionsMessageRegExp = ".*\\[b\\].*")
+  public void nullWeightsShouldThrowAnException() {
+    final Map<String, Long> weights = new HashMap<String, Long>();
+    weights.put("a", 1L);
+    weights.put("b", null);
+    new DawgFactory().buildWeighted(weights);
+  }
+
+  @Test(expectedExceptions = UnsupportedOperationException.class)
+  public void topKShouldRequireAWeightedDictionary() {
+    final Transducer<?, ?> transducer = (Transducer<?, ?>) new TransducerBuilder()
+      .dictionary(new SortedDawg(Arrays.asList("a", "b")))
+      .build();
+    transducer.transduceTopK("a", 1, 1);
+  }
+}
@@ -0,0 +1,122 @@
+package com.github.liblevenshtein.serialization;
+
+import com.github.liblevenshtein.ReadLines;
+import com.github.liblevenshtein.collection.dictionary.FrozenDawg;
+import com.github.liblevenshtein.collection.dictionary.IDictionary;
+import com.github.liblevenshtein.collection.dictionary.SortedDawg;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.StreamCorruptedException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DawgWriterTest {
+
+  private List<String> terms;
+
+  private SortedDawg dawg;
+
+  private byte[] bytes;
+
+  @BeforeClass
+  public void setUp() throws IOException {
+    terms = ReadLines.fromResources("wordsEn.txt");
+    Collections.sort(terms);
+    dawg = new SortedDawg(terms);
+    bytes = write(dawg);
+  }
+
+  @Test
+  public void readerRestoresTheWrittenTerms() throws IOException {
+    final FrozenDawg copy = read(bytes);
+    assertThat(copy.size()).isEqualTo(terms.size());
+    assertThat(new ArrayList<String>(copy)).isEqualTo(terms);
+  }
+
+  @Test
+  public void readerRestoresFrozenDawgsNodeForNode() throws IOException {
+    final FrozenDawg frozen = dawg.freeze();
+    final FrozenDawg copy = read(write(frozen));
+    assertThat(copy.nodeCount()).isEqualTo(frozen.nodeCount());
+    assertThat(copy.edgeCount()).isEqualTo(frozen.edgeCount());
+  }
+
+  @Test
+  public void writerIsSmallerThanJavaSerialization() throws IOException {
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    final ObjectOutputStream objects = new ObjectOutputStream(output);
+    objects.writeObject(dawg.freeze());
+    objects.close();
+    assertThat(bytes.length).isLessThan(output.size());
+  }
+
+  @Test
+  public void writerHandlesLongChainsOfNodes() throws IOException {
+    final StringBuilder term = new StringBuilder();
+    for (int i = 0; i < 100000; ++i) {
+      term.append((char) ('a' + i % 26));
+    }
+    final List<String> chain = new ArrayList<String>();
+    chain.add(term.toString());
+    final FrozenDawg copy = read(write(new SortedDawg(chain)));
+    assertThat(copy.contains(term.toString())).isTrue();
+  }
+
+  @Test(expectedExceptions = StreamCorruptedException.class)
+  public void readerRejectsCorruptedStreams() throws IOException {
+    final byte[] corrupted = bytes.clone();
+    corrupted[corrupted.length / 2] ^= 0x01;
+    read(corrupted);
+  }
+
+  @Test(expectedExceptions = StreamCorruptedException.class)
+  public void readerRejectsForeignStreams() throws IOException {
+    read(new byte[] {0, 1, 2, 3, 4, 5, 6, 7});
+  }
+
+  @Test(expectedExceptions = StreamCorruptedException.class)
+  public void readerRejectsOverflowingNodeCounts() throws IOException {
+    read(header(1, Integer.MAX_VALUE, 0));
+  }
+
+  @Test(expectedExceptions = StreamCorruptedException.class)
+  public void readerRejectsDimensionsBeyondTheEndOfTheStream()
+      throws IOException {
+    read(header(1, Integer.MAX_VALUE - 1, Integer.MAX_VALUE));
+  }
+
+  private byte[] header(final int size, final int nodeCount, final int edgeCount)
+      throws IOException {
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    final BinaryEncoder encoder = new BinaryEncoder(output);
+    encoder.writeInt(DawgWriter.MAGIC);
+    encoder.writeVarInt(DawgWriter.VERSION);
+    encoder.writeVarInt(size);
+    encoder.writeVarInt(nodeCount);
+    encoder.writeVarInt(edgeCount);
+    encoder.writeVarInt(1 << 1);
+    encoder.writeVarInt('a');
+    encoder.writeSignedVarInt(1);
+    encoder.finish();
+    return output.toByteArray();
+  }
+
+  private byte[] write(final IDictionary<?> dictionary)
+      throws IOException {
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    new DawgWriter().write(dictionary, output);
+    return output.toByteArray();
+  }
+
+  private FrozenDawg read(final byte[] bytes) throws IOException {
+    return new DawgReader().read(new ByteArrayInputStream(bytes));
+  }
+}
@@ -0,0 +1,67 @@
+package com.github.liblevenshtein.serialization;
+
+import com.github.liblevenshtein.ReadLines;
+import com.github.liblevenshtein.transducer.Algorithm;
+import com.github.liblevenshtein.transducer.Candidate;
+import com.github.liblevenshtein.transducer.ITransducer;
+import com.github.liblevenshtein.transducer.Transducer;
+import com.github.liblevenshtein.transducer.factory.TransducerBuilder;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TransducerWriterTest {
+
+  @Test
+  public void readerRestoresTheTransducer() throws IOException {
+    final ITransducer<Candidate> transducer = new TransducerBuilder()
+      .algorithm(Algorithm.TRANSPOSITION)
+      .defaultMaxDistance(3)
+      .dictionary(ReadLines.fromResources("programming-languages.txt"), false)
+      .build();
+
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    new TransducerWriter().write(transducer, output);
+    final ITransducer<Candidate> copy =
+      new TransducerReader().read(new ByteArrayInputStream(output.toByteArray()));
+
+    final Transducer<?, ?> restored = (Transducer<?, ?>) copy;
+    assertThat(restored.attributes().algorithm()).isEqualTo(Algorithm.TRANSPOSITION);
+    assertThat(restored.attributes().maxDistance()).isEqualTo(3);
+    assertThat(restored.attributes().includeDistance()).isTrue();
+    assertThat(candidates(copy, "Jvaa")).isEqualTo(candidates(transducer, "Jvaa"));
+  }
+
+  @Test
+  public void readerRestoresTheOrdinals() throws IOException {
+    final ITransducer<Candidate> transducer = new TransducerBuilder()
+      .dictionary(ReadLines.fromResources("programming-languages.txt"), false)
+      .includeOrdinal(true)
+      .build();
+
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    new TransducerWriter().write(transducer, output);
+    final ITransducer<Candidate> copy =
+      new TransducerReader().read(new ByteArrayInputStream(output.toByteArray()));
+
+    final Transducer<?, ?> restored = (Transducer<?, ?>) copy;
+    assertThat(restored.attributes().includeOrdinal()).isTrue();
+    assertThat(candidates(copy, "Jvaa")).isEqualTo(candidates(transducer, "Jvaa"));
+  }
+
+  private Set<Candidate> candidates(
+      final ITransducer<Candidate> transducer,
+      final String query) {
+    final Set<Candidate> candidates = new HashSet<Candidate>();
+    for (final Candidate candidate : transducer.transduce(query)) {
+      candidates.add(candidate);
+    }
+    return candidates;
+  }
+}
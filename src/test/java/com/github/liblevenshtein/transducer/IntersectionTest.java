@@ -0,0 +1,35 @@
+package com.github.liblevenshtein.transducer;
+
+import org.testng.annotations.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IntersectionTest {
+
+  private static final int GRINNING = 0x1F600;
+
+  private final Intersection<Integer> root = new Intersection<>(0, null);
+
+  @Test
+  public void codeUnitLabelsShouldBeChars() {
+    final Intersection<Integer> intersection =
+      new Intersection<>(root, 'a', 1, null, 0);
+    assertThat(intersection.label()).isEqualTo('a');
+    assertThat(intersection.codePoint()).isEqualTo('a');
+    assertThat(intersection.candidate()).isEqualTo("a");
+  }
+
+  @Test
+  public void supplementaryLabelsShouldBeCodePoints() {
+    final Intersection<Integer> intersection =
+      new Intersection<>(root, GRINNING, 1, null, 0);
+    assertThat(intersection.codePoint()).isEqualTo(GRINNING);
+    assertThat(intersection.candidate())
+      .isEqualTo(new String(Character.toChars(GRINNING)));
+  }
+
+  @Test(expectedExceptions = IllegalStateException.class)
+  public void supplementaryLabelsShouldNotBeTruncated() {
+    new Intersection<>(root, GRINNING, 1, null, 0).label();
+  }
+}
@@ -0,0 +1,221 @@
+package com.github.liblevenshtein.transducer;
+
+import com.github.liblevenshtein.SortedCandidates;
+import com.github.liblevenshtein.transducer.factory.TransducerBuilder;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TransducerHolderTest {
+
+  private static ITransducer<String> transducer(final String... terms) {
+    return new TransducerBuilder()
+      .dictionary(Arrays.asList(terms), false)
+      .defaultMaxDistance(1)
+      .includeDistance(false)
+      .<String>build();
+  }
+
+  @Test
+  public void testSwapIsSeenByLaterReaders() {
+    final List<TransducerSnapshot<String>> released = new ArrayList<>();
+    final TransducerHolder<String> holder =
+      new TransducerHolder<>(transducer("cat", "cot"), released::add);
+
+    final TransducerLease<String> old = holder.acquire();
+    final Iterator<String> inFlight = old.transducer().transduce("cut").iterator();
+    assertThat(inFlight.hasNext()).isTrue();
+
+    assertThat(holder.swap(transducer("cut", "hut"))).isEqualTo(1L);
+    assertThat(holder.version()).isEqualTo(1L);
+
+    try (TransducerLease<String> current = holder.acquire()) {
+      assertThat(current.version()).isEqualTo(1L);
+      assertThat(SortedCandidates.of(current.transducer().transduce("cut")))
+        .containsExactly("cut", "hut");
+    }
+
+    // The old snapshot is released only once its reader is done.
+    assertThat(old.snapshot().isReleased()).isFalse();
+    assertThat(released).isEmpty();
+    final List<String> remaining = new ArrayList<>();
+    inFlight.forEachRemaining(remaining::add);
+    assertThat(remaining).isNotEmpty();
+    old.close();
+    assertThat(old.snapshot().isReleased()).isTrue();
+    assertThat(released).containsExactly(old.snapshot());
+  }
+
+  @Test
+  public void testUnreadSnapshotIsReleasedBySwap() {
+    final AtomicInteger releases = new AtomicInteger();
+    final TransducerHolder<String> holder = new TransducerHolder<>(
+        transducer("a"), snapshot -> releases.incrementAndGet());
+    holder.swap(transducer("b"));
+    holder.swap(transducer("c"));
+    assertThat(releases.get()).isEqualTo(2);
+    assertThat(SortedCandidates.of(holder.current().transduce("c"))).containsExactly("c");
+  }
+
+  @Test
+  public void testClosingALeaseTwiceReleasesItOnce() {
+    final List<TransducerSnapshot<String>> released = new ArrayList<>();
+    final TransducerHolder<String> holder =
+      new TransducerHolder<>(transducer("a"), released::add);
+    final TransducerLease<String> first = holder.acquire();
+    final TransducerLease<String> second = holder.acquire();
+    assertThat(second.snapshot()).isSameAs(first.snapshot());
+    holder.swap(transducer("b"));
+
+    first.close();
+    first.close();
+    assertThat(first.isClosed()).isTrue();
+    assertThat(second.snapshot().isReleased()).isFalse();
+    assertThat(released).isEmpty();
+    assertThat(SortedCandidates.of(second.transducer().transduce("a"))).containsExactly("a");
+
+    second.close();
+    assertThat(second.snapshot().isReleased()).isTrue();
+    assertThat(released).containsExactly(second.snapshot());
+  }
+
+  @Test
+  public void testReload() throws Exception {
+    final TransducerHolder<String> holder = new TransducerHolder<>(transducer("a"));
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      assertThat(holder.reload(() -> transducer("b"), executor).get()).isEqualTo(1L);
+      assertThat(SortedCandidates.of(holder.current().transduce("b"))).containsExactly("b");
+      try {
+        holder.reload(() -> { throw new IOException("unreadable"); }, executor).get();
+        throw new AssertionError("Expected the reload to fail");
+      }
+      catch (final ExecutionException exception) {
+        assertThat(exception.getCause()).isInstanceOf(IOException.class);
+      }
+      assertThat(holder.version()).isEqualTo(1L);
+    }
+    finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testWatch() throws Exception {
+    final Path source = Files.createTempFile("terms", ".txt");
+    final ScheduledExecutorService scheduler =
+      Executors.newSingleThreadScheduledExecutor();
+    try {
+      Files.write(source, Arrays.asList("a"), StandardCharsets.UTF_8);
+      final TransducerHolder<String> holder = new TransducerHolder<>(transducer("a"));
+      final ScheduledFuture<?> polling = holder.watch(source,
+          () -> transducer(Files.readAllLines(source).toArray(new String[0])),
+          scheduler, 5, TimeUnit.MILLISECONDS, null);
+      Files.write(source, Arrays.asList("b"), StandardCharsets.UTF_8);
+      Files.setLastModifiedTime(source,
+          FileTime.fromMillis(System.currentTimeMillis() + 60_000L));
+      final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+      while (0L == holder.version() && System.nanoTime() < deadline) {
+        Thread.sleep(5);
+      }
+      polling.cancel(false);
+      assertThat(holder.version()).isEqualTo(1L);
+      assertThat(SortedCandidates.of(holder.current().transduce("b"))).containsExactly("b");
+    }
+    finally {
+      scheduler.shutdownNow();
+      Files.delete(source);
+    }
+  }
+
+  @Test
+  public void testWatchRetriesFailedRebuilds() throws Exception {
+    final Path source = Files.createTempFile("terms", ".txt");
+    final ScheduledExecutorService scheduler =
+      Executors.newSingleThreadScheduledExecutor();
+    try {
+      Files.write(source, Arrays.asList("a"), StandardCharsets.UTF_8);
+      final TransducerHolder<String> holder = new TransducerHolder<>(transducer("a"));
+      final AtomicInteger attempts = new AtomicInteger();
+      final List<Exception> failures = new CopyOnWriteArrayList<>();
+      final ScheduledFuture<?> polling = holder.watch(source,
+          () -> {
+            // The first read races the writer.
+            if (0 == attempts.getAndIncrement()) {
+              throw new IOException("truncated");
+            }
+            return transducer(Files.readAllLines(source).toArray(new String[0]));
+          },
+          scheduler, 5, TimeUnit.MILLISECONDS,
+          (path, cause) -> failures.add(cause));
+      Files.write(source, Arrays.asList("b"), StandardCharsets.UTF_8);
+      Files.setLastModifiedTime(source,
+          FileTime.fromMillis(System.currentTimeMillis() + 60_000L));
+      final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+      while (0L == holder.version() && System.nanoTime() < deadline) {
+        Thread.sleep(5);
+      }
+      assertThat(polling.isDone()).isFalse();
+      polling.cancel(false);
+      assertThat(failures).hasSize(1);
+      assertThat(failures.get(0)).hasMessage("truncated");
+      assertThat(holder.version()).isEqualTo(1L);
+      assertThat(SortedCandidates.of(holder.current().transduce("b"))).containsExactly("b");
+    }
+    finally {
+      scheduler.shutdownNow();
+      Files.delete(source);
+    }
+  }
+
+  @Test
+  public void testConcurrentReadersNeverSeeAReleasedSnapshot() throws Exception {
+    final TransducerHolder<String> holder = new TransducerHolder<>(transducer("a"));
+    final AtomicBoolean failed = new AtomicBoolean(false);
+    final AtomicBoolean done = new AtomicBoolean(false);
+    final ExecutorService readers = Executors.newFixedThreadPool(4);
+    try {
+      for (int i = 0; i < 4; ++i) {
+        readers.submit(() -> {
+          while (!done.get()) {
+            try (TransducerLease<String> lease = holder.acquire()) {
+              if (lease.snapshot().isReleased()) {
+                failed.set(true);
+              }
+              lease.transducer().transduce("a").iterator().hasNext();
+            }
+          }
+        });
+      }
+      for (int i = 0; i < 200; ++i) {
+        holder.swap(transducer(i % 2 == 0 ? "a" : "b"));
+      }
+    }
+    finally {
+      done.set(true);
+      readers.shutdown();
+      readers.awaitTermination(10, TimeUnit.SECONDS);
+    }
+    assertThat(failed.get()).isFalse();
+    assertThat(holder.version()).isEqualTo(200L);
+  }
+}